@@ -16,6 +16,7 @@ import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.settings.ADNumericSetting;
 import org.opensearch.ad.transport.ADEntityProfileAction;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.EntityProfileRunner;
@@ -27,12 +28,14 @@ public class ADEntityProfileRunner extends EntityProfileRunner<ADEntityProfileAc
     public ADEntityProfileRunner(
         Client client,
         SecurityClientUtil clientUtil,
+        ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
         long requiredSamples
     ) {
         super(
             client,
             clientUtil,
+            clusterService,
             xContentRegistry,
             requiredSamples,
             AnomalyDetector::parse,
@@ -11,14 +11,22 @@
 
 package org.opensearch.ad;
 
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.PREVIEW_TIMEOUT_IN_MILLIS;
+
 import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -28,16 +36,17 @@ import org.opensearch.ad.ml.ADModelManager;
 import org.opensearch.ad.ml.ThresholdingResult;
 import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.ad.model.AnomalyResult;
-import org.opensearch.ad.model.EntityAnomalyResult;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.constant.CommonValue;
 import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.feature.Features;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.Feature;
 import org.opensearch.timeseries.model.FeatureData;
-import org.opensearch.timeseries.util.MultiResponsesDelegateActionListener;
 
 /**
  * Runner to trigger an anomaly detector.
@@ -48,11 +57,40 @@ public final class AnomalyDetectorRunner {
     private final ADModelManager modelManager;
     private final FeatureManager featureManager;
     private final int maxPreviewResults;
+    private final ThreadPool threadPool;
+    private final String threadPoolName;
+    private final Clock clock;
+    // previews of high cardinality detectors whose entities are being trained on the thread pool
+    private final AtomicInteger inFlightPreviews;
 
     public AnomalyDetectorRunner(ADModelManager modelManager, FeatureManager featureManager, int maxPreviewResults) {
+        this(modelManager, featureManager, maxPreviewResults, null, null, Clock.systemUTC());
+    }
+
+    /**
+     * @param modelManager model manager
+     * @param featureManager feature manager
+     * @param maxPreviewResults max number of preview results per entity
+     * @param threadPool thread pool to preview entities in parallel. If null, entities are previewed
+     *                   one after another on the calling thread.
+     * @param threadPoolName name of the thread pool
+     * @param clock clock to check the preview deadline
+     */
+    public AnomalyDetectorRunner(
+        ADModelManager modelManager,
+        FeatureManager featureManager,
+        int maxPreviewResults,
+        ThreadPool threadPool,
+        String threadPoolName,
+        Clock clock
+    ) {
         this.modelManager = modelManager;
         this.featureManager = featureManager;
         this.maxPreviewResults = maxPreviewResults;
+        this.threadPool = threadPool;
+        this.threadPoolName = threadPoolName;
+        this.clock = clock;
+        this.inFlightPreviews = new AtomicInteger(0);
     }
 
     /**
@@ -73,6 +111,7 @@ public final class AnomalyDetectorRunner {
         ActionListener<List<AnomalyResult>> listener
     ) throws IOException {
         context.restore();
+        long deadlineMillis = clock.millis() + PREVIEW_TIMEOUT_IN_MILLIS;
         List<String> categoryField = detector.getCategoryFields();
         if (categoryField != null && !categoryField.isEmpty()) {
             featureManager.getPreviewEntities(detector, startTime.toEpochMilli(), endTime.toEpochMilli(), ActionListener.wrap(entities -> {
@@ -84,33 +123,19 @@ public final class AnomalyDetectorRunner {
                     listener.onResponse(Collections.emptyList());
                     return;
                 }
-                ActionListener<EntityAnomalyResult> entityAnomalyResultListener = ActionListener.wrap(entityAnomalyResult -> {
-                    listener.onResponse(entityAnomalyResult.getAnomalyResults());
-                }, e -> onFailure(e, listener, detector.getId()));
-                MultiResponsesDelegateActionListener<EntityAnomalyResult> multiEntitiesResponseListener =
-                    new MultiResponsesDelegateActionListener<EntityAnomalyResult>(
-                        entityAnomalyResultListener,
-                        entities.size(),
-                        String.format(Locale.ROOT, "Fail to get preview result for multi entity detector %s", detector.getId()),
-                        true
+                // one search fetches the samples of all entities
+                featureManager
+                    .getPreviewFeaturesForEntities(
+                        detector,
+                        entities,
+                        startTime.toEpochMilli(),
+                        endTime.toEpochMilli(),
+                        ActionListener
+                            .wrap(
+                                entityFeatures -> previewEntities(detector, entityFeatures, deadlineMillis, listener),
+                                e -> onFailure(e, listener, detector.getId())
+                            )
                     );
-                for (Entity entity : entities) {
-                    featureManager
-                        .getPreviewFeaturesForEntity(
-                            detector,
-                            entity,
-                            startTime.toEpochMilli(),
-                            endTime.toEpochMilli(),
-                            ActionListener.wrap(features -> {
-                                List<ThresholdingResult> entityResults = modelManager.getPreviewResults(features, detector);
-                                List<AnomalyResult> sampledEntityResults = sample(
-                                    parsePreviewResult(detector, features, entityResults, entity),
-                                    maxPreviewResults
-                                );
-                                multiEntitiesResponseListener.onResponse(new EntityAnomalyResult(sampledEntityResults));
-                            }, e -> multiEntitiesResponseListener.onFailure(e))
-                        );
-                }
             }, e -> onFailure(e, listener, detector.getId())));
         } else {
             featureManager.getPreviewFeatures(detector, startTime.toEpochMilli(), endTime.toEpochMilli(), ActionListener.wrap(features -> {
@@ -124,6 +149,148 @@ public final class AnomalyDetectorRunner {
         }
     }
 
+    /**
+     * Train and score the models of entities in parallel. Concurrent previews share half of the
+     * thread pool so that real-time detection keeps the other half, and one preview uses at most
+     * MAX_PREVIEW_PARALLELISM threads. If the preview deadline is reached, the results of the entities
+     * done so far are returned and the remaining entities are skipped.
+     */
+    private void previewEntities(
+        AnomalyDetector detector,
+        List<Entry<Entity, Features>> entityFeatures,
+        long deadlineMillis,
+        ActionListener<List<AnomalyResult>> listener
+    ) {
+        if (entityFeatures.isEmpty()) {
+            listener.onResponse(Collections.emptyList());
+            return;
+        }
+        EntityPreview preview = new EntityPreview(detector, entityFeatures, deadlineMillis, listener);
+        if (threadPool == null) {
+            preview.runWorker();
+            return;
+        }
+        int previews = inFlightPreviews.incrementAndGet();
+        int workers = Math.min(Math.min(MAX_PREVIEW_PARALLELISM, entityFeatures.size()), Math.max(1, previewThreads() / previews));
+        preview.start(workers);
+    }
+
+    private int previewThreads() {
+        ThreadPool.Info info = threadPool.info(threadPoolName);
+        return info == null ? 1 : info.getMax() / 2;
+    }
+
+    private class EntityPreview {
+        private final AnomalyDetector detector;
+        private final List<Entry<Entity, Features>> entityFeatures;
+        private final long deadlineMillis;
+        private final ActionListener<List<AnomalyResult>> listener;
+        // results by entity position so that the response keeps the entity order
+        private final AtomicReferenceArray<List<AnomalyResult>> results;
+        private final AtomicInteger nextEntity;
+        private final AtomicInteger activeWorkers;
+        private final AtomicBoolean responded;
+        private volatile Scheduler.ScheduledCancellable deadlineTimer;
+
+        EntityPreview(
+            AnomalyDetector detector,
+            List<Entry<Entity, Features>> entityFeatures,
+            long deadlineMillis,
+            ActionListener<List<AnomalyResult>> listener
+        ) {
+            this.detector = detector;
+            this.entityFeatures = entityFeatures;
+            this.deadlineMillis = deadlineMillis;
+            this.listener = listener;
+            this.results = new AtomicReferenceArray<>(entityFeatures.size());
+            this.nextEntity = new AtomicInteger(0);
+            this.activeWorkers = new AtomicInteger(1);
+            this.responded = new AtomicBoolean(false);
+        }
+
+        void start(int workers) {
+            activeWorkers.set(workers);
+            // respond with partial results at the deadline even if some entities are still training.
+            // The timer runs on the generic pool as the preview workers may occupy the AD pool.
+            deadlineTimer = threadPool
+                .schedule(this::respond, TimeValue.timeValueMillis(Math.max(0, deadlineMillis - clock.millis())), ThreadPool.Names.GENERIC);
+            ExecutorService executor = threadPool.executor(threadPoolName);
+            for (int i = 0; i < workers; i++) {
+                try {
+                    executor.execute(this::runWorker);
+                } catch (Exception e) {
+                    logger.warn("Fail to start preview worker for detector " + detector.getId(), e);
+                    onWorkerDone();
+                }
+            }
+        }
+
+        void runWorker() {
+            try {
+                while (!responded.get() && clock.millis() < deadlineMillis) {
+                    int index = nextEntity.getAndIncrement();
+                    if (index >= entityFeatures.size()) {
+                        break;
+                    }
+                    previewEntity(index);
+                }
+            } finally {
+                onWorkerDone();
+            }
+        }
+
+        private void previewEntity(int index) {
+            Entity entity = entityFeatures.get(index).getKey();
+            Features features = entityFeatures.get(index).getValue();
+            try {
+                List<ThresholdingResult> entityResults = modelManager.getPreviewResults(features, detector);
+                results.set(index, sample(parsePreviewResult(detector, features, entityResults, entity), maxPreviewResults));
+            } catch (Exception e) {
+                // skip the entity and return the results of the others
+                logger.info("Fail to get preview result for entity " + entity + " of detector " + detector.getId(), e);
+            }
+        }
+
+        private void onWorkerDone() {
+            if (activeWorkers.decrementAndGet() == 0) {
+                if (threadPool != null) {
+                    // the preview holds pool threads until its last worker is done, even after the deadline
+                    inFlightPreviews.decrementAndGet();
+                }
+                respond();
+            }
+        }
+
+        private void respond() {
+            if (!responded.compareAndSet(false, true)) {
+                return;
+            }
+            Scheduler.ScheduledCancellable timer = deadlineTimer;
+            if (timer != null) {
+                timer.cancel();
+            }
+            List<AnomalyResult> anomalyResults = new ArrayList<>();
+            int previewed = 0;
+            for (int i = 0; i < results.length(); i++) {
+                List<AnomalyResult> entityResults = results.get(i);
+                if (entityResults != null) {
+                    anomalyResults.addAll(entityResults);
+                    previewed++;
+                }
+            }
+            if (previewed < entityFeatures.size()) {
+                logger
+                    .info(
+                        "Preview of detector {} returns results of {} out of {} entities",
+                        detector.getId(),
+                        previewed,
+                        entityFeatures.size()
+                    );
+            }
+            listener.onResponse(anomalyResults);
+        }
+    }
+
     private void onFailure(Exception e, ActionListener<List<AnomalyResult>> listener, String detectorId) {
         logger.info("Fail to preview anomaly detector " + detectorId, e);
         // TODO return exception like IllegalArgumentException to explain data is not enough for preview
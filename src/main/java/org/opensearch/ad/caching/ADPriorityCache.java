@@ -17,8 +17,6 @@ import static org.opensearch.timeseries.TimeSeriesAnalyticsPlugin.AD_THREAD_POOL
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Optional;
 
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
@@ -35,8 +33,6 @@ import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.MemoryTracker.Origin;
 import org.opensearch.timeseries.caching.PriorityCache;
 import org.opensearch.timeseries.caching.PriorityTracker;
-import org.opensearch.timeseries.ml.ModelManager;
-import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.model.Config;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
@@ -103,20 +99,6 @@ public class ADPriorityCache extends
         );
     }
 
-    @Override
-    protected ModelState<ThresholdedRandomCutForest> createEmptyModelState(String modelId, String detectorId) {
-        return new ModelState<>(
-            null,
-            modelId,
-            detectorId,
-            ModelManager.ModelType.TRCF.getName(),
-            clock,
-            0,
-            Optional.empty(),
-            new ArrayDeque<>()
-        );
-    }
-
     @Override
     protected boolean isDoorKeeperInCacheEnabled() {
         return ADEnabledSetting.isDoorKeeperInCacheEnabled();
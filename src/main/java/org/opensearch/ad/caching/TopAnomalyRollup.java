@@ -0,0 +1,288 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.caching;
+
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.timeseries.model.Entity;
+
+/**
+ * Hourly per-entity summary of the real-time HC anomalies written by this node.
+ *
+ * The result write path records every real-time anomaly (grade &gt; 0) it indexed successfully:
+ * per detector, hour of data end time, and entity, the summary keeps the max anomaly grade and
+ * the anomaly count. Top anomaly queries combine the summaries of all nodes instead of
+ * aggregating over all results in the queried range.
+ *
+ * A summary only knows about results written after it started recording. Since a result is
+ * always written after its data end time, the summaries of all nodes together cover every result
+ * with a data end time after the latest of: the time the nodes started recording, the time the
+ * cluster last lost a node (its summary is gone), and the end of any bucket dropped to bound
+ * memory or past the result retention period, or holding an anomaly that is written late because
+ * indexing pressure spilled it to disk. The coverage start is returned with each summary so
+ * that queries fall back to the result indices for ranges not covered.
+ */
+public class TopAnomalyRollup implements ClusterStateListener {
+    private static final Logger LOG = LogManager.getLogger(TopAnomalyRollup.class);
+
+    public static final long BUCKET_MILLIS = 3_600_000L;
+    // max number of (detector, hour, entity) entries kept on a node
+    static final int MAX_ENTRIES = 100_000;
+
+    private final Clock clock;
+    private final Map<String, DetectorRollup> detectors;
+    private final AtomicInteger entries;
+    private volatile boolean enabled;
+    private volatile long recordingStartMillis;
+    private volatile long lastNodeLeftMillis;
+    private volatile long retentionMillis;
+
+    /**
+     * Max anomaly grade and anomaly count of an entity
+     */
+    public static class EntitySummary {
+        private double maxAnomalyGrade;
+        private int anomalyCount;
+
+        public EntitySummary(double maxAnomalyGrade, int anomalyCount) {
+            this.maxAnomalyGrade = maxAnomalyGrade;
+            this.anomalyCount = anomalyCount;
+        }
+
+        public void merge(double anomalyGrade, int count) {
+            maxAnomalyGrade = Math.max(maxAnomalyGrade, anomalyGrade);
+            anomalyCount += count;
+        }
+
+        public double getMaxAnomalyGrade() {
+            return maxAnomalyGrade;
+        }
+
+        public int getAnomalyCount() {
+            return anomalyCount;
+        }
+    }
+
+    private class DetectorRollup {
+        // hour bucket start -> entity -> summary
+        private final TreeMap<Long, Map<Entity, EntitySummary>> buckets = new TreeMap<>();
+        private long droppedUntilMillis = 0;
+
+        synchronized void record(Entity entity, long bucketStart, double anomalyGrade) {
+            Map<Entity, EntitySummary> bucket = buckets.computeIfAbsent(bucketStart, k -> new HashMap<>());
+            EntitySummary summary = bucket.get(entity);
+            if (summary != null) {
+                summary.merge(anomalyGrade, 1);
+                return;
+            }
+            if (entries.get() >= MAX_ENTRIES) {
+                // do not claim coverage of the bucket the result is not recorded in
+                droppedUntilMillis = Math.max(droppedUntilMillis, bucketStart + BUCKET_MILLIS);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bucketStart);
+                }
+                return;
+            }
+            bucket.put(entity, new EntitySummary(anomalyGrade, 1));
+            entries.incrementAndGet();
+        }
+
+        synchronized Map<Entity, EntitySummary> summarize(long startMillis, long endMillis) {
+            Map<Entity, EntitySummary> res = new HashMap<>();
+            for (Map<Entity, EntitySummary> bucket : buckets.subMap(startMillis, endMillis).values()) {
+                for (Map.Entry<Entity, EntitySummary> entry : bucket.entrySet()) {
+                    EntitySummary summary = entry.getValue();
+                    res
+                        .computeIfAbsent(entry.getKey(), k -> new EntitySummary(0, 0))
+                        .merge(summary.getMaxAnomalyGrade(), summary.getAnomalyCount());
+                }
+            }
+            return res;
+        }
+
+        synchronized void markNotRecorded(long bucketStart) {
+            droppedUntilMillis = Math.max(droppedUntilMillis, bucketStart + BUCKET_MILLIS);
+        }
+
+        synchronized long getDroppedUntilMillis() {
+            return droppedUntilMillis;
+        }
+
+        synchronized Optional<Long> getOldestBucket() {
+            return buckets.isEmpty() ? Optional.empty() : Optional.of(buckets.firstKey());
+        }
+
+        /**
+         * Drop buckets starting before a time
+         * @param untilMillis bucket start time bound, exclusive
+         */
+        synchronized void dropBefore(long untilMillis) {
+            Iterator<Map.Entry<Long, Map<Entity, EntitySummary>>> iterator = buckets.headMap(untilMillis).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Map<Entity, EntitySummary>> bucket = iterator.next();
+                entries.addAndGet(-bucket.getValue().size());
+                droppedUntilMillis = Math.max(droppedUntilMillis, bucket.getKey() + BUCKET_MILLIS);
+                iterator.remove();
+            }
+        }
+    }
+
+    public TopAnomalyRollup(Settings settings, ClusterService clusterService, Clock clock) {
+        this.clock = clock;
+        this.detectors = new ConcurrentHashMap<>();
+        this.entries = new AtomicInteger(0);
+        setEnabled(TOP_ANOMALY_RESULT_ROLLUP_ENABLED.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TOP_ANOMALY_RESULT_ROLLUP_ENABLED, this::setEnabled);
+        this.retentionMillis = AD_RESULT_HISTORY_RETENTION_PERIOD.get(settings).getMillis();
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(AD_RESULT_HISTORY_RETENTION_PERIOD, it -> retentionMillis = it.getMillis());
+        clusterService.addListener(this);
+    }
+
+    private void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            recordingStartMillis = clock.millis();
+        } else if (!enabled) {
+            detectors.clear();
+            entries.set(0);
+        }
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a successfully indexed result. Only real-time anomalies of entities are kept.
+     *
+     * @param result indexed result
+     */
+    public void record(AnomalyResult result) {
+        if (!isRecorded(result)) {
+            return;
+        }
+        long dataEndMillis = result.getDataEndTime().toEpochMilli();
+        detectors
+            .computeIfAbsent(result.getConfigId(), id -> new DetectorRollup())
+            .record(result.getEntity().get(), bucketStart(dataEndMillis), result.getAnomalyGrade());
+    }
+
+    /**
+     * Stop claiming coverage of the bucket of a result that will be indexed without being recorded,
+     * e.g., a result spilled under indexing pressure and replayed later from the spill file.
+     *
+     * @param result result not recorded
+     */
+    public void markNotRecorded(AnomalyResult result) {
+        if (!isRecorded(result)) {
+            return;
+        }
+        long dataEndMillis = result.getDataEndTime().toEpochMilli();
+        detectors.computeIfAbsent(result.getConfigId(), id -> new DetectorRollup()).markNotRecorded(bucketStart(dataEndMillis));
+    }
+
+    private boolean isRecorded(AnomalyResult result) {
+        return enabled
+            && result.getTaskId() == null
+            && result.getAnomalyGrade() != null
+            && result.getAnomalyGrade() > 0
+            && result.getEntity().isPresent()
+            && result.getDataEndTime() != null;
+    }
+
+    /**
+     * Summarize the anomalies of a detector by entity.
+     *
+     * @param detectorId detector id
+     * @param startMillis data end time range start, inclusive. Must be a bucket boundary.
+     * @param endMillis data end time range end, exclusive. Must be a bucket boundary.
+     * @return max anomaly grade and anomaly count by entity
+     */
+    public Map<Entity, EntitySummary> summarize(String detectorId, long startMillis, long endMillis) {
+        DetectorRollup rollup = detectors.get(detectorId);
+        if (rollup == null || startMillis >= endMillis) {
+            return new HashMap<>();
+        }
+        return rollup.summarize(startMillis, endMillis);
+    }
+
+    /**
+     * @param detectorId detector id
+     * @return the bucket boundary from which on this node recorded all anomalies of the detector it wrote
+     */
+    public long getCoverageStartMillis(String detectorId) {
+        DetectorRollup rollup = detectors.get(detectorId);
+        long start = Math.max(recordingStartMillis, lastNodeLeftMillis);
+        if (rollup != null) {
+            start = Math.max(start, rollup.getDroppedUntilMillis());
+        }
+        return alignUp(start);
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesRemoved()) {
+            lastNodeLeftMillis = clock.millis();
+        }
+    }
+
+    /**
+     * Drop buckets past the result retention period and the oldest buckets beyond the entry limit.
+     */
+    public void maintenance() {
+        long retentionStart = bucketStart(clock.millis() - retentionMillis);
+        // keep the rollups of detectors even if empty: they remember up to when buckets were dropped
+        detectors.values().forEach(rollup -> rollup.dropBefore(retentionStart));
+
+        while (entries.get() > MAX_ENTRIES) {
+            String oldestDetector = null;
+            long oldestBucket = Long.MAX_VALUE;
+            for (Map.Entry<String, DetectorRollup> entry : detectors.entrySet()) {
+                Optional<Long> bucket = entry.getValue().getOldestBucket();
+                if (bucket.isPresent() && bucket.get() < oldestBucket) {
+                    oldestBucket = bucket.get();
+                    oldestDetector = entry.getKey();
+                }
+            }
+            if (oldestDetector == null) {
+                break;
+            }
+            detectors.get(oldestDetector).dropBefore(oldestBucket + BUCKET_MILLIS);
+        }
+        LOG.debug("Top anomaly rollup has {} entries of {} detectors", entries.get(), detectors.size());
+    }
+
+    int getEntryCount() {
+        return entries.get();
+    }
+
+    public static long bucketStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, BUCKET_MILLIS) * BUCKET_MILLIS;
+    }
+
+    public static long alignUp(long epochMillis) {
+        return -Math.floorDiv(-epochMillis, BUCKET_MILLIS) * BUCKET_MILLIS;
+    }
+}
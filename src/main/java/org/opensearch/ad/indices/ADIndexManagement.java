@@ -16,6 +16,7 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MAX_PRIMARY_
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_HISTORY_ROLLOVER_PERIOD;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_ROUTING_BUCKETS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.ANOMALY_DETECTION_STATE_INDEX_MAPPING_FILE;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.ANOMALY_RESULTS_INDEX_MAPPING_FILE;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.CHECKPOINT_INDEX_MAPPING_FILE;
@@ -113,6 +114,9 @@ public class ADIndexManagement extends IndexManagement<ADIndex> {
         });
 
         this.clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_MAX_PRIMARY_SHARDS, it -> maxPrimaryShards = it);
+
+        this.resultRoutingBuckets = AD_RESULT_ROUTING_BUCKETS.get(settings);
+        this.clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_RESULT_ROUTING_BUCKETS, it -> resultRoutingBuckets = it);
     }
 
     /**
@@ -13,16 +13,14 @@ package org.opensearch.ad.ml;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,15 +37,17 @@ import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.MatchQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.timeseries.common.exception.ResourceNotFoundException;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.ml.CheckpointDao;
+import org.opensearch.timeseries.ml.CheckpointSourceReader;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
-import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.ml.SingleStreamModelIdMapper;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.util.ClientUtil;
@@ -124,6 +124,8 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
      * @param serializeRCFBufferPool object pool for serializing rcf models
      * @param serializeRCFBufferSize the size of the buffer for RCF serialization
      * @param anomalyRate anomaly rate
+     * @param clock clock for checkpoint timestamps
+     * @param routeByConfig whether to route checkpoint documents by detector id
      */
     public ADCheckpointDao(
         Client client,
@@ -139,7 +141,8 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         GenericObjectPool<LinkedBuffer> serializeRCFBufferPool,
         int serializeRCFBufferSize,
         double anomalyRate,
-        Clock clock
+        Clock clock,
+        boolean routeByConfig
     ) {
         super(
             client,
@@ -150,7 +153,8 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
             serializeRCFBufferPool,
             serializeRCFBufferSize,
             indexUtil,
-            clock
+            clock,
+            routeByConfig
         );
         this.mapper = mapper;
         this.converter = converter;
@@ -227,13 +231,13 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
             source.put(FIELD_MODELV2, serializedModel.get());
         }
 
-        Optional<Sample[]> samples = toCheckpoint(modelState.getSamples());
+        Optional<String> samples = toCheckpoint(modelState.getSamples());
         if (samples.isPresent()) {
-            source.put(CommonName.SAMPLE_QUEUE, samples.get());
+            source.put(CommonName.SAMPLE_BUFFER, samples.get());
         }
 
         // if there are no samples and no model, no need to index as other information are meta data
-        if (!source.containsKey(CommonName.SAMPLE_QUEUE) && !source.containsKey(FIELD_MODELV2)) {
+        if (!source.containsKey(CommonName.SAMPLE_BUFFER) && !source.containsKey(FIELD_MODELV2)) {
             return source;
         }
 
@@ -279,7 +283,13 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
     }
 
     String toCheckpoint(ThresholdedRandomCutForest trcf) {
-        String checkpoint = null;
+        byte[] bytes = toCompactModel(trcf);
+        return bytes == null ? null : Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Override
+    public byte[] toCompactModel(ThresholdedRandomCutForest trcf) {
+        byte[] checkpoint = null;
         Map.Entry<LinkedBuffer, Boolean> result = checkoutOrNewBuffer();
         LinkedBuffer buffer = result.getKey();
         boolean needCheckin = result.getValue();
@@ -312,13 +322,12 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return checkpoint;
     }
 
-    private String toCheckpoint(ThresholdedRandomCutForest trcf, LinkedBuffer buffer) {
+    private byte[] toCheckpoint(ThresholdedRandomCutForest trcf, LinkedBuffer buffer) {
         try {
-            byte[] bytes = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
+            return AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
                 ThresholdedRandomCutForestState trcfState = trcfMapper.toState(trcf);
                 return ProtostuffIOUtil.toByteArray(trcfState, trcfSchema, buffer);
             });
-            return Base64.getEncoder().encodeToString(bytes);
         } finally {
             buffer.clear();
         }
@@ -385,32 +394,17 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
                     }
                 }
 
-                Deque<Sample> sampleQueue = processSampleQueue(json, checkpoint, modelId);
+                SampleBuffer sampleQueue = processSampleQueue(json, checkpoint, modelId);
 
                 String lastCheckpointTimeString = (String) (checkpoint.get(CommonName.TIMESTAMP));
-                Instant timestamp = Instant.parse(lastCheckpointTimeString);
-                Entity entity = null;
-                Object serializedEntity = checkpoint.get(CommonName.ENTITY_KEY);
-                if (serializedEntity != null) {
-                    try {
-                        entity = Entity.fromJsonArray(serializedEntity);
-                    } catch (Exception e) {
-                        logger.error(new ParameterizedMessage("fail to parse entity", serializedEntity), e);
-                    }
-                }
-
-                ModelState<ThresholdedRandomCutForest> modelState = new ModelState<ThresholdedRandomCutForest>(
+                return createModelState(
                     trcf,
                     modelId,
                     configId,
-                    ModelManager.ModelType.TRCF.getName(),
-                    clock,
-                    0,
-                    Optional.ofNullable(entity),
-                    sampleQueue
+                    checkpoint.get(CommonName.ENTITY_KEY),
+                    sampleQueue,
+                    Instant.parse(lastCheckpointTimeString)
                 );
-                modelState.setLastCheckpointTime(timestamp);
-                return modelState;
             });
         } catch (Exception e) {
             logger.warn("Exception while deserializing checkpoint " + modelId, e);
@@ -420,17 +414,82 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         }
     }
 
-    private Deque<Sample> processSampleQueue(JsonObject json, Map<String, Object> checkpoint, String modelId) {
-        Deque<Sample> sampleQueue = new ArrayDeque<>();
+    /**
+     * Load a checkpoint in the current layout straight from its source bytes. The base64
+     * model inside modelV2 is decoded into bytes for protostuff without building the source
+     * map or parsing modelV2 as JSON.
+     */
+    @Override
+    protected Optional<ModelState<ThresholdedRandomCutForest>> readEntityModelCheckpoint(
+        BytesReference source,
+        String modelId,
+        String configId
+    ) {
+        Optional<CheckpointSourceReader.Checkpoint> checkpoint = CheckpointSourceReader
+            .read(source, FIELD_MODELV2, ENTITY_TRCF, maxCheckpointBytes);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(AccessController.doPrivileged((PrivilegedAction<ModelState<ThresholdedRandomCutForest>>) () -> {
+                ByteBuffer model = checkpoint.get().getModel();
+                return createModelState(
+                    toTrcf(model.array(), model.limit()),
+                    modelId,
+                    configId,
+                    checkpoint.get().getEntity(),
+                    checkpoint.get().getSamples(),
+                    Instant.parse(checkpoint.get().getTimestamp())
+                );
+            }));
+        } catch (Exception e) {
+            logger.warn("Exception while deserializing checkpoint " + modelId, e);
+            return Optional.empty();
+        }
+    }
+
+    private ModelState<ThresholdedRandomCutForest> createModelState(
+        ThresholdedRandomCutForest trcf,
+        String modelId,
+        String configId,
+        Object serializedEntity,
+        SampleBuffer sampleQueue,
+        Instant lastCheckpointTime
+    ) {
+        Entity entity = null;
+        if (serializedEntity != null) {
+            try {
+                entity = Entity.fromJsonArray(serializedEntity);
+            } catch (Exception e) {
+                logger.error(new ParameterizedMessage("fail to parse entity", serializedEntity), e);
+            }
+        }
+
+        ModelState<ThresholdedRandomCutForest> modelState = new ModelState<ThresholdedRandomCutForest>(
+            trcf,
+            modelId,
+            configId,
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0,
+            Optional.ofNullable(entity),
+            sampleQueue
+        );
+        modelState.setLastCheckpointTime(lastCheckpointTime);
+        return modelState;
+    }
+
+    private SampleBuffer processSampleQueue(JsonObject json, Map<String, Object> checkpoint, String modelId) {
+        SampleBuffer sampleQueue;
         if (json.has(CommonName.ENTITY_SAMPLE)) {
+            sampleQueue = new SampleBuffer();
             double[][] samplesArray = this.gson.fromJson(json.getAsJsonArray(CommonName.ENTITY_SAMPLE), doubleArrayType);
             // this branch exists for bwc. Since we didn't record start and end time, we have to give a default 0.
-            Arrays
-                .stream(samplesArray)
-                .map(sampleArray -> new Sample(sampleArray, Instant.ofEpochMilli(0), Instant.ofEpochMilli(0)))
-                .forEach(sampleQueue::add);
+            for (double[] sampleArray : samplesArray) {
+                sampleQueue.add(sampleArray, 0L, 0L);
+            }
         } else {
-            sampleQueue = loadSampleQueue(checkpoint, modelId);
+            sampleQueue = loadSamples(checkpoint, modelId);
         }
         return sampleQueue;
     }
@@ -440,12 +499,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         if (checkpoint != null && !checkpoint.isEmpty()) {
             try {
                 byte[] bytes = Base64.getDecoder().decode(checkpoint);
-                ThresholdedRandomCutForestState state = trcfSchema.newMessage();
-                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                    ProtostuffIOUtil.mergeFrom(bytes, state, trcfSchema);
-                    return null;
-                });
-                trcf = trcfMapper.toModel(state);
+                trcf = toTrcf(bytes, bytes.length);
             } catch (RuntimeException e) {
                 logger.info("checkpoint to restore: " + checkpoint);
                 logger.error("Failed to deserialize TRCF model", e);
@@ -454,6 +508,28 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return trcf;
     }
 
+    /**
+     * Deserialize a TRCF model from protostuff bytes.
+     *
+     * @param bytes array holding the serialized model from index 0
+     * @param length length of the serialized model
+     * @return the model
+     * @throws RuntimeException when the bytes are not a valid model
+     */
+    ThresholdedRandomCutForest toTrcf(byte[] bytes, int length) {
+        return fromCompactModel(bytes, 0, length);
+    }
+
+    @Override
+    public ThresholdedRandomCutForest fromCompactModel(byte[] bytes, int offset, int length) {
+        ThresholdedRandomCutForestState state = trcfSchema.newMessage();
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            ProtostuffIOUtil.mergeFrom(bytes, offset, length, state, trcfSchema);
+            return null;
+        });
+        return trcfMapper.toModel(state);
+    }
+
     private Optional<RandomCutForest> deserializeRCFModel(String checkpoint, String modelId) {
         if (checkpoint == null || checkpoint.isEmpty()) {
             return Optional.empty();
@@ -522,7 +598,7 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
     public void getTRCFModel(String modelId, ActionListener<Optional<ThresholdedRandomCutForest>> listener) {
         clientUtil
             .<GetRequest, GetResponse>asyncRequest(
-                new GetRequest(indexName, modelId),
+                new GetRequest(indexName, modelId).routing(getSingleStreamRouting(modelId)),
                 client::get,
                 ActionListener.wrap(response -> deserializeTRCFModel(response, modelId, listener), exception -> {
                     // expected exception, don't print stack trace
@@ -542,7 +618,8 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
      * @param listener onResponse is called with the model checkpoint, or empty for no such model
      */
     public void getThresholdModel(String modelId, ActionListener<Optional<ThresholdingModel>> listener) {
-        clientUtil.<GetRequest, GetResponse>asyncRequest(new GetRequest(indexName, modelId), client::get, ActionListener.wrap(response -> {
+        GetRequest getRequest = new GetRequest(indexName, modelId).routing(getSingleStreamRouting(modelId));
+        clientUtil.<GetRequest, GetResponse>asyncRequest(getRequest, client::get, ActionListener.wrap(response -> {
             Optional<Object> thresholdCheckpoint = processThresholdModelCheckpoint(response);
             if (!thresholdCheckpoint.isPresent()) {
                 listener.onFailure(new ResourceNotFoundException("", "Fail to find model " + modelId));
@@ -588,6 +665,11 @@ public class ADCheckpointDao extends CheckpointDao<ThresholdedRandomCutForest, A
         return Optional.of(new ThresholdedRandomCutForest(rcf, anomalyRate, scores, new double[rcf.getDimensions()]));
     }
 
+    @Override
+    public long getTotalUpdates(ThresholdedRandomCutForest model) {
+        return model.getForest().getTotalUpdates();
+    }
+
     @Override
     protected DeleteByQueryRequest createDeleteCheckpointRequest(String detectorId) {
         return new DeleteByQueryRequest(indexName)
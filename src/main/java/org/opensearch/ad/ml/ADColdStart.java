@@ -13,7 +13,6 @@ package org.opensearch.ad.ml;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,7 +29,7 @@ import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.feature.SearchFeatureDao;
 import org.opensearch.timeseries.ml.ModelColdStart;
 import org.opensearch.timeseries.ml.ModelState;
-import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
@@ -151,32 +150,28 @@ public class ADColdStart extends
     /**
      * Train model using given data points and save the trained model.
      *
-     * @param pointSamples A pair consisting of a queue of continuous data points,
-     *  in ascending order of timestamps and last seen sample.
+     * @param pointSamples continuous data points in ascending order of timestamps
      * @param entityState Entity state associated with the model Id
-     * @return the training samples.  We can save the
+     * @param config config accessor
+     * @param taskId task Id
+     * @return whether a model is trained. Callers can then save the
      * training data in result index so that the frontend can plot it.
      */
     @Override
-    protected List<Sample> trainModelFromDataSegments(
-        List<Sample> pointSamples,
+    protected boolean trainModelFromDataSegments(
+        SampleBuffer pointSamples,
         ModelState<ThresholdedRandomCutForest> entityState,
         Config config,
         String taskId
     ) {
-        if (pointSamples == null || pointSamples.size() == 0) {
+        // the buffer drops empty data points, so a non-empty buffer has a positive dimension
+        if (pointSamples == null || pointSamples.isEmpty()) {
             logger.info("Return early since data points must not be empty.");
-            return null;
-        }
-
-        double[] firstPoint = pointSamples.get(0).getValueList();
-        if (firstPoint == null || firstPoint.length == 0) {
-            logger.info("Return early since the first data point must not be empty.");
-            return null;
+            return false;
         }
 
         int shingleSize = config.getShingleSize();
-        int baseDimension = firstPoint.length;
+        int baseDimension = pointSamples.getDimension();
         int dimensions = baseDimension * shingleSize;
         ThresholdedRandomCutForest.Builder rcfBuilder = ThresholdedRandomCutForest
             .builder()
@@ -222,10 +217,8 @@ public class ADColdStart extends
         ThresholdedRandomCutForest trcf = rcfBuilder.build();
 
         for (int i = 0; i < pointSamples.size(); i++) {
-            Sample dataSample = pointSamples.get(i);
-            double[] dataValue = dataSample.getValueList();
             // We don't keep missing values during cold start as the actual data may not be reconstructed during the early stage.
-            trcf.process(dataValue, dataSample.getDataEndTime().getEpochSecond());
+            trcf.process(pointSamples.copyValues(i), pointSamples.getDataEndEpochSecond(i));
         }
 
         entityState.setModel(trcf);
@@ -235,7 +228,7 @@ public class ADColdStart extends
         // save to checkpoint
         checkpointWriteWorker.write(entityState, true, RequestPriority.MEDIUM);
 
-        return pointSamples;
+        return true;
     }
 
     public static void applyRule(ThresholdedRandomCutForest.Builder rcfBuilder, AnomalyDetector detector) {
@@ -348,6 +348,9 @@ public class ADTask extends TimeSeriesTask {
                 detector.getFlattenResultIndexMapping(),
                 detector.getLastBreakingUIChangeTime()
             );
+        if (anomalyDetector != null) {
+            anomalyDetector.setResultVerbosity(detector.getResultVerbosity());
+        }
         return new Builder()
             .taskId(parsedTaskId)
             .lastUpdateTime(lastUpdateTime)
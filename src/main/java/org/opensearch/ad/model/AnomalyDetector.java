@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
@@ -110,6 +111,7 @@ public class AnomalyDetector extends Config {
     @Deprecated
     public static final String DETECTION_DATE_RANGE_FIELD = "detection_date_range";
     public static final String RULES_FIELD = "rules";
+    public static final String RESULT_VERBOSITY_FIELD = "result_verbosity";
     private static final String SUPPRESSION_RULE_ISSUE_PREFIX = "Suppression Rule Error: ";
 
     protected String detectorType;
@@ -124,6 +126,9 @@ public class AnomalyDetector extends Config {
 
     private List<Rule> rules;
 
+    // null means ResultVerbosity.FULL
+    private ResultVerbosity resultVerbosity;
+
     /**
      * Constructor function.
      *
@@ -293,6 +298,11 @@ public class AnomalyDetector extends Config {
         this.customResultIndexTTL = input.readOptionalInt();
         this.flattenResultIndexMapping = input.readOptionalBoolean();
         this.lastUIBreakingChangeTime = input.readOptionalInstant();
+        if (input.readBoolean()) {
+            this.resultVerbosity = input.readEnum(ResultVerbosity.class);
+        } else {
+            this.resultVerbosity = null;
+        }
     }
 
     public XContentBuilder toXContent(XContentBuilder builder) throws IOException {
@@ -360,6 +370,12 @@ public class AnomalyDetector extends Config {
         output.writeOptionalInt(customResultIndexTTL);
         output.writeOptionalBoolean(flattenResultIndexMapping);
         output.writeOptionalInstant(lastUIBreakingChangeTime);
+        if (resultVerbosity != null) {
+            output.writeBoolean(true);
+            output.writeEnum(resultVerbosity);
+        } else {
+            output.writeBoolean(false);
+        }
     }
 
     @Override
@@ -377,6 +393,9 @@ public class AnomalyDetector extends Config {
         if (rules != null) {
             xContentBuilder.field(RULES_FIELD, rules.toArray());
         }
+        if (resultVerbosity != null) {
+            xContentBuilder.field(RESULT_VERBOSITY_FIELD, resultVerbosity);
+        }
 
         return xContentBuilder.endObject();
     }
@@ -458,6 +477,7 @@ public class AnomalyDetector extends Config {
         Integer customResultIndexTTL = null;
         Boolean flattenResultIndexMapping = null;
         Instant lastBreakingUIChangeTime = null;
+        ResultVerbosity resultVerbosity = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -598,6 +618,9 @@ public class AnomalyDetector extends Config {
                 case BREAKING_UI_CHANGE_TIME:
                     lastBreakingUIChangeTime = ParseUtils.toInstant(parser);
                     break;
+                case RESULT_VERBOSITY_FIELD:
+                    resultVerbosity = parseResultVerbosity(parser.text());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -633,9 +656,22 @@ public class AnomalyDetector extends Config {
             lastBreakingUIChangeTime
         );
         detector.setDetectionDateRange(detectionDateRange);
+        detector.setResultVerbosity(resultVerbosity);
         return detector;
     }
 
+    private static ResultVerbosity parseResultVerbosity(String value) {
+        try {
+            return ResultVerbosity.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(
+                "Invalid result verbosity: " + value,
+                ValidationIssueType.PARSING_ISSUE,
+                ValidationAspect.DETECTOR
+            );
+        }
+    }
+
     public String getDetectorType() {
         return detectorType;
     }
@@ -652,6 +688,17 @@ public class AnomalyDetector extends Config {
         return rules;
     }
 
+    public void setResultVerbosity(ResultVerbosity resultVerbosity) {
+        this.resultVerbosity = resultVerbosity;
+    }
+
+    /**
+     * @return how much detail to store for non-anomalous results; null means {@link ResultVerbosity#FULL}
+     */
+    public ResultVerbosity getResultVerbosity() {
+        return resultVerbosity;
+    }
+
     @Override
     protected ValidationAspect getConfigValidationAspect() {
         return ValidationAspect.DETECTOR;
@@ -674,14 +721,16 @@ public class AnomalyDetector extends Config {
             return false;
         }
         AnomalyDetector detector = (AnomalyDetector) o;
-        return super.equals(o) && Objects.equal(rules, detector.rules);
+        return super.equals(o)
+            && Objects.equal(rules, detector.rules)
+            && Objects.equal(resultVerbosity, detector.resultVerbosity);
     }
 
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = super.hashCode();
-        result = prime * result + Objects.hashCode(rules);
+        result = prime * result + Objects.hashCode(rules, resultVerbosity);
         return result;
     }
 
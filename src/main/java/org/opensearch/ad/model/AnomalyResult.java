@@ -69,6 +69,7 @@ public class AnomalyResult extends IndexableResult {
     // unused currently. added since odfe 1.4
     public static final String IS_ANOMALY_FIELD = "is_anomaly";
     public static final String FEATURE_IMPUTED = "feature_imputed";
+    public static final String ROLLUP_FIELD = "rollup";
 
     private final Double anomalyScore;
     private final Double anomalyGrade;
@@ -199,6 +200,9 @@ public class AnomalyResult extends IndexableResult {
     // whether a feature value is imputed or not
     private List<FeatureImputed> featureImputed;
 
+    // non-null only when this result summarizes several non-anomalous intervals
+    private ResultRollup rollup;
+
     // used when indexing exception or error or an empty result
     public AnomalyResult(
         String detectorId,
@@ -610,6 +614,8 @@ public class AnomalyResult extends IndexableResult {
         } else {
             this.featureImputed = null;
         }
+
+        this.rollup = input.readOptionalWriteable(ResultRollup::new);
     }
 
     @Override
@@ -688,6 +694,9 @@ public class AnomalyResult extends IndexableResult {
         if (featureImputed != null && featureImputed.size() > 0) {
             xContentBuilder.array(FEATURE_IMPUTED, featureImputed.toArray());
         }
+        if (rollup != null) {
+            xContentBuilder.field(ROLLUP_FIELD, rollup);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -713,6 +722,7 @@ public class AnomalyResult extends IndexableResult {
         List<ExpectedValueList> expectedValues = new ArrayList<>();
         Double threshold = null;
         List<FeatureImputed> featureImputed = null;
+        ResultRollup rollup = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -799,13 +809,16 @@ public class AnomalyResult extends IndexableResult {
                         featureImputed.add(FeatureImputed.parse(parser));
                     }
                     break;
+                case ROLLUP_FIELD:
+                    rollup = ResultRollup.parse(parser);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
 
-        return new AnomalyResult(
+        AnomalyResult result = new AnomalyResult(
             detectorId,
             taskId,
             anomalyScore,
@@ -828,6 +841,79 @@ public class AnomalyResult extends IndexableResult {
             threshold,
             featureImputed
         );
+        result.rollup = rollup;
+        return result;
+    }
+
+    /**
+     * Copy of this result keeping feature data but without threshold, attribution, past and
+     * expected values and imputation details.
+     * Used for non-anomalous results of detectors with {@link ResultVerbosity#SLIM}.
+     * @return the slim copy
+     */
+    public AnomalyResult toSlimResult() {
+        return new AnomalyResult(
+            configId,
+            taskId,
+            anomalyScore,
+            anomalyGrade,
+            confidence,
+            featureData,
+            dataStartTime,
+            dataEndTime,
+            executionStartTime,
+            executionEndTime,
+            error,
+            optionalEntity,
+            user,
+            schemaVersion,
+            modelId,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    /**
+     * Build the document that summarizes consecutive non-anomalous results of a model.
+     * The roll-up covers [rollupStart, last.dataEndTime), keeps the feature values and
+     * confidence of the last result and records the maximum score as its anomaly score
+     * so that score-based queries never under-report.
+     *
+     * @param last the latest result folded into the roll-up
+     * @param rollupStart data start time of the first result folded into the roll-up
+     * @param rollup count and score range of the folded results
+     * @return the roll-up result
+     */
+    public static AnomalyResult toRollupResult(AnomalyResult last, Instant rollupStart, ResultRollup rollup) {
+        AnomalyResult result = new AnomalyResult(
+            last.configId,
+            last.taskId,
+            Double.isNaN(rollup.getMaxAnomalyScore()) ? last.anomalyScore : rollup.getMaxAnomalyScore(),
+            last.anomalyGrade,
+            last.confidence,
+            last.featureData,
+            rollupStart,
+            last.dataEndTime,
+            last.executionStartTime,
+            last.executionEndTime,
+            null,
+            last.optionalEntity,
+            last.user,
+            last.schemaVersion,
+            last.modelId,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+        result.rollup = rollup;
+        return result;
     }
 
     @Generated
@@ -849,7 +935,8 @@ public class AnomalyResult extends IndexableResult {
             && Objects.equal(pastValues, that.pastValues)
             && Objects.equal(expectedValuesList, that.expectedValuesList)
             && Objects.equal(threshold, that.threshold)
-            && Objects.equal(featureImputed, that.featureImputed);
+            && Objects.equal(featureImputed, that.featureImputed)
+            && Objects.equal(rollup, that.rollup);
     }
 
     @Generated
@@ -868,7 +955,8 @@ public class AnomalyResult extends IndexableResult {
                 pastValues,
                 expectedValuesList,
                 threshold,
-                featureImputed
+                featureImputed,
+                rollup
             );
         return result;
     }
@@ -889,6 +977,7 @@ public class AnomalyResult extends IndexableResult {
                 .append("expectedValuesList", StringUtils.join(expectedValuesList, "|"))
                 .append("threshold", threshold)
                 .append("featureImputed", featureImputed)
+                .append("rollup", rollup)
                 .toString();
     }
 
@@ -936,16 +1025,20 @@ public class AnomalyResult extends IndexableResult {
         return featureImputed;
     }
 
+    public ResultRollup getRollup() {
+        return rollup;
+    }
+
     /**
      * Anomaly result index consists of overwhelmingly (99.5%) zero-grade non-error documents.
      * This function exclude the majority case.
-     * @return whether the anomaly result is important when the anomaly grade is not 0
-     * or error is there.
+     * @return whether the anomaly result is important when the anomaly grade is not 0,
+     * error is there, or it summarizes many intervals as a roll-up.
      */
     @Override
     public boolean isHighPriority() {
         // AnomalyResult.toXContent won't record Double.NaN and thus make it null
-        return (getAnomalyGrade() != null && getAnomalyGrade() > 0) || getError() != null;
+        return (getAnomalyGrade() != null && getAnomalyGrade() > 0) || getError() != null || rollup != null;
     }
 
     @Override
@@ -995,6 +1088,8 @@ public class AnomalyResult extends IndexableResult {
         } else {
             out.writeVInt(0);
         }
+
+        out.writeOptionalWriteable(rollup);
     }
 
     public static AnomalyResult getDummyResult() {
@@ -42,6 +42,7 @@ public class DetectorProfile extends ConfigProfile<ADTask, ADTaskProfile> {
             profile.initProgress = initProgress;
             profile.totalEntities = totalEntities;
             profile.activeEntities = activeEntities;
+            profile.resultWrite = resultWrite;
             profile.taskProfile = adTaskProfile;
 
             return profile;
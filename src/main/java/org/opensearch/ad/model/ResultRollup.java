@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.model;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import com.google.common.base.Objects;
+
+/**
+ * Summary of consecutive non-anomalous results folded into a single result document
+ * when a detector uses {@link ResultVerbosity#ROLLUP}.
+ *
+ */
+public class ResultRollup implements ToXContentObject, Writeable {
+
+    public static final String COUNT_FIELD = "count";
+    public static final String MIN_ANOMALY_SCORE_FIELD = "min_anomaly_score";
+    public static final String MAX_ANOMALY_SCORE_FIELD = "max_anomaly_score";
+
+    private final long count;
+    private final double minAnomalyScore;
+    private final double maxAnomalyScore;
+
+    public ResultRollup(long count, double minAnomalyScore, double maxAnomalyScore) {
+        this.count = count;
+        this.minAnomalyScore = minAnomalyScore;
+        this.maxAnomalyScore = maxAnomalyScore;
+    }
+
+    public ResultRollup(StreamInput input) throws IOException {
+        this.count = input.readVLong();
+        this.minAnomalyScore = input.readDouble();
+        this.maxAnomalyScore = input.readDouble();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder.startObject().field(COUNT_FIELD, count);
+        if (!Double.isNaN(minAnomalyScore)) {
+            xContentBuilder.field(MIN_ANOMALY_SCORE_FIELD, minAnomalyScore);
+        }
+        if (!Double.isNaN(maxAnomalyScore)) {
+            xContentBuilder.field(MAX_ANOMALY_SCORE_FIELD, maxAnomalyScore);
+        }
+        return xContentBuilder.endObject();
+    }
+
+    public static ResultRollup parse(XContentParser parser) throws IOException {
+        long count = 0;
+        double minAnomalyScore = Double.NaN;
+        double maxAnomalyScore = Double.NaN;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case COUNT_FIELD:
+                    count = parser.longValue();
+                    break;
+                case MIN_ANOMALY_SCORE_FIELD:
+                    minAnomalyScore = parser.doubleValue();
+                    break;
+                case MAX_ANOMALY_SCORE_FIELD:
+                    maxAnomalyScore = parser.doubleValue();
+                    break;
+                default:
+                    // the unknown field and it's children should be ignored
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new ResultRollup(count, minAnomalyScore, maxAnomalyScore);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ResultRollup that = (ResultRollup) o;
+        return count == that.count
+            && Objects.equal(minAnomalyScore, that.minAnomalyScore)
+            && Objects.equal(maxAnomalyScore, that.maxAnomalyScore);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(count, minAnomalyScore, maxAnomalyScore);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMinAnomalyScore() {
+        return minAnomalyScore;
+    }
+
+    public double getMaxAnomalyScore() {
+        return maxAnomalyScore;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeDouble(minAnomalyScore);
+        out.writeDouble(maxAnomalyScore);
+    }
+
+}
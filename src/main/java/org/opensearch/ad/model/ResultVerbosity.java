@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.model;
+
+/**
+ * How much detail a detector stores for results that are neither anomalies nor errors.
+ * Anomalies and errors are always stored in full.
+ */
+public enum ResultVerbosity {
+    // store every result with all fields (default)
+    FULL,
+    // store every result with feature data but without threshold, attribution, past and
+    // expected values and imputation details
+    SLIM,
+    // store one document per model summarizing consecutive non-anomalous results. Results
+    // not flushed yet live in the memory of the node hosting the model and are lost when
+    // the node restarts or the model moves to another node.
+    ROLLUP;
+}
@@ -16,7 +16,6 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_ENTITY_COLD_
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.Optional;
 import java.util.Random;
 
@@ -39,6 +38,7 @@ import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.ColdStartWorker;
@@ -122,7 +122,7 @@ public class ADColdStartWorker extends
             clock,
             0,
             request.getEntity(),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
     }
 
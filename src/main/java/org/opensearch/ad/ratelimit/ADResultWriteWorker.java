@@ -16,9 +16,13 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_RESULT_WRITE
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.ad.caching.TopAnomalyRollup;
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
 import org.opensearch.ad.model.AnomalyResult;
@@ -40,6 +44,8 @@ public class ADResultWriteWorker extends
     ResultWriteWorker<AnomalyResult, ADResultWriteRequest, ADResultBulkRequest, ADIndex, ADIndexManagement, ADIndexMemoryPressureAwareResultHandler> {
     public static final String WORKER_NAME = "ad-result-write";
 
+    private TopAnomalyRollup topAnomalyRollup;
+
     public ADResultWriteWorker(
         long heapSizeInBytes,
         int singleRequestSizeInBytes,
@@ -88,6 +94,40 @@ public class ADResultWriteWorker extends
         );
     }
 
+    public void setTopAnomalyRollup(TopAnomalyRollup topAnomalyRollup) {
+        this.topAnomalyRollup = topAnomalyRollup;
+    }
+
+    @Override
+    protected void onIndexed(List<ADResultWriteRequest> toProcess, List<IndexRequest> failedRequests) {
+        if (topAnomalyRollup == null || false == topAnomalyRollup.isEnabled()) {
+            return;
+        }
+        // failed results are retried; record them when the retry succeeds so that they are counted once
+        Set<String> failedResults = new HashSet<>();
+        for (IndexRequest failedRequest : failedRequests) {
+            getResult(failedRequest).ifPresent(result -> failedResults.add(getRollupKey(result)));
+        }
+        for (ADResultWriteRequest request : toProcess) {
+            AnomalyResult result = request.getResult();
+            if (failedResults.isEmpty() || false == failedResults.contains(getRollupKey(result))) {
+                topAnomalyRollup.record(result);
+            }
+        }
+    }
+
+    private String getRollupKey(AnomalyResult result) {
+        return result.getConfigId() + "_" + result.getEntity().map(Object::toString).orElse("") + "_" + result.getDataEndTime();
+    }
+
+    @Override
+    public void maintenance() {
+        super.maintenance();
+        if (topAnomalyRollup != null) {
+            topAnomalyRollup.maintenance();
+        }
+    }
+
     @Override
     protected ADResultBulkRequest toBatchRequest(List<ADResultWriteRequest> toProcess) {
         final ADResultBulkRequest bulkRequest = new ADResultBulkRequest();
@@ -6,11 +6,18 @@
 package org.opensearch.ad.ratelimit;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.opensearch.ad.ml.ThresholdingResult;
+import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.model.ResultRollup;
+import org.opensearch.ad.model.ResultVerbosity;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
@@ -21,10 +28,13 @@ import org.opensearch.timeseries.util.ParseUtils;
 public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, ThresholdingResult> {
     private int resultMappingVersion;
     private ADResultWriteWorker resultWriteWorker;
+    // model id -> non-anomalous results not yet written for detectors using ResultVerbosity.ROLLUP
+    private final Map<String, PendingRollup> pendingRollups;
 
     public ADSaveResultStrategy(int resultMappingVersion, ADResultWriteWorker resultWriteWorker) {
         this.resultMappingVersion = resultMappingVersion;
         this.resultWriteWorker = resultWriteWorker;
+        this.pendingRollups = new HashMap<>();
     }
 
     @Override
@@ -77,14 +87,95 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
         }
     }
 
+    /**
+     * Store anomalies and errors in full. Other results are stored according to the
+     * detector's {@link ResultVerbosity}: in full, as a slim copy, or folded into a
+     * per-model roll-up that is written once it covers {@link AnomalyDetectorSettings#RESULT_ROLLUP_MAX_INTERVALS}
+     * intervals, when the model reports an anomaly or an error, or during maintenance.
+     *
+     * @param result result to save
+     * @param config the result's detector
+     */
     @Override
     public void saveResult(AnomalyResult result, Config config) {
+        String rollupKey = getRollupKey(result);
+        if (result.isHighPriority()) {
+            // keep results in time order: flush what we summarized before the anomaly
+            flushRollup(rollupKey);
+            write(result, config);
+            return;
+        }
+
+        ResultVerbosity verbosity = getResultVerbosity(config);
+        switch (verbosity) {
+            case SLIM:
+                flushRollup(rollupKey);
+                write(result.toSlimResult(), config);
+                break;
+            case ROLLUP:
+                PendingRollup full = null;
+                synchronized (pendingRollups) {
+                    PendingRollup pending = pendingRollups.computeIfAbsent(rollupKey, k -> new PendingRollup(result));
+                    pending.add(result, config);
+                    if (pending.count >= AnomalyDetectorSettings.RESULT_ROLLUP_MAX_INTERVALS) {
+                        full = pendingRollups.remove(rollupKey);
+                    }
+                }
+                if (full != null) {
+                    write(full.toResult(), full.config);
+                }
+                break;
+            default:
+                flushRollup(rollupKey);
+                write(result, config);
+                break;
+        }
+    }
+
+    /**
+     * Write all pending roll-ups so that stopped or idle models do not hold results back
+     * indefinitely and a stored roll-up never lags more than one maintenance period.
+     */
+    @Override
+    public void maintenance() {
+        List<PendingRollup> flushed = new ArrayList<>();
+        synchronized (pendingRollups) {
+            flushed.addAll(pendingRollups.values());
+            pendingRollups.clear();
+        }
+        for (PendingRollup pending : flushed) {
+            write(pending.toResult(), pending.config);
+        }
+    }
+
+    /**
+     * @return number of models whose non-anomalous results are currently being rolled up
+     */
+    public int getPendingRollupCount() {
+        synchronized (pendingRollups) {
+            return pendingRollups.size();
+        }
+    }
+
+    private void flushRollup(String rollupKey) {
+        PendingRollup pending = null;
+        synchronized (pendingRollups) {
+            if (!pendingRollups.isEmpty()) {
+                pending = pendingRollups.remove(rollupKey);
+            }
+        }
+        if (pending != null) {
+            write(pending.toResult(), pending.config);
+        }
+    }
+
+    private void write(AnomalyResult result, Config config) {
         resultWriteWorker
             .put(
                 new ADResultWriteRequest(
                     System.currentTimeMillis() + config.getIntervalInMilliseconds(),
                     config.getId(),
-                    result.getAnomalyGrade() > 0 ? RequestPriority.HIGH : RequestPriority.MEDIUM,
+                    result.getAnomalyGrade() > 0 || result.getRollup() != null ? RequestPriority.HIGH : RequestPriority.MEDIUM,
                     result,
                     config.getCustomResultIndexOrAlias(),
                     config.getFlattenResultIndexAlias()
@@ -92,4 +183,53 @@ public class ADSaveResultStrategy implements SaveResultStrategy<AnomalyResult, T
             );
     }
 
+    private static ResultVerbosity getResultVerbosity(Config config) {
+        if (config instanceof AnomalyDetector) {
+            ResultVerbosity verbosity = ((AnomalyDetector) config).getResultVerbosity();
+            if (verbosity != null) {
+                return verbosity;
+            }
+        }
+        return ResultVerbosity.FULL;
+    }
+
+    private static String getRollupKey(AnomalyResult result) {
+        // single-stream detectors have no model id in their results
+        return result.getModelId() == null ? result.getConfigId() : result.getModelId();
+    }
+
+    /**
+     * Running summary of consecutive non-anomalous results of one model.
+     */
+    private static class PendingRollup {
+        private final Instant dataStartTime;
+        private long count;
+        private double minScore;
+        private double maxScore;
+        private AnomalyResult last;
+        private Config config;
+
+        PendingRollup(AnomalyResult first) {
+            this.dataStartTime = first.getDataStartTime();
+            this.count = 0;
+            this.minScore = Double.NaN;
+            this.maxScore = Double.NaN;
+        }
+
+        void add(AnomalyResult result, Config config) {
+            count++;
+            Double score = result.getAnomalyScore();
+            if (score != null && !score.isNaN()) {
+                minScore = Double.isNaN(minScore) ? score : Math.min(minScore, score);
+                maxScore = Double.isNaN(maxScore) ? score : Math.max(maxScore, score);
+            }
+            last = result;
+            // pick up detector updates such as a new custom result index
+            this.config = config;
+        }
+
+        AnomalyResult toResult() {
+            return AnomalyResult.toRollupResult(last, dataStartTime, new ResultRollup(count, minScore, maxScore));
+        }
+    }
 }
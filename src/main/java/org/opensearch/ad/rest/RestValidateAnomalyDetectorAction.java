@@ -18,6 +18,7 @@ import static org.opensearch.timeseries.util.RestHandlerUtils.VALIDATE;
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.opensearch.ad.constant.ADCommonMessages;
 import org.opensearch.ad.settings.ADEnabledSetting;
@@ -34,9 +35,11 @@ import org.opensearch.timeseries.common.exception.ValidationException;
 import org.opensearch.timeseries.model.ConfigValidationIssue;
 import org.opensearch.timeseries.rest.RestValidateAction;
 import org.opensearch.timeseries.transport.ValidateConfigRequest;
+import org.opensearch.timeseries.transport.ValidateConfigResponse;
 import org.opensearch.transport.client.node.NodeClient;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 /**
  * This class consists of the REST handler to validate anomaly detector configurations.
@@ -63,6 +66,11 @@ public class RestValidateAnomalyDetectorAction extends AbstractAnomalyDetectorAc
         return VALIDATE_ANOMALY_DETECTOR_ACTION;
     }
 
+    @Override
+    protected Set<String> responseParams() {
+        return ImmutableSet.of(ValidateConfigResponse.CHECK_TIMINGS_PARAM);
+    }
+
     @Override
     public List<Route> routes() {
         return ImmutableList
@@ -219,7 +219,7 @@ public abstract class AbstractAnomalyDetectorActionHandler<T extends ActionRespo
     @Override
     protected AnomalyDetector copyConfig(User user, Config config) {
         AnomalyDetector detector = (AnomalyDetector) config;
-        return new AnomalyDetector(
+        AnomalyDetector copy = new AnomalyDetector(
             config.getId(),
             config.getVersion(),
             config.getName(),
@@ -248,6 +248,8 @@ public abstract class AbstractAnomalyDetectorActionHandler<T extends ActionRespo
             config.getFlattenResultIndexMapping(),
             breakingUIChange ? Instant.now() : config.getLastBreakingUIChangeTime()
         );
+        copy.setResultVerbosity(detector.getResultVerbosity());
+        return copy;
     }
 
     @SuppressWarnings("unchecked")
@@ -309,6 +309,11 @@ public final class AnomalyDetectorSettings {
             Setting.Property.Dynamic
         );
 
+    // buffer results that indexing pressure does not admit to a local file and index them
+    // after the pressure recovers instead of dropping them
+    public static final Setting<Boolean> AD_RESULT_WRITE_SPILL_ENABLED = Setting
+        .boolSetting("plugins.anomaly_detection.result_write_spill_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     // max number of primary shards of an AD index
     public static final Setting<Integer> AD_MAX_PRIMARY_SHARDS = Setting
         .intSetting(
@@ -383,6 +388,16 @@ public final class AnomalyDetectorSettings {
             Setting.Property.Dynamic
         );
 
+    // Whether HC entity tasks running on the same node share one query per piece
+    // instead of querying each entity separately. Disabled by default.
+    public static final Setting<Boolean> BATCH_TASK_SHARED_PIECE_QUERY = Setting
+        .boolSetting(
+            "plugins.anomaly_detection.batch_task_shared_piece_query",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     // Maximum number of entities we support for historical analysis.
     public static final int MAX_TOP_ENTITIES_LIMIT_FOR_HISTORICAL_ANALYSIS = 10_000;
     public static final Setting<Integer> MAX_TOP_ENTITIES_FOR_HISTORICAL_ANALYSIS = Setting
@@ -635,11 +650,45 @@ public final class AnomalyDetectorSettings {
     // preview timeout in terms of milliseconds
     public static final long PREVIEW_TIMEOUT_IN_MILLIS = 60_000;
 
+    // max number of entities of one preview that train and score models at the same time.
+    // Concurrent previews share half of the AD thread pool, so a preview may get fewer.
+    public static final int MAX_PREVIEW_PARALLELISM = 4;
+
     // ======================================
     // top anomaly result API setting
     // ======================================
     public static final long TOP_ANOMALY_RESULT_TIMEOUT_IN_MILLIS = 60_000;
 
+    // If enabled, nodes keep an hourly per-entity summary of the real-time anomalies they write,
+    // and top anomaly queries read the summary instead of aggregating all results in the range.
+    public static final Setting<Boolean> TOP_ANOMALY_RESULT_ROLLUP_ENABLED = Setting
+        .boolSetting(
+            "plugins.anomaly_detection.top_anomaly_result_rollup_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // ======================================
+    // result routing setting
+    // ======================================
+    // Number of shard routing buckets of each detector's results in result indices created from now
+    // on. 0 routes results by document id. Otherwise, results are routed by detector id and an
+    // entity hash bucket, so that queries of a detector only search the shards of its buckets.
+    // More buckets spread the results of a detector with many entities over more shards.
+    public static final Setting<Integer> AD_RESULT_ROUTING_BUCKETS = Setting
+        .intSetting("plugins.anomaly_detection.result_routing_buckets", 0, 0, 64, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // ======================================
+    // result verbosity setting
+    // ======================================
+    // maximum number of non-anomalous intervals folded into one roll-up result document.
+    // A roll-up is also flushed when the model reports an anomaly or an error, and
+    // during hourly maintenance, so a stored roll-up lags at most an hour behind.
+    // Pending roll-ups are kept in memory only: results folded since the last flush are
+    // lost when the node restarts or the model moves to another node.
+    public static final int RESULT_ROLLUP_MAX_INTERVALS = 60;
+
     // ======================================
     // cleanup resouce setting
     // ======================================
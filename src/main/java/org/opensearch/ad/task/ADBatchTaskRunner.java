@@ -14,6 +14,7 @@ package org.opensearch.ad.task;
 import static org.opensearch.ad.constant.ADCommonMessages.NO_ELIGIBLE_NODE_TO_RUN_DETECTOR;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.BATCH_TASK_PIECE_INTERVAL_SECONDS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.BATCH_TASK_PIECE_SIZE;
+import static org.opensearch.ad.settings.AnomalyDetectorSettings.BATCH_TASK_SHARED_PIECE_QUERY;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_BATCH_TASK_PER_NODE;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_RUNNING_ENTITIES_PER_DETECTOR_FOR_HISTORICAL_ANALYSIS;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.MAX_TOP_ENTITIES_FOR_HISTORICAL_ANALYSIS;
@@ -133,12 +134,14 @@ public class ADBatchTaskRunner {
     private final TransportRequestOptions option;
     private final HashRing hashRing;
     private final ADModelManager modelManager;
+    private final ADHCBatchPieceLoader pieceLoader;
 
     private volatile Integer maxAdBatchTaskPerNode;
     private volatile Integer pieceSize;
     private volatile Integer pieceIntervalSeconds;
     private volatile Integer maxTopEntitiesPerHcDetector;
     private volatile Integer maxRunningEntitiesPerDetector;
+    private volatile boolean sharedPieceQuery;
 
     private static final int MAX_TOP_ENTITY_SEARCH_BUCKETS = 1000;
     private static final int SLEEP_TIME_FOR_NEXT_ENTITY_TASK_IN_MILLIS = 2000;
@@ -158,7 +161,8 @@ public class ADBatchTaskRunner {
         ADTaskCacheManager adTaskCacheManager,
         SearchFeatureDao searchFeatureDao,
         HashRing hashRing,
-        ADModelManager modelManager
+        ADModelManager modelManager,
+        Clock clock
     ) {
         this.settings = settings;
         this.threadPool = threadPool;
@@ -182,6 +186,7 @@ public class ADBatchTaskRunner {
         this.searchFeatureDao = searchFeatureDao;
         this.hashRing = hashRing;
         this.modelManager = modelManager;
+        this.pieceLoader = new ADHCBatchPieceLoader(searchFeatureDao, clock);
 
         this.maxAdBatchTaskPerNode = MAX_BATCH_TASK_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_BATCH_TASK_PER_NODE, it -> maxAdBatchTaskPerNode = it);
@@ -201,6 +206,9 @@ public class ADBatchTaskRunner {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(MAX_RUNNING_ENTITIES_PER_DETECTOR_FOR_HISTORICAL_ANALYSIS, it -> maxRunningEntitiesPerDetector = it);
+
+        this.sharedPieceQuery = BATCH_TASK_SHARED_PIECE_QUERY.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BATCH_TASK_SHARED_PIECE_QUERY, it -> sharedPieceQuery = it);
     }
 
     /**
@@ -795,6 +803,7 @@ public class ADBatchTaskRunner {
         ActionListener<String> listener = ActionListener.wrap(response -> {
             // If batch task finished normally, remove task from cache and decrease executing task count by 1.
             adTaskCacheManager.remove(taskId, detectorId, detectorTaskId);
+            pieceLoader.removeTask(taskId);
             adStats.getStat(AD_EXECUTING_BATCH_TASK_COUNT.getName()).decrement();
             if (!adTask.getDetector().isHighCardinality()) {
                 // Set single-entity detector task as FINISHED here
@@ -812,6 +821,7 @@ public class ADBatchTaskRunner {
         }, e -> {
             // If batch task failed, remove task from cache and decrease executing task count by 1.
             adTaskCacheManager.remove(taskId, detectorId, detectorTaskId);
+            pieceLoader.removeTask(taskId);
             adStats.getStat(AD_EXECUTING_BATCH_TASK_COUNT.getName()).decrement();
             if (!adTask.getDetector().isHighCardinality()) {
                 adTaskManager.cleanDetectorCache(adTask, transportService, () -> handleException(adTask, e));
@@ -902,7 +912,9 @@ public class ADBatchTaskRunner {
                             checkIfADTaskCancelledAndCleanupCache(adTask);
                             getDateRangeOfSourceData(adTask, (dataStartTime, dataEndTime) -> {
                                 long interval = ((IntervalTimeConfiguration) adTask.getDetector().getInterval()).toDuration().toMillis();
-                                long expectedPieceEndTime = dataStartTime + pieceSize * interval;
+                                long expectedPieceEndTime = useSharedPieces(adTask)
+                                    ? getPieceGridStartTime(adTask, dataStartTime, interval) + pieceSize * interval
+                                    : dataStartTime + pieceSize * interval;
                                 long firstPieceEndTime = Math.min(expectedPieceEndTime, dataEndTime);
                                 logger
                                     .debug(
@@ -1068,10 +1080,37 @@ public class ADBatchTaskRunner {
             false
         );
 
+        if (useSharedPieces(adTask)) {
+            // query the whole grid piece so that the data points can be shared with other entity tasks
+            long gridStartTime = getPieceGridStartTime(adTask, pieceStartTime, interval);
+            pieceLoader.getFeatureDataPoints(adTask, gridStartTime, gridStartTime + pieceSize * interval, threadedActionListener);
+            return;
+        }
         featureManager
             .getFeatureDataPointsByBatch(adTask.getDetector(), adTask.getEntity(), pieceStartTime, pieceEndTime, threadedActionListener);
     }
 
+    private boolean useSharedPieces(ADTask adTask) {
+        return sharedPieceQuery && adTask.isHistoricalEntityTask() && adTask.getEntity() != null;
+    }
+
+    /**
+     * Get the start time of the piece containing a time. Pieces of HC entity tasks are aligned
+     * to a grid starting at the detection date range start, so that entity tasks of a detector
+     * query the same pieces even if their entities' data start at different times.
+     *
+     * @param adTask task information
+     * @param time time in milliseconds
+     * @param interval detector interval in milliseconds
+     * @return start time of the grid piece containing the time
+     */
+    private long getPieceGridStartTime(ADTask adTask, long time, long interval) {
+        long rangeStartTime = adTask.getDetectionDateRange().getStartTime().toEpochMilli();
+        long origin = rangeStartTime - rangeStartTime % interval;
+        long pieceLength = pieceSize * interval;
+        return origin + Math.floorDiv(time - origin, pieceLength) * pieceLength;
+    }
+
     private void detectAnomaly(
         ADTask adTask,
         Map<Long, Optional<double[]>> dataPoints,
@@ -1090,7 +1129,8 @@ public class ADBatchTaskRunner {
 
         long intervalEndTime = pieceStartTime;
         AnomalyDetector detector = adTask.getDetector();
-        for (int i = 0; i < pieceSize && intervalEndTime < dataEndTime; i++) {
+        // pieceEndTime is at most dataEndTime and pieceSize intervals after pieceStartTime
+        while (intervalEndTime < pieceEndTime) {
             Optional<double[]> dataPoint = dataPoints.containsKey(intervalEndTime) ? dataPoints.get(intervalEndTime) : Optional.empty();
             intervalEndTime = intervalEndTime + interval;
             Instant pieceDataStartTime = Instant.ofEpochMilli(intervalEndTime - interval);
@@ -1258,7 +1298,9 @@ public class ADBatchTaskRunner {
             checkIfADTaskCancelledAndCleanupCache(adTask);
             threadPool.schedule(() -> {
                 checkClusterState(adTask);
-                long expectedPieceEndTime = pieceStartTime + pieceSize * interval;
+                long expectedPieceEndTime = useSharedPieces(adTask)
+                    ? getPieceGridStartTime(adTask, pieceStartTime, interval) + pieceSize * interval
+                    : pieceStartTime + pieceSize * interval;
                 long pieceEndTime = expectedPieceEndTime > dataEndTime ? dataEndTime : expectedPieceEndTime;
                 logger
                     .debug(
@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.task;
+
+import java.time.Clock;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ad.model.ADTask;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.timeseries.feature.SearchFeatureDao;
+import org.opensearch.timeseries.model.Entity;
+
+/**
+ * Shares piece queries among the HC entity tasks of a detector running on this node.
+ *
+ * Without sharing, every entity task queries the data points of its own entity for each piece,
+ * so N entity tasks of one detector scan the same time range N times. Entity task pieces are
+ * aligned to a grid starting at the detection date range, so entity tasks of a detector ask for
+ * the same pieces. The first request of a piece fetches it with one composite aggregation on the
+ * category fields and the date histogram, for the requesting task and for the tasks of the same
+ * detector up to {@link #MAX_LAG_PIECES} pieces behind it. Those tasks take their data points
+ * from the shared piece when they get there. Data points are dropped once their task took them;
+ * unclaimed ones, e.g., of cancelled tasks, expire after {@link #STATE_TTL_MILLIS}.
+ */
+public class ADHCBatchPieceLoader {
+    private static final Logger logger = LogManager.getLogger(ADHCBatchPieceLoader.class);
+
+    // how many pieces an entity task may lag behind and still be included in a shared piece query
+    static final int MAX_LAG_PIECES = 2;
+    static final long STATE_TTL_MILLIS = 600_000L;
+
+    private final SearchFeatureDao searchFeatureDao;
+    private final Clock clock;
+    // key: entity task id
+    private final Map<String, EntityTaskProgress> taskProgress;
+    // key: detector level task id and piece start time
+    private final Map<String, SharedPiece> pieces;
+
+    static class EntityTaskProgress {
+        private final String detectorTaskId;
+        private final Entity entity;
+        private volatile long pieceStartTime;
+        private volatile long lastAccessMillis;
+
+        EntityTaskProgress(String detectorTaskId, Entity entity, long pieceStartTime) {
+            this.detectorTaskId = detectorTaskId;
+            this.entity = entity;
+            this.pieceStartTime = pieceStartTime;
+        }
+    }
+
+    static class SharedPiece {
+        private final long createdMillis;
+        // fetched data points not taken by their task yet
+        private final Map<Entity, Map<Long, Optional<double[]>>> dataPoints;
+        // entities being fetched, and the tasks waiting for them
+        private final Map<Entity, List<ActionListener<Map<Long, Optional<double[]>>>>> fetching;
+
+        SharedPiece(long createdMillis) {
+            this.createdMillis = createdMillis;
+            this.dataPoints = new HashMap<>();
+            this.fetching = new HashMap<>();
+        }
+
+        boolean isDrained() {
+            return dataPoints.isEmpty() && fetching.isEmpty();
+        }
+    }
+
+    public ADHCBatchPieceLoader(SearchFeatureDao searchFeatureDao, Clock clock) {
+        this.searchFeatureDao = searchFeatureDao;
+        this.clock = clock;
+        this.taskProgress = new ConcurrentHashMap<>();
+        this.pieces = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the data points of an HC entity task's entity in a piece.
+     *
+     * @param adTask HC entity task
+     * @param pieceStartTime grid-aligned piece start time in epoch milliseconds, inclusive
+     * @param pieceEndTime grid-aligned piece end time in epoch milliseconds, exclusive
+     * @param listener onResponse is called with the data points keyed by bucket start time
+     */
+    public void getFeatureDataPoints(
+        ADTask adTask,
+        long pieceStartTime,
+        long pieceEndTime,
+        ActionListener<Map<Long, Optional<double[]>>> listener
+    ) {
+        maintenance();
+        String detectorTaskId = adTask.getConfigLevelTaskId();
+        Entity entity = adTask.getEntity();
+        long pieceLength = pieceEndTime - pieceStartTime;
+        EntityTaskProgress progress = taskProgress
+            .computeIfAbsent(adTask.getTaskId(), id -> new EntityTaskProgress(detectorTaskId, entity, pieceStartTime));
+        progress.pieceStartTime = pieceStartTime;
+        progress.lastAccessMillis = clock.millis();
+
+        String pieceKey = detectorTaskId + "_" + pieceStartTime;
+        SharedPiece piece = pieces.computeIfAbsent(pieceKey, key -> new SharedPiece(clock.millis()));
+        Map<Long, Optional<double[]>> fetched;
+        Set<Entity> toFetch = new LinkedHashSet<>();
+        synchronized (piece) {
+            fetched = piece.dataPoints.remove(entity);
+            if (fetched == null) {
+                List<ActionListener<Map<Long, Optional<double[]>>>> waiting = piece.fetching.get(entity);
+                if (waiting != null) {
+                    waiting.add(listener);
+                    return;
+                }
+                toFetch.add(entity);
+                for (EntityTaskProgress other : taskProgress.values()) {
+                    if (detectorTaskId.equals(other.detectorTaskId)
+                        && other.pieceStartTime < pieceStartTime
+                        && other.pieceStartTime >= pieceStartTime - MAX_LAG_PIECES * pieceLength
+                        && !piece.dataPoints.containsKey(other.entity)
+                        && !piece.fetching.containsKey(other.entity)) {
+                        toFetch.add(other.entity);
+                    }
+                }
+                for (Entity fetchEntity : toFetch) {
+                    piece.fetching.put(fetchEntity, new ArrayList<>());
+                }
+                piece.fetching.get(entity).add(listener);
+            }
+        }
+
+        if (fetched != null) {
+            removeIfDrained(pieceKey, piece);
+            listener.onResponse(fetched);
+            return;
+        }
+        logger.debug("Fetch piece {} of detector task {} for {} entities", pieceStartTime, detectorTaskId, toFetch.size());
+        fetch(adTask.getDetector(), pieceKey, piece, new ArrayList<>(toFetch), pieceStartTime, pieceEndTime);
+    }
+
+    /**
+     * Stop tracking an entity task, e.g., when it finishes or fails.
+     *
+     * @param taskId entity task id
+     */
+    public void removeTask(String taskId) {
+        taskProgress.remove(taskId);
+    }
+
+    private void fetch(
+        AnomalyDetector detector,
+        String pieceKey,
+        SharedPiece piece,
+        List<Entity> entities,
+        long pieceStartTime,
+        long pieceEndTime
+    ) {
+        try {
+            searchFeatureDao.getFeaturesForPeriodByBatch(detector, entities, pieceStartTime, pieceEndTime, ActionListener.wrap(response -> {
+                List<Entry<ActionListener<Map<Long, Optional<double[]>>>, Map<Long, Optional<double[]>>>> ready = new ArrayList<>();
+                synchronized (piece) {
+                    for (Entity entity : entities) {
+                        List<ActionListener<Map<Long, Optional<double[]>>>> waiting = piece.fetching.remove(entity);
+                        Map<Long, Optional<double[]>> points = response.getOrDefault(entity, new HashMap<>());
+                        if (waiting == null || waiting.isEmpty()) {
+                            piece.dataPoints.put(entity, points);
+                        } else {
+                            waiting.forEach(listener -> ready.add(new SimpleImmutableEntry<>(listener, points)));
+                        }
+                    }
+                }
+                removeIfDrained(pieceKey, piece);
+                ready.forEach(entry -> entry.getKey().onResponse(entry.getValue()));
+            }, e -> onFetchFailure(pieceKey, piece, entities, e)));
+        } catch (Exception e) {
+            onFetchFailure(pieceKey, piece, entities, e);
+        }
+    }
+
+    private void onFetchFailure(String pieceKey, SharedPiece piece, List<Entity> entities, Exception e) {
+        List<ActionListener<Map<Long, Optional<double[]>>>> failed = new ArrayList<>();
+        synchronized (piece) {
+            for (Entity entity : entities) {
+                List<ActionListener<Map<Long, Optional<double[]>>>> waiting = piece.fetching.remove(entity);
+                if (waiting != null) {
+                    failed.addAll(waiting);
+                }
+            }
+        }
+        removeIfDrained(pieceKey, piece);
+        failed.forEach(listener -> listener.onFailure(e));
+    }
+
+    private void removeIfDrained(String pieceKey, SharedPiece piece) {
+        synchronized (piece) {
+            if (piece.isDrained()) {
+                pieces.remove(pieceKey, piece);
+            }
+        }
+    }
+
+    void maintenance() {
+        long now = clock.millis();
+        taskProgress.entrySet().removeIf(entry -> now - entry.getValue().lastAccessMillis > STATE_TTL_MILLIS);
+        for (Entry<String, SharedPiece> entry : pieces.entrySet()) {
+            SharedPiece piece = entry.getValue();
+            synchronized (piece) {
+                // keep pieces being fetched so that waiting tasks get their response
+                if (now - piece.createdMillis > STATE_TTL_MILLIS && piece.fetching.isEmpty()) {
+                    pieces.remove(entry.getKey(), piece);
+                }
+            }
+        }
+    }
+
+    int getPieceCount() {
+        return pieces.size();
+    }
+}
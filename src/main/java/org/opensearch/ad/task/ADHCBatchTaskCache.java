@@ -34,6 +34,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  *    <li>task retry times</li>
  *    <li>detector task update semaphore to control only 1 thread update detector level task</li>
  * </ul>
+ * Moving an entity between queues is atomic per detector, so different detectors never
+ * contend with each other.
  */
 public class ADHCBatchTaskCache {
 
@@ -52,32 +54,33 @@ public class ADHCBatchTaskCache {
 
     // How many entity task lanes can run concurrently. One entity task lane can run one entity task.
     // Entity lane is a virtual concept which represents one running entity task.
-    private AtomicInteger entityTaskLanes;
+    private final AtomicInteger entityTaskLanes;
 
     // How many top entities totally for this HC task.
     // Will calculate HC task progress with it and profile API needs this.
-    private Integer topEntityCount;
+    private volatile Integer topEntityCount;
 
     // This is to control only one entity task updating detector level task.
     private Semaphore detectorTaskUpdatingSemaphore;
 
     // Top entities inited or not.
-    private Boolean topEntitiesInited;
+    private volatile boolean topEntitiesInited;
 
     // Record how many times the task has retried. Key is task id.
     private Map<String, AtomicInteger> taskRetryTimes;
 
     // record last time when HC detector scales entity task slots
-    private Instant lastScaleEntityTaskSlotsTime;
+    private volatile Instant lastScaleEntityTaskSlotsTime;
 
     // record lastest HC detector task run time, will use this field to check if task is running or not.
-    private Instant latestTaskRunTime;
+    private volatile Instant latestTaskRunTime;
 
     public ADHCBatchTaskCache() {
         this.pendingEntities = new ConcurrentLinkedQueue<>();
         this.runningEntities = new ConcurrentLinkedQueue<>();
         this.tempEntities = new ConcurrentLinkedQueue<>();
         this.taskRetryTimes = new ConcurrentHashMap<>();
+        this.entityTaskLanes = new AtomicInteger(0);
         this.detectorTaskUpdatingSemaphore = new Semaphore(1);
         this.topEntitiesInited = false;
         this.lastScaleEntityTaskSlotsTime = Instant.now();
@@ -119,7 +122,7 @@ public class ADHCBatchTaskCache {
 
     public void setEntityTaskLanes(int entityTaskLanes) {
         this.refreshLatestTaskRunTime();
-        this.entityTaskLanes = new AtomicInteger(entityTaskLanes);
+        this.entityTaskLanes.set(entityTaskLanes);
     }
 
     public int getAndDecreaseEntityTaskLanes() {
@@ -142,7 +145,7 @@ public class ADHCBatchTaskCache {
      * Remove entities from both temp and running entities queue and add list of entities into pending entity queue.
      * @param entities a list of entity
      */
-    public void addPendingEntities(List<String> entities) {
+    public synchronized void addPendingEntities(List<String> entities) {
         this.refreshLatestTaskRunTime();
         if (entities == null || entities.size() == 0) {
             return;
@@ -163,7 +166,7 @@ public class ADHCBatchTaskCache {
      * Move entity to running entity queue.
      * @param entity entity value
      */
-    public void moveToRunningEntity(String entity) {
+    public synchronized void moveToRunningEntity(String entity) {
         this.refreshLatestTaskRunTime();
         if (entity == null) {
             return;
@@ -186,7 +189,7 @@ public class ADHCBatchTaskCache {
         return this.runningEntities.size();
     }
 
-    public int getUnfinishedEntityCount() {
+    public synchronized int getUnfinishedEntityCount() {
         return this.runningEntities.size() + this.tempEntities.size() + this.pendingEntities.size();
     }
 
@@ -210,15 +213,15 @@ public class ADHCBatchTaskCache {
         this.latestTaskRunTime = Instant.now();
     }
 
-    public boolean hasEntity() {
+    public synchronized boolean hasEntity() {
         return !this.pendingEntities.isEmpty() || !this.runningEntities.isEmpty() || !this.tempEntities.isEmpty();
     }
 
-    public boolean hasRunningEntity() {
+    public synchronized boolean hasRunningEntity() {
         return !this.runningEntities.isEmpty() || !this.tempEntities.isEmpty();
     }
 
-    public boolean removeRunningEntity(String entity) {
+    public synchronized boolean removeRunningEntity(String entity) {
         // In normal case, the entity will be moved to running queue if entity task dispatched
         // to worker node successfully. If failed to dispatch to worker node, it will still stay
         // in temp queue, check ADBatchTaskRunner#workerNodeResponseListener. Then will send
@@ -230,7 +233,7 @@ public class ADHCBatchTaskCache {
     /**
      * Clear pending/running/temp entities queues, task retry times and rate limiter cache.
      */
-    public void clear() {
+    public synchronized void clear() {
         this.pendingEntities.clear();
         this.runningEntities.clear();
         this.tempEntities.clear();
@@ -242,7 +245,7 @@ public class ADHCBatchTaskCache {
      * temp entities queue.
      * @return entity value
      */
-    public String pollEntity() {
+    public synchronized String pollEntity() {
         this.refreshLatestTaskRunTime();
         String entity = this.pendingEntities.poll();
         if (entity != null && !this.tempEntities.contains(entity)) {
@@ -273,7 +276,7 @@ public class ADHCBatchTaskCache {
      * @param entity entity value
      * @return true if entity exists and removed
      */
-    public boolean removeEntity(String entity) {
+    public synchronized boolean removeEntity(String entity) {
         this.refreshLatestTaskRunTime();
         if (entity == null) {
             return false;
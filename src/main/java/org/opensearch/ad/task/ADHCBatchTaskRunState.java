@@ -22,14 +22,14 @@ public class ADHCBatchTaskRunState {
 
     // HC batch task run state will expire after 60 seconds after last task run time or task cancelled time.
     public static final int HC_TASK_RUN_STATE_TIMEOUT_IN_MILLIS = 60_000;
-    private String detectorTaskState;
+    private volatile String detectorTaskState;
     // record if HC detector historical analysis cancelled/stopped. Every entity task should
     // recheck this field and stop if it's true.
-    private boolean isHistoricalAnalysisCancelled;
-    private String cancelReason;
-    private String cancelledBy;
-    private Long lastTaskRunTimeInMillis;
-    private Long cancelledTimeInMillis;
+    private volatile boolean isHistoricalAnalysisCancelled;
+    private volatile String cancelReason;
+    private volatile String cancelledBy;
+    private volatile Long lastTaskRunTimeInMillis;
+    private volatile Long cancelledTimeInMillis;
 
     public ADHCBatchTaskRunState() {
         this.detectorTaskState = TaskState.INIT.name();
@@ -21,10 +21,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -92,6 +91,20 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * <p>Key: task id</p>
      */
     private final Map<String, ADBatchTaskCache> batchTaskCaches;
+    /**
+     * Same tasks as {@link #batchTaskCaches}, grouped by detector. Tasks of one detector
+     * are added and removed atomically per detector, so starting tasks of different
+     * detectors doesn't contend on a node-wide lock.
+     * <p>Node: worker node</p>
+     * <p>Outer Key: detector id; Inner Key: task id</p>
+     */
+    private final Map<String, Map<String, ADBatchTaskCache>> detectorBatchTaskCaches;
+    /**
+     * Node-wide count of cached batch tasks. A slot is reserved before a task is cached, so
+     * tasks of different detectors added concurrently cannot exceed the per node limit together.
+     * <p>Node: worker node</p>
+     */
+    private final AtomicInteger runningBatchTaskSlots;
 
     // ===================================================================
     // Fields below are caches on both coordinating and worker node
@@ -117,6 +130,8 @@ public class ADTaskCacheManager extends TaskCacheManager {
         this.maxAdBatchTaskPerNode = MAX_BATCH_TASK_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_BATCH_TASK_PER_NODE, it -> maxAdBatchTaskPerNode = it);
         this.batchTaskCaches = new ConcurrentHashMap<>();
+        this.detectorBatchTaskCaches = new ConcurrentHashMap<>();
+        this.runningBatchTaskSlots = new AtomicInteger(0);
         this.memoryTracker = memoryTracker;
         this.detectorTasks = new ConcurrentHashMap<>();
         this.hcBatchTaskCaches = new ConcurrentHashMap<>();
@@ -134,25 +149,39 @@ public class ADTaskCacheManager extends TaskCacheManager {
      *
      * @param adTask AD task
      */
-    public synchronized void add(ADTask adTask) {
+    public void add(ADTask adTask) {
         String taskId = adTask.getTaskId();
         String detectorId = adTask.getConfigId();
-        if (contains(taskId)) {
-            throw new DuplicateTaskException(DETECTOR_IS_RUNNING);
-        }
-        // It's possible that multiple entity tasks of one detector run on same data node.
-        if (!adTask.isHistoricalEntityTask() && containsTaskOfDetector(detectorId)) {
-            throw new DuplicateTaskException(DETECTOR_IS_RUNNING);
-        }
-        checkRunningTaskLimit();
         long neededCacheSize = calculateADTaskCacheSize(adTask);
-        if (!memoryTracker.canAllocateReserved(neededCacheSize)) {
-            throw new LimitExceededException("Not enough memory to run detector");
-        }
-        memoryTracker.consumeMemory(neededCacheSize, true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
-        ADBatchTaskCache taskCache = new ADBatchTaskCache(adTask);
-        taskCache.getCacheMemorySize().set(neededCacheSize);
-        batchTaskCaches.put(taskId, taskCache);
+        // checks and insertion are atomic per detector: only tasks of the same detector wait for each other
+        detectorBatchTaskCaches.compute(detectorId, (id, tasks) -> {
+            if (contains(taskId)) {
+                throw new DuplicateTaskException(DETECTOR_IS_RUNNING);
+            }
+            // It's possible that multiple entity tasks of one detector run on same data node.
+            if (!adTask.isHistoricalEntityTask() && tasks != null && !tasks.isEmpty()) {
+                throw new DuplicateTaskException(DETECTOR_IS_RUNNING);
+            }
+            reserveRunningTaskSlot();
+            try {
+                // memory tracker methods are synchronized; hold its monitor to check and consume in one step
+                synchronized (memoryTracker) {
+                    if (!memoryTracker.canAllocateReserved(neededCacheSize)) {
+                        throw new LimitExceededException("Not enough memory to run detector");
+                    }
+                    memoryTracker.consumeMemory(neededCacheSize, true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
+                }
+            } catch (RuntimeException e) {
+                runningBatchTaskSlots.decrementAndGet();
+                throw e;
+            }
+            ADBatchTaskCache taskCache = new ADBatchTaskCache(adTask);
+            taskCache.getCacheMemorySize().set(neededCacheSize);
+            Map<String, ADBatchTaskCache> tasksOfDetector = tasks == null ? new ConcurrentHashMap<>() : tasks;
+            tasksOfDetector.put(taskId, taskCache);
+            batchTaskCaches.put(taskId, taskCache);
+            return tasksOfDetector;
+        });
         if (adTask.isHistoricalEntityTask()) {
             ADHCBatchTaskRunState hcBatchTaskRunState = getHCBatchTaskRunState(detectorId, adTask.getConfigLevelTaskId());
             if (hcBatchTaskRunState != null) {
@@ -170,13 +199,12 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param adTask AD task
      * @throws DuplicateTaskException throw DuplicateTaskException when the detector id already in cache
      */
-    public synchronized void add(String detectorId, ADTask adTask) {
-        if (detectorTasks.containsKey(detectorId)) {
+    public void add(String detectorId, ADTask adTask) {
+        if (detectorTasks.putIfAbsent(detectorId, adTask.getTaskId()) != null) {
             logger.warn("detector is already in running detector cache, detectorId: " + detectorId);
             throw new DuplicateTaskException(DETECTOR_IS_RUNNING);
         }
         logger.info("add detector in running detector cache, detectorId: {}, taskId: {}", detectorId, adTask.getTaskId());
-        this.detectorTasks.put(detectorId, adTask.getTaskId());
         if (ADTaskType.HISTORICAL_HC_DETECTOR.name().equals(adTask.getTaskType())) {
             ADHCBatchTaskCache adhcBatchTaskCache = new ADHCBatchTaskCache();
             this.hcBatchTaskCaches.put(detectorId, adhcBatchTaskCache);
@@ -198,6 +226,18 @@ public class ADTaskCacheManager extends TaskCacheManager {
         }
     }
 
+    /**
+     * Reserve a running batch task slot on current node. The slot is released when the task is
+     * removed from cache. If all slots are taken, will throw {@link LimitExceededException}
+     */
+    private void reserveRunningTaskSlot() {
+        if (runningBatchTaskSlots.incrementAndGet() > maxAdBatchTaskPerNode) {
+            runningBatchTaskSlots.decrementAndGet();
+            String error = EXCEED_HISTORICAL_ANALYSIS_LIMIT + ": " + maxAdBatchTaskPerNode;
+            throw new LimitExceededException(error);
+        }
+    }
+
     /**
      * Get task RCF model.
      * If task doesn't exist in cache, will throw {@link java.lang.IllegalArgumentException}.
@@ -258,7 +298,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @return true if there is task in cache; otherwise return false
      */
     public boolean containsTaskOfDetector(String detectorId) {
-        return batchTaskCaches.values().stream().filter(v -> Objects.equals(detectorId, v.getId())).findAny().isPresent();
+        return !getBatchTaskCacheByDetectorId(detectorId).isEmpty();
     }
 
     /**
@@ -268,12 +308,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @return list of task id
      */
     public List<String> getTasksOfDetector(String detectorId) {
-        return batchTaskCaches
-            .values()
-            .stream()
-            .filter(v -> Objects.equals(detectorId, v.getId()))
-            .map(c -> c.getTaskId())
-            .collect(Collectors.toList());
+        return getBatchTaskCacheByDetectorId(detectorId).stream().map(c -> c.getTaskId()).collect(Collectors.toList());
     }
 
     /**
@@ -287,14 +322,19 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @return AD batch task cache
      */
     private ADBatchTaskCache getBatchTaskCache(String taskId) {
-        if (!contains(taskId)) {
+        ADBatchTaskCache taskCache = batchTaskCaches.get(taskId);
+        if (taskCache == null) {
             throw new IllegalArgumentException("AD task not in cache");
         }
-        return batchTaskCaches.get(taskId);
+        return taskCache;
     }
 
     private List<ADBatchTaskCache> getBatchTaskCacheByDetectorId(String detectorId) {
-        return batchTaskCaches.values().stream().filter(v -> Objects.equals(detectorId, v.getId())).collect(Collectors.toList());
+        if (detectorId == null) {
+            return new ArrayList<>();
+        }
+        Map<String, ADBatchTaskCache> tasks = detectorBatchTaskCaches.get(detectorId);
+        return tasks == null ? new ArrayList<>() : new ArrayList<>(tasks.values());
     }
 
     /**
@@ -340,11 +380,15 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorTaskId detector level task id
      */
     public void remove(String taskId, String detectorId, String detectorTaskId) {
-        ADBatchTaskCache taskCache = batchTaskCaches.get(taskId);
+        ADBatchTaskCache taskCache = batchTaskCaches.remove(taskId);
         if (taskCache != null) {
             logger.debug("Remove batch task from cache, task id: {}", taskId);
+            runningBatchTaskSlots.decrementAndGet();
             memoryTracker.releaseMemory(taskCache.getCacheMemorySize().get(), true, HISTORICAL_SINGLE_ENTITY_DETECTOR);
-            batchTaskCaches.remove(taskId);
+            detectorBatchTaskCaches.computeIfPresent(taskCache.getId(), (id, tasks) -> {
+                tasks.remove(taskId);
+                return tasks.isEmpty() ? null : tasks;
+            });
             ADHCBatchTaskRunState hcBatchTaskRunState = getHCBatchTaskRunState(detectorId, detectorTaskId);
             if (hcBatchTaskRunState != null) {
                 hcBatchTaskRunState.setLastTaskRunTimeInMillis(Instant.now().toEpochMilli());
@@ -488,6 +532,8 @@ public class ADTaskCacheManager extends TaskCacheManager {
      */
     public void clear() {
         batchTaskCaches.clear();
+        detectorBatchTaskCaches.clear();
+        runningBatchTaskSlots.set(0);
         detectorTasks.clear();
     }
 
@@ -509,8 +555,9 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @return true if top entity inited; otherwise return false
      */
-    public synchronized boolean topEntityInited(String detectorId) {
-        return hcBatchTaskCaches.containsKey(detectorId) ? hcBatchTaskCaches.get(detectorId).getTopEntitiesInited() : false;
+    public boolean topEntityInited(String detectorId) {
+        ADHCBatchTaskCache taskCache = hcBatchTaskCaches.get(detectorId);
+        return taskCache != null && taskCache.getTopEntitiesInited();
     }
 
     /**
@@ -529,7 +576,8 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @return entity count
      */
     public int getPendingEntityCount(String detectorId) {
-        return hcBatchTaskCaches.containsKey(detectorId) ? hcBatchTaskCaches.get(detectorId).getPendingEntityCount() : 0;
+        ADHCBatchTaskCache taskCache = hcBatchTaskCaches.get(detectorId);
+        return taskCache != null ? taskCache.getPendingEntityCount() : 0;
     }
 
     /**
@@ -577,8 +625,8 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @return detector's running entities in cache
      */
     public List<String> getRunningEntities(String detectorId) {
-        if (hcBatchTaskCaches.containsKey(detectorId)) {
-            ADHCBatchTaskCache hcTaskCache = getExistingHCTaskCache(detectorId);
+        ADHCBatchTaskCache hcTaskCache = hcBatchTaskCaches.get(detectorId);
+        if (hcTaskCache != null) {
             return Arrays.asList(hcTaskCache.getRunningEntities());
         }
         return null;
@@ -603,7 +651,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @param taskSlots task slots
      */
-    public synchronized void setDetectorTaskSlots(String detectorId, int taskSlots) {
+    public void setDetectorTaskSlots(String detectorId, int taskSlots) {
         logger.debug("Set task slots of detector {} as {}", detectorId, taskSlots);
         ADTaskSlotLimit adTaskSlotLimit = detectorTaskSlotLimit
             .computeIfAbsent(detectorId, key -> new ADTaskSlotLimit(taskSlots, taskSlots));
@@ -615,13 +663,11 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @param delta scale delta
      */
-    public synchronized void scaleUpDetectorTaskSlots(String detectorId, int delta) {
+    public void scaleUpDetectorTaskSlots(String detectorId, int delta) {
         ADTaskSlotLimit adTaskSlotLimit = detectorTaskSlotLimit.get(detectorId);
-        int taskSlots = this.getDetectorTaskSlots(detectorId);
         if (adTaskSlotLimit != null && delta > 0) {
-            int newTaskSlots = adTaskSlotLimit.getDetectorTaskSlots() + delta;
-            logger.info("Scale up task slots of detector {} from {} to {}", detectorId, taskSlots, newTaskSlots);
-            adTaskSlotLimit.setDetectorTaskSlots(newTaskSlots);
+            int taskSlots = adTaskSlotLimit.getAndUpdateDetectorTaskSlots(slots -> slots + delta);
+            logger.info("Scale up task slots of detector {} from {} to {}", detectorId, taskSlots, taskSlots + delta);
         }
     }
 
@@ -633,16 +679,16 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param delta scale delta
      * @return new task slots
      */
-    public synchronized int scaleDownHCDetectorTaskSlots(String detectorId, int delta) {
+    public int scaleDownHCDetectorTaskSlots(String detectorId, int delta) {
         ADTaskSlotLimit adTaskSlotLimit = this.detectorTaskSlotLimit.get(detectorId);
-        int taskSlots = this.getDetectorTaskSlots(detectorId);
-        if (adTaskSlotLimit != null && delta > 0) {
-            int newTaskSlots = taskSlots - delta;
-            if (newTaskSlots > 0) {
-                logger.info("Scale down task slots of detector {} from {} to {}", detectorId, taskSlots, newTaskSlots);
-                adTaskSlotLimit.setDetectorTaskSlots(newTaskSlots);
-                return newTaskSlots;
-            }
+        if (adTaskSlotLimit == null || delta <= 0) {
+            return this.getDetectorTaskSlots(detectorId);
+        }
+        int taskSlots = adTaskSlotLimit.getAndUpdateDetectorTaskSlots(slots -> slots - delta > 0 ? slots - delta : slots);
+        int newTaskSlots = taskSlots - delta;
+        if (newTaskSlots > 0) {
+            logger.info("Scale down task slots of detector {} from {} to {}", detectorId, taskSlots, newTaskSlots);
+            return newTaskSlots;
         }
         return taskSlots;
     }
@@ -652,7 +698,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @param taskLaneLimit task lane limit
      */
-    public synchronized void setDetectorTaskLaneLimit(String detectorId, int taskLaneLimit) {
+    public void setDetectorTaskLaneLimit(String detectorId, int taskLaneLimit) {
         ADTaskSlotLimit adTaskSlotLimit = detectorTaskSlotLimit.get(detectorId);
         if (adTaskSlotLimit != null) {
             adTaskSlotLimit.setDetectorTaskLaneLimit(taskLaneLimit);
@@ -702,7 +748,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @return current allowed entity task lane count
      */
-    public synchronized int getAndDecreaseEntityTaskLanes(String detectorId) {
+    public int getAndDecreaseEntityTaskLanes(String detectorId) {
         return getExistingHCTaskCache(detectorId).getAndDecreaseEntityTaskLanes();
     }
 
@@ -745,12 +791,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
             return true;
         }
         // Only running tasks will be in cache.
-        Optional<ADBatchTaskCache> entityTask = this.batchTaskCaches
-            .values()
-            .stream()
-            .filter(cache -> Objects.equals(detectorId, cache.getId()) && cache.getEntity() != null)
-            .findFirst();
-        return entityTask.isPresent();
+        return getBatchTaskCacheByDetectorId(detectorId).stream().anyMatch(cache -> cache.getEntity() != null);
     }
 
     /**
@@ -774,10 +815,9 @@ public class ADTaskCacheManager extends TaskCacheManager {
         ADTaskSlotLimit adTaskSlotLimit = detectorTaskSlotLimit.get(detectorId);
 
         if (count != null && adTaskSlotLimit != null) {
-            Integer detectorTaskSlots = adTaskSlotLimit.getDetectorTaskSlots();
-            if (detectorTaskSlots != null && detectorTaskSlots > count) {
+            int detectorTaskSlots = adTaskSlotLimit.getAndUpdateDetectorTaskSlots(slots -> Math.min(slots, count));
+            if (detectorTaskSlots > count) {
                 logger.debug("Scale down task slots from {} to the same as top entity count {}", detectorTaskSlots, count);
-                adTaskSlotLimit.setDetectorTaskSlots(count);
             }
         }
     }
@@ -789,14 +829,9 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @return one entity
      */
-    public synchronized String pollEntity(String detectorId) {
-        if (this.hcBatchTaskCaches.containsKey(detectorId)) {
-            ADHCBatchTaskCache hcTaskCache = this.hcBatchTaskCaches.get(detectorId);
-            String entity = hcTaskCache.pollEntity();
-            return entity;
-        } else {
-            return null;
-        }
+    public String pollEntity(String detectorId) {
+        ADHCBatchTaskCache hcTaskCache = this.hcBatchTaskCaches.get(detectorId);
+        return hcTaskCache != null ? hcTaskCache.pollEntity() : null;
     }
 
     /**
@@ -864,8 +899,9 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param entity entity value
      */
     public void removeEntity(String detectorId, String entity) {
-        if (hcBatchTaskCaches.containsKey(detectorId)) {
-            hcBatchTaskCaches.get(detectorId).removeEntity(entity);
+        ADHCBatchTaskCache hcTaskCache = hcBatchTaskCaches.get(detectorId);
+        if (hcTaskCache != null) {
+            hcTaskCache.removeEntity(entity);
         }
     }
 
@@ -885,8 +921,9 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorId detector id
      * @return true if detector still has entity in cache
      */
-    public synchronized boolean hasEntity(String detectorId) {
-        return hcBatchTaskCaches.containsKey(detectorId) && hcBatchTaskCaches.get(detectorId).hasEntity();
+    public boolean hasEntity(String detectorId) {
+        ADHCBatchTaskCache hcTaskCache = hcBatchTaskCaches.get(detectorId);
+        return hcTaskCache != null && hcTaskCache.hasEntity();
     }
 
     /**
@@ -990,7 +1027,7 @@ public class ADTaskCacheManager extends TaskCacheManager {
      * @param detectorTaskId detector level task id
      * @param newState new state
      */
-    public synchronized void updateDetectorTaskState(String detectorId, String detectorTaskId, String newState) {
+    public void updateDetectorTaskState(String detectorId, String detectorTaskId, String newState) {
         ADHCBatchTaskRunState cache = getOrCreateHCDetectorTaskStateCache(detectorId, detectorTaskId);
         if (cache != null) {
             cache.setDetectorTaskState(newState);
@@ -11,23 +11,35 @@
 
 package org.opensearch.ad.task;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
 public class ADTaskSlotLimit {
     // Task slots assigned to detector
-    private Integer detectorTaskSlots;
+    private final AtomicInteger detectorTaskSlots;
     // How many task lanes this detector can start at most
-    private Integer detectorTaskLaneLimit;
+    private volatile Integer detectorTaskLaneLimit;
 
     public ADTaskSlotLimit(Integer detectorTaskSlots, Integer detectorTaskLaneLimit) {
-        this.detectorTaskSlots = detectorTaskSlots;
+        this.detectorTaskSlots = new AtomicInteger(detectorTaskSlots);
         this.detectorTaskLaneLimit = detectorTaskLaneLimit;
     }
 
     public Integer getDetectorTaskSlots() {
-        return detectorTaskSlots;
+        return detectorTaskSlots.get();
     }
 
     public void setDetectorTaskSlots(Integer detectorTaskSlots) {
-        this.detectorTaskSlots = detectorTaskSlots;
+        this.detectorTaskSlots.set(detectorTaskSlots);
+    }
+
+    /**
+     * Atomically update detector task slots.
+     * @param updateFunction function from current task slots to new task slots
+     * @return task slots before the update
+     */
+    public int getAndUpdateDetectorTaskSlots(IntUnaryOperator updateFunction) {
+        return detectorTaskSlots.getAndUpdate(updateFunction);
     }
 
     public void setDetectorTaskLaneLimit(Integer detectorTaskLaneLimit) {
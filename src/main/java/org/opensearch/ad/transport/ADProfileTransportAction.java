@@ -16,6 +16,7 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MAX_MODEL_SI
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.ad.caching.ADCacheProvider;
 import org.opensearch.ad.caching.ADPriorityCache;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
 import org.opensearch.ad.task.ADTaskCacheManager;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
@@ -41,6 +42,7 @@ public class ADProfileTransportAction extends BaseProfileTransportAction<Thresho
      * @param taskCacheManager task cache manager object
      * @param cacheProvider cache provider
      * @param settings Node settings accessor
+     * @param resultWriteAdmission result write admission
      */
     @Inject
     public ADProfileTransportAction(
@@ -50,7 +52,8 @@ public class ADProfileTransportAction extends BaseProfileTransportAction<Thresho
         ActionFilters actionFilters,
         ADTaskCacheManager taskCacheManager,
         ADCacheProvider cacheProvider,
-        Settings settings
+        Settings settings,
+        ADResultWriteAdmission resultWriteAdmission
     ) {
         super(
             ADProfileAction.NAME,
@@ -61,7 +64,8 @@ public class ADProfileTransportAction extends BaseProfileTransportAction<Thresho
             cacheProvider,
             settings,
             AD_MAX_MODEL_SIZE_PER_NODE,
-            taskCacheManager
+            taskCacheManager,
+            resultWriteAdmission
         );
     }
 }
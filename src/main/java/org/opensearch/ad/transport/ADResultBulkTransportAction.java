@@ -13,34 +13,30 @@ package org.opensearch.ad.transport;
 
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_INDEX_PRESSURE_HARD_LIMIT;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_INDEX_PRESSURE_SOFT_LIMIT;
-import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 
-import java.io.IOException;
 import java.util.List;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.opensearch.action.bulk.BulkRequest;
-import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.ad.caching.TopAnomalyRollup;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
 import org.opensearch.ad.ratelimit.ADResultWriteRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
-import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.timeseries.model.IndexableResult;
 import org.opensearch.timeseries.transport.ResultBulkTransportAction;
-import org.opensearch.timeseries.util.RestHandlerUtils;
+import org.opensearch.timeseries.util.ResultBulkEncoder;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
 public class ADResultBulkTransportAction extends ResultBulkTransportAction<AnomalyResult, ADResultWriteRequest, ADResultBulkRequest> {
 
-    private static final Logger LOG = LogManager.getLogger(ADResultBulkTransportAction.class);
-    private final ClusterService clusterService;
     private final Client client;
+    private final TopAnomalyRollup topAnomalyRollup;
 
     @Inject
     public ADResultBulkTransportAction(
@@ -49,7 +45,9 @@ public class ADResultBulkTransportAction extends ResultBulkTransportAction<Anoma
         IndexingPressure indexingPressure,
         Settings settings,
         ClusterService clusterService,
-        Client client
+        Client client,
+        ADResultWriteAdmission admission,
+        TopAnomalyRollup topAnomalyRollup
     ) {
         super(
             ADResultBulkAction.NAME,
@@ -57,14 +55,16 @@ public class ADResultBulkTransportAction extends ResultBulkTransportAction<Anoma
             actionFilters,
             indexingPressure,
             settings,
+            clusterService,
             client,
+            admission,
             AD_INDEX_PRESSURE_SOFT_LIMIT.get(settings),
             AD_INDEX_PRESSURE_HARD_LIMIT.get(settings),
             ADCommonName.ANOMALY_RESULT_INDEX_ALIAS,
             ADResultBulkRequest::new
         );
-        this.clusterService = clusterService;
         this.client = client;
+        this.topAnomalyRollup = topAnomalyRollup;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_INDEX_PRESSURE_SOFT_LIMIT, it -> softLimit = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(AD_INDEX_PRESSURE_HARD_LIMIT, it -> hardLimit = it);
     }
@@ -87,9 +87,11 @@ public class ADResultBulkTransportAction extends ResultBulkTransportAction<Anoma
      *     <li>Results are added to the bulk request if the indexing pressure is within acceptable limits
      *         or the result has high priority.</li>
      *     <li>If a flattened result index exists for a result, it is added to the flattened index in addition
-     *         to the primary index.</li>
+     *         to the primary index. The result is serialized only once for both indices.</li>
      * </ul>
      *
+     * <p>Results that are not added are spilled to a local file if spilling is enabled, and dropped otherwise.</p>
+     *
      * <p><b>Indexing Pressure Thresholds:</b></p>
      * <ul>
      *     <li>Below the soft limit: All results are added.</li>
@@ -103,25 +105,38 @@ public class ADResultBulkTransportAction extends ResultBulkTransportAction<Anoma
      * @see ADResultWriteRequest
      */
     @Override
-    protected BulkRequest prepareBulkRequest(float indexingPressurePercent, ADResultBulkRequest request) {
+    protected BulkRequest prepareBulkRequest(float indexingPressurePercent, ADResultBulkRequest request, List<Integer> rejectedPositions) {
         BulkRequest bulkRequest = new BulkRequest();
         List<ADResultWriteRequest> results = request.getResults();
+        ResultBulkEncoder encoder = new ResultBulkEncoder();
 
-        for (ADResultWriteRequest resultWriteRequest : results) {
+        for (int i = 0; i < results.size(); i++) {
+            ADResultWriteRequest resultWriteRequest = results.get(i);
             AnomalyResult result = resultWriteRequest.getResult();
-            String resultIndex = resultWriteRequest.getResultIndex();
 
             if (shouldAddResult(indexingPressurePercent, result)) {
-                addResult(bulkRequest, result, resultIndex);
-                if (resultWriteRequest.getFlattenResultIndex() != null) {
-                    addResult(bulkRequest, result, resultWriteRequest.getFlattenResultIndex());
-                }
+                // the flattened index receives the same serialized bytes as the result index
+                admitResult(bulkRequest, encoder, result, resultWriteRequest.getResultIndex(), resultWriteRequest.getFlattenResultIndex());
+            } else {
+                rejectResult(encoder, result, resultWriteRequest.getResultIndex(), resultWriteRequest.getFlattenResultIndex());
+                rejectedPositions.add(i);
             }
         }
 
         return bulkRequest;
     }
 
+    /**
+     * A replayed result does not go through the result write worker that records anomalies in the
+     * top anomaly rollup, so the rollup stops claiming coverage of its hour.
+     */
+    @Override
+    protected void onSpilled(IndexableResult result) {
+        if (result instanceof AnomalyResult) {
+            topAnomalyRollup.markNotRecorded((AnomalyResult) result);
+        }
+    }
+
     private boolean shouldAddResult(float indexingPressurePercent, AnomalyResult result) {
         if (indexingPressurePercent <= softLimit) {
             // Always add when below soft limit
@@ -135,14 +150,4 @@ public class ADResultBulkTransportAction extends ResultBulkTransportAction<Anoma
             return result.isHighPriority();
         }
     }
-
-    private void addResult(BulkRequest bulkRequest, AnomalyResult result, String resultIndex) {
-        String index = resultIndex == null ? indexName : resultIndex;
-        try (XContentBuilder builder = jsonBuilder()) {
-            IndexRequest indexRequest = new IndexRequest(index).source(result.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE));
-            bulkRequest.add(indexRequest);
-        } catch (IOException e) {
-            LOG.error("Failed to prepare bulk index request for index " + index, e);
-        }
-    }
 }
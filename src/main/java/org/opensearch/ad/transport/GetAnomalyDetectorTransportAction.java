@@ -135,7 +135,7 @@ public class GetAnomalyDetectorTransportAction extends
         NamedXContentRegistry xContentRegistry,
         long requiredSamples
     ) {
-        return new ADEntityProfileRunner(client, clientUtil, xContentRegistry, TimeSeriesSettings.NUM_MIN_SAMPLES);
+        return new ADEntityProfileRunner(client, clientUtil, clusterService, xContentRegistry, TimeSeriesSettings.NUM_MIN_SAMPLES);
     }
 
     @Override
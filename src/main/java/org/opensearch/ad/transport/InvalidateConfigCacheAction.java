@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ad.constant.ADCommonValue;
+import org.opensearch.timeseries.transport.BooleanResponse;
+
+public class InvalidateConfigCacheAction extends ActionType<BooleanResponse> {
+    // Internal Action which is not used for public facing RestAPIs.
+    public static final String NAME = ADCommonValue.INTERNAL_ACTION_PREFIX + "config/invalidate";
+    public static final InvalidateConfigCacheAction INSTANCE = new InvalidateConfigCacheAction();
+
+    private InvalidateConfigCacheAction() {
+        super(NAME, BooleanResponse::new);
+    }
+}
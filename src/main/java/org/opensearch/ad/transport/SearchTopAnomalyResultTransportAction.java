@@ -17,8 +17,10 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.TOP_ANOMALY_RES
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -31,11 +33,15 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.ad.caching.TopAnomalyRollup;
+import org.opensearch.ad.caching.TopAnomalyRollup.EntitySummary;
 import org.opensearch.ad.model.ADTask;
 import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.model.AnomalyResultBucket;
 import org.opensearch.ad.transport.handler.ADSearchHandler;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -62,8 +68,12 @@ import org.opensearch.tasks.Task;
 import org.opensearch.timeseries.common.exception.ResourceNotFoundException;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.transport.GetConfigRequest;
+import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
+import org.opensearch.timeseries.util.ParseUtils;
 import org.opensearch.timeseries.util.QueryUtil;
+import org.opensearch.timeseries.util.ResultRouting;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -185,6 +195,9 @@ public class SearchTopAnomalyResultTransportAction extends
     public static final String MULTI_BUCKETS_FIELD = "multi_buckets";
     private static final Logger logger = LogManager.getLogger(SearchTopAnomalyResultTransportAction.class);
     private final Client client;
+    private final DiscoveryNodeFilterer nodeFilter;
+    private final TopAnomalyRollup rollup;
+    private final ClusterService clusterService;
     private Clock clock;
 
     public enum OrderType {
@@ -207,16 +220,23 @@ public class SearchTopAnomalyResultTransportAction extends
         TransportService transportService,
         ActionFilters actionFilters,
         ADSearchHandler searchHandler,
-        Client client
+        Client client,
+        DiscoveryNodeFilterer nodeFilter,
+        TopAnomalyRollup rollup,
+        ClusterService clusterService
     ) {
         super(SearchTopAnomalyResultAction.NAME, transportService, actionFilters, SearchTopAnomalyResultRequest::new);
         this.searchHandler = searchHandler;
         this.client = client;
+        this.nodeFilter = nodeFilter;
+        this.rollup = rollup;
+        this.clusterService = clusterService;
         this.clock = Clock.systemUTC();
     }
 
     @Override
     protected void doExecute(Task task, SearchTopAnomalyResultRequest request, ActionListener<SearchTopAnomalyResultResponse> listener) {
+        User user = ParseUtils.getUserContext(client);
 
         GetConfigRequest getAdRequest = new GetConfigRequest(
             request.getId(),
@@ -306,25 +326,15 @@ public class SearchTopAnomalyResultTransportAction extends
             if (!Strings.isNullOrEmpty(customResultIndexPattern)) {
                 searchRequest.indices(defaultIndex, customResultIndexPattern);
             }
+            // only search the shards holding results of the detector if all searched indices route results
+            searchRequest
+                .routing(ResultRouting.getSearchRouting(clusterService.state().metadata(), searchRequest.indices(), request.getId(), null));
 
-            // Utilizing the existing search() from SearchHandler to handle security permissions. Both user role
-            // and backend role filtering is handled in there, and any error will be propagated up and
-            // returned as a failure in this Listener.
-            // This same method is used for security handling for the search results action. Since this action
-            // is doing fundamentally the same thing, we can reuse the security logic here.
-            searchHandler
-                .search(
-                    searchRequest,
-                    new TopAnomalyResultListener(
-                        listener,
-                        searchRequest.source(),
-                        clock.millis() + TOP_ANOMALY_RESULT_TIMEOUT_IN_MILLIS,
-                        request.getSize(),
-                        orderType,
-                        customResultIndexPattern
-                    )
-                );
-
+            if (false == request.getHistorical() && rollup.isEnabled() && canServeFromRollup(user, customResultIndexPattern)) {
+                searchWithRollup(request, searchRequest, orderType, customResultIndexPattern, listener);
+            } else {
+                searchResults(searchRequest, request, orderType, customResultIndexPattern, null, listener);
+            }
         }, exception -> {
             logger.error("Failed to get top anomaly results", exception);
             listener.onFailure(exception);
@@ -332,6 +342,191 @@ public class SearchTopAnomalyResultTransportAction extends
 
     }
 
+    /**
+     * Rollups summarize the results of a detector regardless of the backend roles stored with each
+     * result and cannot apply the backend role filter of the search path. They also do not go
+     * through the permission checks of searching custom result indices. So only users whose
+     * searches of the default result indices are unfiltered are served from the rollups.
+     *
+     * @param user user of the request, null if security is disabled
+     * @param customResultIndexPattern custom result index pattern, may be null
+     * @return whether the rollups may answer the request
+     */
+    boolean canServeFromRollup(User user, String customResultIndexPattern) {
+        return Strings.isNullOrEmpty(customResultIndexPattern) && false == searchHandler.isFilteredByBackendRoles(user);
+    }
+
+    /**
+     * Search top anomalies in the result indices.
+     *
+     * @param searchRequest generated search request
+     * @param request top anomaly request
+     * @param orderType order type
+     * @param customResultIndexPattern custom result index pattern, may be null
+     * @param rollupBuckets buckets from the rollup to merge the search results into, null if not using the rollup
+     * @param listener listener to return top anomalies
+     */
+    private void searchResults(
+        SearchRequest searchRequest,
+        SearchTopAnomalyResultRequest request,
+        OrderType orderType,
+        String customResultIndexPattern,
+        Map<Map<String, Object>, AnomalyResultBucket> rollupBuckets,
+        ActionListener<SearchTopAnomalyResultResponse> listener
+    ) {
+        // Utilizing the existing search() from SearchHandler to handle security permissions. Both user role
+        // and backend role filtering is handled in there, and any error will be propagated up and
+        // returned as a failure in this Listener.
+        // This same method is used for security handling for the search results action. Since this action
+        // is doing fundamentally the same thing, we can reuse the security logic here.
+        searchHandler
+            .search(
+                searchRequest,
+                new TopAnomalyResultListener(
+                    listener,
+                    searchRequest.source(),
+                    clock.millis() + TOP_ANOMALY_RESULT_TIMEOUT_IN_MILLIS,
+                    request.getSize(),
+                    orderType,
+                    customResultIndexPattern,
+                    searchRequest.routing(),
+                    rollupBuckets
+                )
+            );
+    }
+
+    /**
+     * Search real-time top anomalies using the rollups of all nodes for the whole hours in the
+     * requested range, and the result indices for the partial hours at the range edges. Fall back
+     * to searching the whole range in the result indices if the rollups do not cover the whole hours.
+     *
+     * @param request top anomaly request
+     * @param searchRequest search request over the whole range
+     * @param orderType order type
+     * @param customResultIndexPattern custom result index pattern, may be null
+     * @param listener listener to return top anomalies
+     */
+    private void searchWithRollup(
+        SearchTopAnomalyResultRequest request,
+        SearchRequest searchRequest,
+        OrderType orderType,
+        String customResultIndexPattern,
+        ActionListener<SearchTopAnomalyResultResponse> listener
+    ) {
+        long startMillis = request.getStartTime().toEpochMilli();
+        // the range filter includes the end time
+        long endMillis = request.getEndTime().toEpochMilli() + 1;
+        long rollupStartMillis = TopAnomalyRollup.alignUp(startMillis);
+        long rollupEndMillis = TopAnomalyRollup.bucketStart(endMillis);
+        if (rollupStartMillis >= rollupEndMillis) {
+            searchResults(searchRequest, request, orderType, customResultIndexPattern, null, listener);
+            return;
+        }
+
+        TopAnomalyRollupRequest rollupRequest = new TopAnomalyRollupRequest(
+            request.getId(),
+            rollupStartMillis,
+            rollupEndMillis,
+            nodeFilter.getEligibleDataNodes()
+        );
+        client.execute(TopAnomalyRollupAction.INSTANCE, rollupRequest, ActionListener.wrap(response -> {
+            Map<Map<String, Object>, AnomalyResultBucket> buckets = new HashMap<>();
+            boolean covered = false == response.hasFailures() && false == response.getNodes().isEmpty();
+            for (TopAnomalyRollupNodeResponse nodeResponse : response.getNodes()) {
+                if (false == nodeResponse.isEnabled() || nodeResponse.getCoverageStartMillis() > rollupStartMillis) {
+                    covered = false;
+                    break;
+                }
+                for (Map.Entry<Entity, EntitySummary> entry : nodeResponse.getSummaries().entrySet()) {
+                    EntitySummary summary = entry.getValue();
+                    mergeBucket(
+                        buckets,
+                        new AnomalyResultBucket(
+                            getBucketKey(entry.getKey(), request.getCategoryFields()),
+                            summary.getAnomalyCount(),
+                            summary.getMaxAnomalyGrade()
+                        )
+                    );
+                }
+            }
+
+            if (false == covered) {
+                logger.debug("Top anomaly rollups do not cover the range of detector {}", request.getId());
+                searchResults(searchRequest, request, orderType, customResultIndexPattern, null, listener);
+            } else if (rollupStartMillis == startMillis && rollupEndMillis == endMillis) {
+                listener.onResponse(new SearchTopAnomalyResultResponse(getTopBuckets(buckets.values(), request.getSize(), orderType)));
+            } else {
+                // search the partial hours at the range edges and merge them with the rollups
+                BoolQueryBuilder edges = QueryBuilders.boolQuery().minimumShouldMatch(1);
+                if (startMillis < rollupStartMillis) {
+                    edges.should(QueryBuilders.rangeQuery(CommonName.DATA_END_TIME_FIELD).gte(startMillis).lt(rollupStartMillis));
+                }
+                if (rollupEndMillis < endMillis) {
+                    edges
+                        .should(
+                            QueryBuilders
+                                .rangeQuery(CommonName.DATA_END_TIME_FIELD)
+                                .gte(rollupEndMillis)
+                                .lte(request.getEndTime().toEpochMilli())
+                        );
+                }
+                SearchRequest edgeRequest = generateSearchRequest(request, edges)
+                    .indices(searchRequest.indices())
+                    .routing(searchRequest.routing());
+                searchResults(edgeRequest, request, orderType, customResultIndexPattern, buckets, listener);
+            }
+        }, e -> {
+            logger.warn("Failed to get top anomaly rollups, searching result indices instead", e);
+            searchResults(searchRequest, request, orderType, customResultIndexPattern, null, listener);
+        }));
+    }
+
+    private Map<String, Object> getBucketKey(Entity entity, List<String> categoryFields) {
+        Map<String, Object> key = new HashMap<>();
+        for (String categoryField : categoryFields) {
+            key.put(categoryField, entity.getAttributes().get(categoryField));
+        }
+        return key;
+    }
+
+    private static void mergeBucket(Map<Map<String, Object>, AnomalyResultBucket> buckets, AnomalyResultBucket bucket) {
+        buckets
+            .merge(
+                bucket.getKey(),
+                bucket,
+                (existing, added) -> new AnomalyResultBucket(
+                    existing.getKey(),
+                    existing.getDocCount() + added.getDocCount(),
+                    Math.max(existing.getMaxAnomalyGrade(), added.getMaxAnomalyGrade())
+                )
+            );
+    }
+
+    private static PriorityQueue<AnomalyResultBucket> createMinHeap(int maxResults, OrderType orderType) {
+        return new PriorityQueue<>(maxResults, new Comparator<AnomalyResultBucket>() {
+            // Sorting by ascending order of anomaly grade or doc count
+            @Override
+            public int compare(AnomalyResultBucket bucket1, AnomalyResultBucket bucket2) {
+                if (orderType == OrderType.SEVERITY) {
+                    return Double.compare(bucket1.getMaxAnomalyGrade(), bucket2.getMaxAnomalyGrade());
+                } else {
+                    return Integer.compare(bucket1.getDocCount(), bucket2.getDocCount());
+                }
+            }
+        });
+    }
+
+    private List<AnomalyResultBucket> getTopBuckets(Collection<AnomalyResultBucket> buckets, int maxResults, OrderType orderType) {
+        PriorityQueue<AnomalyResultBucket> heap = createMinHeap(maxResults, orderType);
+        for (AnomalyResultBucket bucket : buckets) {
+            heap.add(bucket);
+            if (heap.size() > maxResults) {
+                heap.poll();
+            }
+        }
+        return getDescendingOrderListFromHeap(heap);
+    }
+
     /**
      * ActionListener class to handle bucketed search results in a paginated fashion.
      * Note that the bucket_sort aggregation is a pipeline aggregation, and is executed
@@ -339,7 +534,8 @@ public class SearchTopAnomalyResultTransportAction extends
      * Because of this, the sorting is only done locally based on the buckets
      * in the current page. To get around this issue, we use a max
      * heap and add all results to the heap until there are no more result buckets,
-     * to get the globally sorted set of result buckets.
+     * to get the globally sorted set of result buckets. When merging with rollup buckets,
+     * all buckets are merged by key first and the top ones are picked at the end.
      */
     class TopAnomalyResultListener implements ActionListener<SearchResponse> {
         private ActionListener<SearchTopAnomalyResultResponse> listener;
@@ -348,6 +544,9 @@ public class SearchTopAnomalyResultTransportAction extends
         private int maxResults;
         private PriorityQueue<AnomalyResultBucket> topResultsHeap;
         private String customResultIndex;
+        private String routing;
+        private OrderType orderType;
+        private Map<Map<String, Object>, AnomalyResultBucket> mergedBuckets;
 
         TopAnomalyResultListener(
             ActionListener<SearchTopAnomalyResultResponse> listener,
@@ -356,23 +555,29 @@ public class SearchTopAnomalyResultTransportAction extends
             int maxResults,
             OrderType orderType,
             String customResultIndex
+        ) {
+            this(listener, searchSourceBuilder, expirationEpochMs, maxResults, orderType, customResultIndex, null, null);
+        }
+
+        TopAnomalyResultListener(
+            ActionListener<SearchTopAnomalyResultResponse> listener,
+            SearchSourceBuilder searchSourceBuilder,
+            long expirationEpochMs,
+            int maxResults,
+            OrderType orderType,
+            String customResultIndex,
+            String routing,
+            Map<Map<String, Object>, AnomalyResultBucket> mergedBuckets
         ) {
             this.listener = listener;
             this.searchSourceBuilder = searchSourceBuilder;
             this.expirationEpochMs = expirationEpochMs;
             this.maxResults = maxResults;
-            this.topResultsHeap = new PriorityQueue<>(maxResults, new Comparator<AnomalyResultBucket>() {
-                // Sorting by ascending order of anomaly grade or doc count
-                @Override
-                public int compare(AnomalyResultBucket bucket1, AnomalyResultBucket bucket2) {
-                    if (orderType == OrderType.SEVERITY) {
-                        return Double.compare(bucket1.getMaxAnomalyGrade(), bucket2.getMaxAnomalyGrade());
-                    } else {
-                        return Integer.compare(bucket1.getDocCount(), bucket2.getDocCount());
-                    }
-                }
-            });
+            this.topResultsHeap = createMinHeap(maxResults, orderType);
             this.customResultIndex = customResultIndex;
+            this.routing = routing;
+            this.orderType = orderType;
+            this.mergedBuckets = mergedBuckets;
         }
 
         @Override
@@ -401,24 +606,30 @@ public class SearchTopAnomalyResultTransportAction extends
                     .map(bucket -> AnomalyResultBucket.createAnomalyResultBucket(bucket))
                     .collect(Collectors.toList());
 
-                // Add all of the results to the heap, and only keep the top maxResults buckets.
-                // Note that the top results heap is implemented as a min heap, so by polling
-                // the lowest values from the heap, only the top values remain.
-                topResultsHeap.addAll(bucketResults);
-                while (topResultsHeap.size() > maxResults) {
-                    topResultsHeap.poll();
+                if (mergedBuckets != null) {
+                    // a bucket's rollup part can only be added once all of its parts are known
+                    bucketResults.forEach(bucket -> mergeBucket(mergedBuckets, bucket));
+                } else {
+                    // Add all of the results to the heap, and only keep the top maxResults buckets.
+                    // Note that the top results heap is implemented as a min heap, so by polling
+                    // the lowest values from the heap, only the top values remain.
+                    topResultsHeap.addAll(bucketResults);
+                    while (topResultsHeap.size() > maxResults) {
+                        topResultsHeap.poll();
+                    }
                 }
 
                 // If afterKey is null: we've hit the end of results. Return the results
                 Map<String, Object> afterKey = compositeAgg.afterKey();
                 if (afterKey == null) {
-                    listener.onResponse(new SearchTopAnomalyResultResponse(getDescendingOrderListFromHeap(topResultsHeap)));
+                    listener.onResponse(new SearchTopAnomalyResultResponse(getTopResults()));
                 } else if (expirationEpochMs < clock.millis()) {
-                    if (topResultsHeap.isEmpty()) {
+                    List<AnomalyResultBucket> topResults = getTopResults();
+                    if (topResults.isEmpty()) {
                         listener.onFailure(new TimeSeriesException("Timed out getting all top anomaly results. Please retry later."));
                     } else {
                         logger.info("Timed out getting all top anomaly results. Sending back partial results.");
-                        listener.onResponse(new SearchTopAnomalyResultResponse(getDescendingOrderListFromHeap(topResultsHeap)));
+                        listener.onResponse(new SearchTopAnomalyResultResponse(topResults));
                     }
                 } else {
                     CompositeAggregationBuilder aggBuilder = (CompositeAggregationBuilder) searchSourceBuilder
@@ -432,7 +643,7 @@ public class SearchTopAnomalyResultTransportAction extends
                     SearchRequest searchRequest = Strings.isNullOrEmpty(customResultIndex)
                         ? new SearchRequest().indices(defaultIndex)
                         : new SearchRequest().indices(defaultIndex, customResultIndex);
-                    searchHandler.search(searchRequest.source(searchSourceBuilder), this);
+                    searchHandler.search(searchRequest.source(searchSourceBuilder).routing(routing), this);
                 }
 
             } catch (Exception e) {
@@ -445,6 +656,13 @@ public class SearchTopAnomalyResultTransportAction extends
             logger.error("Failed to paginate top anomaly results", e);
             listener.onFailure(e);
         }
+
+        private List<AnomalyResultBucket> getTopResults() {
+            if (mergedBuckets != null) {
+                return getTopBuckets(mergedBuckets.values(), maxResults, orderType);
+            }
+            return getDescendingOrderListFromHeap(topResultsHeap);
+        }
     }
 
     /**
@@ -454,8 +672,23 @@ public class SearchTopAnomalyResultTransportAction extends
      * @return the SearchRequest to pass to the SearchHandler
      */
     private SearchRequest generateSearchRequest(SearchTopAnomalyResultRequest request) {
+        RangeQueryBuilder dateRangeFilter = QueryBuilders
+            .rangeQuery(CommonName.DATA_END_TIME_FIELD)
+            .gte(request.getStartTime().toEpochMilli())
+            .lte(request.getEndTime().toEpochMilli());
+        return generateSearchRequest(request, dateRangeFilter);
+    }
+
+    /**
+     * Generates the search request over part of the requested range
+     *
+     * @param request the request containing the all of the user-specified parameters needed to generate the request
+     * @param dateRangeFilter filter on the data end time
+     * @return the SearchRequest to pass to the SearchHandler
+     */
+    private SearchRequest generateSearchRequest(SearchTopAnomalyResultRequest request, QueryBuilder dateRangeFilter) {
         SearchRequest searchRequest = new SearchRequest().indices(defaultIndex);
-        QueryBuilder query = generateQuery(request);
+        QueryBuilder query = generateQuery(request, dateRangeFilter);
         AggregationBuilder aggregation = generateAggregation(request);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(query).aggregation(aggregation);
         searchRequest.source(searchSourceBuilder);
@@ -471,16 +704,13 @@ public class SearchTopAnomalyResultTransportAction extends
      * 1) term filter on the task_id
      *
      * @param request the request containing the necessary fields to generate the query
+     * @param dateRangeFilter filter on the data end time
      * @return the generated query as a QueryBuilder
      */
-    private QueryBuilder generateQuery(SearchTopAnomalyResultRequest request) {
+    private QueryBuilder generateQuery(SearchTopAnomalyResultRequest request, QueryBuilder dateRangeFilter) {
         BoolQueryBuilder query = new BoolQueryBuilder();
 
         // Adding the date range and anomaly grade filters (needed regardless of real-time or historical)
-        RangeQueryBuilder dateRangeFilter = QueryBuilders
-            .rangeQuery(CommonName.DATA_END_TIME_FIELD)
-            .gte(request.getStartTime().toEpochMilli())
-            .lte(request.getEndTime().toEpochMilli());
         RangeQueryBuilder anomalyGradeFilter = QueryBuilders.rangeQuery(AnomalyResult.ANOMALY_GRADE_FIELD).gt(0);
         query.filter(dateRangeFilter).filter(anomalyGradeFilter);
 
@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ad.constant.ADCommonValue;
+
+public class TopAnomalyRollupAction extends ActionType<TopAnomalyRollupNodesResponse> {
+    // Internal Action which is not used for public facing RestAPIs.
+    public static final String NAME = ADCommonValue.INTERNAL_ACTION_PREFIX + "result/topAnomalies/rollup";
+    public static final TopAnomalyRollupAction INSTANCE = new TopAnomalyRollupAction();
+
+    private TopAnomalyRollupAction() {
+        super(NAME, TopAnomalyRollupNodesResponse::new);
+    }
+}
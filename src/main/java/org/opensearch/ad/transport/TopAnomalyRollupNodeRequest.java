@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+public class TopAnomalyRollupNodeRequest extends TransportRequest {
+    private final TopAnomalyRollupRequest request;
+
+    public TopAnomalyRollupNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.request = new TopAnomalyRollupRequest(in);
+    }
+
+    public TopAnomalyRollupNodeRequest(TopAnomalyRollupRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        request.writeTo(out);
+    }
+
+    public TopAnomalyRollupRequest getRequest() {
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.ad.caching.TopAnomalyRollup.EntitySummary;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.timeseries.model.Entity;
+
+public class TopAnomalyRollupNodeResponse extends BaseNodeResponse {
+    private final boolean enabled;
+    private final long coverageStartMillis;
+    private final List<Entity> entities;
+    private final double[] maxAnomalyGrades;
+    private final int[] anomalyCounts;
+
+    public TopAnomalyRollupNodeResponse(
+        DiscoveryNode node,
+        boolean enabled,
+        long coverageStartMillis,
+        Map<Entity, EntitySummary> summaries
+    ) {
+        super(node);
+        this.enabled = enabled;
+        this.coverageStartMillis = coverageStartMillis;
+        this.entities = new ArrayList<>(summaries.size());
+        this.maxAnomalyGrades = new double[summaries.size()];
+        this.anomalyCounts = new int[summaries.size()];
+        int i = 0;
+        for (Map.Entry<Entity, EntitySummary> entry : summaries.entrySet()) {
+            entities.add(entry.getKey());
+            maxAnomalyGrades[i] = entry.getValue().getMaxAnomalyGrade();
+            anomalyCounts[i] = entry.getValue().getAnomalyCount();
+            i++;
+        }
+    }
+
+    public TopAnomalyRollupNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.enabled = in.readBoolean();
+        this.coverageStartMillis = in.readLong();
+        this.entities = in.readList(Entity::new);
+        this.maxAnomalyGrades = in.readDoubleArray();
+        this.anomalyCounts = in.readVIntArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBoolean(enabled);
+        out.writeLong(coverageStartMillis);
+        out.writeList(entities);
+        out.writeDoubleArray(maxAnomalyGrades);
+        out.writeVIntArray(anomalyCounts);
+    }
+
+    public static TopAnomalyRollupNodeResponse readNodeResponse(StreamInput in) throws IOException {
+        return new TopAnomalyRollupNodeResponse(in);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getCoverageStartMillis() {
+        return coverageStartMillis;
+    }
+
+    public Map<Entity, EntitySummary> getSummaries() {
+        Map<Entity, EntitySummary> summaries = new HashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            summaries.put(entities.get(i), new EntitySummary(maxAnomalyGrades[i], anomalyCounts[i]));
+        }
+        return summaries;
+    }
+}
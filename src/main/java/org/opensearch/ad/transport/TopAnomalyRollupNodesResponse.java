@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class TopAnomalyRollupNodesResponse extends BaseNodesResponse<TopAnomalyRollupNodeResponse> {
+    public TopAnomalyRollupNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(TopAnomalyRollupNodeResponse::readNodeResponse), in.readList(FailedNodeException::new));
+    }
+
+    public TopAnomalyRollupNodesResponse(
+        ClusterName clusterName,
+        List<TopAnomalyRollupNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<TopAnomalyRollupNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(TopAnomalyRollupNodeResponse::readNodeResponse);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<TopAnomalyRollupNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
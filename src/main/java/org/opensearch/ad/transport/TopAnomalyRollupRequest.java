@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class TopAnomalyRollupRequest extends BaseNodesRequest<TopAnomalyRollupRequest> {
+    private final String configId;
+    // bucket-aligned data end time range, start inclusive and end exclusive
+    private final long startMillis;
+    private final long endMillis;
+
+    public TopAnomalyRollupRequest(String configId, long startMillis, long endMillis, DiscoveryNode... nodes) {
+        super(nodes);
+        this.configId = configId;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+    }
+
+    public TopAnomalyRollupRequest(StreamInput in) throws IOException {
+        super(in);
+        this.configId = in.readString();
+        this.startMillis = in.readLong();
+        this.endMillis = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(configId);
+        out.writeLong(startMillis);
+        out.writeLong(endMillis);
+    }
+
+    public String getConfigId() {
+        return configId;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.ad.caching.TopAnomalyRollup;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Collects the top anomaly rollups of a detector from all nodes.
+ */
+public class TopAnomalyRollupTransportAction extends
+    TransportNodesAction<TopAnomalyRollupRequest, TopAnomalyRollupNodesResponse, TopAnomalyRollupNodeRequest, TopAnomalyRollupNodeResponse> {
+
+    private final TopAnomalyRollup rollup;
+
+    @Inject
+    public TopAnomalyRollupTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        TopAnomalyRollup rollup
+    ) {
+        super(
+            TopAnomalyRollupAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            TopAnomalyRollupRequest::new,
+            TopAnomalyRollupNodeRequest::new,
+            TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME,
+            TopAnomalyRollupNodeResponse.class
+        );
+        this.rollup = rollup;
+    }
+
+    @Override
+    protected TopAnomalyRollupNodeRequest newNodeRequest(TopAnomalyRollupRequest request) {
+        return new TopAnomalyRollupNodeRequest(request);
+    }
+
+    @Override
+    protected TopAnomalyRollupNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new TopAnomalyRollupNodeResponse(in);
+    }
+
+    @Override
+    protected TopAnomalyRollupNodesResponse newResponse(
+        TopAnomalyRollupRequest request,
+        List<TopAnomalyRollupNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new TopAnomalyRollupNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected TopAnomalyRollupNodeResponse nodeOperation(TopAnomalyRollupNodeRequest nodeRequest) {
+        TopAnomalyRollupRequest request = nodeRequest.getRequest();
+        String configId = request.getConfigId();
+        return new TopAnomalyRollupNodeResponse(
+            clusterService.localNode(),
+            rollup.isEnabled(),
+            rollup.getCoverageStartMillis(configId),
+            rollup.summarize(configId, request.getStartMillis(), request.getEndMillis())
+        );
+    }
+}
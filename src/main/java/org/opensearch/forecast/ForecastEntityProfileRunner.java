@@ -5,6 +5,7 @@
 
 package org.opensearch.forecast;
 
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.forecast.constant.ForecastCommonName;
 import org.opensearch.forecast.indices.ForecastIndex;
@@ -21,12 +22,14 @@ public class ForecastEntityProfileRunner extends EntityProfileRunner<ForecastEnt
     public ForecastEntityProfileRunner(
         Client client,
         SecurityClientUtil clientUtil,
+        ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
         long requiredSamples
     ) {
         super(
             client,
             clientUtil,
+            clusterService,
             xContentRegistry,
             requiredSamples,
             Forecaster::parse,
@@ -16,8 +16,6 @@ import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_MODEL_M
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Optional;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
@@ -33,8 +31,6 @@ import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.MemoryTracker.Origin;
 import org.opensearch.timeseries.caching.PriorityCache;
 import org.opensearch.timeseries.caching.PriorityTracker;
-import org.opensearch.timeseries.ml.ModelManager;
-import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.model.Config;
 
 import com.amazon.randomcutforest.parkservices.RCFCaster;
@@ -102,20 +98,6 @@ public class ForecastPriorityCache extends
         );
     }
 
-    @Override
-    protected ModelState<RCFCaster> createEmptyModelState(String modelId, String forecasterId) {
-        return new ModelState<>(
-            null,
-            modelId,
-            forecasterId,
-            ModelManager.ModelType.RCFCASTER.getName(),
-            clock,
-            0,
-            Optional.empty(),
-            new ArrayDeque<>()
-        );
-    }
-
     @Override
     protected boolean isDoorKeeperInCacheEnabled() {
         return false;
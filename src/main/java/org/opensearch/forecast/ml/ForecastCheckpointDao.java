@@ -12,6 +12,7 @@
 package org.opensearch.forecast.ml;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Clock;
@@ -30,6 +31,7 @@ import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.forecast.constant.ForecastCommonName;
 import org.opensearch.forecast.indices.ForecastIndex;
 import org.opensearch.forecast.indices.ForecastIndexManagement;
@@ -39,9 +41,10 @@ import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.ml.CheckpointDao;
+import org.opensearch.timeseries.ml.CheckpointSourceReader;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
-import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
@@ -78,7 +81,8 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         ForecastIndexManagement indexUtil,
         RCFCasterMapper mapper,
         Schema<RCFCasterState> rcfCasterSchema,
-        Clock clock
+        Clock clock,
+        boolean routeByConfig
     ) {
         super(
             client,
@@ -89,7 +93,8 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
             serializeRCFBufferPool,
             serializeRCFBufferSize,
             indexUtil,
-            clock
+            clock,
+            routeByConfig
         );
         this.mapper = mapper;
         this.rcfCasterSchema = rcfCasterSchema;
@@ -120,7 +125,12 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         if (caster.isEmpty()) {
             return Optional.empty();
         }
-        Optional<String> checkpoint = Optional.empty();
+        return Optional.ofNullable(toCompactModel(caster.get())).map(bytes -> Base64.getEncoder().encodeToString(bytes));
+    }
+
+    @Override
+    public byte[] toCompactModel(RCFCaster caster) {
+        byte[] checkpoint = null;
         Map.Entry<LinkedBuffer, Boolean> result = checkoutOrNewBuffer();
         LinkedBuffer buffer = result.getKey();
         boolean needCheckin = result.getValue();
@@ -153,16 +163,12 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         return checkpoint;
     }
 
-    private Optional<String> toCheckpoint(Optional<RCFCaster> caster, LinkedBuffer buffer) {
-        if (caster.isEmpty()) {
-            return Optional.empty();
-        }
+    private byte[] toCheckpoint(RCFCaster caster, LinkedBuffer buffer) {
         try {
-            byte[] bytes = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
-                RCFCasterState casterState = mapper.toState(caster.get());
+            return AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
+                RCFCasterState casterState = mapper.toState(caster);
                 return ProtostuffIOUtil.toByteArray(casterState, rcfCasterSchema, buffer);
             });
-            return Optional.ofNullable(Base64.getEncoder().encodeToString(bytes));
         } finally {
             buffer.clear();
         }
@@ -193,12 +199,12 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
                     )
                 );
         }
-        Optional<Sample[]> samples = toCheckpoint(modelState.getSamples());
+        Optional<String> samples = toCheckpoint(modelState.getSamples());
         if (samples.isPresent()) {
-            source.put(CommonName.SAMPLE_QUEUE, samples.get());
+            source.put(CommonName.SAMPLE_BUFFER, samples.get());
         }
         // if there are no samples and no model, no need to index as other information are meta data
-        if (!source.containsKey(CommonName.SAMPLE_QUEUE) && !source.containsKey(CommonName.FIELD_MODEL)) {
+        if (!source.containsKey(CommonName.SAMPLE_BUFFER) && !source.containsKey(CommonName.FIELD_MODEL)) {
             logger.info("nothing to save for [{}]", modelState.getModelId());
             return source;
         }
@@ -235,12 +241,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         if (checkpoint != null && checkpoint.length() > 0) {
             try {
                 byte[] bytes = Base64.getDecoder().decode(checkpoint);
-                RCFCasterState state = rcfCasterSchema.newMessage();
-                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                    ProtostuffIOUtil.mergeFrom(bytes, state, rcfCasterSchema);
-                    return null;
-                });
-                rcfCaster = mapper.toModel(state);
+                rcfCaster = toRCFCaster(bytes, bytes.length);
             } catch (RuntimeException e) {
                 logger.error("Failed to deserialize RCFCaster model", e);
             }
@@ -248,6 +249,20 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         return rcfCaster;
     }
 
+    private RCFCaster toRCFCaster(byte[] bytes, int length) {
+        return fromCompactModel(bytes, 0, length);
+    }
+
+    @Override
+    public RCFCaster fromCompactModel(byte[] bytes, int offset, int length) {
+        RCFCasterState state = rcfCasterSchema.newMessage();
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            ProtostuffIOUtil.mergeFrom(bytes, offset, length, state, rcfCasterSchema);
+            return null;
+        });
+        return mapper.toModel(state);
+    }
+
     /**
      * Returns to listener the checkpoint for the RCFCaster model. Used in single-stream forecasting.
      *
@@ -257,7 +272,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
     public void getCasterModel(String modelId, ActionListener<Optional<RCFCaster>> listener) {
         clientUtil
             .<GetRequest, GetResponse>asyncRequest(
-                new GetRequest(indexName, modelId),
+                new GetRequest(indexName, modelId).routing(getSingleStreamRouting(modelId)),
                 client::get,
                 ActionListener.wrap(response -> deserializeRCFCasterModel(response, modelId, listener), exception -> {
                     // expected exception, don't print stack trace
@@ -285,30 +300,14 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
 
                 RCFCaster rcfCaster = loadRCFCaster(checkpoint, modelId);
 
-                Entity entity = null;
-                Object serializedEntity = checkpoint.get(CommonName.ENTITY_KEY);
-                if (serializedEntity != null) {
-                    try {
-                        entity = Entity.fromJsonArray(serializedEntity);
-                    } catch (Exception e) {
-                        logger.error(new ParameterizedMessage("fail to parse entity", serializedEntity), e);
-                    }
-                }
-
-                ModelState<RCFCaster> modelState = new ModelState<RCFCaster>(
+                return createModelState(
                     rcfCaster,
                     modelId,
                     configId,
-                    ModelManager.ModelType.RCFCASTER.getName(),
-                    clock,
-                    0,
-                    Optional.ofNullable(entity),
-                    loadSampleQueue(checkpoint, modelId)
+                    checkpoint.get(CommonName.ENTITY_KEY),
+                    loadSamples(checkpoint, modelId),
+                    loadTimestamp(checkpoint, modelId)
                 );
-
-                modelState.setLastCheckpointTime(loadTimestamp(checkpoint, modelId));
-
-                return modelState;
             });
         } catch (Exception e) {
             logger.warn("Exception while deserializing checkpoint " + modelId, e);
@@ -318,6 +317,68 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         }
     }
 
+    /**
+     * Load a checkpoint straight from its source bytes. The base64 model is decoded into
+     * bytes for protostuff without building the source map.
+     */
+    @Override
+    protected Optional<ModelState<RCFCaster>> readEntityModelCheckpoint(BytesReference source, String modelId, String configId) {
+        Optional<CheckpointSourceReader.Checkpoint> checkpoint = CheckpointSourceReader
+            .read(source, CommonName.FIELD_MODEL, null, maxCheckpointBytes);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(AccessController.doPrivileged((PrivilegedAction<ModelState<RCFCaster>>) () -> {
+                ByteBuffer model = checkpoint.get().getModel();
+                return createModelState(
+                    toRCFCaster(model.array(), model.limit()),
+                    modelId,
+                    configId,
+                    checkpoint.get().getEntity(),
+                    checkpoint.get().getSamples(),
+                    Instant.parse(checkpoint.get().getTimestamp())
+                );
+            }));
+        } catch (Exception e) {
+            logger.warn("Exception while deserializing checkpoint " + modelId, e);
+            return Optional.empty();
+        }
+    }
+
+    private ModelState<RCFCaster> createModelState(
+        RCFCaster rcfCaster,
+        String modelId,
+        String configId,
+        Object serializedEntity,
+        SampleBuffer samples,
+        Instant lastCheckpointTime
+    ) {
+        Entity entity = null;
+        if (serializedEntity != null) {
+            try {
+                entity = Entity.fromJsonArray(serializedEntity);
+            } catch (Exception e) {
+                logger.error(new ParameterizedMessage("fail to parse entity", serializedEntity), e);
+            }
+        }
+
+        ModelState<RCFCaster> modelState = new ModelState<RCFCaster>(
+            rcfCaster,
+            modelId,
+            configId,
+            ModelManager.ModelType.RCFCASTER.getName(),
+            clock,
+            0,
+            Optional.ofNullable(entity),
+            samples
+        );
+
+        modelState.setLastCheckpointTime(lastCheckpointTime);
+
+        return modelState;
+    }
+
     /**
      * Delete checkpoints associated with a forecaster.  Used in HC forecaster.
      * @param forecasterId Forecaster Id
@@ -354,6 +415,11 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
         }));
     }
 
+    @Override
+    public long getTotalUpdates(RCFCaster model) {
+        return model.getForest().getTotalUpdates();
+    }
+
     @Override
     protected DeleteByQueryRequest createDeleteCheckpointRequest(String configId) {
         return new DeleteByQueryRequest(indexName)
@@ -379,7 +445,7 @@ public class ForecastCheckpointDao extends CheckpointDao<RCFCaster, ForecastInde
                 clock,
                 0,
                 Optional.empty(),
-                loadSampleQueue(checkpoint, modelId)
+                loadSamples(checkpoint, modelId)
             );
 
             modelState.setLastCheckpointTime(loadTimestamp(checkpoint, modelId));
@@ -13,7 +13,6 @@ package org.opensearch.forecast.ml;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,7 +28,7 @@ import org.opensearch.timeseries.feature.FeatureManager;
 import org.opensearch.timeseries.feature.SearchFeatureDao;
 import org.opensearch.timeseries.ml.ModelColdStart;
 import org.opensearch.timeseries.ml.ModelState;
-import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
@@ -86,26 +85,21 @@ public class ForecastColdStart extends
     }
 
     @Override
-    protected List<Sample> trainModelFromDataSegments(
-        List<Sample> pointSamples,
+    protected boolean trainModelFromDataSegments(
+        SampleBuffer pointSamples,
         ModelState<RCFCaster> modelState,
         Config config,
         String taskId
     ) {
-        if (pointSamples == null || pointSamples.size() == 0) {
+        // the buffer drops empty data points, so a non-empty buffer has a positive dimension
+        if (pointSamples == null || pointSamples.isEmpty()) {
             logger.info("Return early since data points must not be empty.");
-            return null;
-        }
-
-        double[] firstPoint = pointSamples.get(0).getValueList();
-        if (firstPoint == null || firstPoint.length == 0) {
-            logger.info("Return early since data points must not be empty.");
-            return null;
+            return false;
         }
 
         int shingleSize = config.getShingleSize();
         int forecastHorizon = ((Forecaster) config).getHorizon();
-        int dimensions = firstPoint.length * shingleSize;
+        int dimensions = pointSamples.getDimension() * shingleSize;
 
         RCFCaster.Builder casterBuilder = RCFCaster
             .builder()
@@ -142,9 +136,7 @@ public class ForecastColdStart extends
         RCFCaster caster = casterBuilder.build();
 
         for (int i = 0; i < pointSamples.size(); i++) {
-            Sample dataSample = pointSamples.get(i);
-            double[] dataValue = dataSample.getValueList();
-            caster.process(dataValue, dataSample.getDataEndTime().getEpochSecond());
+            caster.process(pointSamples.copyValues(i), pointSamples.getDataEndEpochSecond(i));
         }
 
         modelState.setModel(caster);
@@ -153,6 +145,6 @@ public class ForecastColdStart extends
         if (null == taskId) {
             checkpointWriteWorker.write(modelState, true, RequestPriority.MEDIUM);
         }
-        return pointSamples;
+        return true;
     }
 }
@@ -17,8 +17,12 @@ import org.opensearch.forecast.model.ForecastResult;
 import org.opensearch.forecast.ratelimit.ForecastCheckpointWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.RealTimeInferencer;
+import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.Stats;
 
@@ -27,6 +31,8 @@ import com.amazon.randomcutforest.parkservices.RCFCaster;
 public class ForecastRealTimeInferencer extends
     RealTimeInferencer<RCFCaster, ForecastResult, RCFCasterResult, ForecastIndex, ForecastIndexManagement, ForecastCheckpointDao, ForecastCheckpointWriteWorker, ForecastColdStart, ForecastModelManager, ForecastSaveResultStrategy, ForecastPriorityCache, ForecastColdStartWorker> {
 
+    private final ForecastRunOnceTracker runOnceTracker;
+
     public ForecastRealTimeInferencer(
         ForecastModelManager modelManager,
         Stats stats,
@@ -35,7 +41,8 @@ public class ForecastRealTimeInferencer extends
         ForecastSaveResultStrategy resultWriteWorker,
         ForecastCacheProvider cache,
         ThreadPool threadPool,
-        Clock clock
+        Clock clock,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(
             modelManager,
@@ -49,6 +56,22 @@ public class ForecastRealTimeInferencer extends
             FORECAST_THREAD_POOL_NAME,
             clock
         );
+        this.runOnceTracker = runOnceTracker;
+    }
+
+    @Override
+    public boolean tryProcess(Sample sample, ModelState<RCFCaster> modelState, Config config, String taskId, long curExecutionEnd) {
+        try {
+            return super.tryProcess(sample, modelState, config, taskId, curExecutionEnd);
+        } finally {
+            runOnceTracker.onEntityDone(taskId);
+        }
     }
 
+    @Override
+    public void reColdStart(Config config, String modelId, Exception e, Sample sample, String taskId) {
+        // the entity is done again after its cold start
+        runOnceTracker.onEntityRequeued(taskId);
+        super.reColdStart(config, modelId, e, sample, taskId);
+    }
 }
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
@@ -58,6 +59,10 @@ public class ForecastResult extends IndexableResult {
     public static final String FORECAST_DATA_START_TIME_FIELD = "forecast_data_start_time";
     public static final String FORECAST_DATA_END_TIME_FIELD = "forecast_data_end_time";
     public static final String HORIZON_INDEX_FIELD = "horizon_index";
+    // keyword values "<category field>=<value>", one per category field, so that top forecast
+    // results can be split by one category field through doc values instead of a script
+    public static final String ENTITY_ATTRIBUTES_FIELD = "entity_attributes";
+    public static final String ENTITY_ATTRIBUTE_SEPARATOR = "=";
 
     private final String featureId;
     private final Float forecastValue;
@@ -289,6 +294,11 @@ public class ForecastResult extends IndexableResult {
         }
         if (optionalEntity.isPresent()) {
             xContentBuilder.field(CommonName.ENTITY_KEY, optionalEntity.get());
+            xContentBuilder.startArray(ENTITY_ATTRIBUTES_FIELD);
+            for (Map.Entry<String, String> attribute : optionalEntity.get().getAttributes().entrySet()) {
+                xContentBuilder.value(attribute.getKey() + ENTITY_ATTRIBUTE_SEPARATOR + attribute.getValue());
+            }
+            xContentBuilder.endArray();
         }
         if (user != null) {
             xContentBuilder.field(CommonName.USER_FIELD, user);
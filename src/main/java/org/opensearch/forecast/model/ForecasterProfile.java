@@ -42,6 +42,7 @@ public class ForecasterProfile extends ConfigProfile<ForecastTask, ForecastTaskP
             profile.initProgress = initProgress;
             profile.totalEntities = totalEntities;
             profile.activeEntities = activeEntities;
+            profile.resultWrite = resultWrite;
             profile.taskProfile = forecastTaskProfile;
 
             return profile;
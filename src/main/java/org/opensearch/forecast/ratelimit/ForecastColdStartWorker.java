@@ -10,13 +10,13 @@ import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_COLD_ST
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.Optional;
 import java.util.Random;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.forecast.caching.ForecastPriorityCache;
 import org.opensearch.forecast.indices.ForecastIndex;
 import org.opensearch.forecast.indices.ForecastIndexManagement;
@@ -25,6 +25,7 @@ import org.opensearch.forecast.ml.ForecastColdStart;
 import org.opensearch.forecast.ml.ForecastModelManager;
 import org.opensearch.forecast.ml.RCFCasterResult;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
@@ -33,6 +34,7 @@ import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.ColdStartWorker;
@@ -45,6 +47,8 @@ public class ForecastColdStartWorker extends
     ColdStartWorker<RCFCaster, ForecastIndex, ForecastIndexManagement, ForecastCheckpointDao, ForecastCheckpointWriteWorker, ForecastColdStart, ForecastPriorityCache, ForecastResult, RCFCasterResult, ForecastModelManager, ForecastSaveResultStrategy> {
     public static final String WORKER_NAME = "forecast-hc-cold-start";
 
+    private final ForecastRunOnceTracker runOnceTracker;
+
     public ForecastColdStartWorker(
         long heapSizeInBytes,
         int singleRequestSizeInBytes,
@@ -65,7 +69,8 @@ public class ForecastColdStartWorker extends
         NodeStateManager nodeStateManager,
         ForecastPriorityCache cacheProvider,
         ForecastModelManager forecastModelManager,
-        ForecastSaveResultStrategy saveStrategy
+        ForecastSaveResultStrategy saveStrategy,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(
             WORKER_NAME,
@@ -93,6 +98,17 @@ public class ForecastColdStartWorker extends
             forecastModelManager,
             saveStrategy
         );
+        this.runOnceTracker = runOnceTracker;
+    }
+
+    @Override
+    protected void executeRequest(FeatureRequest coldStartRequest, ActionListener<Void> listener) {
+        // results of the request are queued for writing when the listener is notified
+        super
+            .executeRequest(
+                coldStartRequest,
+                ActionListener.runAfter(listener, () -> runOnceTracker.onEntityDone(coldStartRequest.getTaskId()))
+            );
     }
 
     @Override
@@ -105,7 +121,7 @@ public class ForecastColdStartWorker extends
             clock,
             0,
             coldStartRequest.getEntity(),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
     }
 
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.ratelimit;
+
+import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_RESULT_WRITE_SPILL_ENABLED;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.timeseries.ratelimit.ResultWriteAdmission;
+
+/**
+ * Result write admission of forecasting results. A separate class so that Guice binds the
+ * instance of each analysis to its own type.
+ */
+public class ForecastResultWriteAdmission extends ResultWriteAdmission {
+
+    public ForecastResultWriteAdmission(Clock clock, Settings settings, ClusterService clusterService, Path spillPath, long maxSpillBytes) {
+        super(clock, settings, clusterService, FORECAST_RESULT_WRITE_SPILL_ENABLED, spillPath, maxSpillBytes);
+    }
+}
@@ -16,9 +16,12 @@ import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_RESULT_
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
@@ -26,6 +29,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.forecast.indices.ForecastIndex;
 import org.opensearch.forecast.indices.ForecastIndexManagement;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.forecast.transport.ForecastResultBulkRequest;
 import org.opensearch.forecast.transport.handler.ForecastIndexMemoryPressureAwareResultHandler;
 import org.opensearch.threadpool.ThreadPool;
@@ -40,6 +44,8 @@ public class ForecastResultWriteWorker extends
     ResultWriteWorker<ForecastResult, ForecastResultWriteRequest, ForecastResultBulkRequest, ForecastIndex, ForecastIndexManagement, ForecastIndexMemoryPressureAwareResultHandler> {
     public static final String WORKER_NAME = "forecast-result-write";
 
+    private final ForecastRunOnceTracker runOnceTracker;
+
     public ForecastResultWriteWorker(
         long heapSizeInBytes,
         int singleRequestSizeInBytes,
@@ -58,7 +64,8 @@ public class ForecastResultWriteWorker extends
         ForecastIndexMemoryPressureAwareResultHandler resultHandler,
         NamedXContentRegistry xContentRegistry,
         NodeStateManager stateManager,
-        Duration stateTtl
+        Duration stateTtl,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(
             WORKER_NAME,
@@ -86,6 +93,29 @@ public class ForecastResultWriteWorker extends
             ForecastResult::parse,
             AnalysisType.FORECAST
         );
+        this.runOnceTracker = runOnceTracker;
+    }
+
+    @Override
+    protected void onIndexed(List<ForecastResultWriteRequest> toProcess, List<IndexRequest> failedRequests) {
+        // key: run-once task id, value: number of results indexed
+        Map<String, Integer> indexedResults = new HashMap<>();
+        for (ForecastResultWriteRequest request : toProcess) {
+            String taskId = request.getResult().getTaskId();
+            if (taskId != null) {
+                indexedResults.merge(taskId, 1, Integer::sum);
+            }
+        }
+        if (indexedResults.isEmpty()) {
+            return;
+        }
+        // failed results are retried and counted when the retry succeeds
+        for (IndexRequest failedRequest : failedRequests) {
+            getResult(failedRequest)
+                .map(ForecastResult::getTaskId)
+                .ifPresent(taskId -> indexedResults.computeIfPresent(taskId, (k, v) -> v - 1));
+        }
+        indexedResults.forEach(runOnceTracker::onResultsIndexed);
     }
 
     @Override
@@ -11,6 +11,7 @@ import java.util.Optional;
 
 import org.opensearch.forecast.ml.RCFCasterResult;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
@@ -21,10 +22,16 @@ import org.opensearch.timeseries.util.ParseUtils;
 public class ForecastSaveResultStrategy implements SaveResultStrategy<ForecastResult, RCFCasterResult> {
     private int resultMappingVersion;
     private ForecastResultWriteWorker resultWriteWorker;
+    private ForecastRunOnceTracker runOnceTracker;
 
-    public ForecastSaveResultStrategy(int resultMappingVersion, ForecastResultWriteWorker resultWriteWorker) {
+    public ForecastSaveResultStrategy(
+        int resultMappingVersion,
+        ForecastResultWriteWorker resultWriteWorker,
+        ForecastRunOnceTracker runOnceTracker
+    ) {
         this.resultMappingVersion = resultMappingVersion;
         this.resultWriteWorker = resultWriteWorker;
+        this.runOnceTracker = runOnceTracker;
     }
 
     @Override
@@ -76,6 +83,7 @@ public class ForecastSaveResultStrategy implements SaveResultStrategy<ForecastRe
 
     @Override
     public void saveResult(ForecastResult result, Config config) {
+        runOnceTracker.onResultQueued(result.getTaskId());
         resultWriteWorker
             .put(
                 new ForecastResultWriteRequest(
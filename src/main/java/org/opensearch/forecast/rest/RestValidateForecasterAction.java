@@ -18,6 +18,7 @@ import static org.opensearch.timeseries.util.RestHandlerUtils.VALIDATE;
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
@@ -34,10 +35,12 @@ import org.opensearch.timeseries.common.exception.ValidationException;
 import org.opensearch.timeseries.model.ConfigValidationIssue;
 import org.opensearch.timeseries.rest.RestValidateAction;
 import org.opensearch.timeseries.transport.ValidateConfigRequest;
+import org.opensearch.timeseries.transport.ValidateConfigResponse;
 import org.opensearch.transport.client.node.NodeClient;
 import org.owasp.encoder.Encode;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 /**
  * This class consists of the REST handler to validate anomaly detector configurations.
@@ -64,6 +67,11 @@ public class RestValidateForecasterAction extends AbstractForecasterAction {
         return VALIDATE_FORECASTER_ACTION;
     }
 
+    @Override
+    protected Set<String> responseParams() {
+        return ImmutableSet.of(ValidateConfigResponse.CHECK_TIMINGS_PARAM);
+    }
+
     @Override
     public List<Route> routes() {
         return ImmutableList
@@ -73,6 +73,11 @@ public final class ForecastSettings {
     public static final Setting<Float> FORECAST_INDEX_PRESSURE_HARD_LIMIT = Setting
         .floatSetting("plugins.forecast.index_pressure_hard_limit", 0.9f, 0.0f, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // buffer results that indexing pressure does not admit to a local file and index them
+    // after the pressure recovers instead of dropping them
+    public static final Setting<Boolean> FORECAST_RESULT_WRITE_SPILL_ENABLED = Setting
+        .boolSetting("plugins.forecast.result_write_spill_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     // we only allow single feature forecast now
     public static final int MAX_FORECAST_FEATURES = 1;
 
@@ -0,0 +1,310 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.task;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressAction;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressRequest;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Tracks the completion of run-once forecast tasks so that the coordinating node learns when
+ * a run once finished instead of polling model nodes with profile requests.
+ *
+ * On the coordinating node, the result processor counts the entities it sends to model nodes
+ * and marks when all pages are sent. On model nodes, an entity is accepted when its request
+ * arrives and done when it is scored (or cold started and scored), and each result is pending
+ * until indexed. An entity that goes back to a queue (e.g., to cold start again) is accepted
+ * and done once more, so requeues are subtracted from the done count to count each entity
+ * once. Whenever a model node has no accepted entity or result of a task left, it reports its
+ * cumulative count of done unique entities to the coordinating node. The task completes once
+ * all pages are sent and the reported counts add up to the sent entities.
+ *
+ * Entities dropped on the way (e.g., by queue pruning) are never reported; the caller bounds
+ * the wait with a timeout.
+ */
+public class ForecastRunOnceTracker {
+    private static final Logger LOG = LogManager.getLogger(ForecastRunOnceTracker.class);
+
+    // tasks not updated for this long are dropped, e.g., a run once whose analysis failed
+    static final long STATE_TTL_MILLIS = 3_600_000L;
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final Clock clock;
+    // key: task id. Tasks coordinated by this node.
+    private final Map<String, CoordinatedTask> coordinatedTasks;
+    // key: task id. Tasks with entities processed on this node.
+    private final Map<String, LocalTask> localTasks;
+
+    static class CoordinatedTask {
+        private long sentEntities;
+        private boolean allSent;
+        // key: model node id, value: cumulative done entities reported by the node
+        private final Map<String, Long> doneEntities = new HashMap<>();
+        private Runnable onComplete;
+        private volatile long lastUpdateMillis;
+
+        private boolean isComplete() {
+            if (!allSent) {
+                return false;
+            }
+            long done = 0;
+            for (long nodeDone : doneEntities.values()) {
+                done += nodeDone;
+            }
+            return done >= sentEntities;
+        }
+    }
+
+    static class LocalTask {
+        private final String configId;
+        private final String coordinatingNodeId;
+        private long acceptedEntities;
+        private long doneEntities;
+        // accepted and done again after going back to a queue
+        private long requeuedEntities;
+        private long pendingResults;
+        private long reportedEntities;
+        private volatile long lastUpdateMillis;
+
+        LocalTask(String configId, String coordinatingNodeId) {
+            this.configId = configId;
+            this.coordinatingNodeId = coordinatingNodeId;
+        }
+    }
+
+    public ForecastRunOnceTracker(Client client, ClusterService clusterService, Clock clock) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.clock = clock;
+        this.coordinatedTasks = new ConcurrentHashMap<>();
+        this.localTasks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return id of the local node, sent with entity requests of run-once tasks
+     */
+    public String getLocalNodeId() {
+        return clusterService.localNode().getId();
+    }
+
+    private CoordinatedTask coordinated(String taskId) {
+        CoordinatedTask task = coordinatedTasks.computeIfAbsent(taskId, id -> new CoordinatedTask());
+        task.lastUpdateMillis = clock.millis();
+        return task;
+    }
+
+    /**
+     * Record entities about to be sent to a model node.
+     *
+     * @param taskId run-once task id
+     * @param entityCount number of entities
+     */
+    public void onEntitiesSent(String taskId, int entityCount) {
+        maintenance();
+        CoordinatedTask task = coordinated(taskId);
+        synchronized (task) {
+            task.sentEntities += entityCount;
+        }
+    }
+
+    /**
+     * Record that all entities of a task have been sent.
+     *
+     * @param taskId run-once task id
+     */
+    public void onAllSent(String taskId) {
+        CoordinatedTask task = coordinated(taskId);
+        synchronized (task) {
+            task.allSent = true;
+        }
+        completeIfDone(taskId, task);
+    }
+
+    /**
+     * Record progress reported by a model node.
+     *
+     * @param taskId run-once task id
+     * @param nodeId model node id
+     * @param doneEntities cumulative number of entities the node finished
+     */
+    public void onProgress(String taskId, String nodeId, long doneEntities) {
+        CoordinatedTask task = coordinatedTasks.get(taskId);
+        if (task == null) {
+            // completed or timed out
+            return;
+        }
+        task.lastUpdateMillis = clock.millis();
+        synchronized (task) {
+            // reports may arrive out of order
+            task.doneEntities.merge(nodeId, doneEntities, Math::max);
+        }
+        completeIfDone(taskId, task);
+    }
+
+    /**
+     * Run a callback once a task completes. Runs it immediately if the task already completed.
+     *
+     * @param taskId run-once task id
+     * @param onComplete callback
+     */
+    public void whenComplete(String taskId, Runnable onComplete) {
+        CoordinatedTask task = coordinated(taskId);
+        synchronized (task) {
+            task.onComplete = onComplete;
+        }
+        completeIfDone(taskId, task);
+    }
+
+    /**
+     * Stop tracking a task, e.g., when waiting for it timed out.
+     *
+     * @param taskId run-once task id
+     * @return true if the task was still tracked, i.e., its completion callback has not run and will not run
+     */
+    public boolean cancel(String taskId) {
+        return coordinatedTasks.remove(taskId) != null;
+    }
+
+    private void completeIfDone(String taskId, CoordinatedTask task) {
+        Runnable onComplete;
+        synchronized (task) {
+            if (task.onComplete == null || !task.isComplete()) {
+                return;
+            }
+            onComplete = task.onComplete;
+        }
+        // whoever removes the task runs the callback, so it runs once and never after a cancel
+        if (coordinatedTasks.remove(taskId, task)) {
+            onComplete.run();
+        }
+    }
+
+    /**
+     * Record entities of a run-once task received for scoring on this node.
+     *
+     * @param taskId run-once task id
+     * @param configId config id
+     * @param coordinatingNodeId node to report progress to
+     * @param entityCount number of entities
+     */
+    public void onEntitiesAccepted(String taskId, String configId, String coordinatingNodeId, int entityCount) {
+        maintenance();
+        LocalTask task = localTasks.computeIfAbsent(taskId, id -> new LocalTask(configId, coordinatingNodeId));
+        synchronized (task) {
+            task.acceptedEntities += entityCount;
+            task.lastUpdateMillis = clock.millis();
+        }
+    }
+
+    /**
+     * Record an entity request of a task that went back to a queue, e.g., to cold start again
+     * after failing to score. It is done again when it leaves the queue.
+     *
+     * @param taskId run-once task id; ignored if null
+     */
+    public void onEntityRequeued(String taskId) {
+        update(taskId, task -> {
+            task.acceptedEntities++;
+            task.requeuedEntities++;
+        });
+    }
+
+    /**
+     * Record that an entity of a task has been scored and its results queued for writing.
+     *
+     * @param taskId run-once task id; ignored if null
+     */
+    public void onEntityDone(String taskId) {
+        update(taskId, task -> task.doneEntities++);
+    }
+
+    /**
+     * Record a result of a task queued for writing.
+     *
+     * @param taskId run-once task id; ignored if null
+     */
+    public void onResultQueued(String taskId) {
+        update(taskId, task -> task.pendingResults++);
+    }
+
+    /**
+     * Record results of a task that have been indexed.
+     *
+     * @param taskId run-once task id; ignored if null
+     * @param count number of results
+     */
+    public void onResultsIndexed(String taskId, int count) {
+        update(taskId, task -> task.pendingResults -= count);
+    }
+
+    private void update(String taskId, Consumer<LocalTask> change) {
+        if (taskId == null) {
+            return;
+        }
+        LocalTask task = localTasks.get(taskId);
+        if (task == null) {
+            // e.g., sent by a coordinating node that does not track run once
+            return;
+        }
+        long done;
+        synchronized (task) {
+            change.accept(task);
+            task.lastUpdateMillis = clock.millis();
+            long uniqueDone = task.doneEntities - task.requeuedEntities;
+            if (task.doneEntities < task.acceptedEntities || task.pendingResults > 0 || uniqueDone <= task.reportedEntities) {
+                return;
+            }
+            task.reportedEntities = uniqueDone;
+            done = uniqueDone;
+        }
+        report(taskId, task, done);
+    }
+
+    private void report(String taskId, LocalTask task, long doneEntities) {
+        ForecastRunOnceProgressRequest request = new ForecastRunOnceProgressRequest(
+            task.configId,
+            taskId,
+            task.coordinatingNodeId,
+            getLocalNodeId(),
+            doneEntities
+        );
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    ForecastRunOnceProgressAction.INSTANCE,
+                    request,
+                    ActionListener
+                        .<AcknowledgedResponse>wrap(
+                            r -> LOG.debug("Reported {} done entities of run once task {}", doneEntities, taskId),
+                            e -> LOG.warn("Failed to report progress of run once task " + taskId, e)
+                        )
+                );
+        }
+    }
+
+    void maintenance() {
+        long now = clock.millis();
+        coordinatedTasks.values().removeIf(task -> now - task.lastUpdateMillis > STATE_TTL_MILLIS);
+        localTasks.values().removeIf(task -> now - task.lastUpdateMillis > STATE_TTL_MILLIS);
+    }
+
+    int getTaskCount() {
+        return coordinatedTasks.size() + localTasks.size();
+    }
+}
@@ -35,6 +35,7 @@ import org.opensearch.forecast.ratelimit.ForecastColdEntityWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.NodeStateManager;
@@ -83,6 +84,7 @@ public class EntityForecastResultTransportAction extends HandledTransportAction<
     private final ForecastCheckpointReadWorker checkpointReadQueue;
     private final ForecastColdEntityWorker coldEntityQueue;
     private final ForecastRealTimeInferencer inferencer;
+    private final ForecastRunOnceTracker runOnceTracker;
 
     @Inject
     public EntityForecastResultTransportAction(
@@ -96,7 +98,8 @@ public class EntityForecastResultTransportAction extends HandledTransportAction<
         ForecastCheckpointReadWorker checkpointReadQueue,
         ForecastColdEntityWorker coldEntityQueue,
         ThreadPool threadPool,
-        ForecastRealTimeInferencer inferencer
+        ForecastRealTimeInferencer inferencer,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(EntityForecastResultAction.NAME, transportService, actionFilters, EntityResultRequest::new);
         this.circuitBreakerService = adCircuitBreakerService;
@@ -108,6 +111,7 @@ public class EntityForecastResultTransportAction extends HandledTransportAction<
         this.checkpointReadQueue = checkpointReadQueue;
         this.coldEntityQueue = coldEntityQueue;
         this.inferencer = inferencer;
+        this.runOnceTracker = runOnceTracker;
     }
 
     @Override
@@ -139,6 +143,11 @@ public class EntityForecastResultTransportAction extends HandledTransportAction<
                 listener = ExceptionUtil.wrapListener(listener, exception, forecasterId);
             }
 
+            if (request.getTaskId() != null && request.getCoordinatingNodeId() != null && request.getEntities() != null) {
+                runOnceTracker
+                    .onEntitiesAccepted(request.getTaskId(), forecasterId, request.getCoordinatingNodeId(), request.getEntities().size());
+            }
+
             intervalDataProcessor = new EntityResultProcessor<>(
                 entityCache,
                 checkpointReadQueue,
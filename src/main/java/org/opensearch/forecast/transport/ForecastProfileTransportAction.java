@@ -19,6 +19,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.forecast.caching.ForecastCacheProvider;
 import org.opensearch.forecast.caching.ForecastPriorityCache;
+import org.opensearch.forecast.ratelimit.ForecastResultWriteAdmission;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.transport.BaseProfileTransportAction;
@@ -41,6 +42,7 @@ public class ForecastProfileTransportAction extends BaseProfileTransportAction<R
      * @param cacheProvider cache provider
      * @param settings Node settings accessor
      * @param taskCacheManager task cache manager
+     * @param resultWriteAdmission result write admission
      */
     @Inject
     public ForecastProfileTransportAction(
@@ -50,7 +52,8 @@ public class ForecastProfileTransportAction extends BaseProfileTransportAction<R
         ActionFilters actionFilters,
         ForecastCacheProvider cacheProvider,
         Settings settings,
-        TaskCacheManager taskCacheManager
+        TaskCacheManager taskCacheManager,
+        ForecastResultWriteAdmission resultWriteAdmission
     ) {
         super(
             ForecastProfileAction.NAME,
@@ -61,7 +64,8 @@ public class ForecastProfileTransportAction extends BaseProfileTransportAction<R
             cacheProvider,
             settings,
             FORECAST_MAX_MODEL_SIZE_PER_NODE,
-            taskCacheManager
+            taskCacheManager,
+            resultWriteAdmission
         );
     }
 }
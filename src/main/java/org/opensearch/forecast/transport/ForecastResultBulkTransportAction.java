@@ -23,9 +23,11 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.forecast.indices.ForecastIndex;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.ratelimit.ForecastResultWriteAdmission;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteRequest;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.timeseries.transport.ResultBulkTransportAction;
+import org.opensearch.timeseries.util.ResultBulkEncoder;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -39,7 +41,8 @@ public class ForecastResultBulkTransportAction extends
         IndexingPressure indexingPressure,
         Settings settings,
         ClusterService clusterService,
-        Client client
+        Client client,
+        ForecastResultWriteAdmission admission
     ) {
         super(
             ForecastResultBulkAction.NAME,
@@ -47,7 +50,9 @@ public class ForecastResultBulkTransportAction extends
             actionFilters,
             indexingPressure,
             settings,
+            clusterService,
             client,
+            admission,
             FORECAST_INDEX_PRESSURE_SOFT_LIMIT.get(settings),
             FORECAST_INDEX_PRESSURE_HARD_LIMIT.get(settings),
             ForecastIndex.RESULT.getIndexName(),
@@ -58,34 +63,40 @@ public class ForecastResultBulkTransportAction extends
     }
 
     @Override
-    public BulkRequest prepareBulkRequest(float indexingPressurePercent, ForecastResultBulkRequest request) {
+    public BulkRequest prepareBulkRequest(
+        float indexingPressurePercent,
+        ForecastResultBulkRequest request,
+        List<Integer> rejectedPositions
+    ) {
         BulkRequest bulkRequest = new BulkRequest();
         List<ForecastResultWriteRequest> results = request.getResults();
+        ResultBulkEncoder encoder = new ResultBulkEncoder();
 
-        if (indexingPressurePercent <= softLimit) {
-            for (ForecastResultWriteRequest resultWriteRequest : results) {
-                addResult(bulkRequest, resultWriteRequest.getResult(), resultWriteRequest.getResultIndex());
+        for (int i = 0; i < results.size(); i++) {
+            ForecastResultWriteRequest resultWriteRequest = results.get(i);
+            ForecastResult result = resultWriteRequest.getResult();
+            if (shouldAddResult(indexingPressurePercent, result)) {
+                admitResult(bulkRequest, encoder, result, resultWriteRequest.getResultIndex(), null);
+            } else {
+                // spilled if enabled, dropped otherwise
+                rejectResult(encoder, result, resultWriteRequest.getResultIndex(), null);
+                rejectedPositions.add(i);
             }
+        }
+
+        return bulkRequest;
+    }
+
+    private boolean shouldAddResult(float indexingPressurePercent, ForecastResult result) {
+        if (indexingPressurePercent <= softLimit) {
+            return true;
         } else if (indexingPressurePercent <= hardLimit) {
             // exceed soft limit (60%) but smaller than hard limit (90%)
             float acceptProbability = 1 - indexingPressurePercent;
-            for (ForecastResultWriteRequest resultWriteRequest : results) {
-                ForecastResult result = resultWriteRequest.getResult();
-                if (random.nextFloat() < acceptProbability) {
-                    addResult(bulkRequest, result, resultWriteRequest.getResultIndex());
-                }
-            }
+            return random.nextFloat() < acceptProbability;
         } else {
             // if exceeding hard limit, only index error result
-            for (ForecastResultWriteRequest resultWriteRequest : results) {
-                ForecastResult result = resultWriteRequest.getResult();
-                if (result.isHighPriority()) {
-                    addResult(bulkRequest, result, resultWriteRequest.getResultIndex());
-                }
-            }
+            return result.isHighPriority();
         }
-
-        return bulkRequest;
     }
-
 }
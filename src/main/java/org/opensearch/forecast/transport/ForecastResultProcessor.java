@@ -24,6 +24,7 @@ import org.opensearch.forecast.model.ForecastResult;
 import org.opensearch.forecast.model.ForecastTask;
 import org.opensearch.forecast.model.ForecastTaskType;
 import org.opensearch.forecast.stats.ForecastStats;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.forecast.task.ForecastTaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
@@ -44,6 +45,8 @@ public class ForecastResultProcessor extends
 
     private static final Logger LOG = LogManager.getLogger(ForecastResultProcessor.class);
 
+    private final ForecastRunOnceTracker runOnceTracker;
+
     public ForecastResultProcessor(
         Setting<TimeValue> requestTimeoutSetting,
         String entityResultAction,
@@ -63,7 +66,8 @@ public class ForecastResultProcessor extends
         Class<ForecastResultResponse> transportResultResponseClazz,
         FeatureManager featureManager,
         AnalysisType analysisType,
-        boolean runOnce
+        boolean runOnce,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(
             requestTimeoutSetting,
@@ -90,6 +94,7 @@ public class ForecastResultProcessor extends
             runOnce,
             ForecastSingleStreamResultAction.NAME
         );
+        this.runOnceTracker = runOnceTracker;
     }
 
     @Override
@@ -108,4 +113,18 @@ public class ForecastResultProcessor extends
     protected void imputeHC(long dataStartTime, long dataEndTime, String configID, String taskId) {
         // no imputation for forecasting as on the fly imputation and error estimation should not mix
     }
+
+    @Override
+    protected void onRunOnceEntitiesSent(String taskId, int entityCount) {
+        if (runOnceTracker != null) {
+            runOnceTracker.onEntitiesSent(taskId, entityCount);
+        }
+    }
+
+    @Override
+    protected void onRunOnceAllSent(String taskId) {
+        if (runOnceTracker != null) {
+            runOnceTracker.onAllSent(taskId);
+        }
+    }
 }
@@ -165,7 +165,8 @@ public class ForecastResultTransportAction extends HandledTransportAction<Foreca
                 ForecastResultResponse.class,
                 featureManager,
                 AnalysisType.FORECAST,
-                false
+                false,
+                null
             );
 
             try {
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.transport;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+import java.io.IOException;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.timeseries.constant.CommonMessages;
+
+/**
+ * Progress of a run-once task on a model node, sent to the task's coordinating node.
+ */
+public class ForecastRunOnceProgressRequest extends ActionRequest {
+    private final String configId;
+    private final String taskId;
+    private final String coordinatingNodeId;
+    private final String modelNodeId;
+    // cumulative number of entities the model node finished
+    private final long doneEntities;
+
+    public ForecastRunOnceProgressRequest(
+        String configId,
+        String taskId,
+        String coordinatingNodeId,
+        String modelNodeId,
+        long doneEntities
+    ) {
+        super();
+        this.configId = configId;
+        this.taskId = taskId;
+        this.coordinatingNodeId = coordinatingNodeId;
+        this.modelNodeId = modelNodeId;
+        this.doneEntities = doneEntities;
+    }
+
+    public ForecastRunOnceProgressRequest(StreamInput in) throws IOException {
+        super(in);
+        this.configId = in.readString();
+        this.taskId = in.readString();
+        this.coordinatingNodeId = in.readString();
+        this.modelNodeId = in.readString();
+        this.doneEntities = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(configId);
+        out.writeString(taskId);
+        out.writeString(coordinatingNodeId);
+        out.writeString(modelNodeId);
+        out.writeVLong(doneEntities);
+    }
+
+    public String getConfigId() {
+        return configId;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getCoordinatingNodeId() {
+        return coordinatingNodeId;
+    }
+
+    public String getModelNodeId() {
+        return modelNodeId;
+    }
+
+    public long getDoneEntities() {
+        return doneEntities;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (Strings.isEmpty(configId)) {
+            validationException = addValidationError(CommonMessages.CONFIG_ID_MISSING_MSG, validationException);
+        }
+        if (Strings.isEmpty(taskId) || Strings.isEmpty(coordinatingNodeId) || Strings.isEmpty(modelNodeId)) {
+            validationException = addValidationError("task or node id is missing", validationException);
+        }
+        return validationException;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.transport;
+
+import static org.opensearch.forecast.settings.ForecastSettings.FORECAST_REQUEST_TIMEOUT;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Records the progress of a run-once task reported by a model node. Reports from the local
+ * node are forwarded to the task's coordinating node.
+ */
+public class ForecastRunOnceProgressTransportAction extends HandledTransportAction<ForecastRunOnceProgressRequest, AcknowledgedResponse> {
+    private static final Logger LOG = LogManager.getLogger(ForecastRunOnceProgressTransportAction.class);
+
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final ForecastRunOnceTracker runOnceTracker;
+    private final TransportRequestOptions option;
+
+    @Inject
+    public ForecastRunOnceProgressTransportAction(
+        ActionFilters actionFilters,
+        TransportService transportService,
+        Settings settings,
+        ClusterService clusterService,
+        ForecastRunOnceTracker runOnceTracker
+    ) {
+        super(ForecastRunOnceProgressAction.NAME, transportService, actionFilters, ForecastRunOnceProgressRequest::new);
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.runOnceTracker = runOnceTracker;
+        this.option = TransportRequestOptions
+            .builder()
+            .withType(TransportRequestOptions.Type.REG)
+            .withTimeout(FORECAST_REQUEST_TIMEOUT.get(settings))
+            .build();
+    }
+
+    @Override
+    protected void doExecute(Task task, ForecastRunOnceProgressRequest request, ActionListener<AcknowledgedResponse> listener) {
+        String coordinatingNodeId = request.getCoordinatingNodeId();
+        if (clusterService.localNode().getId().equals(coordinatingNodeId)) {
+            runOnceTracker.onProgress(request.getTaskId(), request.getModelNodeId(), request.getDoneEntities());
+            listener.onResponse(new AcknowledgedResponse(true));
+            return;
+        }
+        DiscoveryNode coordinatingNode = clusterService.state().nodes().get(coordinatingNodeId);
+        if (coordinatingNode == null || request.remoteAddress() != null) {
+            // the coordinating node left and its run once times out; or the request was already forwarded once
+            LOG.info("Drop progress of run once task {} for node {}", request.getTaskId(), coordinatingNodeId);
+            listener.onResponse(new AcknowledgedResponse(false));
+            return;
+        }
+        try {
+            transportService
+                .sendRequest(
+                    coordinatingNode,
+                    ForecastRunOnceProgressAction.NAME,
+                    request,
+                    option,
+                    new ActionListenerResponseHandler<>(listener, AcknowledgedResponse::new, ThreadPool.Names.SAME)
+                );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+}
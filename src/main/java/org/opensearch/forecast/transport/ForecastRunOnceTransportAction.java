@@ -17,7 +17,6 @@ import static org.opensearch.timeseries.util.ParseUtils.resolveUserAndExecute;
 
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +46,7 @@ import org.opensearch.forecast.settings.ForecastEnabledSetting;
 import org.opensearch.forecast.settings.ForecastNumericSetting;
 import org.opensearch.forecast.settings.ForecastSettings;
 import org.opensearch.forecast.stats.ForecastStats;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.forecast.task.ForecastTaskManager;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -80,6 +80,8 @@ import com.google.common.collect.ImmutableMap;
 public class ForecastRunOnceTransportAction extends HandledTransportAction<ForecastResultRequest, ForecastResultResponse> {
 
     private static final Logger LOG = LogManager.getLogger(ForecastRunOnceTransportAction.class);
+    // bound of waiting for model nodes to report a run once finished, matching the former profile polling
+    private static final TimeValue RUN_ONCE_TIMEOUT = new TimeValue(110, TimeUnit.SECONDS);
     private ResultProcessor<ForecastResultRequest, ForecastResult, ForecastResultResponse, TaskCacheManager, ForecastTaskType, ForecastTask, ForecastIndex, ForecastIndexManagement, ForecastTaskManager> resultProcessor;
     private final Client client;
     private CircuitBreakerService circuitBreakerService;
@@ -96,6 +98,7 @@ public class ForecastRunOnceTransportAction extends HandledTransportAction<Forec
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final FeatureManager featureManager;
     private final ForecastStats forecastStats;
+    private final ForecastRunOnceTracker runOnceTracker;
     private volatile Boolean filterByEnabled;
 
     protected volatile Integer maxSingleStreamForecasters;
@@ -120,7 +123,8 @@ public class ForecastRunOnceTransportAction extends HandledTransportAction<Forec
         ForecastStats forecastStats,
         ThreadPool threadPool,
         NamedXContentRegistry xContentRegistry,
-        ForecastTaskManager realTimeTaskManager
+        ForecastTaskManager realTimeTaskManager,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(ForecastRunOnceAction.NAME, transportService, actionFilters, ForecastResultRequest::new);
 
@@ -136,6 +140,7 @@ public class ForecastRunOnceTransportAction extends HandledTransportAction<Forec
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.featureManager = featureManager;
         this.forecastStats = forecastStats;
+        this.runOnceTracker = runOnceTracker;
 
         this.client = client;
         this.circuitBreakerService = circuitBreakerService;
@@ -220,34 +225,6 @@ public class ForecastRunOnceTransportAction extends HandledTransportAction<Forec
         }));
     }
 
-    private void checkIfRunOnceFinished(String forecastID, String taskId, AtomicInteger waitTimes) {
-        client.execute(ForecastRunOnceProfileAction.INSTANCE, new ForecastRunOnceProfileRequest(forecastID), ActionListener.wrap(r -> {
-            if (r.isAnswerTrue()) {
-                handleRunOnceNotFinished(forecastID, taskId, waitTimes);
-            } else {
-                handleRunOnceFinished(forecastID, taskId);
-            }
-        }, e -> {
-            LOG.error("Failed to profile run once of forecaster " + forecastID, e);
-            handleRunOnceNotFinished(forecastID, taskId, waitTimes);
-        }));
-    }
-
-    private void handleRunOnceNotFinished(String forecastID, String taskId, AtomicInteger waitTimes) {
-        if (waitTimes.get() < 10) {
-            waitTimes.addAndGet(1);
-            threadPool
-                .schedule(
-                    () -> checkIfRunOnceFinished(forecastID, taskId, waitTimes),
-                    new TimeValue(10, TimeUnit.SECONDS),
-                    TimeSeriesAnalyticsPlugin.FORECAST_THREAD_POOL_NAME
-                );
-        } else {
-            LOG.warn("Timed out run once of forecaster {}", forecastID);
-            updateTaskState(forecastID, taskId, TaskState.INACTIVE);
-        }
-    }
-
     private void handleRunOnceFinished(String forecastID, String taskId) {
         LOG.info("Run once of forecaster {} finished", forecastID);
         nodeStateManager.getConfig(forecastID, AnalysisType.FORECAST, ActionListener.wrap(configOptional -> {
@@ -319,18 +296,21 @@ public class ForecastRunOnceTransportAction extends HandledTransportAction<Forec
                 ForecastResultResponse.class,
                 featureManager,
                 AnalysisType.FORECAST,
-                true
+                true,
+                runOnceTracker
             );
 
             ActionListener<ForecastResultResponse> wrappedListener = ActionListener.wrap(r -> {
-                AtomicInteger waitTimes = new AtomicInteger(0);
-
-                threadPool
-                    .schedule(
-                        () -> checkIfRunOnceFinished(forecastID, r.getTaskId(), waitTimes),
-                        new TimeValue(10, TimeUnit.SECONDS),
-                        TimeSeriesAnalyticsPlugin.FORECAST_THREAD_POOL_NAME
-                    );
+                String taskId = r.getTaskId();
+                // model nodes report progress once they scored their entities and indexed the results
+                runOnceTracker.whenComplete(taskId, () -> handleRunOnceFinished(forecastID, taskId));
+                threadPool.schedule(() -> {
+                    if (runOnceTracker.cancel(taskId)) {
+                        // some entities were dropped or their nodes left; check whatever got indexed
+                        LOG.warn("Timed out waiting for run once of forecaster {} to finish", forecastID);
+                        handleRunOnceFinished(forecastID, taskId);
+                    }
+                }, RUN_ONCE_TIMEOUT, TimeSeriesAnalyticsPlugin.FORECAST_THREAD_POOL_NAME);
                 listener.onResponse(r);
             }, e -> {
                 LOG.error("Failed to finish run once of forecaster " + forecastID, e);
@@ -8,7 +8,9 @@ package org.opensearch.forecast.transport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.forecast.caching.ForecastCacheBuffer;
 import org.opensearch.forecast.caching.ForecastCacheProvider;
 import org.opensearch.forecast.caching.ForecastPriorityCache;
@@ -26,6 +28,8 @@ import org.opensearch.forecast.ratelimit.ForecastCheckpointWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteRequest;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.AnalysisType;
 import org.opensearch.timeseries.NodeStateManager;
@@ -34,6 +38,7 @@ import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
 import org.opensearch.timeseries.transport.AbstractSingleStreamResultTransportAction;
+import org.opensearch.timeseries.transport.SingleStreamResultRequest;
 import org.opensearch.transport.TransportService;
 
 import com.amazon.randomcutforest.parkservices.RCFCaster;
@@ -43,6 +48,8 @@ public class ForecastSingleStreamResultTransportAction extends
 
     private static final Logger LOG = LogManager.getLogger(ForecastSingleStreamResultTransportAction.class);
 
+    private final ForecastRunOnceTracker runOnceTracker;
+
     @Inject
     public ForecastSingleStreamResultTransportAction(
         TransportService transportService,
@@ -52,7 +59,8 @@ public class ForecastSingleStreamResultTransportAction extends
         NodeStateManager stateManager,
         ForecastCheckpointReadWorker checkpointReadQueue,
         ForecastRealTimeInferencer inferencer,
-        ThreadPool threadPool
+        ThreadPool threadPool,
+        ForecastRunOnceTracker runOnceTracker
     ) {
         super(
             transportService,
@@ -67,6 +75,15 @@ public class ForecastSingleStreamResultTransportAction extends
             threadPool,
             TimeSeriesAnalyticsPlugin.FORECAST_THREAD_POOL_NAME
         );
+        this.runOnceTracker = runOnceTracker;
+    }
+
+    @Override
+    protected void doExecute(Task task, SingleStreamResultRequest request, ActionListener<AcknowledgedResponse> listener) {
+        if (request.getTaskId() != null && request.getCoordinatingNodeId() != null && !circuitBreakerService.isOpen()) {
+            runOnceTracker.onEntitiesAccepted(request.getTaskId(), request.getConfigId(), request.getCoordinatingNodeId(), 1);
+        }
+        super.doExecute(task, request, listener);
     }
 
     @Override
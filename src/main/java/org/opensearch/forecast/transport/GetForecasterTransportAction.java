@@ -122,7 +122,7 @@ public class GetForecasterTransportAction extends
         NamedXContentRegistry xContentRegistry,
         long requiredSamples
     ) {
-        return new ForecastEntityProfileRunner(client, clientUtil, xContentRegistry, TimeSeriesSettings.NUM_MIN_SAMPLES);
+        return new ForecastEntityProfileRunner(client, clientUtil, clusterService, xContentRegistry, TimeSeriesSettings.NUM_MIN_SAMPLES);
     }
 
     @Override
@@ -64,6 +64,7 @@ import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
+import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation;
@@ -180,22 +181,15 @@ public class SearchTopForecastResultTransportAction extends
                 throw new IllegalArgumentException("Size must be a positive integer");
             }
 
-            // Generating the search request which will contain the generated query
-            SearchRequest searchRequest = generateQuery(request, forecaster);
-
-            // Adding search over any custom result indices
-            if (!Strings.isNullOrEmpty(forecaster.getCustomResultIndexPattern())) {
-                searchRequest.indices(forecaster.getCustomResultIndexPattern());
+            if (splitByCategoryField(request, forecaster)) {
+                // results written before category field values were indexed as keywords need a script
+                searchHandler.search(generateLegacyResultQuery(request, forecaster), ActionListener.wrap(legacyResponse -> {
+                    boolean hasLegacyResults = legacyResponse.getHits().getHits().length > 0;
+                    searchTopResults(request, categoryFields, forecaster, hasLegacyResults, listener);
+                }, listener::onFailure));
+            } else {
+                searchTopResults(request, categoryFields, forecaster, false, listener);
             }
-            // Utilizing the existing search() from SearchHandler to handle security
-            // permissions. Both user role
-            // and backend role filtering is handled in there, and any error will be
-            // propagated up and
-            // returned as a failure in this Listener.
-            // This same method is used for security handling for the search results action.
-            // Since this action
-            // is doing fundamentally the same thing, we can reuse the security logic here.
-            searchHandler.search(searchRequest, onSearchResponse(request, categoryFields, forecaster, listener));
         }, exception -> {
             logger.error("Failed to get top forecast results", exception);
             listener.onFailure(exception);
@@ -203,10 +197,32 @@ public class SearchTopForecastResultTransportAction extends
 
     }
 
+    private void searchTopResults(
+        SearchTopForecastResultRequest request,
+        List<String> categoryFields,
+        Forecaster forecaster,
+        boolean useScript,
+        ActionListener<SearchTopForecastResultResponse> listener
+    ) {
+        // Generating the search request which will contain the generated query
+        SearchRequest searchRequest = generateQuery(request, forecaster, useScript);
+
+        // Utilizing the existing search() from SearchHandler to handle security
+        // permissions. Both user role
+        // and backend role filtering is handled in there, and any error will be
+        // propagated up and
+        // returned as a failure in this Listener.
+        // This same method is used for security handling for the search results action.
+        // Since this action
+        // is doing fundamentally the same thing, we can reuse the security logic here.
+        searchHandler.search(searchRequest, onSearchResponse(request, categoryFields, forecaster, useScript, listener));
+    }
+
     private ActionListener<SearchResponse> onSearchResponse(
         SearchTopForecastResultRequest request,
         List<String> categoryFields,
         Forecaster forecaster,
+        boolean useScript,
         ActionListener<SearchTopForecastResultResponse> listener
     ) {
         return ActionListener.wrap(response -> {
@@ -253,7 +269,7 @@ public class SearchTopForecastResultTransportAction extends
 
             for (int i = 0; i < buckets.size(); i++) {
                 MultiBucketsAggregation.Bucket bucket = buckets.get(i);
-                createForecastResultBucket(bucket, i, request, categoryFields, forecaster, groupListeneer);
+                createForecastResultBucket(bucket, i, request, categoryFields, forecaster, useScript, groupListeneer);
             }
         }, e -> listener.onFailure(e));
     }
@@ -264,6 +280,7 @@ public class SearchTopForecastResultTransportAction extends
         SearchTopForecastResultRequest request,
         List<String> categoryFields,
         Forecaster forecaster,
+        boolean useScript,
         ActionListener<ForecastResultBucket> listener
     ) {
         Map<String, Double> aggregationsMap = new HashMap<>();
@@ -289,6 +306,7 @@ public class SearchTopForecastResultTransportAction extends
                 request,
                 categoryFields,
                 forecaster,
+                useScript,
                 listener
             );
         } else {
@@ -307,6 +325,7 @@ public class SearchTopForecastResultTransportAction extends
         SearchTopForecastResultRequest request,
         List<String> categoryFields,
         Forecaster forecaster,
+        boolean useScript,
         ActionListener<ForecastResultBucket> listener
     ) {
         List<String> splitBy = request.getSplitBy();
@@ -316,7 +335,8 @@ public class SearchTopForecastResultTransportAction extends
             // use all categorical fields in splitBy. Convert entity id to concrete attributes.
             findMatchingCategoricalFieldValuePair(keyInSearchResponse, docCount, aggregations, bucketIndex, forecaster, listener);
         } else {
-            keys.put(splitBy.get(0), keyInSearchResponse);
+            // keys of keyword buckets are prefixed with the category field
+            keys.put(splitBy.get(0), useScript ? keyInSearchResponse : keyInSearchResponse.substring(splitBy.get(0).length() + 1));
             listener.onResponse(new ForecastResultBucket(keys, docCount, aggregations, bucketIndex));
         }
     }
@@ -391,9 +411,51 @@ public class SearchTopForecastResultTransportAction extends
      * @param request the request containing the all of the user-specified
      *                parameters needed to generate the request
      * @param forecaster Forecaster config
+     * @param useScript whether to split results by a category field with a script
      * @return the SearchRequest to pass to the SearchHandler
      */
-    private SearchRequest generateQuery(SearchTopForecastResultRequest request, Forecaster forecaster) {
+    private SearchRequest generateQuery(SearchTopForecastResultRequest request, Forecaster forecaster, boolean useScript) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(generateFilterQuery(request, forecaster))
+            .trackTotalHits(false)
+            .size(0);
+
+        AggregationBuilder termsAgg = generateTermsAggregation(request, forecaster, useScript);
+        if (termsAgg != null) {
+            searchSourceBuilder = searchSourceBuilder.aggregation(termsAgg);
+        }
+        return toResultSearchRequest(searchSourceBuilder, forecaster);
+    }
+
+    /**
+     * Generates a request finding any matching result without category field values as keywords,
+     * i.e., a result written before they were indexed.
+     *
+     * @param request top forecast result request
+     * @param forecaster Forecaster config
+     * @return the SearchRequest to pass to the SearchHandler
+     */
+    private SearchRequest generateLegacyResultQuery(SearchTopForecastResultRequest request, Forecaster forecaster) {
+        BoolQueryBuilder query = generateFilterQuery(request, forecaster)
+            .mustNot(QueryBuilders.existsQuery(ForecastResult.ENTITY_ATTRIBUTES_FIELD));
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(query)
+            .trackTotalHits(false)
+            .fetchSource(false)
+            .size(1);
+        return toResultSearchRequest(searchSourceBuilder, forecaster);
+    }
+
+    private SearchRequest toResultSearchRequest(SearchSourceBuilder searchSourceBuilder, Forecaster forecaster) {
+        SearchRequest searchRequest = new SearchRequest().indices(defaultIndex).source(searchSourceBuilder);
+        // Adding search over any custom result indices
+        if (!Strings.isNullOrEmpty(forecaster.getCustomResultIndexPattern())) {
+            searchRequest.indices(forecaster.getCustomResultIndexPattern());
+        }
+        return searchRequest;
+    }
+
+    private BoolQueryBuilder generateFilterQuery(SearchTopForecastResultRequest request, Forecaster forecaster) {
         BoolQueryBuilder boolQueryBuilder = new BoolQueryBuilder();
         QueryBuilder rangeQuery = generateDateFilter(request, forecaster);
         boolQueryBuilder = boolQueryBuilder.filter(rangeQuery);
@@ -418,15 +480,7 @@ public class SearchTopForecastResultTransportAction extends
                 throw new IllegalArgumentException(String.format(Locale.ROOT, "Unexpected filter by %s", request.getFilterBy()));
         }
 
-        boolQueryBuilder = generateTaskIdFilter(request, boolQueryBuilder);
-
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(boolQueryBuilder).trackTotalHits(false).size(0);
-
-        AggregationBuilder termsAgg = generateTermsAggregation(request, forecaster);
-        if (termsAgg != null) {
-            searchSourceBuilder = searchSourceBuilder.aggregation(termsAgg);
-        }
-        return new SearchRequest().indices(defaultIndex).source(searchSourceBuilder);
+        return generateTaskIdFilter(request, boolQueryBuilder);
     }
 
     private QueryBuilder generateBuildInSubFilter(SearchTopForecastResultRequest request, Forecaster forecaster) {
@@ -499,9 +553,15 @@ public class SearchTopForecastResultTransportAction extends
      *
      * @param request the request containing the necessary fields to generate the
      *                aggregation
+     * @param forecaster Forecaster config
+     * @param useScript whether to split results by a category field with a script
      * @return the generated aggregation as an AggregationBuilder
      */
-    private TermsAggregationBuilder generateTermsAggregation(SearchTopForecastResultRequest request, Forecaster forecaster) {
+    private TermsAggregationBuilder generateTermsAggregation(
+        SearchTopForecastResultRequest request,
+        Forecaster forecaster,
+        boolean useScript
+    ) {
         // TODO: use multi_terms or composite when multiple categorical fields are required.
         // Right now, since we only support two categorical fields, we either use terms
         // aggregation for one categorical field or terms aggregation on entity_id for
@@ -511,7 +571,14 @@ public class SearchTopForecastResultTransportAction extends
         if (request.getSplitBy().size() == forecaster.getCategoryFields().size()) {
             termsAgg = termsAgg.field(CommonName.ENTITY_ID_FIELD);
         } else if (request.getSplitBy().size() == 1) {
-            termsAgg = termsAgg.script(QueryUtil.getScriptForCategoryField(request.getSplitBy().get(0)));
+            String categoryField = request.getSplitBy().get(0);
+            if (useScript) {
+                termsAgg = termsAgg.script(QueryUtil.getScriptForCategoryField(categoryField));
+            } else {
+                termsAgg = termsAgg
+                    .field(ForecastResult.ENTITY_ATTRIBUTES_FIELD)
+                    .includeExclude(new IncludeExclude(getEntityAttributeRegex(categoryField), null));
+            }
         }
 
         List<BucketOrder> orders = new ArrayList<>();
@@ -553,6 +620,29 @@ public class SearchTopForecastResultTransportAction extends
         return termsAgg;
     }
 
+    private static boolean splitByCategoryField(SearchTopForecastResultRequest request, Forecaster forecaster) {
+        return request.getSplitBy().size() != forecaster.getCategoryFields().size() && request.getSplitBy().size() == 1;
+    }
+
+    /**
+     * Regular expression matching entity attribute keywords of a category field. Every character
+     * other than letters and digits is escaped as category fields may contain regex operators.
+     *
+     * @param categoryField category field
+     * @return regular expression in Lucene syntax
+     */
+    static String getEntityAttributeRegex(String categoryField) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < categoryField.length(); i++) {
+            char c = categoryField.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+        return regex.append('\\').append(ForecastResult.ENTITY_ATTRIBUTE_SEPARATOR).append(".*").toString();
+    }
+
     private Pair<AggregationBuilder, BucketOrder> generateBuildInSubAggregation(SearchTopForecastResultRequest request) {
         String aggregationName = null;
         AggregationBuilder aggregation = null;
@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.core.xcontent.XContentParserUtils;
+import org.opensearch.forecast.model.Forecaster;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.timeseries.model.Config;
+import org.opensearch.timeseries.util.RestHandlerUtils;
+
+/**
+ * Node-wide cache of parsed configs.
+ *
+ * An entry remembers the seq_no and primary term of the config document it was parsed from.
+ * A fetched document with the same seq_no and primary term reuses the parsed config instead of
+ * parsing the source again. Config updates broadcast an invalidation to all nodes, so the
+ * real-time path can serve configs from the cache without reading the config index every
+ * interval. The broadcast is best effort: an entry not validated against the config index for
+ * the revalidate interval is not served, so the next read fetches the document and either
+ * confirms the cached version or parses the new one. Entries not accessed for the state TTL
+ * are dropped in maintenance.
+ *
+ * A read that started before an invalidation may return the old document. Callers pass the
+ * {@link #generation()} observed before the read to {@link #parse}, which does not cache
+ * documents read across an invalidation.
+ */
+public class ConfigCache implements MaintenanceState {
+    public static final String SIZE = "size";
+    public static final String HIT_COUNT = "hit_count";
+    public static final String MISS_COUNT = "miss_count";
+
+    private final Map<String, Entry> configs;
+    private final NamedXContentRegistry xContentRegistry;
+    private final Clock clock;
+    private final Duration stateTtl;
+    private final Duration revalidateInterval;
+    // incremented by every invalidation
+    private final AtomicLong generation;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    class Entry implements ExpiringState {
+        private final Config config;
+        private final long seqNo;
+        private final long primaryTerm;
+        private volatile Instant lastAccessTime;
+        // last time the entry was confirmed to match the config document
+        private volatile Instant validatedTime;
+
+        Entry(Config config, long seqNo, long primaryTerm) {
+            this.config = config;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.lastAccessTime = clock.instant();
+            this.validatedTime = lastAccessTime;
+        }
+
+        Config validate() {
+            validatedTime = clock.instant();
+            return access();
+        }
+
+        boolean needsValidation() {
+            return expired(validatedTime, revalidateInterval, clock.instant());
+        }
+
+        Config access() {
+            lastAccessTime = clock.instant();
+            return config;
+        }
+
+        boolean isVersionOf(GetResponse response) {
+            // documents without a sequence number cannot be compared
+            return seqNo != SequenceNumbers.UNASSIGNED_SEQ_NO && seqNo == response.getSeqNo() && primaryTerm == response.getPrimaryTerm();
+        }
+
+        @Override
+        public boolean expired(Duration stateTtl) {
+            return expired(lastAccessTime, stateTtl, clock.instant());
+        }
+    }
+
+    public ConfigCache(NamedXContentRegistry xContentRegistry, Clock clock, Duration stateTtl, Duration revalidateInterval) {
+        this.configs = new ConcurrentHashMap<>();
+        this.xContentRegistry = xContentRegistry;
+        this.clock = clock;
+        this.stateTtl = stateTtl;
+        this.revalidateInterval = revalidateInterval;
+        this.generation = new AtomicLong();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Get a cached config. No request is issued. Only a served config counts as a hit: otherwise
+     * the caller reads the document and {@link #parse} records whether the cache could be reused.
+     *
+     * @param configId config id
+     * @return the cached config or empty if it is not cached or due for validation
+     */
+    public Optional<Config> get(String configId) {
+        Entry entry = configs.get(configId);
+        // keep the entry due for validation so that parse can reuse it if the document did not change
+        if (entry == null || entry.needsValidation()) {
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.access());
+    }
+
+    /**
+     * Get the config of a fetched config document. The source is only parsed if the cache does
+     * not hold the same version of the document already, which counts as a hit; parsing counts
+     * as a miss.
+     *
+     * @param response get response of an existing config document
+     * @param analysisType analysis type
+     * @param readGeneration {@link #generation()} observed before the document was read
+     * @return the parsed config
+     * @throws IOException when the source cannot be parsed
+     */
+    public Config parse(GetResponse response, AnalysisType analysisType, long readGeneration) throws IOException {
+        String configId = response.getId();
+        Entry entry = configs.get(configId);
+        if (entry != null && entry.isVersionOf(response)) {
+            hits.increment();
+            return entry.validate();
+        }
+        misses.increment();
+        // parse straight from the source bytes instead of converting them to a string first
+        try (
+            XContentParser parser = RestHandlerUtils.createXContentParserFromRegistry(xContentRegistry, response.getSourceAsBytesRef())
+        ) {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            Config config;
+            if (analysisType.isAD()) {
+                config = AnomalyDetector.parse(parser, configId, response.getVersion());
+            } else if (analysisType.isForecast()) {
+                config = Forecaster.parse(parser, configId, response.getVersion());
+            } else {
+                throw new UnsupportedOperationException("This method is not supported");
+            }
+            Entry parsed = new Entry(config, response.getSeqNo(), response.getPrimaryTerm());
+            configs.put(configId, parsed);
+            if (generation.get() != readGeneration) {
+                // the document may predate an invalidation that happened during the read
+                configs.remove(configId, parsed);
+            }
+            return config;
+        }
+    }
+
+    public void invalidate(String configId) {
+        generation.incrementAndGet();
+        configs.remove(configId);
+    }
+
+    /**
+     * @return the current generation, to be passed to {@link #parse} after reading a config document
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void maintenance() {
+        maintenance(configs, stateTtl);
+    }
+
+    /**
+     * @return number of cached configs, hit count, and miss count
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(SIZE, configs.size());
+        stats.put(HIT_COUNT, hits.sum());
+        stats.put(MISS_COUNT, misses.sum());
+        return stats;
+    }
+}
@@ -27,6 +27,7 @@ import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.routing.Preference;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
@@ -55,6 +56,7 @@ import org.opensearch.timeseries.transport.EntityProfileRequest;
 import org.opensearch.timeseries.transport.EntityProfileResponse;
 import org.opensearch.timeseries.util.MultiResponsesDelegateActionListener;
 import org.opensearch.timeseries.util.ParseUtils;
+import org.opensearch.timeseries.util.ResultRouting;
 import org.opensearch.timeseries.util.SecurityClientUtil;
 import org.opensearch.transport.client.Client;
 
@@ -73,10 +75,12 @@ public class EntityProfileRunner<EntityProfileActionType extends ActionType<Enti
     private EntityProfileActionType entityProfileAction;
     private String resultIndexAlias;
     private String configIdField;
+    private ClusterService clusterService;
 
     public EntityProfileRunner(
         Client client,
         SecurityClientUtil clientUtil,
+        ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
         long requiredSamples,
         BiCheckedFunction<XContentParser, String, ? extends Config, IOException> configParser,
@@ -89,6 +93,7 @@ public class EntityProfileRunner<EntityProfileActionType extends ActionType<Enti
         super(requiredSamples);
         this.client = client;
         this.clientUtil = clientUtil;
+        this.clusterService = clusterService;
         this.xContentRegistry = xContentRegistry;
         this.configParser = configParser;
         this.maxCategoryFields = maxCategoryFields;
@@ -452,6 +457,9 @@ public class EntityProfileRunner<EntityProfileActionType extends ActionType<Enti
         if (resultIndex != null) {
             request.indices(resultIndex);
         }
+        // results of the entity are in a single routing bucket of each result index
+        String entityId = entity.getModelId(configId).orElse(null);
+        request.routing(ResultRouting.getSearchRouting(clusterService.state().metadata(), request.indices(), configId, entityId));
         return request;
     }
 }
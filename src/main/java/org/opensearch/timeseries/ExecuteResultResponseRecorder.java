@@ -320,6 +320,7 @@ public abstract class ExecuteResultResponseRecorder<IndexType extends Enum<Index
                         jobOptional.get().getEnabledTime().toEpochMilli(),
                         client,
                         analysisType,
+                        indexManagement,
                         ActionListener.wrap(searchResponse -> {
                             ActionListener.completeWith(listener, () -> {
                                 SearchHits hits = searchResponse.getHits();
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+/**
+ * Spreads real-time job runs over their interval.
+ *
+ * The job scheduler fires jobs created or enabled together at the same moment, so thousands of
+ * configs can query source indices and write results within the same few seconds. Each job gets
+ * a phase offset derived from its config id. The offset is the same on every node, so a job keeps
+ * its phase when it moves to another node, and config ids hash uniformly across the cluster.
+ *
+ * The class also counts job starts per second so that the flattening can be verified in stats.
+ */
+public class JobExecutionSpreader {
+    public static final String MAX_SPREAD_MILLIS = "max_spread_millis";
+    public static final String MAX_STARTS_PER_SECOND = "max_starts_per_second";
+    public static final String STARTS_PER_SECOND = "starts_per_second";
+
+    // never delay a run by more than this fraction of the job interval so it finishes before the next one
+    private static final double MAX_INTERVAL_FRACTION = 0.5;
+
+    private final Clock clock;
+    private volatile long maxSpreadMillis;
+    // ring of per-second job start counts; slot i holds the count of second startSeconds[i]
+    private final long[] startSeconds;
+    private final long[] startCounts;
+
+    public JobExecutionSpreader(Clock clock) {
+        this.clock = clock;
+        this.maxSpreadMillis = 0;
+        this.startSeconds = new long[TimeSeriesSettings.JOB_START_STATS_WINDOW_SECONDS];
+        this.startCounts = new long[TimeSeriesSettings.JOB_START_STATS_WINDOW_SECONDS];
+    }
+
+    public void setMaxSpread(TimeValue maxSpread) {
+        this.maxSpreadMillis = maxSpread.getMillis();
+    }
+
+    /**
+     * Stable delay of a job run.
+     *
+     * @param configId config Id
+     * @param intervalMillis job interval in milliseconds
+     * @return delay in milliseconds in [0, min(max spread, half of the interval))
+     */
+    public long getPhaseOffsetMillis(String configId, long intervalMillis) {
+        long budget = Math.min(maxSpreadMillis, (long) (intervalMillis * MAX_INTERVAL_FRACTION));
+        if (budget <= 0 || configId == null) {
+            return 0;
+        }
+        byte[] bytes = configId.getBytes(StandardCharsets.UTF_8);
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+        return Math.floorMod(hash.h1, budget);
+    }
+
+    /**
+     * Record that a job run starts now.
+     */
+    public synchronized void recordJobStart() {
+        long second = clock.millis() / 1000;
+        int slot = (int) Math.floorMod(second, (long) startSeconds.length);
+        if (startSeconds[slot] != second) {
+            startSeconds[slot] = second;
+            startCounts[slot] = 0;
+        }
+        startCounts[slot]++;
+    }
+
+    /**
+     * @return the configured spread, the largest number of job starts within one second, and
+     *  job start counts keyed by epoch second over the recent window
+     */
+    public synchronized Map<String, Object> getJobStartStats() {
+        long now = clock.millis() / 1000;
+        Map<String, Long> perSecond = new TreeMap<>();
+        long max = 0;
+        for (int i = 0; i < startSeconds.length; i++) {
+            if (startCounts[i] > 0 && now - startSeconds[i] < startSeconds.length) {
+                perSecond.put(String.valueOf(startSeconds[i]), startCounts[i]);
+                max = Math.max(max, startCounts[i]);
+            }
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(MAX_SPREAD_MILLIS, maxSpreadMillis);
+        stats.put(MAX_STARTS_PER_SECOND, max);
+        stats.put(STARTS_PER_SECOND, perSecond);
+        return stats;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.jobscheduler.spi.JobExecutionContext;
+import org.opensearch.jobscheduler.spi.LockModel;
+import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Keeps job scheduler locks as long-lived leases.
+ *
+ * Without leases, every run acquires the job lock and releases it afterwards, which is at
+ * least two writes to the lock index per job per interval. With leases, a node keeps the lock
+ * of a job it runs across many intervals. One periodic sweep renews the leases that are about
+ * to expire, so each lease costs one write per half lease duration no matter how short the job
+ * interval is.
+ *
+ * A lease is given up when a run fails, when the job stops, on node shutdown, and when the job
+ * has not run on this node for {@link #MAX_IDLE_INTERVALS} intervals (it was stopped, or the job
+ * scheduler moved it to another node). Until then, another node cannot take the job over, so the
+ * lease duration bounds how long a job can stall after a node crash.
+ *
+ * A lease only covers one run of its job at a time. A run that starts while the previous run of
+ * the same job is still in flight does not get the lock, as it would not have gotten the per-run
+ * lock either. A run that never reports completion stops blocking the next ones after the lock
+ * duration configured on the job.
+ */
+public class JobLeaseManager {
+    private static final Logger LOG = LogManager.getLogger(JobLeaseManager.class);
+
+    static final int MAX_IDLE_INTERVALS = 3;
+
+    private final AnalysisType analysisType;
+    private final Clock clock;
+    private final Map<String, Lease> leases;
+    private final AtomicBoolean renewalScheduled;
+    private volatile long leaseDurationSeconds;
+    private ThreadPool threadPool;
+    private String threadPoolName;
+
+    static class Lease {
+        private final LockService lockService;
+        private final long intervalMillis;
+        private volatile LockModel lock;
+        private volatile long lastRunMillis;
+        // start time of the run holding the lease, or -1 if no run is in flight
+        private final AtomicLong runStartMillis;
+
+        Lease(LockService lockService, LockModel lock, long intervalMillis, long lastRunMillis) {
+            this.lockService = lockService;
+            this.lock = lock;
+            this.intervalMillis = intervalMillis;
+            this.lastRunMillis = lastRunMillis;
+            this.runStartMillis = new AtomicLong(lastRunMillis);
+        }
+
+        boolean tryStartRun(long now, long runTimeoutMillis) {
+            long start = runStartMillis.get();
+            if (start >= 0 && now - start < runTimeoutMillis) {
+                return false;
+            }
+            return runStartMillis.compareAndSet(start, now);
+        }
+    }
+
+    public JobLeaseManager(AnalysisType analysisType, Clock clock) {
+        this.analysisType = analysisType;
+        this.clock = clock;
+        this.leases = new ConcurrentHashMap<>();
+        this.renewalScheduled = new AtomicBoolean(false);
+        this.leaseDurationSeconds = 0;
+    }
+
+    public void setThreadPool(ThreadPool threadPool, String threadPoolName) {
+        this.threadPool = threadPool;
+        this.threadPoolName = threadPoolName;
+    }
+
+    public void setLeaseDuration(TimeValue leaseDuration) {
+        this.leaseDurationSeconds = leaseDuration.getSeconds();
+    }
+
+    public boolean isEnabled() {
+        return leaseDurationSeconds > 0;
+    }
+
+    /**
+     * Get the lock of a job run. Reuses the job's lease if it outlives the run, renews it if it
+     * is about to expire, and acquires a new lease otherwise. Refuses the lock while another run
+     * of the job holds the lease.
+     *
+     * @param configId config Id
+     * @param jobLockDurationSeconds lock duration configured on the job
+     * @param intervalMillis job interval in milliseconds
+     * @param context job execution context
+     * @param lockService lock service
+     * @param listener onResponse is called with the lock, or null if another node or run holds it
+     */
+    public void acquire(
+        String configId,
+        long jobLockDurationSeconds,
+        long intervalMillis,
+        JobExecutionContext context,
+        LockService lockService,
+        ActionListener<LockModel> listener
+    ) {
+        long now = clock.millis();
+        Lease lease = leases.get(configId);
+        if (lease != null) {
+            lease.lastRunMillis = now;
+            if (!lease.tryStartRun(now, jobLockDurationSeconds * 1000)) {
+                LOG.info("Previous run of {} job {} is still in flight", analysisType, configId);
+                listener.onResponse(null);
+                return;
+            }
+            if (remainingMillis(lease.lock, now) >= intervalMillis) {
+                listener.onResponse(lease.lock);
+                return;
+            }
+            renew(configId, lease, listener);
+            return;
+        }
+
+        long durationSeconds = Math.max(leaseDurationSeconds, jobLockDurationSeconds);
+        lockService.acquireLockWithId(context.getJobIndexName(), durationSeconds, context.getJobId(), ActionListener.wrap(lock -> {
+            if (lock != null) {
+                leases.put(configId, new Lease(lockService, lock, intervalMillis, clock.millis()));
+                scheduleRenewal();
+            }
+            listener.onResponse(lock);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Mark the run holding the lease of a job as done so that the next run can take the lease.
+     *
+     * @param configId config Id
+     */
+    public void finishRun(String configId) {
+        Lease lease = leases.get(configId);
+        if (lease != null) {
+            lease.runStartMillis.set(-1);
+        }
+    }
+
+    /**
+     * Give up the lease of a job.
+     *
+     * @param configId config Id
+     * @param lockService lock service
+     * @param lock lock used by the run. Only released if the job has no lease anymore.
+     * @param listener onResponse is called with whether the lock was released
+     */
+    public void release(String configId, LockService lockService, LockModel lock, ActionListener<Boolean> listener) {
+        Lease lease = leases.remove(configId);
+        // the lease holds the latest version of the lock after renewals
+        LockModel toRelease = lease != null ? lease.lock : lock;
+        if (toRelease == null) {
+            listener.onResponse(false);
+            return;
+        }
+        lockService.release(toRelease, listener);
+    }
+
+    /**
+     * Release all leases, e.g., when the node shuts down.
+     */
+    public void releaseAll() {
+        for (String configId : leases.keySet()) {
+            releaseLease(configId);
+        }
+    }
+
+    /**
+     * Renew the leases that expire within half of the lease duration and release idle leases.
+     */
+    void renewLeases() {
+        long now = clock.millis();
+        long renewBeforeMillis = leaseDurationSeconds * 1000 / 2;
+        for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+            String configId = entry.getKey();
+            Lease lease = entry.getValue();
+            if (!isEnabled() || now - lease.lastRunMillis > MAX_IDLE_INTERVALS * lease.intervalMillis) {
+                releaseLease(configId);
+            } else if (remainingMillis(lease.lock, now) < renewBeforeMillis) {
+                renew(configId, lease, ActionListener.wrap(lock -> {}, e -> {}));
+            }
+        }
+    }
+
+    int getLeaseCount() {
+        return leases.size();
+    }
+
+    private void renew(String configId, Lease lease, ActionListener<LockModel> listener) {
+        lease.lockService.renewLock(lease.lock, ActionListener.wrap(renewed -> {
+            if (renewed == null) {
+                leases.remove(configId, lease);
+            } else {
+                lease.lock = renewed;
+            }
+            listener.onResponse(renewed);
+        }, e -> {
+            // the lock may have been taken over; acquire a fresh one in the next run
+            leases.remove(configId, lease);
+            LOG.warn(new ParameterizedMessage("Failed to renew lease of [{}] job [{}]", analysisType, configId), e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void releaseLease(String configId) {
+        Lease lease = leases.remove(configId);
+        if (lease == null) {
+            return;
+        }
+        lease.lockService
+            .release(
+                lease.lock,
+                ActionListener
+                    .wrap(
+                        released -> LOG.info("Released lease for {} job {}", analysisType, configId),
+                        e -> LOG.warn(new ParameterizedMessage("Failed to release lease of [{}] job [{}]", analysisType, configId), e)
+                    )
+            );
+    }
+
+    private void scheduleRenewal() {
+        if (threadPool == null || !renewalScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        // sweep often enough that a lease is renewed well before it expires
+        long sweepSeconds = Math.max(1, leaseDurationSeconds / 4);
+        threadPool.scheduleWithFixedDelay(this::renewLeases, TimeValue.timeValueSeconds(sweepSeconds), threadPoolName);
+    }
+
+    private long remainingMillis(LockModel lock, long now) {
+        if (lock.isReleased()) {
+            return 0;
+        }
+        return lock.getLockTime().toEpochMilli() + lock.getLockDurationSeconds() * 1000 - now;
+    }
+}
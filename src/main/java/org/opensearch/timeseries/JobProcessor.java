@@ -11,6 +11,8 @@
 
 package org.opensearch.timeseries;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,6 +24,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.action.ActionType;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.InjectSecurity;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -43,6 +46,7 @@ import org.opensearch.timeseries.model.TaskState;
 import org.opensearch.timeseries.model.TaskType;
 import org.opensearch.timeseries.model.TimeSeriesTask;
 import org.opensearch.timeseries.rest.handler.IndexJobActionHandler;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
 import org.opensearch.timeseries.transport.JobResponse;
@@ -74,6 +78,9 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
     private String threadPoolName;
     private ActionType<? extends ResultResponse<IndexableResultType>> resultAction;
     private IndexJobActionHandlerType indexJobActionHandler;
+    private Clock clock;
+    private JobExecutionSpreader executionSpreader;
+    private JobLeaseManager leaseManager;
 
     protected JobProcessor(
         AnalysisType analysisType,
@@ -87,17 +94,40 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
         this.resultAction = resultAction;
     }
 
+    /**
+     * Set the plugin clock. Must be called before the other setters since the execution spreader
+     * and the lease manager are created with it.
+     *
+     * @param clock plugin clock
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        this.executionSpreader = new JobExecutionSpreader(clock);
+        this.leaseManager = new JobLeaseManager(analysisType, clock);
+    }
+
     public void setClient(Client client) {
         this.client = client;
     }
 
     public void setThreadPool(ThreadPool threadPool) {
         this.threadPool = threadPool;
+        this.leaseManager.setThreadPool(threadPool, threadPoolName);
     }
 
     protected void registerSettings(Settings settings, Setting<Integer> maxRetryForEndRunExceptionSetting) {
         this.settings = settings;
         this.maxRetryForEndRunException = maxRetryForEndRunExceptionSetting.get(settings);
+        this.executionSpreader.setMaxSpread(TimeSeriesSettings.JOB_EXECUTION_MAX_SPREAD.get(settings));
+        this.leaseManager.setLeaseDuration(TimeSeriesSettings.JOB_LOCK_LEASE_DURATION.get(settings));
+    }
+
+    public JobExecutionSpreader getExecutionSpreader() {
+        return executionSpreader;
+    }
+
+    public JobLeaseManager getLeaseManager() {
+        return leaseManager;
     }
 
     public void setTaskManager(TaskManagerType adTaskManager) {
@@ -127,13 +157,15 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
 
         taskManager.refreshRealtimeJobRunTime(configId);
 
-        Instant executionEndTime = Instant.now();
+        Instant executionEndTime = clock.instant();
         IntervalSchedule schedule = (IntervalSchedule) jobParameter.getSchedule();
         Instant executionStartTime = executionEndTime.minus(schedule.getInterval(), schedule.getUnit());
+        long intervalMillis = Duration.of(schedule.getInterval(), schedule.getUnit()).toMillis();
 
         final LockService lockService = context.getLockService();
 
         Runnable runnable = () -> {
+            executionSpreader.recordJobStart();
             try {
                 nodeStateManager.getConfig(configId, analysisType, ActionListener.wrap(configOptional -> {
                     if (!configOptional.isPresent()) {
@@ -143,37 +175,30 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
                     Config config = configOptional.get();
 
                     if (jobParameter.getLockDurationSeconds() != null) {
-                        lockService
-                            .acquireLock(
-                                jobParameter,
-                                context,
-                                ActionListener
-                                    .wrap(
-                                        lock -> runJob(
+                        acquireLock(
+                            jobParameter,
+                            context,
+                            lockService,
+                            intervalMillis,
+                            ActionListener
+                                .wrap(
+                                    lock -> runJob(jobParameter, lockService, lock, executionStartTime, executionEndTime, recorder, config),
+                                    exception -> {
+                                        indexResultException(
                                             jobParameter,
                                             lockService,
-                                            lock,
+                                            null,
                                             executionStartTime,
                                             executionEndTime,
+                                            exception,
+                                            false,
                                             recorder,
                                             config
-                                        ),
-                                        exception -> {
-                                            indexResultException(
-                                                jobParameter,
-                                                lockService,
-                                                null,
-                                                executionStartTime,
-                                                executionEndTime,
-                                                exception,
-                                                false,
-                                                recorder,
-                                                config
-                                            );
-                                            throw new IllegalStateException("Failed to acquire lock for job: " + configId);
-                                        }
-                                    )
-                            );
+                                        );
+                                        throw new IllegalStateException("Failed to acquire lock for job: " + configId);
+                                    }
+                                )
+                        );
                     } else {
                         log.warn("Can't get lock for job: " + configId);
                     }
@@ -187,8 +212,29 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
             }
         };
 
-        ExecutorService executor = threadPool.executor(threadPoolName);
-        executor.submit(runnable);
+        // The analysis window stays the one of the fire time; a delayed run only gives late data more time to arrive.
+        long phaseOffsetMillis = executionSpreader.getPhaseOffsetMillis(configId, intervalMillis);
+        if (phaseOffsetMillis > 0) {
+            threadPool.schedule(runnable, TimeValue.timeValueMillis(phaseOffsetMillis), threadPoolName);
+        } else {
+            ExecutorService executor = threadPool.executor(threadPoolName);
+            executor.submit(runnable);
+        }
+    }
+
+    private void acquireLock(
+        Job jobParameter,
+        JobExecutionContext context,
+        LockService lockService,
+        long intervalMillis,
+        ActionListener<LockModel> listener
+    ) {
+        if (leaseManager.isEnabled()) {
+            leaseManager
+                .acquire(jobParameter.getName(), jobParameter.getLockDurationSeconds(), intervalMillis, context, lockService, listener);
+        } else {
+            lockService.acquireLock(jobParameter, context, listener);
+        }
     }
 
     /**
@@ -482,7 +528,12 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
         } catch (Exception e) {
             log.error("Failed to index anomaly result for " + detectorId, e);
         } finally {
-            releaseLock(jobParameter, lockService, lock);
+            // a lease is kept across successful runs
+            if (!leaseManager.isEnabled()) {
+                releaseLock(jobParameter, lockService, lock);
+            } else {
+                leaseManager.finishRun(jobParameter.getName());
+            }
         }
 
     }
@@ -565,18 +616,19 @@ public abstract class JobProcessor<IndexType extends Enum<IndexType> & TimeSerie
     }
 
     private void releaseLock(Job jobParameter, LockService lockService, LockModel lock) {
-        lockService
-            .release(
-                lock,
-                ActionListener
-                    .wrap(released -> { log.info("Released lock for {} job {}", analysisType, jobParameter.getName()); }, exception -> {
-                        log
-                            .error(
-                                new ParameterizedMessage("Failed to release lock for [{}] job [{}]", analysisType, jobParameter.getName()),
-                                exception
-                            );
-                    })
-            );
+        ActionListener<Boolean> listener = ActionListener
+            .wrap(released -> { log.info("Released lock for {} job {}", analysisType, jobParameter.getName()); }, exception -> {
+                log
+                    .error(
+                        new ParameterizedMessage("Failed to release lock for [{}] job [{}]", analysisType, jobParameter.getName()),
+                        exception
+                    );
+            });
+        if (leaseManager.isEnabled()) {
+            leaseManager.release(jobParameter.getName(), lockService, lock, listener);
+        } else {
+            lockService.release(lock, listener);
+        }
     }
 
     public Integer getEndRunExceptionCount(String configId) {
@@ -14,8 +14,10 @@ package org.opensearch.timeseries;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MODEL_MAX_SIZE_PERCENTAGE;
 
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +37,7 @@ import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
  * - Monitor reserved memory bytes.
  * - Decide if memory can be allocated based on the current usage and the heap limit.
  * - Estimate the memory size for a ThresholdedRandomCutForest model based on various parameters.
+ * - Correct those estimates per config with the measured size of sampled hosted models.
  *
  */
 public class MemoryTracker {
@@ -46,6 +49,35 @@ public class MemoryTracker {
         REAL_TIME_FORECASTER
     }
 
+    // stats field names of model size calibration
+    public static final String ESTIMATED_BYTES = "estimated_bytes";
+    public static final String MEASURED_BYTES = "measured_bytes";
+    public static final String CORRECTION_FACTOR = "correction_factor";
+    public static final String SAMPLES = "samples";
+
+    // weight of the latest sample in the correction factor
+    static final double CALIBRATION_SAMPLE_WEIGHT = 0.5;
+    // bounds of the correction factor so that one odd sample cannot starve or flood the heap
+    static final double MIN_CORRECTION_FACTOR = 0.2;
+    static final double MAX_CORRECTION_FACTOR = 5.0;
+
+    /**
+     * Estimated vs. measured size of the latest sampled model of a config.
+     */
+    private static class ModelSizeCalibration {
+        private final long estimatedBytes;
+        private final long measuredBytes;
+        private final double correctionFactor;
+        private final long samples;
+
+        ModelSizeCalibration(long estimatedBytes, long measuredBytes, double correctionFactor, long samples) {
+            this.estimatedBytes = estimatedBytes;
+            this.measuredBytes = measuredBytes;
+            this.correctionFactor = correctionFactor;
+            this.samples = samples;
+        }
+    }
+
     // memory tracker for total consumption of bytes
     protected long totalMemoryBytes;
     protected final Map<Origin, Long> totalMemoryBytesByOrigin;
@@ -57,6 +89,8 @@ public class MemoryTracker {
     // we observe threshold model uses a fixed size array and the size is the same
     protected int thresholdModelBytes;
     protected CircuitBreakerService timeSeriesCircuitBreakerService;
+    // config id -> model size calibration
+    private final Map<String, ModelSizeCalibration> modelSizeCalibrations;
 
     /**
      * Constructor
@@ -86,6 +120,7 @@ public class MemoryTracker {
 
         this.thresholdModelBytes = 180_000;
         this.timeSeriesCircuitBreakerService = timeSeriesCircuitBreakerService;
+        this.modelSizeCalibrations = new ConcurrentHashMap<>();
     }
 
     /**
@@ -416,7 +451,8 @@ public class MemoryTracker {
      *
      * @param configId      The identifier for the configuration being checked. Used in error messages.
      * @param trcf          The ThresholdedRandomCutForest to estimate the size for.
-     * @return              True if the system can allocate the required bytes to host the trcf.
+     * @return              True if the system can allocate the required bytes to host the trcf. The estimate
+     *                      is corrected by the measured model sizes of the config, if any.
      * @throws LimitExceededException If the required memory for the trcf exceeds the available memory.
      *
      * <p>Usage example:
@@ -425,7 +461,7 @@ public class MemoryTracker {
      * }</pre>
      */
     public synchronized boolean isHostingAllowed(String configId, ThresholdedRandomCutForest trcf) {
-        long requiredBytes = estimateTRCFModelSize(trcf);
+        long requiredBytes = (long) (estimateTRCFModelSize(trcf) * getModelSizeCorrection(configId));
         if (canAllocateReserved(requiredBytes)) {
             return true;
         } else {
@@ -476,4 +512,66 @@ public class MemoryTracker {
             caster.getForecastHorizon()
         );
     }
+
+    /**
+     * Record the measured size of a sampled model of a config and update the correction factor
+     * applied to the analytic estimate of the config's models.
+     *
+     * @param configId config id
+     * @param estimatedBytes analytic estimate of the model size
+     * @param measuredBytes measured retained size of the model
+     * @return the updated correction factor
+     */
+    public double recordModelSize(String configId, long estimatedBytes, long measuredBytes) {
+        if (estimatedBytes <= 0 || measuredBytes <= 0) {
+            return getModelSizeCorrection(configId);
+        }
+        double ratio = Math.min(MAX_CORRECTION_FACTOR, Math.max(MIN_CORRECTION_FACTOR, (double) measuredBytes / estimatedBytes));
+        ModelSizeCalibration calibration = modelSizeCalibrations.compute(configId, (id, previous) -> {
+            if (previous == null) {
+                return new ModelSizeCalibration(estimatedBytes, measuredBytes, ratio, 1);
+            }
+            double factor = CALIBRATION_SAMPLE_WEIGHT * ratio + (1 - CALIBRATION_SAMPLE_WEIGHT) * previous.correctionFactor;
+            return new ModelSizeCalibration(estimatedBytes, measuredBytes, factor, previous.samples + 1);
+        });
+        LOG.debug("Model of {} is estimated at {} bytes and measured at {} bytes", configId, estimatedBytes, measuredBytes);
+        return calibration.correctionFactor;
+    }
+
+    /**
+     * @param configId config id
+     * @return the factor to multiply the analytic model size estimate of a config with; 1 if no
+     *  model of the config has been measured
+     */
+    public double getModelSizeCorrection(String configId) {
+        ModelSizeCalibration calibration = modelSizeCalibrations.get(configId);
+        return calibration == null ? 1 : calibration.correctionFactor;
+    }
+
+    /**
+     * Forget the measured model sizes of a config.
+     *
+     * @param configId config id
+     */
+    public void removeModelSizeCalibration(String configId) {
+        modelSizeCalibrations.remove(configId);
+    }
+
+    /**
+     * @return config id -> estimated and measured bytes of the latest sampled model, correction
+     *  factor and number of samples
+     */
+    public Map<String, Object> getModelSizeCalibrationStats() {
+        Map<String, Object> stats = new HashMap<>();
+        for (Map.Entry<String, ModelSizeCalibration> entry : modelSizeCalibrations.entrySet()) {
+            ModelSizeCalibration calibration = entry.getValue();
+            Map<String, Object> configStats = new HashMap<>();
+            configStats.put(ESTIMATED_BYTES, calibration.estimatedBytes);
+            configStats.put(MEASURED_BYTES, calibration.measuredBytes);
+            configStats.put(CORRECTION_FACTOR, calibration.correctionFactor);
+            configStats.put(SAMPLES, calibration.samples);
+            stats.put(entry.getKey(), configStats);
+        }
+        return stats;
+    }
 }
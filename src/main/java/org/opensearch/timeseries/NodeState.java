@@ -16,7 +16,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 
-import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Job;
 
 /**
@@ -25,8 +24,6 @@ import org.opensearch.timeseries.model.Job;
  */
 public class NodeState implements ExpiringState {
     private String configId;
-    // config definition
-    private Config configDef;
     // last access time
     private Instant lastAccessTime;
     // last error.
@@ -48,7 +45,6 @@ public class NodeState implements ExpiringState {
 
     public NodeState(String configId, Clock clock) {
         this.configId = configId;
-        this.configDef = null;
         this.lastAccessTime = clock.instant();
         this.exception = Optional.empty();
         this.clock = clock;
@@ -62,24 +58,6 @@ public class NodeState implements ExpiringState {
         return configId;
     }
 
-    /**
-     *
-     * @return Detector configuration object
-     */
-    public Config getConfigDef() {
-        refreshLastUpdateTime();
-        return configDef;
-    }
-
-    /**
-     *
-     * @param configDef Analysis configuration object
-     */
-    public void setConfigDef(Config configDef) {
-        this.configDef = configDef;
-        refreshLastUpdateTime();
-    }
-
     /**
      *
      * @return last exception if any
@@ -7,7 +7,6 @@ package org.opensearch.timeseries;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
-import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.HashMap;
@@ -25,7 +24,6 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.ad.constant.ADCommonName;
-import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Setting;
@@ -37,19 +35,16 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
-import org.opensearch.core.xcontent.XContentParserUtils;
-import org.opensearch.forecast.model.Forecaster;
 import org.opensearch.timeseries.common.exception.EndRunException;
 import org.opensearch.timeseries.constant.CommonMessages;
 import org.opensearch.timeseries.constant.CommonName;
-import org.opensearch.timeseries.function.BiCheckedFunction;
 import org.opensearch.timeseries.ml.SingleStreamModelIdMapper;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.Job;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.transport.BackPressureRouting;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.timeseries.util.ExceptionUtil;
-import org.opensearch.timeseries.util.RestHandlerUtils;
 import org.opensearch.transport.client.Client;
 
 public class NodeStateManager implements MaintenanceState, CleanState, ExceptionRecorder {
@@ -67,6 +62,10 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
     private Map<String, Map<String, BackPressureRouting>> backpressureMuter;
     private int maxRetryForUnresponsiveNode;
     private TimeValue mutePeriod;
+    // whether checkpoint documents are routed by config id
+    private final boolean checkpointRoutingByConfig;
+    // parsed configs shared by all callers on this node
+    private final ConfigCache configCache;
 
     /**
      * Constructor
@@ -99,6 +98,8 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
         this.clock = clock;
         this.stateTtl = stateTtl;
         this.backpressureMuter = new ConcurrentHashMap<>();
+        this.checkpointRoutingByConfig = TimeSeriesSettings.CHECKPOINT_ROUTING_BY_CONFIG.get(settings);
+        this.configCache = new ConfigCache(xContentRegistry, clock, stateTtl, TimeSeriesSettings.CONFIG_REVALIDATE_INTERVAL);
 
         this.maxRetryForUnresponsiveNode = maxRetryForUnresponsiveNodeSetting.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(maxRetryForUnresponsiveNodeSetting, it -> {
@@ -130,6 +131,7 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
     @Override
     public void maintenance() {
         maintenance(states, stateTtl);
+        configCache.maintenance();
     }
 
     /**
@@ -145,6 +147,20 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
             backpressureMuter.remove(configId);
         }
         states.remove(configId);
+        configCache.invalidate(configId);
+    }
+
+    /**
+     * Drop the cached config so that the next access reads the updated config.
+     *
+     * @param configId config ID
+     */
+    public void invalidateConfig(String configId) {
+        configCache.invalidate(configId);
+    }
+
+    public ConfigCache getConfigCache() {
+        return configCache;
     }
 
     public boolean isMuted(String nodeId, String configId) {
@@ -198,30 +214,24 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
         ActionListener<T> listener
     ) {
         GetRequest getRequest = new GetRequest(CommonName.CONFIG_INDEX, configId);
+        long readGeneration = configCache.generation();
         client.get(getRequest, ActionListener.wrap(response -> {
             if (!response.isExists()) {
+                configCache.invalidate(configId);
                 function.accept(Optional.empty());
                 return;
             }
-            try (
-                XContentParser parser = RestHandlerUtils.createXContentParserFromRegistry(xContentRegistry, response.getSourceAsBytesRef())
-            ) {
-                XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                Config config = null;
-                if (analysisType.isAD()) {
-                    config = AnomalyDetector.parse(parser, response.getId(), response.getVersion());
-                } else if (analysisType.isForecast()) {
-                    config = Forecaster.parse(parser, response.getId(), response.getVersion());
-                } else {
-                    throw new UnsupportedOperationException("This method is not supported");
-                }
-
-                function.accept(Optional.of(config));
+            Config config = null;
+            try {
+                // always read the document here, but only parse it if it changed since it was cached
+                config = configCache.parse(response, analysisType, readGeneration);
             } catch (Exception e) {
                 String message = "Failed to parse config " + configId;
                 LOG.error(message, e);
                 listener.onFailure(new OpenSearchStatusException(message, RestStatus.INTERNAL_SERVER_ERROR));
+                return;
             }
+            function.accept(Optional.of(config));
         }, exception -> {
             LOG.error("Failed to get config " + configId, exception);
             listener.onFailure(exception);
@@ -229,21 +239,35 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
     }
 
     public void getConfig(String configID, AnalysisType context, ActionListener<Optional<? extends Config>> listener) {
-        NodeState state = states.get(configID);
-        if (state != null && state.getConfigDef() != null) {
-            listener.onResponse(Optional.of(state.getConfigDef()));
+        Optional<Config> cachedConfig = configCache.get(configID);
+        if (cachedConfig.isPresent()) {
+            listener.onResponse(cachedConfig);
         } else {
             GetRequest request = new GetRequest(CommonName.CONFIG_INDEX, configID);
-            BiCheckedFunction<XContentParser, String, ? extends Config, IOException> configParser = context.isAD()
-                ? AnomalyDetector::parse
-                : Forecaster::parse;
-            clientUtil.<GetRequest, GetResponse>asyncRequest(request, client::get, onGetConfigResponse(configID, configParser, listener));
+            long readGeneration = configCache.generation();
+            clientUtil
+                .<GetRequest, GetResponse>asyncRequest(
+                    request,
+                    client::get,
+                    onGetConfigResponse(configID, context, readGeneration, listener)
+                );
         }
     }
 
+    /**
+     * Get a config that has already been fetched and cached on this node. No request is issued.
+     *
+     * @param configID config id
+     * @return the cached config or empty if it is not cached
+     */
+    public Optional<Config> getCachedConfig(String configID) {
+        return configCache.get(configID);
+    }
+
     private ActionListener<GetResponse> onGetConfigResponse(
         String configID,
-        BiCheckedFunction<XContentParser, String, ? extends Config, IOException> configParser,
+        AnalysisType analysisType,
+        long readGeneration,
         ActionListener<Optional<? extends Config>> listener
     ) {
         return ActionListener.wrap(response -> {
@@ -252,14 +276,8 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
                 return;
             }
 
-            String xc = response.getSourceAsString();
-            LOG.debug("Fetched config: {}", xc);
-
-            try (
-                XContentParser parser = XContentType.JSON.xContent().createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, xc)
-            ) {
-                ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                Config config = configParser.apply(parser, response.getId());
+            try {
+                Config config = configCache.parse(response, analysisType, readGeneration);
 
                 // end execution if all features are disabled
                 if (config.getEnabledFeatureIds().isEmpty()) {
@@ -268,9 +286,6 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
                     return;
                 }
 
-                NodeState state = states.computeIfAbsent(configID, configId -> new NodeState(configId, clock));
-                state.setConfigDef(config);
-
                 listener.onResponse(Optional.of(config));
             } catch (Exception t) {
                 LOG.error("Fail to parse config {}", configID);
@@ -348,6 +363,9 @@ public class NodeStateManager implements MaintenanceState, CleanState, Exception
         }
 
         GetRequest request = new GetRequest(ADCommonName.CHECKPOINT_INDEX_NAME, SingleStreamModelIdMapper.getRcfModelId(adID, 0));
+        if (checkpointRoutingByConfig) {
+            request.routing(adID);
+        }
 
         clientUtil.<GetRequest, GetResponse>asyncRequest(request, client::get, onGetCheckpointResponse(adID, listener));
     }
@@ -187,7 +187,8 @@ public abstract class ProfileRunner<TaskCacheManagerType extends TaskCacheManage
                         || profilesToCollect.contains(ProfileName.MODELS)
                         || profilesToCollect.contains(ProfileName.ACTIVE_ENTITIES)
                         || profilesToCollect.contains(ProfileName.INIT_PROGRESS)
-                        || profilesToCollect.contains(ProfileName.STATE)) {
+                        || profilesToCollect.contains(ProfileName.STATE)
+                        || profilesToCollect.contains(ProfileName.RESULT_WRITE)) {
                         totalResponsesToWait++;
                     }
                     if (profilesToCollect.contains(taskProfile)) {
@@ -232,7 +233,8 @@ public abstract class ProfileRunner<TaskCacheManagerType extends TaskCacheManage
                         || profilesToCollect.contains(ProfileName.MODELS)
                         || profilesToCollect.contains(ProfileName.ACTIVE_ENTITIES)
                         || profilesToCollect.contains(ProfileName.INIT_PROGRESS)
-                        || profilesToCollect.contains(ProfileName.STATE)) {
+                        || profilesToCollect.contains(ProfileName.STATE)
+                        || profilesToCollect.contains(ProfileName.RESULT_WRITE)) {
                         profileModels(config, profilesToCollect, job, delegateListener);
                     }
                     if (profilesToCollect.contains(taskProfile)) {
@@ -401,6 +403,9 @@ public abstract class ProfileRunner<TaskCacheManagerType extends TaskCacheManage
             if (isMultientityDetector && profilesToCollect.contains(ProfileName.ACTIVE_ENTITIES)) {
                 profile.activeEntities(profileResponse.getActiveEntities());
             }
+            if (profilesToCollect.contains(ProfileName.RESULT_WRITE)) {
+                profile.resultWrite(profileResponse.getResultWriteProfile());
+            }
 
             // only need to do it for models in priority cache. AD single stream analysis has a
             // different workflow to determine state and init progress
@@ -24,6 +24,7 @@ import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.transport.client.Client;
 
@@ -91,6 +92,27 @@ public class ProfileUtil {
         Client client,
         AnalysisType analysisType,
         ActionListener<SearchResponse> listener
+    ) {
+        confirmRealtimeInitStatus(config, enabledTime, client, analysisType, null, listener);
+    }
+
+    /**
+     * Search for a real-time result of a config produced after its job was enabled.
+     *
+     * @param config config
+     * @param enabledTime job enabled time in milliseconds
+     * @param client client to search with
+     * @param analysisType analysis type of the config
+     * @param indexManagement used to only search the shards holding results of the config; null to search all shards
+     * @param listener listener of the search response
+     */
+    public static void confirmRealtimeInitStatus(
+        Config config,
+        long enabledTime,
+        Client client,
+        AnalysisType analysisType,
+        IndexManagement<?> indexManagement,
+        ActionListener<SearchResponse> listener
     ) {
         SearchRequest searchLatestResult = null;
         if (analysisType.isAD()) {
@@ -104,6 +126,9 @@ public class ProfileUtil {
         } else {
             throw new IllegalArgumentException("Analysis type is not supported, type: : " + analysisType);
         }
+        if (indexManagement != null) {
+            searchLatestResult.routing(indexManagement.getResultSearchRouting(searchLatestResult.indices(), config.getId()));
+        }
 
         client.search(searchLatestResult, listener);
     }
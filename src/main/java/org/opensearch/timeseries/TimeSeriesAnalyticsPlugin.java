@@ -22,6 +22,7 @@ import static org.opensearch.forecast.constant.ForecastCommonName.FORECAST_STATE
 import static org.opensearch.timeseries.constant.CommonName.CONFIG_INDEX;
 import static org.opensearch.timeseries.constant.CommonName.JOB_INDEX;
 
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Clock;
@@ -49,6 +50,7 @@ import org.opensearch.ad.AnomalyDetectorRunner;
 import org.opensearch.ad.ExecuteADResultResponseRecorder;
 import org.opensearch.ad.caching.ADCacheProvider;
 import org.opensearch.ad.caching.ADPriorityCache;
+import org.opensearch.ad.caching.TopAnomalyRollup;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
@@ -65,6 +67,7 @@ import org.opensearch.ad.ratelimit.ADCheckpointReadWorker;
 import org.opensearch.ad.ratelimit.ADCheckpointWriteWorker;
 import org.opensearch.ad.ratelimit.ADColdEntityWorker;
 import org.opensearch.ad.ratelimit.ADColdStartWorker;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
 import org.opensearch.ad.ratelimit.ADResultWriteWorker;
 import org.opensearch.ad.ratelimit.ADSaveResultStrategy;
 import org.opensearch.ad.rest.RestAnomalyDetectorJobAction;
@@ -131,6 +134,7 @@ import org.opensearch.ad.transport.GetAnomalyDetectorAction;
 import org.opensearch.ad.transport.GetAnomalyDetectorTransportAction;
 import org.opensearch.ad.transport.IndexAnomalyDetectorAction;
 import org.opensearch.ad.transport.IndexAnomalyDetectorTransportAction;
+import org.opensearch.ad.transport.InvalidateConfigCacheAction;
 import org.opensearch.ad.transport.PreviewAnomalyDetectorAction;
 import org.opensearch.ad.transport.PreviewAnomalyDetectorTransportAction;
 import org.opensearch.ad.transport.RCFPollingAction;
@@ -153,6 +157,8 @@ import org.opensearch.ad.transport.StopDetectorAction;
 import org.opensearch.ad.transport.StopDetectorTransportAction;
 import org.opensearch.ad.transport.ThresholdResultAction;
 import org.opensearch.ad.transport.ThresholdResultTransportAction;
+import org.opensearch.ad.transport.TopAnomalyRollupAction;
+import org.opensearch.ad.transport.TopAnomalyRollupTransportAction;
 import org.opensearch.ad.transport.ValidateAnomalyDetectorAction;
 import org.opensearch.ad.transport.ValidateAnomalyDetectorTransportAction;
 import org.opensearch.ad.transport.handler.ADIndexMemoryPressureAwareResultHandler;
@@ -192,6 +198,7 @@ import org.opensearch.forecast.ratelimit.ForecastCheckpointReadWorker;
 import org.opensearch.forecast.ratelimit.ForecastCheckpointWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdEntityWorker;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
+import org.opensearch.forecast.ratelimit.ForecastResultWriteAdmission;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteWorker;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
 import org.opensearch.forecast.rest.RestDeleteForecasterAction;
@@ -213,6 +220,7 @@ import org.opensearch.forecast.settings.ForecastSettings;
 import org.opensearch.forecast.stats.ForecastModelsOnNodeSupplier;
 import org.opensearch.forecast.stats.ForecastStats;
 import org.opensearch.forecast.stats.suppliers.ForecastModelsOnNodeCountSupplier;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.forecast.task.ForecastTaskManager;
 import org.opensearch.forecast.transport.DeleteForecastModelAction;
 import org.opensearch.forecast.transport.DeleteForecastModelTransportAction;
@@ -231,6 +239,8 @@ import org.opensearch.forecast.transport.ForecastResultTransportAction;
 import org.opensearch.forecast.transport.ForecastRunOnceAction;
 import org.opensearch.forecast.transport.ForecastRunOnceProfileAction;
 import org.opensearch.forecast.transport.ForecastRunOnceProfileTransportAction;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressAction;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressTransportAction;
 import org.opensearch.forecast.transport.ForecastRunOnceTransportAction;
 import org.opensearch.forecast.transport.ForecastSingleStreamResultAction;
 import org.opensearch.forecast.transport.ForecastSingleStreamResultTransportAction;
@@ -296,9 +306,11 @@ import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
 import org.opensearch.timeseries.stats.suppliers.CounterSupplier;
 import org.opensearch.timeseries.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.timeseries.stats.suppliers.RequestQueueStatsSupplier;
 import org.opensearch.timeseries.stats.suppliers.SettableSupplier;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.transport.CronTransportAction;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheTransportAction;
 import org.opensearch.timeseries.transport.handler.ResultBulkIndexingHandler;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
@@ -347,6 +359,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
     public static final String FORECAST_THREAD_POOL_NAME = "forecast-threadpool";
 
     public static final String TIME_SERIES_JOB_TYPE = "opensearch_time_series_analytics";
+    // directory under the node data path holding results spilled under indexing pressure
+    public static final String RESULT_SPILL_DIR = "time_series_result_spill";
 
     private static Gson gson;
     private ADIndexManagement anomalyDetectionIndices;
@@ -503,7 +517,13 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
         this.indexUtils = new IndexUtils(clusterService, indexNameExpressionResolver);
         this.nodeFilter = new DiscoveryNodeFilterer(clusterService);
         this.clusterService = clusterService;
+        // job runners are singletons; give them the plugin clock before their stats are registered
+        ADJobProcessor.getInstance().setClock(getClock());
+        ForecastJobProcessor.getInstance().setClock(getClock());
         Imputer imputer = new LinearUniformImputer(true);
+        // results that indexing pressure does not admit are spilled under the first node data path
+        Path resultSpillDir = nodeEnvironment == null ? null : nodeEnvironment.nodeDataPaths()[0].resolve(RESULT_SPILL_DIR);
+        long maxResultSpillBytes = TimeSeriesSettings.RESULT_WRITE_SPILL_MAX_SIZE.get(settings).getBytes();
 
         JvmService jvmService = new JvmService(environment.settings());
         RandomCutForestMapper rcfMapper = new RandomCutForestMapper();
@@ -616,7 +636,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             1 - TimeSeriesSettings.THRESHOLD_MIN_PVALUE,
-            getClock()
+            getClock(),
+            TimeSeriesSettings.CHECKPOINT_ROUTING_BY_CONFIG.get(settings)
         );
 
         ADCacheProvider adCacheProvider = new ADCacheProvider();
@@ -737,6 +758,14 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             clusterService
         );
 
+        ADResultWriteAdmission adResultWriteAdmission = new ADResultWriteAdmission(
+            getClock(),
+            settings,
+            clusterService,
+            resultSpillDir == null ? null : resultSpillDir.resolve("ad_results.spill"),
+            maxResultSpillBytes
+        );
+
         ADResultWriteWorker adResultWriteQueue = new ADResultWriteWorker(
             heapSizeBytes,
             TimeSeriesSettings.RESULT_WRITE_QUEUE_SIZE_IN_BYTES,
@@ -758,6 +787,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             TimeSeriesSettings.HOURLY_MAINTENANCE
         );
 
+        TopAnomalyRollup topAnomalyRollup = new TopAnomalyRollup(settings, clusterService, getClock());
+        adResultWriteQueue.setTopAnomalyRollup(topAnomalyRollup);
+
         ADSaveResultStrategy adSaveResultStrategy = new ADSaveResultStrategy(
             anomalyDetectionIndices.getSchemaVersion(ADIndex.RESULT),
             adResultWriteQueue
@@ -786,6 +818,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             adSaveResultStrategy
         );
 
+        RequestQueueStatsSupplier adRequestQueueStats = new RequestQueueStatsSupplier();
+
         Map<String, TimeSeriesStat<?>> adStatsMap = ImmutableMap
             .<String, TimeSeriesStat<?>>builder()
             // ad stats
@@ -829,6 +863,19 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 StatNames.MODEL_COUNT.getName(),
                 new TimeSeriesStat<>(false, new ADModelsOnNodeCountSupplier(adModelManager, adCacheProvider))
             )
+            .put(StatNames.REQUEST_QUEUE_INFORMATION.getName(), new TimeSeriesStat<>(false, adRequestQueueStats))
+            .put(
+                StatNames.JOB_START_INFORMATION.getName(),
+                new TimeSeriesStat<>(false, ADJobProcessor.getInstance().getExecutionSpreader()::getJobStartStats)
+            )
+            .put(StatNames.CONFIG_CACHE_INFORMATION.getName(), new TimeSeriesStat<>(false, stateManager.getConfigCache()::getStats))
+            .put(StatNames.CHECKPOINT_WRITE_INFORMATION.getName(), new TimeSeriesStat<>(false, adCheckpoint::getWriteStats))
+            .put(StatNames.CACHE_MAINTENANCE_INFORMATION.getName(), new TimeSeriesStat<>(false, adPriorityCache::getMaintenanceStats))
+            .put(StatNames.RESULT_WRITE_INFORMATION.getName(), new TimeSeriesStat<>(false, adResultWriteAdmission::getStats))
+            .put(
+                StatNames.MODEL_SIZE_CALIBRATION_INFORMATION.getName(),
+                new TimeSeriesStat<>(false, adMemoryTracker::getModelSizeCalibrationStats)
+            )
             .build();
 
         adStats = new ADStats(adStatsMap);
@@ -888,9 +935,23 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             stateManager
         );
 
+        adRequestQueueStats.register(adCheckpointWriteQueue);
+        adRequestQueueStats.register(adCheckpointMaintainQueue);
+        adRequestQueueStats.register(adResultWriteQueue);
+        adRequestQueueStats.register(adColdstartQueue);
+        adRequestQueueStats.register(adCheckpointReadQueue);
+        adRequestQueueStats.register(adColdEntityQueue);
+
         ADDataMigrator adDataMigrator = new ADDataMigrator(client, clusterService, xContentRegistry, anomalyDetectionIndices);
 
-        anomalyDetectorRunner = new AnomalyDetectorRunner(adModelManager, featureManager, AnomalyDetectorSettings.MAX_PREVIEW_RESULTS);
+        anomalyDetectorRunner = new AnomalyDetectorRunner(
+            adModelManager,
+            featureManager,
+            AnomalyDetectorSettings.MAX_PREVIEW_RESULTS,
+            threadPool,
+            AD_THREAD_POOL_NAME,
+            getClock()
+        );
 
         ADTaskCacheManager adTaskCacheManager = new ADTaskCacheManager(settings, clusterService, adMemoryTracker);
 
@@ -958,7 +1019,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             adTaskCacheManager,
             searchFeatureDao,
             hashRing,
-            adModelManager
+            adModelManager,
+            getClock()
         );
 
         adResultResponseRecorder = new ExecuteADResultResponseRecorder(
@@ -1022,7 +1084,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             forecastIndices,
             new RCFCasterMapper(),
             AccessController.doPrivileged((PrivilegedAction<Schema<RCFCasterState>>) () -> RuntimeSchema.getSchema(RCFCasterState.class)),
-            getClock()
+            getClock(),
+            TimeSeriesSettings.CHECKPOINT_ROUTING_BY_CONFIG.get(settings)
         );
 
         ForecastCacheProvider forecastCacheProvider = new ForecastCacheProvider();
@@ -1135,6 +1198,16 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
         ForecastIndexMemoryPressureAwareResultHandler forecastIndexMemoryPressureAwareResultHandler =
             new ForecastIndexMemoryPressureAwareResultHandler(client, forecastIndices, clusterService);
 
+        ForecastRunOnceTracker forecastRunOnceTracker = new ForecastRunOnceTracker(client, clusterService, getClock());
+
+        ForecastResultWriteAdmission forecastResultWriteAdmission = new ForecastResultWriteAdmission(
+            getClock(),
+            settings,
+            clusterService,
+            resultSpillDir == null ? null : resultSpillDir.resolve("forecast_results.spill"),
+            maxResultSpillBytes
+        );
+
         ForecastResultWriteWorker forecastResultWriteQueue = new ForecastResultWriteWorker(
             heapSizeBytes,
             TimeSeriesSettings.RESULT_WRITE_QUEUE_SIZE_IN_BYTES,
@@ -1153,12 +1226,14 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             forecastIndexMemoryPressureAwareResultHandler,
             xContentRegistry,
             stateManager,
-            TimeSeriesSettings.HOURLY_MAINTENANCE
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            forecastRunOnceTracker
         );
 
         ForecastSaveResultStrategy forecastSaveResultStrategy = new ForecastSaveResultStrategy(
             forecastIndices.getSchemaVersion(ForecastIndex.RESULT),
-            forecastResultWriteQueue
+            forecastResultWriteQueue,
+            forecastRunOnceTracker
         );
 
         ForecastColdStartWorker forecastColdstartQueue = new ForecastColdStartWorker(
@@ -1181,9 +1256,12 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             stateManager,
             forecastPriorityCache,
             forecastModelManager,
-            forecastSaveResultStrategy
+            forecastSaveResultStrategy,
+            forecastRunOnceTracker
         );
 
+        RequestQueueStatsSupplier forecastRequestQueueStats = new RequestQueueStatsSupplier();
+
         Map<String, TimeSeriesStat<?>> forecastStatsMap = ImmutableMap
             .<String, TimeSeriesStat<?>>builder()
             // forecast stats
@@ -1220,6 +1298,19 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new TimeSeriesStat<>(true, new IndexStatusSupplier(indexUtils, CommonName.JOB_INDEX))
             )
             .put(StatNames.MODEL_COUNT.getName(), new TimeSeriesStat<>(false, new ForecastModelsOnNodeCountSupplier(forecastCacheProvider)))
+            .put(StatNames.REQUEST_QUEUE_INFORMATION.getName(), new TimeSeriesStat<>(false, forecastRequestQueueStats))
+            .put(
+                StatNames.JOB_START_INFORMATION.getName(),
+                new TimeSeriesStat<>(false, ForecastJobProcessor.getInstance().getExecutionSpreader()::getJobStartStats)
+            )
+            .put(StatNames.CONFIG_CACHE_INFORMATION.getName(), new TimeSeriesStat<>(false, stateManager.getConfigCache()::getStats))
+            .put(StatNames.CHECKPOINT_WRITE_INFORMATION.getName(), new TimeSeriesStat<>(false, forecastCheckpoint::getWriteStats))
+            .put(StatNames.CACHE_MAINTENANCE_INFORMATION.getName(), new TimeSeriesStat<>(false, forecastPriorityCache::getMaintenanceStats))
+            .put(StatNames.RESULT_WRITE_INFORMATION.getName(), new TimeSeriesStat<>(false, forecastResultWriteAdmission::getStats))
+            .put(
+                StatNames.MODEL_SIZE_CALIBRATION_INFORMATION.getName(),
+                new TimeSeriesStat<>(false, forecastMemoryTracker::getModelSizeCalibrationStats)
+            )
             .build();
 
         forecastStats = new ForecastStats(forecastStatsMap);
@@ -1232,7 +1323,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             forecastSaveResultStrategy,
             forecastCacheProvider,
             threadPool,
-            getClock()
+            getClock(),
+            forecastRunOnceTracker
         );
 
         ForecastCheckpointReadWorker forecastCheckpointReadQueue = new ForecastCheckpointReadWorker(
@@ -1279,6 +1371,13 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
             stateManager
         );
 
+        forecastRequestQueueStats.register(forecastCheckpointWriteQueue);
+        forecastRequestQueueStats.register(forecastCheckpointMaintainQueue);
+        forecastRequestQueueStats.register(forecastResultWriteQueue);
+        forecastRequestQueueStats.register(forecastColdstartQueue);
+        forecastRequestQueueStats.register(forecastCheckpointReadQueue);
+        forecastRequestQueueStats.register(forecastColdEntityQueue);
+
         TaskCacheManager forecastTaskCacheManager = new TaskCacheManager(settings, clusterService);
 
         forecastTaskManager = new ForecastTaskManager(
@@ -1369,6 +1468,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 adSearchHandler,
                 adColdstartQueue,
                 adResultWriteQueue,
+                adResultWriteAdmission,
+                topAnomalyRollup,
                 adCheckpointReadQueue,
                 adCheckpointWriteQueue,
                 adColdEntityQueue,
@@ -1388,6 +1489,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 forecastCacheProvider,
                 forecastColdstartQueue,
                 forecastResultWriteQueue,
+                forecastResultWriteAdmission,
                 forecastCheckpointReadQueue,
                 forecastCheckpointWriteQueue,
                 forecastColdEntityQueue,
@@ -1398,7 +1500,8 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 forecastTaskCacheManager,
                 forecastSaveResultStrategy,
                 new ForecastTaskProfileRunner(),
-                forecastInferencer
+                forecastInferencer,
+                forecastRunOnceTracker
             );
     }
 
@@ -1500,6 +1603,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 AnomalyDetectorSettings.AD_MAX_HC_ANOMALY_DETECTORS,
                 AnomalyDetectorSettings.AD_INDEX_PRESSURE_SOFT_LIMIT,
                 AnomalyDetectorSettings.AD_INDEX_PRESSURE_HARD_LIMIT,
+                AnomalyDetectorSettings.AD_RESULT_WRITE_SPILL_ENABLED,
                 AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS,
                 // Security
                 LegacyOpenDistroAnomalyDetectorSettings.AD_FILTER_BY_BACKEND_ROLES,
@@ -1513,6 +1617,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 AnomalyDetectorSettings.BATCH_TASK_PIECE_INTERVAL_SECONDS,
                 AnomalyDetectorSettings.MAX_OLD_AD_TASK_DOCS_PER_DETECTOR,
                 AnomalyDetectorSettings.BATCH_TASK_PIECE_SIZE,
+                AnomalyDetectorSettings.BATCH_TASK_SHARED_PIECE_QUERY,
                 AnomalyDetectorSettings.MAX_TOP_ENTITIES_FOR_HISTORICAL_ANALYSIS,
                 AnomalyDetectorSettings.MAX_RUNNING_ENTITIES_PER_DETECTOR_FOR_HISTORICAL_ANALYSIS,
                 AnomalyDetectorSettings.MAX_CACHED_DELETED_TASKS,
@@ -1545,6 +1650,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 AnomalyDetectorSettings.DELETE_AD_RESULT_WHEN_DELETE_DETECTOR,
                 // stats/profile API
                 AnomalyDetectorSettings.AD_MAX_MODEL_SIZE_PER_NODE,
+                // top anomaly result API
+                AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED,
+                AnomalyDetectorSettings.AD_RESULT_ROUTING_BUCKETS,
                 // ======================================
                 // Forecast settings
                 // ======================================
@@ -1568,6 +1676,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 // ForecastSettings.FORECAST_MAX_HC_FORECASTERS,
                 ForecastSettings.FORECAST_INDEX_PRESSURE_SOFT_LIMIT,
                 ForecastSettings.FORECAST_INDEX_PRESSURE_HARD_LIMIT,
+                ForecastSettings.FORECAST_RESULT_WRITE_SPILL_ENABLED,
                 ForecastSettings.FORECAST_MAX_PRIMARY_SHARDS,
                 // restful apis
                 ForecastSettings.FORECAST_REQUEST_TIMEOUT,
@@ -1610,6 +1719,24 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 TimeSeriesSettings.MAX_RETRY_FOR_UNRESPONSIVE_NODE,
                 TimeSeriesSettings.BACKOFF_MINUTES,
                 TimeSeriesSettings.COOLDOWN_MINUTES,
+                // rate limiting
+                TimeSeriesSettings.REQUEST_QUEUE_SCHEDULER,
+                TimeSeriesSettings.REQUEST_QUEUE_STARVATION_BOUND,
+                // checkpoint
+                TimeSeriesSettings.CHECKPOINT_ROUTING_BY_CONFIG,
+                TimeSeriesSettings.RESULT_INDEX_ROUTING_BUCKETS,
+                // cache
+                TimeSeriesSettings.CACHE_MAINTENANCE_SLICE_SIZE,
+                TimeSeriesSettings.CACHE_MAINTENANCE_TIME_BUDGET,
+                TimeSeriesSettings.CACHE_MAINTENANCE_CHUNK_SIZE,
+                TimeSeriesSettings.COMPACT_MODEL_STORE_ENABLED,
+                TimeSeriesSettings.COMPACT_MODEL_MAX_DIMENSION,
+                TimeSeriesSettings.MODEL_SIZE_CALIBRATION_ENABLED,
+                // result write
+                TimeSeriesSettings.RESULT_WRITE_SPILL_MAX_SIZE,
+                // job
+                TimeSeriesSettings.JOB_EXECUTION_MAX_SPREAD,
+                TimeSeriesSettings.JOB_LOCK_LEASE_DURATION,
                 // tasks
                 TimeSeriesSettings.MAX_CACHED_DELETED_TASKS
             );
@@ -1655,6 +1782,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new ActionHandler<>(ThresholdResultAction.INSTANCE, ThresholdResultTransportAction.class),
                 new ActionHandler<>(AnomalyResultAction.INSTANCE, AnomalyResultTransportAction.class),
                 new ActionHandler<>(CronAction.INSTANCE, CronTransportAction.class),
+                new ActionHandler<>(InvalidateConfigCacheAction.INSTANCE, InvalidateConfigCacheTransportAction.class),
                 new ActionHandler<>(ADStatsNodesAction.INSTANCE, ADStatsNodesTransportAction.class),
                 new ActionHandler<>(ADProfileAction.INSTANCE, ADProfileTransportAction.class),
                 new ActionHandler<>(RCFPollingAction.INSTANCE, RCFPollingTransportAction.class),
@@ -1681,6 +1809,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new ActionHandler<>(ValidateAnomalyDetectorAction.INSTANCE, ValidateAnomalyDetectorTransportAction.class),
                 new ActionHandler<>(ADSingleStreamResultAction.INSTANCE, ADSingleStreamResultTransportAction.class),
                 new ActionHandler<>(ADHCImputeAction.INSTANCE, ADHCImputeTransportAction.class),
+                new ActionHandler<>(TopAnomalyRollupAction.INSTANCE, TopAnomalyRollupTransportAction.class),
                 // forecast
                 new ActionHandler<>(IndexForecasterAction.INSTANCE, IndexForecasterTransportAction.class),
                 new ActionHandler<>(ForecastResultAction.INSTANCE, ForecastResultTransportAction.class),
@@ -1702,6 +1831,7 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
                 new ActionHandler<>(ForecastStatsNodesAction.INSTANCE, ForecastStatsNodesTransportAction.class),
                 new ActionHandler<>(ForecastRunOnceAction.INSTANCE, ForecastRunOnceTransportAction.class),
                 new ActionHandler<>(ForecastRunOnceProfileAction.INSTANCE, ForecastRunOnceProfileTransportAction.class),
+                new ActionHandler<>(ForecastRunOnceProgressAction.INSTANCE, ForecastRunOnceProgressTransportAction.class),
                 new ActionHandler<>(ValidateForecasterAction.INSTANCE, ValidateForecasterTransportAction.class),
                 new ActionHandler<>(SuggestForecasterParamAction.INSTANCE, SuggestForecasterParamTransportAction.class)
             );
@@ -1745,6 +1875,9 @@ public class TimeSeriesAnalyticsPlugin extends Plugin implements ActionPlugin, S
 
     @Override
     public void close() {
+        // let other nodes take over the jobs right away instead of waiting for the leases to expire
+        ADJobProcessor.getInstance().getLeaseManager().releaseAll();
+        ForecastJobProcessor.getInstance().getLeaseManager().releaseAll();
         if (serializeRCFBufferPool != null) {
             try {
                 AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
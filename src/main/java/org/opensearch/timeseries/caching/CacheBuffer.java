@@ -15,10 +15,12 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.builder.EqualsBuilder;
@@ -57,7 +59,11 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
     // keep the size for minimum capacity entities
     protected int minimumCapacity;
     // memory consumption per entity
-    protected final long memoryConsumptionPerModel;
+    protected volatile long memoryConsumptionPerModel;
+    // estimated memory consumption of an inflated entity model
+    protected final long inflatedMemoryConsumptionPerModel;
+    // measured over estimated size of inflated entity models
+    protected volatile double modelSizeCorrection;
     protected long reservedBytes;
     protected final CheckpointWriterType checkpointWriteQueue;
     protected final CheckpointMaintainerType checkpointMaintainQueue;
@@ -66,6 +72,8 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
     protected final PriorityTracker priorityTracker;
     // key is model id
     protected final ConcurrentHashMap<String, ModelState<RCFModelType>> items;
+    // packed models of the config; null if models are kept inflated
+    protected volatile CompactModelStore<RCFModelType> compactModelStore;
 
     public CacheBuffer(
         int minimumCapacity,
@@ -86,6 +94,8 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         setCheckpointIntervalHrs(checkpointIntervalHrs);
         this.modelTtl = modelTtl;
         this.memoryConsumptionPerModel = memoryConsumptionPerEntity;
+        this.inflatedMemoryConsumptionPerModel = memoryConsumptionPerEntity;
+        this.modelSizeCorrection = 1;
         this.checkpointWriteQueue = checkpointWriteQueue;
         this.checkpointMaintainQueue = checkpointMaintainQueue;
         this.configId = configId;
@@ -104,6 +114,69 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         this.reservedBytes = memoryConsumptionPerModel * minimumCapacity;
     }
 
+    /**
+     * Keep the models of newly hosted entities packed in a compact model store. Hosted bytes
+     * per entity are then measured from the store during maintenance instead of using the
+     * estimated size of an inflated model.
+     *
+     * @param store compact model store of the config
+     */
+    public void enableCompactModelStore(CompactModelStore<RCFModelType> store) {
+        this.compactModelStore = store;
+    }
+
+    /**
+     * @return compact model store of the config, or null if models are kept inflated
+     */
+    public CompactModelStore<RCFModelType> getCompactModelStore() {
+        return compactModelStore;
+    }
+
+    /**
+     * Scale the estimated size of an inflated entity model by the ratio of measured to estimated
+     * model size. Memory tracking picks up the new per-entity size at the next memory recalculation.
+     *
+     * @param correction measured over estimated model size
+     */
+    public void setModelSizeCorrection(double correction) {
+        this.modelSizeCorrection = correction;
+        if (compactModelStore == null) {
+            memoryConsumptionPerModel = getCorrectedInflatedBytes();
+            reservedBytes = memoryConsumptionPerModel * minimumCapacity;
+        }
+    }
+
+    /**
+     * @return measured over estimated model size
+     */
+    public double getModelSizeCorrection() {
+        return modelSizeCorrection;
+    }
+
+    /**
+     * Pick a state hosting a model at random, e.g., to measure its model.
+     *
+     * @return a state with a model, or empty if no entity hosts a model
+     */
+    public Optional<ModelState<RCFModelType>> sampleModelState() {
+        List<ModelState<RCFModelType>> states = new ArrayList<>(items.values());
+        if (states.isEmpty()) {
+            return Optional.empty();
+        }
+        int start = ThreadLocalRandom.current().nextInt(states.size());
+        for (int i = 0; i < states.size(); i++) {
+            ModelState<RCFModelType> state = states.get((start + i) % states.size());
+            if (state.hasModel()) {
+                return Optional.of(state);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private long getCorrectedInflatedBytes() {
+        return Math.max(1, (long) (inflatedMemoryConsumptionPerModel * modelSizeCorrection));
+    }
+
     @Override
     public boolean expired(Duration stateTtl) {
         return expired(lastUsedTime, stateTtl, clock.instant());
@@ -205,6 +278,9 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         }
         items.clear();
         priorityTracker.clearPriority();
+        if (compactModelStore != null) {
+            compactModelStore.clear();
+        }
     }
 
     /**
@@ -212,74 +288,159 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
      * @return removed states
      */
     public List<ModelState<RCFModelType>> maintenance() {
-        List<CheckpointMaintainRequest> modelsToSave = new ArrayList<>();
+        MaintenanceRun<RCFModelType> run = startMaintenance();
         List<ModelState<RCFModelType>> removedStates = new ArrayList<>();
-        Instant now = clock.instant();
-        int currentHour = DateUtils.getUTCHourOfDay(now);
-        int currentSlot = currentHour % checkpointIntervalHrs;
-        items.entrySet().stream().forEach(entry -> {
-            String entityModelId = entry.getKey();
-            try {
-                ModelState<RCFModelType> modelState = entry.getValue();
-
-                if (modelState.getLastUsedTime().plus(modelTtl).isBefore(now)) {
-                    // race conditions can happen between the put and one of the following operations:
-                    // remove: not a problem as all of the data structures are concurrent.
-                    // Two threads removing the same entry is not a problem.
-                    // clear: not a problem as we are releasing memory in MemoryTracker.
-                    // The removed one loses references and soon GC will collect it.
-                    // We have memory tracking correction to fix incorrect memory usage record.
-                    // put: not a problem as we are unlikely to maintain an entry that's not
-                    // already in the cache
-                    // remove method saves checkpoint as well
-                    removedStates.add(remove(entityModelId));
-                } else if (Math.abs(entityModelId.hashCode()) % checkpointIntervalHrs == currentSlot) {
-                    // checkpoint is relatively big compared to other queued requests
-                    // Evens out the resource usage more fairly across a large maintenance window
-                    // by adding saving requests to CheckpointMaintainWorker.
-                    //
-                    // Background:
-                    // We will save a checkpoint when
-                    //
-                    // (a)removing the model from cache.
-                    // (b) cold start
-                    // (c) no complete model only a few samples. If we don't save new samples,
-                    // we will never be able to have enough samples for a trained mode.
-                    // (d) periodically save in case of exceptions.
-                    //
-                    // This branch is doing d). Previously, I will do it every hour for all
-                    // in-cache models. Consider we are moving to 1M entities, this will bring
-                    // the cluster in a heavy payload every hour. That's why I am doing it randomly
-                    // (expected 6 hours for each checkpoint statistically).
-                    //
-                    // I am doing it random since maintaining a state of which one has been saved
-                    // and which one hasn't are not cheap. Also, the models in the cache can be
-                    // dynamically changing. Will have to maintain the state in the removing logic.
-                    // Random is a lazy way to deal with this as it is stateless and statistically sound.
-                    //
-                    // If a checkpoint does not fall into the 6-hour bucket in a particular scenario, the model
-                    // is stale (i.e., we don't recover from the freshest model in disaster.).
-                    //
-                    // All in all, randomness is mostly due to performance and easy maintenance.
-                    modelsToSave
-                        .add(
-                            new CheckpointMaintainRequest(
-                                // the request expires when the next maintainance starts
-                                System.currentTimeMillis() + modelTtl.toMillis(),
-                                configId,
-                                RequestPriority.LOW,
-                                entityModelId
-                            )
-                        );
+        while (!run.isDone()) {
+            removedStates.addAll(run.next(Integer.MAX_VALUE));
+        }
+        return removedStates;
+    }
+
+    /**
+     * Start a maintenance run that walks the entries of the buffer in bounded chunks, so that a
+     * caller can stop between chunks and resume the run in a later task.
+     *
+     * @return maintenance run
+     */
+    public MaintenanceRun<RCFModelType> startMaintenance() {
+        return new MaintenanceRun<>(this);
+    }
+
+    /**
+     * Maintenance of a buffer that can be resumed between chunks of entries. Entries added or
+     * removed while the run is paused may or may not be visited, which is fine as the next
+     * maintenance run catches up.
+     */
+    public static class MaintenanceRun<RCFModelType extends ThresholdedRandomCutForest> {
+        private final CacheBuffer<RCFModelType, ?, ?, ?, ?, ?> buffer;
+        private final Iterator<Entry<String, ModelState<RCFModelType>>> entries;
+        private final Instant now;
+        private final int currentSlot;
+        private boolean done;
+
+        MaintenanceRun(CacheBuffer<RCFModelType, ?, ?, ?, ?, ?> buffer) {
+            this.buffer = buffer;
+            this.entries = buffer.items.entrySet().iterator();
+            this.now = buffer.clock.instant();
+            this.currentSlot = DateUtils.getUTCHourOfDay(now) % buffer.checkpointIntervalHrs;
+            this.done = false;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Maintain the next chunk of entries.
+         *
+         * @param maxEntries max number of entries to maintain
+         * @return states removed from the buffer
+         */
+        public List<ModelState<RCFModelType>> next(int maxEntries) {
+            List<CheckpointMaintainRequest> modelsToSave = new ArrayList<>();
+            List<ModelState<RCFModelType>> removedStates = new ArrayList<>();
+            for (int i = 0; i < maxEntries && entries.hasNext(); i++) {
+                buffer.maintainEntry(entries.next(), now, currentSlot, modelsToSave, removedStates);
+            }
+            buffer.checkpointMaintainQueue.putAll(modelsToSave);
+            if (!entries.hasNext()) {
+                done = true;
+                if (buffer.compactModelStore != null) {
+                    buffer.measureCompactConsumption();
                 }
+            }
+            return removedStates;
+        }
+    }
 
-            } catch (Exception e) {
-                LOG.warn("Failed to finish maintenance for model id " + entityModelId, e);
+    private void maintainEntry(
+        Entry<String, ModelState<RCFModelType>> entry,
+        Instant now,
+        int currentSlot,
+        List<CheckpointMaintainRequest> modelsToSave,
+        List<ModelState<RCFModelType>> removedStates
+    ) {
+        String entityModelId = entry.getKey();
+        try {
+            ModelState<RCFModelType> modelState = entry.getValue();
+
+            if (modelState.getLastUsedTime().plus(modelTtl).isBefore(now)) {
+                // race conditions can happen between the put and one of the following operations:
+                // remove: not a problem as all of the data structures are concurrent.
+                // Two threads removing the same entry is not a problem.
+                // clear: not a problem as we are releasing memory in MemoryTracker.
+                // The removed one loses references and soon GC will collect it.
+                // We have memory tracking correction to fix incorrect memory usage record.
+                // put: not a problem as we are unlikely to maintain an entry that's not
+                // already in the cache
+                // remove method saves checkpoint as well
+                removedStates.add(remove(entityModelId));
+            } else if (Math.abs(entityModelId.hashCode()) % checkpointIntervalHrs == currentSlot) {
+                // checkpoint is relatively big compared to other queued requests
+                // Evens out the resource usage more fairly across a large maintenance window
+                // by adding saving requests to CheckpointMaintainWorker.
+                //
+                // Background:
+                // We will save a checkpoint when
+                //
+                // (a)removing the model from cache.
+                // (b) cold start
+                // (c) no complete model only a few samples. If we don't save new samples,
+                // we will never be able to have enough samples for a trained mode.
+                // (d) periodically save in case of exceptions.
+                //
+                // This branch is doing d). Previously, I will do it every hour for all
+                // in-cache models. Consider we are moving to 1M entities, this will bring
+                // the cluster in a heavy payload every hour. That's why I am doing it randomly
+                // (expected 6 hours for each checkpoint statistically).
+                //
+                // I am doing it random since maintaining a state of which one has been saved
+                // and which one hasn't are not cheap. Also, the models in the cache can be
+                // dynamically changing. Will have to maintain the state in the removing logic.
+                // Random is a lazy way to deal with this as it is stateless and statistically sound.
+                //
+                // If a checkpoint does not fall into the 6-hour bucket in a particular scenario, the model
+                // is stale (i.e., we don't recover from the freshest model in disaster.).
+                //
+                // All in all, randomness is mostly due to performance and easy maintenance.
+                modelsToSave
+                    .add(
+                        new CheckpointMaintainRequest(
+                            // the request expires when the next maintainance starts
+                            System.currentTimeMillis() + modelTtl.toMillis(),
+                            configId,
+                            RequestPriority.LOW,
+                            entityModelId
+                        )
+                    );
             }
-        });
 
-        checkpointMaintainQueue.putAll(modelsToSave);
-        return removedStates;
+        } catch (Exception e) {
+            LOG.warn("Failed to finish maintenance for model id " + entityModelId, e);
+        }
+    }
+
+    /**
+     * Account each hosted entity by the measured bytes of the compact model store. Entities whose
+     * models are not packed count as inflated models. Memory tracking picks up the new per-entity
+     * size at the next memory recalculation.
+     */
+    private void measureCompactConsumption() {
+        int hosted = 0;
+        int unpacked = 0;
+        for (ModelState<RCFModelType> state : items.values()) {
+            hosted++;
+            if (!state.isPacked()) {
+                unpacked++;
+            }
+        }
+        if (hosted == 0) {
+            return;
+        }
+        long inflatedBytes = getCorrectedInflatedBytes();
+        long hostedBytes = compactModelStore.getAllocatedBytes() + unpacked * inflatedBytes;
+        memoryConsumptionPerModel = Math.max(1, Math.min(inflatedBytes, hostedBytes / hosted));
+        reservedBytes = memoryConsumptionPerModel * minimumCapacity;
     }
 
     /**
@@ -299,6 +460,9 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
         ModelState<RCFModelType> valueRemoved = items.remove(keyToRemove);
 
         if (valueRemoved != null) {
+            // the state leaves the compact model store with its model inflated
+            valueRemoved.detachCompactModelStore();
+
             if (!reserved) {
                 // release in shared memory
                 memoryTracker.releaseMemory(memoryConsumptionPerModel, false, origin);
@@ -452,6 +616,10 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
     private void put(String entityModelId, ModelState<RCFModelType> value, float priority) {
         ModelState<RCFModelType> contentNode = items.get(entityModelId);
         if (contentNode == null) {
+            if (compactModelStore != null) {
+                value.setCompactModelStore(compactModelStore);
+                value.pack();
+            }
             priorityTracker.addPriority(entityModelId, priority);
             items.put(entityModelId, value);
             Instant now = clock.instant();
@@ -465,6 +633,11 @@ public abstract class CacheBuffer<RCFModelType extends ThresholdedRandomCutFores
             }
         } else {
             update(entityModelId);
+            if (compactModelStore != null && contentNode != value) {
+                contentNode.detachCompactModelStore();
+                value.setCompactModelStore(compactModelStore);
+                value.pack();
+            }
             items.put(entityModelId, value);
         }
     }
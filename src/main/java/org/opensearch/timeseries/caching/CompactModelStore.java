@@ -0,0 +1,326 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the models of many entities of one config in serialized form inside shared byte pages
+ * indexed by entity slot, so an idle model costs its compact serialized size instead of its
+ * object graph. A model is inflated only while it is being scored and packed back afterwards.
+ *
+ * Each slot also keeps the update count of its model so that callers can tell whether a packed
+ * model changed without deserializing it.
+ *
+ * Slot bookkeeping uses primitive arrays. Records are appended to the current page; space of
+ * replaced or freed records is reclaimed when a page holds no live record any more, or by
+ * rewriting live records into new pages once less than half of the allocated bytes are live.
+ *
+ * @param <T> model type
+ */
+public class CompactModelStore<T> {
+    public static final int NO_SLOT = -1;
+    static final int DEFAULT_PAGE_BYTES = 1 << 20;
+    private static final int INITIAL_SLOTS = 16;
+
+    /**
+     * Serializes a model.
+     *
+     * @param <T> model type
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+        /**
+         * @param model model to serialize
+         * @return serialized model, or null if the model cannot be serialized
+         */
+        byte[] encode(T model);
+    }
+
+    /**
+     * Deserializes a model.
+     *
+     * @param <T> model type
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        /**
+         * @param bytes array holding the serialized model
+         * @param offset start of the serialized model
+         * @param length length of the serialized model
+         * @return the model
+         */
+        T decode(byte[] bytes, int offset, int length);
+    }
+
+    private final Encoder<T> encoder;
+    private final Decoder<T> decoder;
+    private final ToLongFunction<T> updateCounter;
+    private final int pageBytes;
+
+    // page id -> page; null for released pages
+    private final List<byte[]> pages;
+    private final Deque<Integer> releasedPages;
+    private int[] pageLiveBytes;
+    private int currentPage;
+    private int pagePosition;
+
+    // slot -> record location; slotLength is -1 for free slots
+    private int[] slotPage;
+    private int[] slotOffset;
+    private int[] slotLength;
+    // slot -> number of updates of the model when it was packed
+    private long[] slotUpdates;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int slotHighWater;
+
+    private int liveSlots;
+    private long liveBytes;
+    private long allocatedBytes;
+
+    /**
+     * @param encoder model serializer
+     * @param decoder model deserializer
+     * @param updateCounter number of updates a model processed
+     */
+    public CompactModelStore(Encoder<T> encoder, Decoder<T> decoder, ToLongFunction<T> updateCounter) {
+        this(encoder, decoder, updateCounter, DEFAULT_PAGE_BYTES);
+    }
+
+    /**
+     * @param encoder model serializer
+     * @param decoder model deserializer
+     * @param updateCounter number of updates a model processed
+     * @param pageBytes size of a page holding serialized models
+     */
+    public CompactModelStore(Encoder<T> encoder, Decoder<T> decoder, ToLongFunction<T> updateCounter, int pageBytes) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.updateCounter = updateCounter;
+        this.pageBytes = pageBytes;
+        this.pages = new ArrayList<>();
+        this.releasedPages = new ArrayDeque<>();
+        this.pageLiveBytes = new int[INITIAL_SLOTS];
+        this.currentPage = -1;
+        this.pagePosition = 0;
+        this.slotPage = new int[INITIAL_SLOTS];
+        this.slotOffset = new int[INITIAL_SLOTS];
+        this.slotLength = new int[INITIAL_SLOTS];
+        Arrays.fill(slotLength, -1);
+        this.slotUpdates = new long[INITIAL_SLOTS];
+        this.freeSlots = new int[INITIAL_SLOTS];
+        this.freeSlotCount = 0;
+        this.slotHighWater = 0;
+    }
+
+    /**
+     * Serialize a model into a slot.
+     *
+     * @param slot slot the model occupied before, or {@link #NO_SLOT} to allocate one
+     * @param model model to store
+     * @return slot holding the model, or {@link #NO_SLOT} if the model cannot be serialized; the
+     *  previous slot is kept as it was in that case
+     */
+    public int put(int slot, T model) {
+        // serialize outside of the lock as it is the expensive part
+        byte[] record = encoder.encode(model);
+        if (record == null) {
+            return NO_SLOT;
+        }
+        return store(slot, record, updateCounter.applyAsLong(model));
+    }
+
+    /**
+     * Deserialize the model in a slot. The returned model is a copy: changes to it are not
+     * visible to the store until it is put back.
+     *
+     * @param slot slot of the model
+     * @return the model, or null if the slot is free
+     */
+    public T get(int slot) {
+        byte[] page;
+        int offset;
+        int length;
+        synchronized (this) {
+            if (slot < 0 || slot >= slotHighWater || slotLength[slot] < 0) {
+                return null;
+            }
+            page = pages.get(slotPage[slot]);
+            offset = slotOffset[slot];
+            length = slotLength[slot];
+        }
+        // bytes of a live record are never overwritten, so decoding can run outside of the lock
+        return decoder.decode(page, offset, length);
+    }
+
+    /**
+     * @param slot slot of the model
+     * @return number of updates of the model in the slot, or -1 if the slot is free
+     */
+    public synchronized long getUpdates(int slot) {
+        if (slot < 0 || slot >= slotHighWater || slotLength[slot] < 0) {
+            return -1;
+        }
+        return slotUpdates[slot];
+    }
+
+    /**
+     * Release a slot and its record.
+     *
+     * @param slot slot to release
+     */
+    public synchronized void free(int slot) {
+        if (slot < 0 || slot >= slotHighWater || slotLength[slot] < 0) {
+            return;
+        }
+        releaseRecord(slot);
+        slotLength[slot] = -1;
+        liveSlots--;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * @return number of models in the store
+     */
+    public synchronized int size() {
+        return liveSlots;
+    }
+
+    /**
+     * @return bytes of serialized models in the store
+     */
+    public synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * @return bytes of pages the store holds, including space not reclaimed yet
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Release all models and pages.
+     */
+    public synchronized void clear() {
+        pages.clear();
+        releasedPages.clear();
+        Arrays.fill(pageLiveBytes, 0);
+        currentPage = -1;
+        pagePosition = 0;
+        Arrays.fill(slotLength, -1);
+        freeSlotCount = 0;
+        slotHighWater = 0;
+        liveSlots = 0;
+        liveBytes = 0;
+        allocatedBytes = 0;
+    }
+
+    private synchronized int store(int slot, byte[] record, long updates) {
+        if (slot >= 0 && slot < slotHighWater && slotLength[slot] >= 0) {
+            releaseRecord(slot);
+        } else {
+            slot = allocateSlot();
+            liveSlots++;
+        }
+        append(slot, record);
+        slotUpdates[slot] = updates;
+        if (allocatedBytes > 2L * pageBytes && allocatedBytes > 2 * liveBytes) {
+            compact();
+        }
+        return slot;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotHighWater == slotLength.length) {
+            int capacity = slotLength.length * 2;
+            slotPage = Arrays.copyOf(slotPage, capacity);
+            slotOffset = Arrays.copyOf(slotOffset, capacity);
+            slotLength = Arrays.copyOf(slotLength, capacity);
+            slotUpdates = Arrays.copyOf(slotUpdates, capacity);
+            Arrays.fill(slotLength, slotHighWater, capacity, -1);
+        }
+        return slotHighWater++;
+    }
+
+    private void append(int slot, byte[] record) {
+        if (currentPage < 0 || pagePosition + record.length > pages.get(currentPage).length) {
+            // a record larger than a page gets a page of its own
+            currentPage = newPage(Math.max(pageBytes, record.length));
+            pagePosition = 0;
+        }
+        System.arraycopy(record, 0, pages.get(currentPage), pagePosition, record.length);
+        slotPage[slot] = currentPage;
+        slotOffset[slot] = pagePosition;
+        slotLength[slot] = record.length;
+        pagePosition += record.length;
+        pageLiveBytes[currentPage] += record.length;
+        liveBytes += record.length;
+    }
+
+    private int newPage(int size) {
+        byte[] page = new byte[size];
+        allocatedBytes += size;
+        if (!releasedPages.isEmpty()) {
+            int pageId = releasedPages.pop();
+            pages.set(pageId, page);
+            return pageId;
+        }
+        pages.add(page);
+        if (pages.size() > pageLiveBytes.length) {
+            pageLiveBytes = Arrays.copyOf(pageLiveBytes, pageLiveBytes.length * 2);
+        }
+        return pages.size() - 1;
+    }
+
+    private void releaseRecord(int slot) {
+        int pageId = slotPage[slot];
+        int length = slotLength[slot];
+        pageLiveBytes[pageId] -= length;
+        liveBytes -= length;
+        if (pageLiveBytes[pageId] == 0 && pageId != currentPage) {
+            allocatedBytes -= pages.get(pageId).length;
+            pages.set(pageId, null);
+            releasedPages.push(pageId);
+        }
+    }
+
+    /**
+     * Rewrite live records into new pages. Old pages stay valid for decoders that read them
+     * before the rewrite.
+     */
+    private void compact() {
+        List<byte[]> oldPages = new ArrayList<>(pages);
+        pages.clear();
+        releasedPages.clear();
+        Arrays.fill(pageLiveBytes, 0);
+        currentPage = -1;
+        pagePosition = 0;
+        liveBytes = 0;
+        allocatedBytes = 0;
+        for (int slot = 0; slot < slotHighWater; slot++) {
+            int length = slotLength[slot];
+            if (length < 0) {
+                continue;
+            }
+            byte[] record = Arrays.copyOfRange(oldPages.get(slotPage[slot]), slotOffset[slot], slotOffset[slot] + length);
+            append(slot, record);
+        }
+    }
+}
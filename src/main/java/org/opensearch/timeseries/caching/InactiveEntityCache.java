@@ -0,0 +1,391 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.opensearch.common.hash.MurmurHash3;
+
+/**
+ * Tracks priority and last used time of entities that are not hosted in memory, so that a cache
+ * miss can be compared against hosted entities without loading anything.
+ *
+ * Millions of entities can be inactive, so an entity costs a fixed-size primitive record instead
+ * of a model state object: the 128-bit MurmurHash3 of its model id, its priority, its last used
+ * time and its last access time. Records live in open-addressing tables with linear probing,
+ * split into shards locked independently.
+ *
+ * A record expires when it has not been accessed for the ttl. Access times are seconds of the
+ * given clock since the cache was created, saturated to the range of an int so that clocks far
+ * away from the present (e.g., Instant.MIN in tests) do not overflow. When a shard reaches its share of
+ * the max entries, the least recently accessed of a few sampled records is evicted, which
+ * approximates LRU without maintaining an access order.
+ *
+ * Two model ids with the same 128-bit hash share a record. The probability is negligible for the
+ * number of entities a node tracks.
+ */
+public class InactiveEntityCache {
+    static final int DEFAULT_SHARDS = 16;
+    // records sampled to pick the victim when a shard is full
+    static final int EVICTION_SAMPLES = 8;
+    private static final int INITIAL_SHARD_CAPACITY = 64;
+    private static final int RANDOM_SEED = 42;
+
+    /**
+     * Computes the new priority of an entity.
+     */
+    @FunctionalInterface
+    public interface PriorityUpdater {
+        /**
+         * @param priority current priority; 0 for a new entity
+         * @return new priority
+         */
+        float update(float priority);
+    }
+
+    private final Shard[] shards;
+    private final Clock clock;
+    private final long startSeconds;
+    private volatile long ttlSeconds;
+
+    /**
+     * @param ttl how long a record is kept after its last access
+     * @param maxEntries max number of records
+     * @param clock clock to measure access times
+     */
+    public InactiveEntityCache(Duration ttl, int maxEntries, Clock clock) {
+        this(ttl, maxEntries, DEFAULT_SHARDS, clock);
+    }
+
+    InactiveEntityCache(Duration ttl, int maxEntries, int shardCount, Clock clock) {
+        if (Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("shard count should be a power of 2");
+        }
+        this.shards = new Shard[shardCount];
+        int maxShardEntries = Math.max(1, (maxEntries + shardCount - 1) / shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(maxShardEntries);
+        }
+        this.clock = clock;
+        this.startSeconds = clock.instant().getEpochSecond();
+        setTtl(ttl);
+    }
+
+    /**
+     * @param ttl how long a record is kept after its last access
+     */
+    public void setTtl(Duration ttl) {
+        this.ttlSeconds = ttl.getSeconds();
+    }
+
+    /**
+     * @param modelId model id
+     * @return priority of the entity, or NaN if the entity is not tracked
+     */
+    public float getPriority(String modelId) {
+        long[] key = key(modelId);
+        return shard(key).getPriority(key[0], key[1], now());
+    }
+
+    /**
+     * @param modelId model id
+     * @return whether the entity is tracked
+     */
+    public boolean contains(String modelId) {
+        return false == Float.isNaN(getPriority(modelId));
+    }
+
+    /**
+     * @param modelId model id
+     * @return last used time of the entity in epoch milliseconds, or -1 if the entity is not tracked
+     */
+    public long getLastUsedMillis(String modelId) {
+        long[] key = key(modelId);
+        return shard(key).getLastUsedMillis(key[0], key[1], now());
+    }
+
+    /**
+     * Update the priority of an entity, tracking it first if needed.
+     *
+     * @param modelId model id
+     * @param lastUsedTime last used time of the entity if it is not tracked yet
+     * @param updater computes the new priority from the current one
+     * @return the new priority
+     */
+    public float updatePriority(String modelId, Instant lastUsedTime, PriorityUpdater updater) {
+        long[] key = key(modelId);
+        return shard(key).updatePriority(key[0], key[1], toEpochMillis(lastUsedTime), now(), updater);
+    }
+
+    /**
+     * Track an entity, replacing its record if any.
+     *
+     * @param modelId model id
+     * @param priority priority of the entity
+     * @param lastUsedTime last used time of the entity
+     */
+    public void put(String modelId, float priority, Instant lastUsedTime) {
+        long[] key = key(modelId);
+        shard(key).put(key[0], key[1], priority, toEpochMillis(lastUsedTime), now());
+    }
+
+    /**
+     * Drop expired records and shrink shards that hold much fewer records than they have room for.
+     */
+    public void cleanUp() {
+        int now = now();
+        for (Shard shard : shards) {
+            shard.cleanUp(now);
+        }
+    }
+
+    /**
+     * @return number of records, including expired ones not cleaned up yet
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private static long[] key(String modelId) {
+        byte[] bytes = modelId.getBytes(StandardCharsets.UTF_8);
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, RANDOM_SEED, new MurmurHash3.Hash128());
+        // (0, 0) marks empty slots
+        return new long[] { hash.h1, hash.h1 == 0 && hash.h2 == 0 ? 1 : hash.h2 };
+    }
+
+    private Shard shard(long[] key) {
+        return shards[(int) (key[0] >>> 32) & (shards.length - 1)];
+    }
+
+    // seconds since the cache was created; 0 if the clock moved back
+    private int now() {
+        // epoch seconds of any Instant differ by less than Long.MAX_VALUE
+        long elapsed = clock.instant().getEpochSecond() - startSeconds;
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, elapsed));
+    }
+
+    private static long toEpochMillis(Instant instant) {
+        try {
+            return instant.toEpochMilli();
+        } catch (ArithmeticException e) {
+            return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private final class Shard {
+        private final int maxEntries;
+        private final int maxCapacity;
+        // two longs per slot: high and low 64 bits of the key
+        private long[] keys;
+        private float[] priorities;
+        private long[] lastUsedMillis;
+        private int[] lastAccessSeconds;
+        private int mask;
+        private int size;
+
+        Shard(int maxEntries) {
+            this.maxEntries = maxEntries;
+            this.maxCapacity = capacityFor(maxEntries);
+            allocate(Math.min(INITIAL_SHARD_CAPACITY, maxCapacity));
+        }
+
+        synchronized float getPriority(long high, long low, int now) {
+            int slot = find(high, low, now);
+            return slot < 0 ? Float.NaN : priorities[slot];
+        }
+
+        synchronized long getLastUsedMillis(long high, long low, int now) {
+            int slot = find(high, low, now);
+            return slot < 0 ? -1 : lastUsedMillis[slot];
+        }
+
+        synchronized float updatePriority(long high, long low, long lastUsed, int now, PriorityUpdater updater) {
+            int slot = find(high, low, now);
+            if (slot < 0) {
+                slot = insert(high, low, 0, lastUsed, now);
+            }
+            priorities[slot] = updater.update(priorities[slot]);
+            return priorities[slot];
+        }
+
+        synchronized void put(long high, long low, float priority, long lastUsed, int now) {
+            int slot = find(high, low, now);
+            if (slot < 0) {
+                insert(high, low, priority, lastUsed, now);
+            } else {
+                priorities[slot] = priority;
+                lastUsedMillis[slot] = lastUsed;
+            }
+        }
+
+        synchronized void cleanUp(int now) {
+            int live = 0;
+            for (int slot = 0; slot <= mask; slot++) {
+                if (!isEmpty(slot) && !isExpired(slot, now)) {
+                    live++;
+                }
+            }
+            rehash(Math.min(maxCapacity, Math.max(INITIAL_SHARD_CAPACITY, capacityFor(live))), now);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Find the slot of a key and mark it accessed. An expired record is removed.
+         *
+         * @return slot of the key, or -1 if the key is not tracked
+         */
+        private int find(long high, long low, int now) {
+            for (int slot = home(low); !isEmpty(slot); slot = (slot + 1) & mask) {
+                if (keys[2 * slot] == high && keys[2 * slot + 1] == low) {
+                    if (isExpired(slot, now)) {
+                        removeAt(slot);
+                        return -1;
+                    }
+                    lastAccessSeconds[slot] = now;
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private int insert(long high, long low, float priority, long lastUsed, int now) {
+            if (size >= maxEntries) {
+                evict(now);
+            } else if (size + 1 > mask + 1 - ((mask + 1) >>> 2) && mask + 1 < maxCapacity) {
+                // keep the load factor under 0.75
+                rehash((mask + 1) * 2, now);
+            }
+            int slot = home(low);
+            while (!isEmpty(slot)) {
+                slot = (slot + 1) & mask;
+            }
+            keys[2 * slot] = high;
+            keys[2 * slot + 1] = low;
+            priorities[slot] = priority;
+            lastUsedMillis[slot] = lastUsed;
+            lastAccessSeconds[slot] = now;
+            size++;
+            return slot;
+        }
+
+        /**
+         * Remove the least recently accessed of a few records starting from a random slot.
+         */
+        private void evict(int now) {
+            int victim = -1;
+            int sampled = 0;
+            int slot = ThreadLocalRandom.current().nextInt(mask + 1);
+            for (int i = 0; i <= mask && sampled < EVICTION_SAMPLES; i++, slot = (slot + 1) & mask) {
+                if (isEmpty(slot)) {
+                    continue;
+                }
+                sampled++;
+                if (victim < 0 || lastAccessSeconds[slot] < lastAccessSeconds[victim]) {
+                    victim = slot;
+                }
+            }
+            if (victim >= 0) {
+                removeAt(victim);
+            }
+        }
+
+        /**
+         * Remove a record and shift back the records after it in the same probe run, so lookups
+         * need no tombstones.
+         */
+        private void removeAt(int slot) {
+            int hole = slot;
+            for (int next = (slot + 1) & mask; !isEmpty(next); next = (next + 1) & mask) {
+                int home = home(keys[2 * next + 1]);
+                // a record can fill the hole if its home is not cyclically within (hole, next]
+                boolean reachable = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+                if (!reachable) {
+                    keys[2 * hole] = keys[2 * next];
+                    keys[2 * hole + 1] = keys[2 * next + 1];
+                    priorities[hole] = priorities[next];
+                    lastUsedMillis[hole] = lastUsedMillis[next];
+                    lastAccessSeconds[hole] = lastAccessSeconds[next];
+                    hole = next;
+                }
+            }
+            keys[2 * hole] = 0;
+            keys[2 * hole + 1] = 0;
+            size--;
+        }
+
+        /**
+         * Move live records into tables of a new capacity.
+         */
+        private void rehash(int capacity, int now) {
+            long[] oldKeys = keys;
+            float[] oldPriorities = priorities;
+            long[] oldLastUsedMillis = lastUsedMillis;
+            int[] oldLastAccessSeconds = lastAccessSeconds;
+            int oldCapacity = mask + 1;
+            allocate(capacity);
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                long high = oldKeys[2 * oldSlot];
+                long low = oldKeys[2 * oldSlot + 1];
+                if ((high == 0 && low == 0) || now - oldLastAccessSeconds[oldSlot] >= ttlSeconds) {
+                    continue;
+                }
+                int slot = home(low);
+                while (!isEmpty(slot)) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[2 * slot] = high;
+                keys[2 * slot + 1] = low;
+                priorities[slot] = oldPriorities[oldSlot];
+                lastUsedMillis[slot] = oldLastUsedMillis[oldSlot];
+                lastAccessSeconds[slot] = oldLastAccessSeconds[oldSlot];
+                size++;
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[2 * capacity];
+            priorities = new float[capacity];
+            lastUsedMillis = new long[capacity];
+            lastAccessSeconds = new int[capacity];
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        private int home(long low) {
+            return (int) (low ^ (low >>> 32)) & mask;
+        }
+
+        private boolean isEmpty(int slot) {
+            return keys[2 * slot] == 0 && keys[2 * slot + 1] == 0;
+        }
+
+        private boolean isExpired(int slot, int now) {
+            return now - lastAccessSeconds[slot] >= ttlSeconds;
+        }
+    }
+
+    /**
+     * @param entries number of records
+     * @return smallest power of 2 holding the records under a load factor of 0.75 with at least
+     *  one empty slot, so that probing always ends
+     */
+    private static int capacityFor(int entries) {
+        int required = entries + entries / 3 + 1;
+        int capacity = Integer.highestOneBit(required);
+        return capacity < required ? capacity * 2 : capacity;
+    }
+}
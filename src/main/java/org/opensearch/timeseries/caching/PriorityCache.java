@@ -25,10 +25,11 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Random;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -60,10 +61,9 @@ import org.opensearch.timeseries.ratelimit.CheckpointMaintainWorker;
 import org.opensearch.timeseries.ratelimit.CheckpointWriteWorker;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DateUtils;
+import org.opensearch.timeseries.util.RetainedSizeEstimator;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 
 public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutForest, IndexType extends Enum<IndexType> & TimeSeriesIndex, IndexManagementType extends IndexManagement<IndexType>, CheckpointDaoType extends CheckpointDao<RCFModelType, IndexType, IndexManagementType>, CheckpointWriterType extends CheckpointWriteWorker<RCFModelType, IndexType, IndexManagementType, CheckpointDaoType>, CheckpointMaintainerType extends CheckpointMaintainWorker, CacheBufferType extends CacheBuffer<RCFModelType, IndexType, IndexManagementType, CheckpointDaoType, CheckpointWriterType, CheckpointMaintainerType>>
     implements
@@ -75,8 +75,8 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     private final Map<String, CacheBufferType> activeEnities;
     private final CheckpointDaoType checkpointDao;
     protected volatile int hcDedicatedCacheSize;
-    // LRU Cache, key is model id
-    private Cache<String, ModelState<RCFModelType>> inActiveEntities;
+    // priority and last used time of entities not hosted in memory, keyed by model id hash
+    private final InactiveEntityCache inActiveEntities;
     protected final MemoryTracker memoryTracker;
     private final ReentrantLock maintenanceLock;
     private final int numberOfTrees;
@@ -98,6 +98,23 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     // mapping config id to priority tracker.
     // Used to track entity priorities
     private Map<String, PriorityTracker> priorityTrackerMap;
+    // number of cache buffers maintained by one maintenance task
+    private final int maintenanceSliceSize;
+    // how long a maintenance task runs before yielding its thread
+    private final long maintenanceTimeBudgetNanos;
+    // number of entities of a cache buffer maintained between two time budget checks
+    private final int maintenanceChunkSize;
+    // whether the cache buffers are being maintained
+    private final AtomicBoolean maintaining;
+    private final AtomicLong maintenanceRuns;
+    private final AtomicLong skippedMaintenanceRuns;
+    private volatile long lastMaintenanceMillis;
+    private volatile int lastMaintenanceBuffers;
+    // whether HC configs with small models keep them packed in a compact model store
+    private final boolean compactModelStoreEnabled;
+    private final int compactModelMaxDimension;
+    // whether maintenance measures sampled models to correct estimated model sizes
+    private final boolean modelSizeCalibrationEnabled;
 
     public PriorityCache(
         CheckpointDaoType checkpointDao,
@@ -138,10 +155,10 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
 
         Duration inactiveEntityTtl = DateUtils.toDuration(checkpointTtl.get(settings));
 
-        this.inActiveEntities = createInactiveCache(inactiveEntityTtl, maxInactiveStates);
-        clusterService.getClusterSettings().addSettingsUpdateConsumer(checkpointTtl, it -> {
-            this.inActiveEntities = createInactiveCache(DateUtils.toDuration(it), maxInactiveStates);
-        });
+        this.inActiveEntities = new InactiveEntityCache(inactiveEntityTtl, maxInactiveStates, clock);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(checkpointTtl, it -> this.inActiveEntities.setTtl(DateUtils.toDuration(it)));
 
         this.threadPool = threadPool;
         this.threadPoolName = threadPoolName;
@@ -156,6 +173,18 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         });
         this.origin = origin;
         this.priorityTrackerMap = new ConcurrentHashMap<>();
+
+        this.maintenanceSliceSize = TimeSeriesSettings.CACHE_MAINTENANCE_SLICE_SIZE.get(settings);
+        this.maintenanceTimeBudgetNanos = TimeSeriesSettings.CACHE_MAINTENANCE_TIME_BUDGET.get(settings).nanos();
+        this.maintenanceChunkSize = TimeSeriesSettings.CACHE_MAINTENANCE_CHUNK_SIZE.get(settings);
+        this.maintaining = new AtomicBoolean(false);
+        this.maintenanceRuns = new AtomicLong(0);
+        this.skippedMaintenanceRuns = new AtomicLong(0);
+        this.lastMaintenanceMillis = 0;
+        this.lastMaintenanceBuffers = 0;
+        this.compactModelStoreEnabled = TimeSeriesSettings.COMPACT_MODEL_STORE_ENABLED.get(settings);
+        this.compactModelMaxDimension = TimeSeriesSettings.COMPACT_MODEL_MAX_DIMENSION.get(settings);
+        this.modelSizeCalibrationEnabled = TimeSeriesSettings.MODEL_SIZE_CALIBRATION_ENABLED.get(settings);
     }
 
     @Override
@@ -193,17 +222,6 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
             }
 
             try {
-                ModelState<RCFModelType> state = inActiveEntities.get(modelId, new Callable<ModelState<RCFModelType>>() {
-                    @Override
-                    public ModelState<RCFModelType> call() {
-                        return createEmptyModelState(modelId, configId);
-                    }
-
-                });
-
-                // make sure no model has been stored due to previous race conditions
-                state.setModel(null);
-
                 // compute updated priority
                 // We don’t want to admit the latest entity for correctness by throwing out a
                 // hot entity. We have a priority (time-decayed count) sensitive to
@@ -233,7 +251,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                         TimeSeriesSettings.MAX_TRACKING_ENTITIES
                     );
                 });
-                state.setPriority(tracker.getUpdatedPriority(state.getPriority()));
+                inActiveEntities.updatePriority(modelId, clock.instant(), tracker::getUpdatedPriority);
 
                 // adjust shared memory in case we have used dedicated cache memory for other detectors
                 if (random.nextInt(maintenanceFreqConstant) == 1) {
@@ -248,13 +266,14 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         return modelState;
     }
 
-    private Optional<ModelState<RCFModelType>> getStateFromInactiveEntiiyCache(String modelId) {
+    private Optional<Float> getPriorityFromInactiveEntityCache(String modelId) {
         if (modelId == null) {
             return Optional.empty();
         }
 
-        // null if not even recorded in inActiveEntities yet because of doorKeeper or first time start config
-        return Optional.ofNullable(inActiveEntities.getIfPresent(modelId));
+        // NaN if not even recorded in inActiveEntities yet because of doorKeeper or first time start config
+        float priority = inActiveEntities.getPriority(modelId);
+        return Float.isNaN(priority) ? Optional.empty() : Optional.of(priority);
     }
 
     @Override
@@ -272,15 +291,8 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
 
         CacheBufferType buffer = computeBufferIfAbsent(config, configId);
 
-        Optional<ModelState<RCFModelType>> state = getStateFromInactiveEntiiyCache(modelId);
-        ModelState<RCFModelType> modelState = null;
-        if (state.isPresent()) {
-            modelState = state.get();
-        } else {
-            modelState = createEmptyModelState(modelId, configId);
-        }
-
-        float priority = modelState.getPriority();
+        // an entity not recorded yet has the priority of an empty state
+        float priority = getPriorityFromInactiveEntityCache(modelId).orElse(0f);
 
         toUpdate.setLastUsedTime(clock.instant());
         toUpdate.setPriority(priority);
@@ -329,17 +341,15 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         if (removed == null) {
             return;
         }
-        // set last used time for profile API so that we know when an entities is evicted
-        removed.setLastUsedTime(clock.instant());
-        removed.setModel(null);
-        inActiveEntities.put(removed.getModelId(), removed);
+        // record last used time for profile API so that we know when an entities is evicted
+        inActiveEntities.put(removed.getModelId(), removed.getPriority(), clock.instant());
     }
 
     private void addEntity(List<Entity> destination, Entity entity, String configId) {
         // It's possible our doorkeepr prevented the entity from entering inactive entities cache
         if (entity != null) {
             Optional<String> modelId = entity.getModelId(configId);
-            if (modelId.isPresent() && inActiveEntities.getIfPresent(modelId.get()) != null) {
+            if (modelId.isPresent() && inActiveEntities.contains(modelId.get())) {
                 destination.add(entity);
             }
         }
@@ -390,14 +400,13 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 continue;
             }
 
-            Optional<ModelState<RCFModelType>> state = getStateFromInactiveEntiiyCache(modelId.get());
+            Optional<Float> state = getPriorityFromInactiveEntityCache(modelId.get());
             if (false == state.isPresent()) {
                 // not even recorded in inActiveEntities yet because of doorKeeper
                 continue;
             }
 
-            ModelState<RCFModelType> modelState = state.get();
-            float priority = modelState.getPriority();
+            float priority = state.get();
 
             if (buffer.canReplaceWithinConfig(priority)) {
                 addEntity(hotEntities, entity, configId);
@@ -425,15 +434,13 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 continue;
             }
 
-            Optional<ModelState<RCFModelType>> inactiveState = getStateFromInactiveEntiiyCache(modelId.get());
+            Optional<Float> inactiveState = getPriorityFromInactiveEntityCache(modelId.get());
             if (false == inactiveState.isPresent()) {
                 // empty state should not stand a chance to replace others
                 continue;
             }
 
-            ModelState<RCFModelType> state = inactiveState.get();
-
-            float priority = state.getPriority();
+            float priority = inactiveState.get();
             float scaledPriority = buffer.getPriorityTracker().getScaledPriority(priority);
 
             if (scaledPriority <= minPriority) {
@@ -467,7 +474,9 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         CacheBufferType buffer = activeEnities.get(configId);
         if (buffer == null) {
             long bytesPerEntityModel = getRequiredMemoryPerEntity(config, memoryTracker, numberOfTrees);
-            long requiredBytes = bytesPerEntityModel * (config.isHighCardinality() ? hcDedicatedCacheSize : 1);
+            double modelSizeCorrection = memoryTracker.getModelSizeCorrection(configId);
+            long requiredBytes = Math.max(1, (long) (bytesPerEntityModel * modelSizeCorrection))
+                * (config.isHighCardinality() ? hcDedicatedCacheSize : 1);
             if (memoryTracker.canAllocateReserved(requiredBytes)) {
                 memoryTracker.consumeMemory(requiredBytes, true, origin);
                 buffer = createEmptyCacheBuffer(
@@ -484,6 +493,17 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                             )
                         )
                 );
+                if (useCompactModelStore(config)) {
+                    buffer
+                        .enableCompactModelStore(
+                            new CompactModelStore<>(
+                                checkpointDao::toCompactModel,
+                                checkpointDao::fromCompactModel,
+                                checkpointDao::getTotalUpdates
+                            )
+                        );
+                }
+                buffer.setModelSizeCorrection(modelSizeCorrection);
                 activeEnities.put(configId, buffer);
                 // There can be race conditions between tryClearUpMemory and
                 // activeEntities.put above as tryClearUpMemory accesses activeEnities too.
@@ -497,6 +517,14 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         return buffer;
     }
 
+    private boolean useCompactModelStore(Config config) {
+        if (!compactModelStoreEnabled || !config.isHighCardinality()) {
+            return false;
+        }
+        int dimension = config.getEnabledFeatureIds().size() * config.getShingleSize();
+        return dimension <= compactModelMaxDimension;
+    }
+
     /**
      * Whether the candidate entity can replace any entity in the shared cache.
      * We can have race conditions when multiple threads try to evaluate this
@@ -617,31 +645,197 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
     /**
      * Maintain active entity's cache and door keepers.
      *
-     * inActiveEntities is a Guava's LRU cache. The data structure itself is
-     * gonna evict items if they are inactive for 3 days or its maximum size
-     * reached (1 million entries)
+     * inActiveEntities evicts entities that are inactive for the checkpoint ttl
+     * and approximately least recently used ones once its maximum size is reached
+     * (1 million entries). Expired entries are dropped during maintenance.
+     *
+     * Cache buffers are split into slices of {@link TimeSeriesSettings#CACHE_MAINTENANCE_SLICE_SIZE}
+     * buffers that are maintained in parallel on the analysis thread pool. A slice task yields its
+     * thread to queued work after {@link TimeSeriesSettings#CACHE_MAINTENANCE_TIME_BUDGET} and
+     * continues in a new task, so maintaining many configs does not stall inference. The budget is
+     * checked after every {@link TimeSeriesSettings#CACHE_MAINTENANCE_CHUNK_SIZE} entities, so a task
+     * can also pause and resume in the middle of a config with many hosted entities. The inactive
+     * cache and door keepers are maintained after the last slice finishes. A run is skipped if the
+     * previous one has not finished.
      */
     @Override
     public void maintenance() {
         try {
             // clean up memory if we allocate more memory than we should
             tryClearUpMemory();
-            activeEnities.entrySet().stream().forEach(cacheBufferEntry -> {
-                String configId = cacheBufferEntry.getKey();
-                CacheBufferType cacheBuffer = cacheBufferEntry.getValue();
-                // remove expired cache buffer
-                if (cacheBuffer.expired(modelTtl)) {
-                    activeEnities.remove(configId);
-                    cacheBuffer.clear();
-                    priorityTrackerMap.remove(configId);
-                } else {
-                    List<ModelState<RCFModelType>> removedStates = cacheBuffer.maintenance();
-                    for (ModelState<RCFModelType> state : removedStates) {
-                        addIntoInactiveCache(state);
-                    }
+        } catch (Exception e) {
+            // will be thrown to ES's transport broadcast handler
+            throw new TimeSeriesException("Fail to maintain cache", e);
+        }
+
+        if (!maintaining.compareAndSet(false, true)) {
+            skippedMaintenanceRuns.incrementAndGet();
+            LOG.warn("Skip cache maintenance as the previous run has not finished");
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        List<Entry<String, CacheBufferType>> buffers = new ArrayList<>(activeEnities.entrySet());
+        int slices = (buffers.size() + maintenanceSliceSize - 1) / maintenanceSliceSize;
+        if (slices == 0) {
+            finishMaintenance(startNanos, 0);
+            return;
+        }
+
+        AtomicInteger pendingSlices = new AtomicInteger(slices);
+        for (int start = 0; start < buffers.size(); start += maintenanceSliceSize) {
+            Iterator<Entry<String, CacheBufferType>> slice = buffers
+                .subList(start, Math.min(start + maintenanceSliceSize, buffers.size()))
+                .iterator();
+            submitMaintenanceSlice(new MaintenanceSlice(slice, pendingSlices, startNanos, buffers.size()));
+        }
+    }
+
+    private void submitMaintenanceSlice(MaintenanceSlice slice) {
+        try {
+            threadPool.executor(threadPoolName).execute(() -> maintainSlice(slice));
+        } catch (Exception e) {
+            LOG.error("Fail to submit cache maintenance", e);
+            // the rest of the slice waits for the next run
+            finishMaintenanceSlice(slice.pendingSlices, slice.startNanos, slice.bufferCount);
+        }
+    }
+
+    private void maintainSlice(MaintenanceSlice slice) {
+        long sliceStartNanos = System.nanoTime();
+        // a task maintains at least one chunk so that the slice always makes progress
+        while (maintainNextChunk(slice)) {
+            if (System.nanoTime() - sliceStartNanos > maintenanceTimeBudgetNanos) {
+                // give the thread back to queued work and continue later
+                submitMaintenanceSlice(slice);
+                return;
+            }
+        }
+        finishMaintenanceSlice(slice.pendingSlices, slice.startNanos, slice.bufferCount);
+    }
+
+    /**
+     * Maintain the next chunk of entities of the slice, starting on the next cache buffer if the
+     * current one is done.
+     *
+     * @param slice maintenance slice
+     * @return whether the slice has cache buffers left
+     */
+    private boolean maintainNextChunk(MaintenanceSlice slice) {
+        if (slice.run == null) {
+            if (!slice.buffers.hasNext()) {
+                return false;
+            }
+            Entry<String, CacheBufferType> cacheBufferEntry = slice.buffers.next();
+            slice.configId = cacheBufferEntry.getKey();
+            slice.cacheBuffer = cacheBufferEntry.getValue();
+            try {
+                slice.run = startCacheBufferMaintenance(slice.configId, slice.cacheBuffer);
+            } catch (Exception e) {
+                LOG.error(new ParameterizedMessage("Fail to maintain cache of [{}]", slice.configId), e);
+            }
+            if (slice.run == null) {
+                return true;
+            }
+        }
+        try {
+            for (ModelState<RCFModelType> state : slice.run.next(maintenanceChunkSize)) {
+                addIntoInactiveCache(state);
+            }
+            if (slice.run.isDone()) {
+                slice.run = null;
+                if (modelSizeCalibrationEnabled) {
+                    calibrateModelSize(slice.configId, slice.cacheBuffer);
                 }
-            });
+            }
+        } catch (Exception e) {
+            slice.run = null;
+            LOG.error(new ParameterizedMessage("Fail to maintain cache of [{}]", slice.configId), e);
+        }
+        return true;
+    }
+
+    /**
+     * Drop an expired cache buffer or start maintaining its entities.
+     *
+     * @param configId config id
+     * @param cacheBuffer cache buffer of the config
+     * @return maintenance run of the buffer, or null if the buffer expired
+     */
+    private CacheBuffer.MaintenanceRun<RCFModelType> startCacheBufferMaintenance(String configId, CacheBufferType cacheBuffer) {
+        // remove expired cache buffer
+        if (cacheBuffer.expired(modelTtl)) {
+            // the buffer may have been replaced since the run started
+            if (activeEnities.remove(configId, cacheBuffer)) {
+                cacheBuffer.clear();
+                priorityTrackerMap.remove(configId);
+            }
+            return null;
+        }
+        return cacheBuffer.startMaintenance();
+    }
 
+    /**
+     * Continuation of a maintenance slice: the cache buffers left and the maintenance run of the
+     * buffer in progress.
+     */
+    private class MaintenanceSlice {
+        private final Iterator<Entry<String, CacheBufferType>> buffers;
+        private final AtomicInteger pendingSlices;
+        private final long startNanos;
+        private final int bufferCount;
+        private String configId;
+        private CacheBufferType cacheBuffer;
+        private CacheBuffer.MaintenanceRun<RCFModelType> run;
+
+        MaintenanceSlice(Iterator<Entry<String, CacheBufferType>> buffers, AtomicInteger pendingSlices, long startNanos, int bufferCount) {
+            this.buffers = buffers;
+            this.pendingSlices = pendingSlices;
+            this.startNanos = startNanos;
+            this.bufferCount = bufferCount;
+        }
+    }
+
+    /**
+     * Measure the retained size of one hosted model of a config and correct the estimated
+     * model size of the config with it. A model that is being updated is not measured.
+     *
+     * @param configId config id
+     * @param cacheBuffer cache buffer of the config
+     */
+    private void calibrateModelSize(String configId, CacheBufferType cacheBuffer) {
+        Optional<ModelState<RCFModelType>> state = cacheBuffer.sampleModelState();
+        if (state.isEmpty()) {
+            return;
+        }
+        ReentrantLock modelLock = state.get().getLock();
+        if (!modelLock.tryLock()) {
+            // measure again in a later maintenance run
+            return;
+        }
+        try {
+            Optional<RCFModelType> model = state.get().getModel();
+            if (model.isEmpty()) {
+                return;
+            }
+            long estimatedBytes = memoryTracker.estimateTRCFModelSize(model.get());
+            long measuredBytes = RetainedSizeEstimator.sizeOf(model.get());
+            cacheBuffer.setModelSizeCorrection(memoryTracker.recordModelSize(configId, estimatedBytes, measuredBytes));
+        } catch (RuntimeException e) {
+            LOG.warn(new ParameterizedMessage("Skip measuring model size of [{}]", configId), e);
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    private void finishMaintenanceSlice(AtomicInteger pendingSlices, long startNanos, int bufferCount) {
+        if (pendingSlices.decrementAndGet() == 0) {
+            finishMaintenance(startNanos, bufferCount);
+        }
+    }
+
+    private void finishMaintenance(long startNanos, int bufferCount) {
+        try {
             maintainInactiveCache();
 
             doorKeepers.entrySet().stream().forEach(doorKeeperEntry -> {
@@ -655,10 +849,26 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 }
             });
         } catch (Exception e) {
-            // will be thrown to ES's transport broadcast handler
-            throw new TimeSeriesException("Fail to maintain cache", e);
+            LOG.error("Fail to maintain inactive cache and door keepers", e);
+        } finally {
+            lastMaintenanceMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            lastMaintenanceBuffers = bufferCount;
+            maintenanceRuns.incrementAndGet();
+            maintaining.set(false);
+            LOG.info("Maintained {} cache buffers of {} in {} ms", bufferCount, origin, lastMaintenanceMillis);
         }
+    }
 
+    /**
+     * @return cache maintenance runs, skipped runs, and the duration and cache buffers of the last run
+     */
+    public Map<String, Object> getMaintenanceStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("runs", maintenanceRuns.get());
+        stats.put("skipped_runs", skippedMaintenanceRuns.get());
+        stats.put("last_duration_ms", lastMaintenanceMillis);
+        stats.put("last_buffers", lastMaintenanceBuffers);
+        return stats;
     }
 
     /**
@@ -676,6 +886,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
             buffer.clear();
         }
         priorityTrackerMap.remove(configId);
+        memoryTracker.removeModelSizeCalibration(configId);
         checkpointDao.deleteModelCheckpointByConfigId(configId);
         doorKeepers.remove(configId);
         priorityTrackerMap.remove(configId);
@@ -807,11 +1018,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
                 return lastUsedMs;
             }
         }
-        ModelState<RCFModelType> stateInActive = inActiveEntities.getIfPresent(entityModelId);
-        if (stateInActive != null) {
-            lastUsedMs = stateInActive.getLastUsedTime().toEpochMilli();
-        }
-        return lastUsedMs;
+        return inActiveEntities.getLastUsedMillis(entityModelId);
     }
 
     @Override
@@ -833,18 +1040,9 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
             return;
         }
 
-        // force maintenance of the cache. ref: https://tinyurl.com/pyy3p9v6
+        // drop expired entries and shrink tables
         inActiveEntities.cleanUp();
 
-        // // make sure no model has been stored due to bugs
-        for (ModelState<RCFModelType> state : inActiveEntities.asMap().values()) {
-            Optional<RCFModelType> modelOptional = state.getModel();
-            if (modelOptional.isPresent()) {
-                LOG.warn(new ParameterizedMessage("Inactive entity's model is null: [{}]. Maybe there are bugs.", state.getModelId()));
-                state.setModel(null);
-            }
-        }
-
         lastInActiveEntityMaintenance = clock.instant();
     }
 
@@ -947,6 +1145,7 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
         checkpointDao
             .deleteModelCheckpoint(
                 modelId,
+                configId,
                 ActionListener
                     .wrap(
                         r -> LOG.debug(new ParameterizedMessage("Succeeded in deleting checkpoint [{}].", modelId)),
@@ -955,17 +1154,6 @@ public abstract class PriorityCache<RCFModelType extends ThresholdedRandomCutFor
             );
     }
 
-    private Cache<String, ModelState<RCFModelType>> createInactiveCache(Duration inactiveEntityTtl, int maxInactiveStates) {
-        return CacheBuilder
-            .newBuilder()
-            .expireAfterAccess(inactiveEntityTtl.toHours(), TimeUnit.HOURS)
-            .maximumSize(maxInactiveStates)
-            .concurrencyLevel(1)
-            .build();
-    }
-
-    protected abstract ModelState<RCFModelType> createEmptyModelState(String modelId, String configId);
-
     protected abstract CacheBufferType createEmptyCacheBuffer(Config config, long memoryConsumptionPerEntity, PriorityTracker tracker);
 
     protected abstract boolean isDoorKeeperInCacheEnabled();
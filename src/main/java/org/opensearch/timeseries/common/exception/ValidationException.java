@@ -11,6 +11,8 @@
 
 package org.opensearch.timeseries.common.exception;
 
+import java.util.Map;
+
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.model.ValidationAspect;
@@ -20,6 +22,8 @@ public class ValidationException extends TimeSeriesException {
     private final ValidationIssueType type;
     private final ValidationAspect aspect;
     private final IntervalTimeConfiguration intervalSuggestion;
+    // durations of the model validation checks in milliseconds, if any ran
+    private Map<String, Long> checkTimings;
 
     public ValidationIssueType getType() {
         return type;
@@ -33,6 +37,14 @@ public class ValidationException extends TimeSeriesException {
         return intervalSuggestion;
     }
 
+    public Map<String, Long> getCheckTimings() {
+        return checkTimings;
+    }
+
+    public void setCheckTimings(Map<String, Long> checkTimings) {
+        this.checkTimings = checkTimings;
+    }
+
     public ValidationException(String message, ValidationIssueType type, ValidationAspect aspect) {
         this(message, null, type, aspect, null);
     }
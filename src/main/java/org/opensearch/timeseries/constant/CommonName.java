@@ -81,6 +81,8 @@ public class CommonName {
     public static final String ENTITY_SAMPLE = "sp";
     // current key for entity samples
     public static final String SAMPLE_QUEUE = "samples";
+    // binary encoded entity samples. Replaces SAMPLE_QUEUE in new checkpoints.
+    public static final String SAMPLE_BUFFER = "sample_buffer";
 
     // ======================================
     // Profile name
@@ -137,6 +139,16 @@ public class CommonName {
     public static final String ENTITY_INFO = "entity_info";
     public static final String TOTAL_UPDATES = "total_updates";
     public static final String MODEL_COUNT = StatNames.MODEL_COUNT.getName();
+    public static final String RESULT_WRITE = "result_write";
+
+    // ======================================
+    // Request queue stats
+    // ======================================
+    public static final String QUEUE_SIZE = "queue_size";
+    public static final String SERVED_REQUESTS = "served_requests";
+    public static final String SERVICE_SHARE = "service_share";
+    public static final String AVG_QUEUE_WAIT_MILLIS = "avg_queue_wait_ms";
+    public static final String OLDEST_REQUEST_WAIT_MILLIS = "oldest_request_wait_ms";
 
     // ======================================
     // Ultrawarm node attributes
@@ -295,7 +295,6 @@ public class FeatureManager {
         long endMilli,
         ActionListener<Features> listener
     ) throws IOException {
-        // TODO refactor this common lines so that these code can be run for 1 time for all entities
         Entry<List<Entry<Long, Long>>, Integer> sampleRangeResults = getSampleRanges(detector, startMilli, endMilli);
         List<Entry<Long, Long>> sampleRanges = sampleRangeResults.getKey();
         int stride = sampleRangeResults.getValue();
@@ -304,6 +303,44 @@ public class FeatureManager {
         getPreviewSamplesInRangesForEntity(detector, sampleRanges, entity, getFeatureSamplesListener(stride, shingleSize, listener));
     }
 
+    /**
+     * Returns to listener the preview feature data points of multiple entities.
+     *
+     * Same as {@link #getPreviewFeaturesForEntity}, except that the sample ranges are computed once
+     * and the samples of all entities are fetched with one search request.
+     *
+     * @param detector detector info containing indices, features, interval, etc
+     * @param entities entities to preview
+     * @param startMilli start of the range in epoch milliseconds
+     * @param endMilli end of the range in epoch milliseconds
+     * @param listener onResponse is called with the features of each entity that has data to preview,
+     *                 in the same order as the given entities
+     */
+    public void getPreviewFeaturesForEntities(
+        AnomalyDetector detector,
+        List<Entity> entities,
+        long startMilli,
+        long endMilli,
+        ActionListener<List<Entry<Entity, Features>>> listener
+    ) {
+        Entry<List<Entry<Long, Long>>, Integer> sampleRangeResults = getSampleRanges(detector, startMilli, endMilli);
+        List<Entry<Long, Long>> sampleRanges = sampleRangeResults.getKey();
+        int stride = sampleRangeResults.getValue();
+
+        searchFeatureDao
+            .getColdStartSamplesForEntities(detector, entities, sampleRanges, true, AnalysisType.AD, ActionListener.wrap(entitySamples -> {
+                List<Entry<Entity, Features>> entityFeatures = new ArrayList<>(entities.size());
+                for (int i = 0; i < entities.size(); i++) {
+                    Entry<List<Entry<Long, Long>>, double[][]> samples = getPresentSamples(sampleRanges, entitySamples.get(i));
+                    // entities without data cannot be previewed
+                    if (samples.getKey().size() > 0) {
+                        entityFeatures.add(new SimpleImmutableEntry<>(entities.get(i), toPreviewFeatures(samples, stride)));
+                    }
+                }
+                listener.onResponse(entityFeatures);
+            }, listener::onFailure));
+    }
+
     private ActionListener<Entry<List<Entry<Long, Long>>, double[][]>> getFeatureSamplesListener(
         int stride,
         int shingleSize,
@@ -315,13 +352,16 @@ public class FeatureManager {
                 listener.onFailure(new IllegalArgumentException("No data to preview anomaly detection."));
                 return;
             }
-            double[][] sampleFeatures = samples.getValue();
-            List<Entry<Long, Long>> previewRanges = getPreviewRanges(searchTimeRange, stride);
-            double[][] previewFeatures = getPreviewFeatures(sampleFeatures, stride);
-            listener.onResponse(new Features(previewRanges, previewFeatures));
+            listener.onResponse(toPreviewFeatures(samples, stride));
         }, listener::onFailure);
     }
 
+    private Features toPreviewFeatures(Entry<List<Entry<Long, Long>>, double[][]> samples, int stride) {
+        List<Entry<Long, Long>> previewRanges = getPreviewRanges(samples.getKey(), stride);
+        double[][] previewFeatures = getPreviewFeatures(samples.getValue(), stride);
+        return new Features(previewRanges, previewFeatures);
+    }
+
     /**
      * Returns to listener feature data points (unprocessed and processed) from the period for preview purpose.
      *
@@ -398,18 +438,24 @@ public class FeatureManager {
         List<Entry<Long, Long>> sampleRanges,
         ActionListener<Entry<List<Entry<Long, Long>>, double[][]>> listener
     ) {
-        return ActionListener.wrap(featureSamples -> {
-            List<Entry<Long, Long>> ranges = new ArrayList<>(featureSamples.size());
-            List<double[]> samples = new ArrayList<>(featureSamples.size());
-            for (int i = 0; i < featureSamples.size(); i++) {
-                Entry<Long, Long> currentRange = sampleRanges.get(i);
-                featureSamples.get(i).ifPresent(sample -> {
-                    ranges.add(currentRange);
-                    samples.add(sample);
-                });
-            }
-            listener.onResponse(new SimpleImmutableEntry<>(ranges, samples.toArray(new double[0][0])));
-        }, listener::onFailure);
+        return ActionListener
+            .wrap(featureSamples -> listener.onResponse(getPresentSamples(sampleRanges, featureSamples)), listener::onFailure);
+    }
+
+    private Entry<List<Entry<Long, Long>>, double[][]> getPresentSamples(
+        List<Entry<Long, Long>> sampleRanges,
+        List<Optional<double[]>> featureSamples
+    ) {
+        List<Entry<Long, Long>> ranges = new ArrayList<>(featureSamples.size());
+        List<double[]> samples = new ArrayList<>(featureSamples.size());
+        for (int i = 0; i < featureSamples.size(); i++) {
+            Entry<Long, Long> currentRange = sampleRanges.get(i);
+            featureSamples.get(i).ifPresent(sample -> {
+                ranges.add(currentRange);
+                samples.add(sample);
+            });
+        }
+        return new SimpleImmutableEntry<>(ranges, samples.toArray(new double[0][0]));
     }
 
     /**
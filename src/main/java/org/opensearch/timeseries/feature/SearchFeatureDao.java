@@ -54,6 +54,7 @@ import org.opensearch.search.aggregations.PipelineAggregatorBuilders;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.search.aggregations.bucket.composite.InternalComposite;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
 import org.opensearch.search.aggregations.bucket.range.InternalDateRange;
 import org.opensearch.search.aggregations.bucket.range.InternalDateRange.Bucket;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
@@ -591,6 +592,79 @@ public class SearchFeatureDao extends AbstractRetriever {
             );
     }
 
+    /**
+     * Get the data points of multiple entities of a high cardinality detector in a time range
+     * with one paginated composite aggregation instead of one query per entity.
+     *
+     * @param detector detector config
+     * @param entities entities to query
+     * @param startTime start time of the range in epoch milliseconds, inclusive
+     * @param endTime end time of the range in epoch milliseconds, exclusive
+     * @param listener onResponse is called with the data points of each entity keyed by bucket
+     *        start time. Entities without data are not in the map.
+     * @throws IOException when the feature aggregations cannot be parsed
+     */
+    public void getFeaturesForPeriodByBatch(
+        AnomalyDetector detector,
+        List<Entity> entities,
+        long startTime,
+        long endTime,
+        ActionListener<Map<Entity, Map<Long, Optional<double[]>>>> listener
+    ) throws IOException {
+        SearchSourceBuilder searchSourceBuilder = ParseUtils.batchFeatureQueryForEntities(detector, entities, startTime, endTime, xContent);
+        logger.debug("Multi-entity batch query for detector {}: {} ", detector.getId(), searchSourceBuilder);
+        searchFeaturesForEntities(detector, searchSourceBuilder, new HashMap<>(), listener);
+    }
+
+    private void searchFeaturesForEntities(
+        AnomalyDetector detector,
+        SearchSourceBuilder searchSourceBuilder,
+        Map<Entity, Map<Long, Optional<double[]>>> dataPoints,
+        ActionListener<Map<Entity, Map<Long, Optional<double[]>>>> listener
+    ) {
+        SearchRequest searchRequest = new SearchRequest(detector.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            Aggregations aggs = response.getAggregations();
+            CompositeAggregation compositeAgg = aggs == null ? null : aggs.get(CommonName.FEATURE_AGGS);
+            if (compositeAgg == null || compositeAgg.getBuckets().isEmpty()) {
+                listener.onResponse(dataPoints);
+                return;
+            }
+            for (CompositeAggregation.Bucket bucket : compositeAgg.getBuckets()) {
+                Map<String, Object> key = bucket.getKey();
+                Map<String, Object> attributes = new HashMap<>();
+                for (String categoryField : detector.getCategoryFields()) {
+                    attributes.put(categoryField, key.get(categoryField));
+                }
+                Optional<double[]> featureData = parseAggregations(
+                    Optional.ofNullable(bucket.getAggregations()),
+                    detector.getEnabledFeatureIds(),
+                    true
+                );
+                dataPoints
+                    .computeIfAbsent(Entity.createEntityByReordering(attributes), entity -> new HashMap<>())
+                    .put((Long) key.get(CommonName.DATE_HISTOGRAM), featureData);
+            }
+            Map<String, Object> afterKey = compositeAgg.afterKey();
+            if (afterKey == null) {
+                listener.onResponse(dataPoints);
+                return;
+            }
+            updateSourceAfterKey(afterKey, searchSourceBuilder);
+            searchFeaturesForEntities(detector, searchSourceBuilder, dataPoints, listener);
+        }, listener::onFailure);
+        // inject user role while searching.
+        clientUtil
+            .<SearchRequest, SearchResponse>asyncRequestWithInjectedSecurity(
+                searchRequest,
+                client::search,
+                detector.getId(),
+                client,
+                AnalysisType.AD,
+                searchResponseListener
+            );
+    }
+
     private Map<Long, Optional<double[]>> parseBucketAggregationResponse(
         SearchResponse response,
         List<String> featureIds,
@@ -742,6 +816,65 @@ public class SearchFeatureDao extends AbstractRetriever {
             );
     }
 
+    /**
+     * Get the samples of multiple entities in the same periods with one search request.
+     *
+     * The samples of an entity are parsed the same way as {@link #getColdStartSamplesForPeriods}
+     * parses the samples of a single entity.
+     *
+     * @param config config accessor
+     * @param entities entities to fetch samples for
+     * @param ranges periods shared by all entities
+     * @param includesEmptyBucket whether periods without data are included in the response
+     * @param context analysis type
+     * @param listener onResponse is called with the samples of each entity, in the same order as
+     *        the given entities. An entity without data gets an empty list.
+     */
+    public void getColdStartSamplesForEntities(
+        Config config,
+        List<Entity> entities,
+        List<Entry<Long, Long>> ranges,
+        boolean includesEmptyBucket,
+        AnalysisType context,
+        ActionListener<List<List<Optional<double[]>>>> listener
+    ) {
+        SearchRequest request;
+        try {
+            SearchSourceBuilder searchSourceBuilder = ParseUtils.generateColdStartQueryForEntities(config, ranges, entities, xContent);
+            request = new SearchRequest(config.getIndices().toArray(new String[0]), searchSourceBuilder);
+        } catch (IOException e) {
+            logger.warn("Failed to create preview sample search request for " + config.getId(), e);
+            listener.onFailure(new IllegalStateException(e));
+            return;
+        }
+
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            Aggregations aggs = response.getAggregations();
+            Filters entityBuckets = aggs == null ? null : aggs.get(ParseUtils.ENTITIES_AGGREGATION);
+            List<List<Optional<double[]>>> samples = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                Filters.Bucket bucket = entityBuckets == null ? null : entityBuckets.getBucketByKey(String.valueOf(i));
+                if (bucket == null || bucket.getAggregations() == null) {
+                    samples.add(Collections.emptyList());
+                } else {
+                    samples.add(parseColdStartSampleAggs(bucket.getAggregations(), includesEmptyBucket, config));
+                }
+            }
+            listener.onResponse(samples);
+        }, listener::onFailure);
+
+        // inject user role while searching.
+        clientUtil
+            .<SearchRequest, SearchResponse>asyncRequestWithInjectedSecurity(
+                request,
+                client::search,
+                config.getId(),
+                client,
+                context,
+                searchResponseListener
+            );
+    }
+
     /**
      * Parses the response from a search query for cold start samples, extracting and processing
      * the relevant buckets to obtain their parsed values.
@@ -768,7 +901,10 @@ public class SearchFeatureDao extends AbstractRetriever {
             logger.warn("Unexpected empty response");
             return Collections.emptyList();
         }
+        return parseColdStartSampleAggs(aggs, includesEmptyBucket, config);
+    }
 
+    private List<Optional<double[]>> parseColdStartSampleAggs(Aggregations aggs, boolean includesEmptyBucket, Config config) {
         long docCountThreshold = includesEmptyBucket ? -1 : 0;
 
         // Extract buckets and order by from_as_string. Currently by default it is ascending. Better not to assume it.
@@ -87,6 +87,7 @@ import org.opensearch.timeseries.function.ExecutorFunction;
 import org.opensearch.timeseries.model.Config;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
+import org.opensearch.timeseries.util.ResultRouting;
 import org.opensearch.transport.client.AdminClient;
 import org.opensearch.transport.client.Client;
 
@@ -128,6 +129,8 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
     // keep track of whether the mapping version is up-to-date
     protected EnumMap<IndexType, IndexState> indexStates;
     protected int maxPrimaryShards;
+    // routing buckets per config of result indices created from now on; 0 routes results by document id
+    protected volatile int resultRoutingBuckets;
     private Scheduler.Cancellable scheduledRollover = null;
     protected volatile TimeValue historyRolloverPeriod;
     protected volatile Long historyMaxDocs;
@@ -293,6 +296,35 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
             );
     }
 
+    /**
+     * Record the number of result routing buckets in the settings of a new result index. Writers
+     * and readers route by the setting of the index, so changing the cluster setting only affects
+     * indices created afterwards.
+     *
+     * @param request create result index request
+     */
+    protected void chooseResultRouting(CreateIndexRequest request) {
+        if (resultRoutingBuckets <= 0) {
+            return;
+        }
+        request
+            .settings(
+                Settings
+                    .builder()
+                    .put(request.settings())
+                    .put(TimeSeriesSettings.RESULT_INDEX_ROUTING_BUCKETS.getKey(), resultRoutingBuckets)
+            );
+    }
+
+    /**
+     * @param indices result indices, aliases or patterns searched
+     * @param configId config id
+     * @return routing of a search over results of the config, or null if the search has to go to all shards
+     */
+    public String getResultSearchRouting(String[] indices, String configId) {
+        return ResultRouting.getSearchRouting(clusterService.state().metadata(), indices, configId, null);
+    }
+
     protected void deleteOldHistoryIndices(String indexPattern, TimeValue historyRetentionPeriod) {
         Set<String> candidates = new HashSet<String>();
 
@@ -1349,6 +1381,7 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
         } else {
             choosePrimaryShards(createRequest, true);
         }
+        chooseResultRouting(createRequest);
         return rollOverRequest;
     }
 
@@ -1398,6 +1431,7 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
         // make index hidden if default result index is true
         choosePrimaryShards(request, hiddenIndex);
         if (defaultResultIndex) {
+            chooseResultRouting(request);
             adminClient.indices().create(request, markMappingUpToDate(resultIndex, actionListener));
         } else {
             request
@@ -1407,6 +1441,7 @@ public abstract class IndexManagement<IndexType extends Enum<IndexType> & TimeSe
                         // Support up to 2 replicas at least
                         .put(IndexMetadata.SETTING_AUTO_EXPAND_REPLICAS, customResultIndexAutoExpandReplica)
                 );
+            chooseResultRouting(request);
             adminClient.indices().create(request, actionListener);
         }
     }
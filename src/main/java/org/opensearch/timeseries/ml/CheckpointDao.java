@@ -16,13 +16,12 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +43,7 @@ import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
@@ -53,6 +53,7 @@ import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.indices.IndexManagement;
 import org.opensearch.timeseries.indices.TimeSeriesIndex;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
 
@@ -85,7 +86,15 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
 
     protected final IndexManagement<IndexType> indexUtil;
     protected final Clock clock;
+    // route checkpoint docs by config id
+    protected final boolean routeByConfig;
     public static final String NOT_ABLE_TO_DELETE_CHECKPOINT_MSG = "Cannot delete all checkpoints of detector";
+    public static final String SKIPPED_WRITE_COUNT = "skipped_write_count";
+    public static final String SKIPPED_WRITE_BYTES = "skipped_write_bytes";
+
+    // checkpoint writes skipped because the model state did not change since its last checkpoint
+    private final LongAdder skippedWrites;
+    private final LongAdder skippedWriteBytes;
 
     public CheckpointDao(
         Client client,
@@ -96,7 +105,8 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         GenericObjectPool<LinkedBuffer> serializeRCFBufferPool,
         int serializeRCFBufferSize,
         IndexManagementType indexUtil,
-        Clock clock
+        Clock clock,
+        boolean routeByConfig
     ) {
         this.client = client;
         this.clientUtil = clientUtil;
@@ -107,6 +117,29 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         this.serializeRCFBufferSize = serializeRCFBufferSize;
         this.indexUtil = indexUtil;
         this.clock = clock;
+        this.routeByConfig = routeByConfig;
+        this.skippedWrites = new LongAdder();
+        this.skippedWriteBytes = new LongAdder();
+    }
+
+    /**
+     * Routing of the checkpoint documents of a config.
+     *
+     * @param configId config Id
+     * @return config Id if checkpoints are routed by config, otherwise null for default routing by doc id
+     */
+    public String getRouting(String configId) {
+        return routeByConfig ? configId : null;
+    }
+
+    /**
+     * Routing of a single-stream model checkpoint, whose model id embeds the config id.
+     *
+     * @param modelId single-stream model Id
+     * @return routing to use in requests for the model checkpoint
+     */
+    protected String getSingleStreamRouting(String modelId) {
+        return routeByConfig ? SingleStreamModelIdMapper.getConfigIdForModelId(modelId) : null;
     }
 
     protected void putModelCheckpoint(String modelId, Map<String, Object> source, ActionListener<Void> listener) {
@@ -128,7 +161,7 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
      */
     protected void saveModelCheckpointAsync(Map<String, Object> source, String modelId, ActionListener<Void> listener) {
 
-        UpdateRequest updateRequest = new UpdateRequest(indexName, modelId);
+        UpdateRequest updateRequest = new UpdateRequest(indexName, modelId).routing(getSingleStreamRouting(modelId));
         updateRequest.doc(source);
         // If the document does not already exist, the contents of the upsert element are inserted as a new document.
         // If the document exists, update fields in the map
@@ -175,15 +208,30 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
     }
 
     /**
-     * Deletes the model checkpoint for the model.
+     * Deletes the model checkpoint for the single-stream model.
      *
      * @param modelId id of the model
      * @param listener onReponse is called with null when the operation is completed
      */
     public void deleteModelCheckpoint(String modelId, ActionListener<Void> listener) {
+        deleteModelCheckpoint(new DeleteRequest(indexName, modelId).routing(getSingleStreamRouting(modelId)), listener);
+    }
+
+    /**
+     * Deletes the model checkpoint for the model.
+     *
+     * @param modelId id of the model
+     * @param configId id of the model's config
+     * @param listener onReponse is called with null when the operation is completed
+     */
+    public void deleteModelCheckpoint(String modelId, String configId, ActionListener<Void> listener) {
+        deleteModelCheckpoint(new DeleteRequest(indexName, modelId).routing(getRouting(configId)), listener);
+    }
+
+    private void deleteModelCheckpoint(DeleteRequest deleteRequest, ActionListener<Void> listener) {
         clientUtil
             .<DeleteRequest, DeleteResponse>asyncRequest(
-                new DeleteRequest(indexName, modelId),
+                deleteRequest,
                 client::delete,
                 ActionListener.wrap(r -> listener.onResponse(null), listener::onFailure)
             );
@@ -213,9 +261,10 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
      * @param checkpointInterval The interval at which checkpoints should be saved.
      * @param clock The clock used to determine the current time (usually in UTC).
      *
-     * @return true if both of the following conditions are met:
+     * @return true if all of the following conditions are met:
      *         1. The model state is valid (the model is non-null or it has non-empty samples), and
-     *         2. Either forceWrite is true, or the last checkpoint time is not the minimum instant and the current time exceeds the last checkpoint time by at least the checkpoint interval.
+     *         2. Either forceWrite is true, or the last checkpoint time is not the minimum instant and the current time exceeds the last checkpoint time by at least the checkpoint interval, and
+     *         3. The model or the samples changed since the last checkpoint.
      *         Returns false otherwise.
      */
     public boolean shouldSave(ModelState<RCFModelType> modelState, boolean forceWrite, Duration checkpointInterval, Clock clock) {
@@ -228,8 +277,96 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
             && !lastCheckpointTime.equals(Instant.MIN)
             && lastCheckpointTime.plus(checkpointInterval).isBefore(clock.instant());
         boolean hasValidSamples = modelState.getSamples() != null && !modelState.getSamples().isEmpty();
-        boolean isModelStateValid = modelState.getModel().isPresent() || hasValidSamples;
-        return isModelStateValid && (isTimeForCheckpoint || forceWrite);
+        boolean isModelStateValid = modelState.hasModel() || hasValidSamples;
+        if (!isModelStateValid || !(isTimeForCheckpoint || forceWrite)) {
+            return false;
+        }
+        if (!isDirty(modelState)) {
+            skippedWrites.increment();
+            skippedWriteBytes.add(modelState.getCheckpointBytes());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Serialize a model into the compact form kept by the compact model store.
+     *
+     * @param model model
+     * @return serialized model, or null if serialization fails
+     */
+    public abstract byte[] toCompactModel(RCFModelType model);
+
+    /**
+     * Deserialize a model packed by {@link #toCompactModel}.
+     *
+     * @param bytes array holding the serialized model
+     * @param offset start of the serialized model
+     * @param length length of the serialized model
+     * @return the model
+     */
+    public abstract RCFModelType fromCompactModel(byte[] bytes, int offset, int length);
+
+    /**
+     * Total number of points the model processed.
+     *
+     * @param model model
+     * @return number of updates
+     */
+    public abstract long getTotalUpdates(RCFModelType model);
+
+    /**
+     * Current change version of a model state. Capture it before serializing the state
+     * so that changes made during serialization keep the state dirty.
+     *
+     * @param modelState model state
+     * @return change version of the model and samples
+     */
+    public ModelState.ChangeVersion getChangeVersion(ModelState<RCFModelType> modelState) {
+        // a packed model keeps its update count, so it is not deserialized here
+        long modelUpdates = modelState.getModelUpdates(this::getTotalUpdates);
+        SampleBuffer samples = modelState.getSamples();
+        return new ModelState.ChangeVersion(modelUpdates, samples == null ? -1 : samples.getVersion());
+    }
+
+    /**
+     * Whether the model or the samples changed since the last checkpoint.
+     *
+     * @param modelState model state
+     * @return true if the state is not known to be in its last checkpoint
+     */
+    public boolean isDirty(ModelState<RCFModelType> modelState) {
+        ModelState.ChangeVersion checkpointed = modelState.getCheckpointedVersion();
+        return checkpointed == null || !checkpointed.equals(getChangeVersion(modelState));
+    }
+
+    /**
+     * Estimate the size of a checkpoint document. Serialized models and samples are
+     * strings that dominate the size, so only string fields are counted.
+     *
+     * @param source checkpoint document source
+     * @return estimated size in bytes
+     */
+    public static long estimateSourceBytes(Map<String, Object> source) {
+        long bytes = 0;
+        if (source != null) {
+            for (Object value : source.values()) {
+                if (value instanceof String) {
+                    bytes += ((String) value).length();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return number and estimated size of checkpoint writes skipped because nothing changed
+     */
+    public Map<String, Object> getWriteStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(SKIPPED_WRITE_COUNT, skippedWrites.sum());
+        stats.put(SKIPPED_WRITE_BYTES, skippedWriteBytes.sum());
+        return stats;
     }
 
     public void batchWrite(BulkRequest request, ActionListener<BulkResponse> listener) {
@@ -258,13 +395,13 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
     /**
      * Serialized samples
      * @param samples input samples
-     * @return serialized object
+     * @return base64 of the binary encoded samples
      */
-    protected Optional<Sample[]> toCheckpoint(Queue<Sample> samples) {
+    protected Optional<String> toCheckpoint(SampleBuffer samples) {
         if (samples == null || samples.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(samples.toArray(new Sample[0]));
+        return Optional.of(samples.toBase64());
     }
 
     public void batchRead(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
@@ -286,6 +423,10 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
         // halts and all failed requests are returned in the response. Any delete
         // requests that completed successfully still stick, they are not rolled back.
         DeleteByQueryRequest deleteRequest = createDeleteCheckpointRequest(configId);
+        if (routeByConfig) {
+            // all checkpoints of the config are on one shard; skip scanning the others
+            deleteRequest.setRouting(configId);
+        }
         logger.info("Delete checkpoints of config {}", configId);
         client.execute(DeleteByQueryAction.INSTANCE, deleteRequest, ActionListener.wrap(response -> {
             if (response.isTimedOut() || !response.getBulkFailures().isEmpty() || !response.getSearchFailures().isEmpty()) {
@@ -323,9 +464,21 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
      * @return a pair of entity model and its last checkpoint time
      */
     public ModelState<RCFModelType> processHCGetResponse(GetResponse response, String modelId, String configId) {
+        if (response != null && response.isExists() && !response.isSourceEmpty()) {
+            BytesReference source = response.getSourceAsBytesRef();
+            if (source != null) {
+                Optional<ModelState<RCFModelType>> modelState = readEntityModelCheckpoint(source, modelId, configId);
+                if (modelState.isPresent()) {
+                    return markLoaded(modelState.get(), source.length());
+                }
+            }
+        }
         Optional<Map<String, Object>> checkpointString = processRawCheckpoint(response);
         if (checkpointString.isPresent()) {
-            return fromEntityModelCheckpoint(checkpointString.get(), modelId, configId);
+            return markLoaded(
+                fromEntityModelCheckpoint(checkpointString.get(), modelId, configId),
+                estimateSourceBytes(checkpointString.get())
+            );
         } else {
             return null;
         }
@@ -340,12 +493,39 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
     public ModelState<RCFModelType> processSingleStreamGetResponse(GetResponse response, String modelId, String configId) {
         Optional<Map<String, Object>> checkpointString = processRawCheckpoint(response);
         if (checkpointString.isPresent()) {
-            return fromSingleStreamModelCheckpoint(checkpointString.get(), modelId, configId);
+            return markLoaded(
+                fromSingleStreamModelCheckpoint(checkpointString.get(), modelId, configId),
+                estimateSourceBytes(checkpointString.get())
+            );
         } else {
             return null;
         }
     }
 
+    /**
+     * A state just loaded from its checkpoint has nothing new to save until its model or samples change.
+     * States without a model (e.g., the model checkpoint is corrupted) are left dirty.
+     */
+    private ModelState<RCFModelType> markLoaded(ModelState<RCFModelType> modelState, long checkpointBytes) {
+        if (modelState != null && modelState.getModel().isPresent()) {
+            modelState.setCheckpointed(getChangeVersion(modelState), checkpointBytes);
+        }
+        return modelState;
+    }
+
+    /**
+     * Load an entity model checkpoint straight from its source bytes without materializing
+     * the source as a map (see {@link CheckpointSourceReader}).
+     *
+     * @param source checkpoint source
+     * @param modelId Model Id
+     * @param configId Config Id
+     * @return the model state, or empty if the checkpoint has to be loaded from the source map
+     */
+    protected Optional<ModelState<RCFModelType>> readEntityModelCheckpoint(BytesReference source, String modelId, String configId) {
+        return Optional.empty();
+    }
+
     protected abstract ModelState<RCFModelType> fromEntityModelCheckpoint(Map<String, Object> checkpoint, String modelId, String configId);
 
     protected abstract ModelState<RCFModelType> fromSingleStreamModelCheckpoint(
@@ -358,8 +538,19 @@ public abstract class CheckpointDao<RCFModelType, IndexType extends Enum<IndexTy
 
     protected abstract DeleteByQueryRequest createDeleteCheckpointRequest(String configId);
 
-    protected Deque<Sample> loadSampleQueue(Map<String, Object> checkpoint, String modelId) {
-        Deque<Sample> sampleQueue = new ArrayDeque<>();
+    protected SampleBuffer loadSamples(Map<String, Object> checkpoint, String modelId) {
+        Object encoded = checkpoint.get(CommonName.SAMPLE_BUFFER);
+        if (encoded instanceof String) {
+            try {
+                return SampleBuffer.fromBase64((String) encoded, TimeSeriesSettings.MAX_SAMPLE_BUFFER_SIZE);
+            } catch (Exception e) {
+                // corrupted samples. Better redo training.
+                logger.warn("Exception while decoding samples for " + modelId, e);
+                return new SampleBuffer();
+            }
+        }
+        // checkpoints written before the binary encoding keep samples as a list of Sample objects
+        SampleBuffer sampleQueue = new SampleBuffer();
         // Even though we we save sample_queue using array, after ser/der, we need to read it as List
         // we start using SAMPLE_QUEUE after forecasting refactoring. Previously in AD, we use CommonName.ENTITY_SAMPLE
         // to store samples. The refactoring moves samples out of EntityModel and makes it a first-level field.
@@ -0,0 +1,226 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+/**
+ * Reads the fields needed to restore a model state straight from checkpoint source bytes.
+ *
+ * Getting the source of a checkpoint as a map materializes every field as a Java object,
+ * including the serialized model of hundreds of KB as a String. A model stored as a JSON
+ * object inside the model field is then parsed a second time to get to the base64 model.
+ * This reader walks the source with a pull parser instead and decodes the base64 model and
+ * samples from the parser's character buffer into bytes ready for protostuff, without
+ * intermediate String or Map copies.
+ *
+ * Layouts the reader does not know (e.g., checkpoints written by older versions) are not
+ * read; callers fall back to reading the source as a map.
+ */
+public class CheckpointSourceReader {
+    private static final Logger LOG = LogManager.getLogger(CheckpointSourceReader.class);
+
+    // 6-bit value of each base64 character, -1 for other characters
+    private static final int[] BASE64_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = i;
+        }
+    }
+
+    /**
+     * Fields read from a checkpoint
+     */
+    public static class Checkpoint {
+        private ByteBuffer model;
+        private SampleBuffer samples;
+        private String timestamp;
+        private Object entity;
+
+        /**
+         * @return decoded model bytes from the buffer's array start up to its limit
+         */
+        public ByteBuffer getModel() {
+            return model;
+        }
+
+        public SampleBuffer getSamples() {
+            return samples;
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return entity in the form {@link org.opensearch.timeseries.model.Entity#fromJsonArray} expects, or null
+         */
+        public Object getEntity() {
+            return entity;
+        }
+    }
+
+    /**
+     * Read a checkpoint.
+     *
+     * @param source checkpoint source
+     * @param modelField field holding the serialized model
+     * @param wrappingKey if not null, the model field holds a JSON object like {"wrappingKey":"base64 model"}
+     *   written by gson; otherwise the model field holds the base64 model
+     * @param maxModelChars models larger than this are not read
+     * @return the fields read, or empty if the checkpoint has to be read as a map: the layout is unknown,
+     *   the model is missing or too large, or the content is malformed
+     */
+    public static Optional<Checkpoint> read(BytesReference source, String modelField, String wrappingKey, int maxModelChars) {
+        try (
+            XContentParser parser = XContentHelper
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, source, XContentType.JSON)
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                return Optional.empty();
+            }
+            Checkpoint checkpoint = new Checkpoint();
+            boolean hasLegacySamples = false;
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String field = parser.currentName();
+                XContentParser.Token token = parser.nextToken();
+                if (modelField.equals(field)) {
+                    if (token != XContentParser.Token.VALUE_STRING || parser.textLength() > maxModelChars) {
+                        return Optional.empty();
+                    }
+                    checkpoint.model = readModel(parser.textCharacters(), parser.textOffset(), parser.textLength(), wrappingKey);
+                    if (checkpoint.model == null) {
+                        return Optional.empty();
+                    }
+                } else if (CommonName.SAMPLE_BUFFER.equals(field) && token == XContentParser.Token.VALUE_STRING) {
+                    int start = parser.textOffset();
+                    ByteBuffer samples = decodeBase64(parser.textCharacters(), start, start + parser.textLength());
+                    checkpoint.samples = SampleBuffer
+                        .fromBytes(samples.array(), 0, samples.limit(), TimeSeriesSettings.MAX_SAMPLE_BUFFER_SIZE);
+                } else if (CommonName.TIMESTAMP.equals(field) && token == XContentParser.Token.VALUE_STRING) {
+                    checkpoint.timestamp = parser.text();
+                } else if (CommonName.ENTITY_KEY.equals(field) && token == XContentParser.Token.START_ARRAY) {
+                    checkpoint.entity = parser.list();
+                } else {
+                    hasLegacySamples |= CommonName.SAMPLE_QUEUE.equals(field);
+                    parser.skipChildren();
+                }
+            }
+            if (checkpoint.model == null || checkpoint.timestamp == null) {
+                return Optional.empty();
+            }
+            if (checkpoint.samples == null) {
+                if (hasLegacySamples) {
+                    return Optional.empty();
+                }
+                checkpoint.samples = new SampleBuffer();
+            }
+            return Optional.of(checkpoint);
+        } catch (Exception e) {
+            LOG.debug("Cannot stream checkpoint source, fall back to reading it as a map", e);
+            return Optional.empty();
+        }
+    }
+
+    private static ByteBuffer readModel(char[] chars, int offset, int length, String wrappingKey) {
+        int start = offset;
+        int end = offset + length;
+        if (wrappingKey != null) {
+            // gson writes the object without white spaces. Other keys only exist in legacy checkpoints.
+            String prefix = "{\"" + wrappingKey + "\":\"";
+            if (length < prefix.length() + 2 || chars[end - 2] != '"' || chars[end - 1] != '}') {
+                return null;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (chars[offset + i] != prefix.charAt(i)) {
+                    return null;
+                }
+            }
+            start = offset + prefix.length();
+            end = end - 2;
+        }
+        return decodeBase64(chars, start, end);
+    }
+
+    /**
+     * Decode base64 characters that may contain JSON escapes, e.g., gson escapes the '=' padding
+     * as a unicode escape.
+     *
+     * @param chars character buffer
+     * @param start start offset, inclusive
+     * @param end end offset, exclusive
+     * @return buffer whose array holds the decoded bytes up to the buffer's limit
+     * @throws IllegalArgumentException if the characters are not valid base64
+     */
+    static ByteBuffer decodeBase64(char[] chars, int start, int end) {
+        byte[] out = new byte[(end - start) / 4 * 3 + 3];
+        int length = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c == '\\') {
+                if (i + 5 < end && chars[i + 1] == 'u') {
+                    c = (char) ((hex(chars[i + 2]) << 12) | (hex(chars[i + 3]) << 8) | (hex(chars[i + 4]) << 4) | hex(chars[i + 5]));
+                    i += 5;
+                } else if (i + 1 < end && chars[i + 1] == '/') {
+                    c = '/';
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Unexpected escape in base64 content");
+                }
+            }
+            if (c == '=') {
+                break;
+            }
+            int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Illegal base64 character " + (int) c);
+            }
+            bits = (bits << 6) | value;
+            if (++count == 4) {
+                out[length++] = (byte) (bits >> 16);
+                out[length++] = (byte) (bits >> 8);
+                out[length++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            out[length++] = (byte) (bits >> 4);
+        } else if (count == 3) {
+            out[length++] = (byte) (bits >> 10);
+            out[length++] = (byte) (bits >> 2);
+        } else if (count == 1) {
+            throw new IllegalArgumentException("Truncated base64 content");
+        }
+        return ByteBuffer.wrap(out, 0, length);
+    }
+
+    private static int hex(char c) {
+        int value = Character.digit(c, 16);
+        if (value < 0) {
+            throw new IllegalArgumentException("Illegal hex character " + c);
+        }
+        return value;
+    }
+}
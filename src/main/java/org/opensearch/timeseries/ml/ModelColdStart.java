@@ -15,7 +15,6 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -197,8 +196,8 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
 
     public void trainModelFromExistingSamples(ModelState<RCFModelType> modelState, Config config, String taskId) {
         if (modelState.getSamples().size() >= this.numMinSamples) {
-            Deque<Sample> samples = modelState.getSamples();
-            trainModelFromDataSegments(new ArrayList<>(samples), modelState, config, taskId);
+            // train from the flat buffer directly without materializing Sample objects
+            trainModelFromDataSegments(modelState.getSamples(), modelState, config, taskId);
             // clear after use
             modelState.clearSamples();
         }
@@ -270,11 +269,11 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
                         // The function trainModelFromDataSegments will save a trained a model. trainModelFromDataSegments is called by
                         // multiple places, so I want to make the saving model implicit just in case I forgot.
                         List<Sample> processedTrainingData = trainModelFromDataSegments(
-                            trainingData,
+                            SampleBuffer.of(trainingData, dataSize),
                             modelState,
                             config,
                             coldStartRequest.getTaskId()
-                        );
+                        ) ? trainingData : null;
                         logger.info("Succeeded in training entity: {}", modelId);
                         listener.onResponse(processedTrainingData);
                     } else {
@@ -545,8 +544,16 @@ public abstract class ModelColdStart<RCFModelType extends ThresholdedRandomCutFo
         }
     }
 
-    protected abstract List<Sample> trainModelFromDataSegments(
-        List<Sample> dataPoints,
+    /**
+     * Train a model from data points and save it in the model state.
+     * @param dataPoints data points ordered by time
+     * @param state model state to hold the trained model
+     * @param config config accessor
+     * @param taskId task Id. Null in real-time analysis.
+     * @return whether a model is trained
+     */
+    protected abstract boolean trainModelFromDataSegments(
+        SampleBuffer dataPoints,
         ModelState<RCFModelType> state,
         Config config,
         String taskId
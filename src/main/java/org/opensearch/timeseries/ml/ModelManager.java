@@ -142,12 +142,13 @@ public abstract class ModelManager<RCFModelType extends ThresholdedRandomCutFore
             if (model != null && model.isPresent()) {
                 RCFModelType rcfModel = model.get();
 
-                if (!modelState.getSamples().isEmpty()) {
-                    for (Sample unProcessedSample : modelState.getSamples()) {
+                SampleBuffer unProcessedSamples = modelState.getSamples();
+                if (unProcessedSamples != null && !unProcessedSamples.isEmpty()) {
+                    for (int i = 0; i < unProcessedSamples.size(); i++) {
                         // we are sure that the process method will indeed return an instance of RCFDescriptor.
-                        double[] unProcessedPoint = unProcessedSample.getValueList();
+                        double[] unProcessedPoint = unProcessedSamples.copyValues(i);
                         int[] missingIndices = DataUtil.generateMissingIndicesArray(unProcessedPoint);
-                        rcfModel.process(unProcessedPoint, unProcessedSample.getDataEndTime().getEpochSecond(), missingIndices);
+                        rcfModel.process(unProcessedPoint, unProcessedSamples.getDataEndEpochSecond(i), missingIndices);
                     }
                     modelState.clearSamples();
                 }
@@ -14,12 +14,14 @@ package org.opensearch.timeseries.ml;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
 
+import org.opensearch.timeseries.caching.CompactModelStore;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.model.Entity;
 
@@ -29,7 +31,7 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
     public static String LAST_CHECKPOINT_TIME_KEY = "last_checkpoint_time";
     public static String PRIORITY_KEY = "priority";
 
-    protected T model;
+    protected volatile T model;
     protected String modelId;
     protected String configId;
     protected String modelType;
@@ -39,8 +41,49 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
     protected Instant lastSeenDataEndTime;
     protected Clock clock;
     protected float priority;
-    protected Deque<Sample> samples;
+    protected SampleBuffer samples;
     protected Optional<Entity> entity;
+    // change version of the last checkpoint, null if unknown
+    protected volatile ChangeVersion checkpointedVersion;
+    // estimated size of the last checkpoint in bytes
+    protected volatile long checkpointBytes;
+    // store holding the packed model; null if the model is always kept inflated
+    protected volatile CompactModelStore<T> compactModelStore;
+    // slot of the packed model in compactModelStore
+    protected volatile int compactSlot = CompactModelStore.NO_SLOT;
+    // held while the model is updated in place or measured
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Counters that change whenever the model or the samples change. The state has nothing new
+     * to checkpoint if its current version equals the version of its last checkpoint.
+     */
+    public static final class ChangeVersion {
+        private final long modelUpdates;
+        private final long sampleVersion;
+
+        public ChangeVersion(long modelUpdates, long sampleVersion) {
+            this.modelUpdates = modelUpdates;
+            this.sampleVersion = sampleVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChangeVersion that = (ChangeVersion) o;
+            return modelUpdates == that.modelUpdates && sampleVersion == that.sampleVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelUpdates, sampleVersion);
+        }
+    }
 
     /**
      * Constructor.
@@ -62,7 +105,7 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
         Clock clock,
         float priority,
         Optional<Entity> entity,
-        Deque<Sample> samples
+        SampleBuffer samples
     ) {
         this.model = model;
         this.modelId = modelId;
@@ -88,7 +131,7 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
      * @param clock UTC clock
      */
     public ModelState(T model, String modelId, String configId, String modelType, Clock clock) {
-        this(model, modelId, configId, modelType, clock, 0, Optional.empty(), new ArrayDeque<>());
+        this(model, modelId, configId, modelType, clock, 0, Optional.empty(), new SampleBuffer());
     }
 
     /**
@@ -145,6 +188,35 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
         this.lastCheckpointTime = lastCheckpointTime;
     }
 
+    /**
+     * Returns the change version of the model and samples in the last checkpoint.
+     *
+     * @return the version, or null if no checkpoint of the current model is known
+     */
+    public ChangeVersion getCheckpointedVersion() {
+        return checkpointedVersion;
+    }
+
+    /**
+     * Returns the estimated size of the last checkpoint.
+     *
+     * @return checkpoint size in bytes, 0 if unknown
+     */
+    public long getCheckpointBytes() {
+        return checkpointBytes;
+    }
+
+    /**
+     * Records what the last checkpoint holds.
+     *
+     * @param checkpointedVersion change version of the model and samples in the checkpoint
+     * @param checkpointBytes estimated size of the checkpoint in bytes
+     */
+    public void setCheckpointed(ChangeVersion checkpointedVersion, long checkpointBytes) {
+        this.checkpointedVersion = checkpointedVersion;
+        this.checkpointBytes = checkpointBytes;
+    }
+
     /**
      * Returns priority of the ModelState
      * @return the priority
@@ -180,17 +252,16 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
         return entity;
     }
 
-    public Deque<Sample> getSamples() {
+    public SampleBuffer getSamples() {
         return this.samples;
     }
 
     public void addSample(Sample sample) {
         if (this.samples == null) {
-            this.samples = new ArrayDeque<>();
-        }
-        if (sample != null && sample.getValueList() != null && sample.getValueList().length != 0) {
-            this.samples.add(sample);
+            this.samples = new SampleBuffer();
         }
+        // null or empty samples are ignored by the buffer
+        this.samples.add(sample);
     }
 
     /**
@@ -200,14 +271,131 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
      */
     public void setModel(T model) {
         this.model = model;
+        // a packed older model is stale now
+        releaseCompactSlot();
+        // a new model is not in any checkpoint yet
+        this.checkpointedVersion = null;
     }
 
     /**
+     * A packed model is returned as a deserialized copy; call {@link #unpack()} first to update
+     * the model in place.
      *
      * @return optional model.
      */
     public Optional<T> getModel() {
-        return Optional.ofNullable(this.model);
+        T current = this.model;
+        if (current != null) {
+            return Optional.of(current);
+        }
+        CompactModelStore<T> store = compactModelStore;
+        int slot = compactSlot;
+        if (store == null || slot == CompactModelStore.NO_SLOT) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(store.get(slot));
+    }
+
+    /**
+     * Keep the model packed in a compact model store from now on.
+     *
+     * @param store compact model store of the config
+     */
+    public void setCompactModelStore(CompactModelStore<T> store) {
+        this.compactModelStore = store;
+    }
+
+    /**
+     * Serialize the model into the compact model store and drop the inflated model.
+     * Does nothing if the state is not attached to a store or has no inflated model.
+     *
+     * @return whether the model is packed
+     */
+    public synchronized boolean pack() {
+        CompactModelStore<T> store = compactModelStore;
+        T current = model;
+        if (store == null || current == null) {
+            return false;
+        }
+        int slot = store.put(compactSlot, current);
+        if (slot == CompactModelStore.NO_SLOT) {
+            // keep the inflated model if it cannot be serialized
+            return false;
+        }
+        // publish the slot before dropping the model so readers always find one of them
+        compactSlot = slot;
+        model = null;
+        return true;
+    }
+
+    /**
+     * Inflate a packed model so that it can be updated in place until the next {@link #pack()}.
+     */
+    public synchronized void unpack() {
+        CompactModelStore<T> store = compactModelStore;
+        if (model == null && store != null && compactSlot != CompactModelStore.NO_SLOT) {
+            model = store.get(compactSlot);
+        }
+    }
+
+    /**
+     * Inflate the model and stop using the compact model store, e.g., when the state leaves
+     * the cache.
+     */
+    public synchronized void detachCompactModelStore() {
+        unpack();
+        releaseCompactSlot();
+        compactModelStore = null;
+    }
+
+    /**
+     * @return lock held while the model is updated in place or measured
+     */
+    public ReentrantLock getLock() {
+        return lock;
+    }
+
+    /**
+     * Unlike {@link #getModel()}, does not deserialize a packed model.
+     *
+     * @param updateCounter number of updates an inflated model processed
+     * @return number of updates the model processed, or -1 if the state has no model
+     */
+    public long getModelUpdates(ToLongFunction<T> updateCounter) {
+        T current = this.model;
+        if (current != null) {
+            return updateCounter.applyAsLong(current);
+        }
+        CompactModelStore<T> store = compactModelStore;
+        int slot = compactSlot;
+        if (store == null || slot == CompactModelStore.NO_SLOT) {
+            return -1;
+        }
+        return store.getUpdates(slot);
+    }
+
+    /**
+     * Unlike {@link #getModel()}, does not deserialize a packed model.
+     *
+     * @return whether the state has a model, inflated or packed
+     */
+    public boolean hasModel() {
+        return model != null || compactSlot != CompactModelStore.NO_SLOT;
+    }
+
+    /**
+     * @return whether the model is currently held packed
+     */
+    public boolean isPacked() {
+        return model == null && compactSlot != CompactModelStore.NO_SLOT;
+    }
+
+    private synchronized void releaseCompactSlot() {
+        CompactModelStore<T> store = compactModelStore;
+        if (store != null && compactSlot != CompactModelStore.NO_SLOT) {
+            store.free(compactSlot);
+        }
+        compactSlot = CompactModelStore.NO_SLOT;
     }
 
     public void clearSamples() {
@@ -219,6 +407,7 @@ public class ModelState<T> implements org.opensearch.timeseries.ExpiringState {
     public void clear() {
         clearSamples();
         model = null;
+        releaseCompactSlot();
     }
 
     /**
@@ -135,7 +135,12 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
 
         boolean success = false;
         if (lock.tryLock()) {
+            // keeps cache maintenance from measuring the model while it changes
+            ReentrantLock stateLock = modelState.getLock();
+            stateLock.lock();
             try {
+                // a model packed in the compact model store is updated in place while inflated
+                modelState.unpack();
                 PriorityQueue<Sample> queue = sampleQueues.get(modelId).getValue();
                 while (!queue.isEmpty()) {
                     Sample curSample = queue.poll();
@@ -147,6 +152,8 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
                     success = tryProcess(curSample, modelState, config, taskId, curExecutionEnd);
                 }
             } finally {
+                modelState.pack();
+                stateLock.unlock();
                 if (lock.isHeldByCurrentThread()) {
                     lock.unlock();
                 }
@@ -224,6 +231,7 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
             checkpointDao
                 .deleteModelCheckpoint(
                     modelId,
+                    config.getId(),
                     ActionListener
                         .wrap(
                             r -> LOG.debug(new ParameterizedMessage("Succeeded in deleting checkpoint [{}].", modelId)),
@@ -251,6 +259,7 @@ public abstract class RealTimeInferencer<RCFModelType extends ThresholdedRandomC
         try {
             sampleQueues.entrySet().removeIf(entry -> entry.getValue().isExpired());
             modelLocks.entrySet().removeIf(entry -> entry.getValue().isExpired());
+            resultWriteWorker.maintenance();
         } catch (Exception e) {
             // will be thrown to transport broadcast handler
             throw new TimeSeriesException("Fail to maintain RealTimeInferencer", e);
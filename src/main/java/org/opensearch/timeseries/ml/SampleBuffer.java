@@ -0,0 +1,338 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+/**
+ * A bounded ring buffer of samples a model has not processed yet.
+ *
+ * Instead of keeping a queue of {@link Sample} objects (each holding a double
+ * array and two Instant objects), values are stored in one flat double array and
+ * the data start/end times in two long arrays of epoch millis. The arrays grow on
+ * demand up to the capacity and are released on {@link #clear()}, so an entity that
+ * has finished training does not pay for its warm-up samples anymore. When the
+ * buffer is full, adding a sample overwrites the oldest one.
+ *
+ * All samples in a buffer share the same dimension. Adding a sample of a different
+ * dimension (e.g., the features of the config changed) drops the existing samples.
+ *
+ * Not thread safe. Callers synchronize the same way as they did for the sample queue.
+ */
+public class SampleBuffer {
+    // encoding format version of toBytes
+    private static final byte ENCODING_VERSION = 1;
+    // version byte, dimension, and sample count
+    private static final int HEADER_BYTES = Byte.BYTES + 2 * Integer.BYTES;
+    private static final int INITIAL_SLOTS = 4;
+    // Instant.MIN cannot be converted to epoch millis; use a sentinel instead
+    private static final long MISSING_TIME = Long.MIN_VALUE;
+
+    private final int capacity;
+    private int dimension;
+    // values of slot i are at [i * dimension, (i + 1) * dimension)
+    private double[] values;
+    private long[] dataStartEpochMillis;
+    private long[] dataEndEpochMillis;
+    // slot of the oldest sample
+    private int head;
+    private int size;
+    // incremented on every change so that callers can tell whether the samples changed
+    private long version;
+
+    public SampleBuffer() {
+        this(TimeSeriesSettings.MAX_SAMPLE_BUFFER_SIZE);
+    }
+
+    public SampleBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sample buffer capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.dimension = 0;
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Copy samples into a new buffer with the default capacity.
+     * @param samples samples ordered from the oldest to the latest
+     * @return a buffer holding the samples
+     */
+    public static SampleBuffer of(Iterable<Sample> samples) {
+        return of(samples, TimeSeriesSettings.MAX_SAMPLE_BUFFER_SIZE);
+    }
+
+    /**
+     * Copy samples into a new buffer.
+     * @param samples samples ordered from the oldest to the latest
+     * @param capacity buffer capacity. Only the latest samples are kept if there are more.
+     * @return a buffer holding the samples
+     */
+    public static SampleBuffer of(Iterable<Sample> samples, int capacity) {
+        SampleBuffer buffer = new SampleBuffer(Math.max(1, capacity));
+        if (samples != null) {
+            for (Sample sample : samples) {
+                buffer.add(sample);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Add a sample. Null or empty samples are ignored.
+     * @param sample sample to add
+     */
+    public void add(Sample sample) {
+        if (sample == null) {
+            return;
+        }
+        add(sample.getValueList(), toEpochMillis(sample.getDataStartTime()), toEpochMillis(sample.getDataEndTime()));
+    }
+
+    /**
+     * Add a sample. Empty values are ignored.
+     * @param point feature values
+     * @param dataStartMillis data start time in epoch millis
+     * @param dataEndMillis data end time in epoch millis
+     */
+    public void add(double[] point, long dataStartMillis, long dataEndMillis) {
+        if (point == null || point.length == 0) {
+            return;
+        }
+        if (point.length != dimension) {
+            clear();
+            dimension = point.length;
+        }
+        int slot;
+        if (size == capacity) {
+            // overwrite the oldest sample
+            slot = head;
+            head = (head + 1) % capacity;
+        } else {
+            ensureSlots(size + 1);
+            slot = (head + size) % slots();
+            size++;
+        }
+        System.arraycopy(point, 0, values, slot * dimension, dimension);
+        dataStartEpochMillis[slot] = dataStartMillis;
+        dataEndEpochMillis[slot] = dataEndMillis;
+        version++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return a counter that changes whenever samples are added or cleared
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Copy the values of a sample into a new array.
+     * @param index sample index. 0 is the oldest sample.
+     * @return a new array holding the sample's values
+     */
+    public double[] copyValues(int index) {
+        int offset = slot(index) * dimension;
+        return Arrays.copyOfRange(values, offset, offset + dimension);
+    }
+
+    public long getDataStartEpochMillis(int index) {
+        return dataStartEpochMillis[slot(index)];
+    }
+
+    public long getDataEndEpochMillis(int index) {
+        return dataEndEpochMillis[slot(index)];
+    }
+
+    /**
+     * Data end time in epoch seconds, which is the timestamp models process samples with.
+     * @param index sample index. 0 is the oldest sample.
+     * @return data end time in epoch seconds
+     */
+    public long getDataEndEpochSecond(int index) {
+        long millis = getDataEndEpochMillis(index);
+        return millis == MISSING_TIME ? Instant.MIN.getEpochSecond() : Math.floorDiv(millis, 1000L);
+    }
+
+    /**
+     * Materialize a sample. Only used by code paths that still need Sample objects.
+     * @param index sample index. 0 is the oldest sample.
+     * @return the sample
+     */
+    public Sample getSample(int index) {
+        return new Sample(copyValues(index), toInstant(getDataStartEpochMillis(index)), toInstant(getDataEndEpochMillis(index)));
+    }
+
+    /**
+     * Materialize all samples, ordered from the oldest to the latest.
+     * @return samples in the buffer
+     */
+    public List<Sample> toSampleList() {
+        List<Sample> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            samples.add(getSample(i));
+        }
+        return samples;
+    }
+
+    /**
+     * Drop all samples and release the backing arrays.
+     */
+    public void clear() {
+        values = null;
+        dataStartEpochMillis = null;
+        dataEndEpochMillis = null;
+        head = 0;
+        size = 0;
+        version++;
+    }
+
+    /**
+     * Binary encoding: a version byte, the dimension, the sample count, then for each
+     * sample (oldest first) its data start and end epoch millis followed by its values.
+     * @return encoded samples
+     */
+    public byte[] toBytes() {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + size * (2 * Long.BYTES + dimension * Double.BYTES));
+        out.put(ENCODING_VERSION);
+        out.putInt(dimension);
+        out.putInt(size);
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            out.putLong(dataStartEpochMillis[slot]);
+            out.putLong(dataEndEpochMillis[slot]);
+            int offset = slot * dimension;
+            for (int j = 0; j < dimension; j++) {
+                out.putDouble(values[offset + j]);
+            }
+        }
+        return out.array();
+    }
+
+    /**
+     * Decode samples produced by {@link #toBytes()}. If the encoding has more samples than
+     * the capacity, the latest ones are kept.
+     * @param bytes encoded samples
+     * @param capacity buffer capacity
+     * @return decoded buffer
+     * @throws IllegalArgumentException when the bytes are not a valid encoding
+     */
+    public static SampleBuffer fromBytes(byte[] bytes, int capacity) {
+        return fromBytes(bytes, 0, bytes.length, capacity);
+    }
+
+    /**
+     * Decode samples produced by {@link #toBytes()} from a region of an array.
+     * @param bytes array holding the encoded samples
+     * @param offset start of the encoding in the array
+     * @param length length of the encoding
+     * @param capacity buffer capacity
+     * @return decoded buffer
+     * @throws IllegalArgumentException when the bytes are not a valid encoding
+     */
+    public static SampleBuffer fromBytes(byte[] bytes, int offset, int length, int capacity) {
+        SampleBuffer buffer = new SampleBuffer(capacity);
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes, offset, length);
+            byte version = in.get();
+            if (version != ENCODING_VERSION) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown sample buffer encoding version %d", version));
+            }
+            int dimension = in.getInt();
+            int count = in.getInt();
+            if (dimension < 0 || count < 0 || in.remaining() != (long) count * (2 * Long.BYTES + (long) dimension * Double.BYTES)) {
+                throw new IllegalArgumentException("Corrupted sample buffer");
+            }
+            double[] point = new double[dimension];
+            for (int i = 0; i < count; i++) {
+                long start = in.getLong();
+                long end = in.getLong();
+                for (int j = 0; j < dimension; j++) {
+                    point[j] = in.getDouble();
+                }
+                buffer.add(point, start, end);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupted sample buffer", e);
+        }
+        return buffer;
+    }
+
+    public String toBase64() {
+        return Base64.getEncoder().encodeToString(toBytes());
+    }
+
+    public static SampleBuffer fromBase64(String encoded, int capacity) {
+        return fromBytes(Base64.getDecoder().decode(encoded), capacity);
+    }
+
+    public static long toEpochMillis(Instant time) {
+        return time == null || time.equals(Instant.MIN) ? MISSING_TIME : time.toEpochMilli();
+    }
+
+    public static Instant toInstant(long epochMillis) {
+        return epochMillis == MISSING_TIME ? Instant.MIN : Instant.ofEpochMilli(epochMillis);
+    }
+
+    private int slots() {
+        return dataEndEpochMillis == null ? 0 : dataEndEpochMillis.length;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(Locale.ROOT, "Index %d out of bounds for size %d", index, size));
+        }
+        return (head + index) % slots();
+    }
+
+    private void ensureSlots(int required) {
+        int current = slots();
+        if (required <= current) {
+            return;
+        }
+        int newSlots = Math.min(capacity, Math.max(INITIAL_SLOTS, current * 2));
+        double[] newValues = new double[newSlots * dimension];
+        long[] newStart = new long[newSlots];
+        long[] newEnd = new long[newSlots];
+        // unwrap the ring so that the oldest sample is at slot 0
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) % current;
+            System.arraycopy(values, from * dimension, newValues, i * dimension, dimension);
+            newStart[i] = dataStartEpochMillis[from];
+            newEnd[i] = dataEndEpochMillis[from];
+        }
+        values = newValues;
+        dataStartEpochMillis = newStart;
+        dataEndEpochMillis = newEnd;
+        head = 0;
+    }
+}
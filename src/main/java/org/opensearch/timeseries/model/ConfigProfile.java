@@ -36,6 +36,7 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
     protected TaskProfileType taskProfile;
     protected long modelCount;
     protected String taskName;
+    protected ResultWriteProfile resultWrite;
 
     public ConfigProfile(StreamInput in) throws IOException {
         if (in.readBoolean()) {
@@ -55,6 +56,7 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
             this.taskProfile = createTaskProfile(in);
         }
         this.modelCount = in.readVLong();
+        this.resultWrite = in.readOptionalWriteable(ResultWriteProfile::new);
     }
 
     protected ConfigProfile() {
@@ -75,6 +77,7 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
         protected Long totalEntities;
         protected Long activeEntities;
         protected long modelCount = 0;
+        protected ResultWriteProfile resultWrite = null;
 
         public Builder() {}
 
@@ -123,6 +126,11 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
             return this;
         }
 
+        public Builder<TaskClass, TaskProfileType> resultWrite(ResultWriteProfile resultWrite) {
+            this.resultWrite = resultWrite;
+            return this;
+        }
+
         public abstract Builder<TaskClass, TaskProfileType> taskProfile(TaskProfileType taskProfile);
 
         public abstract <ConfigProfileType extends ConfigProfile<TaskClass, TaskProfileType>> ConfigProfileType build();
@@ -156,6 +164,7 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
             taskProfile.writeTo(out);
         }
         out.writeVLong(modelCount);
+        out.writeOptionalWriteable(resultWrite);
     }
 
     @Override
@@ -196,6 +205,9 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
         if (modelCount > 0) {
             xContentBuilder.field(CommonName.MODEL_COUNT, modelCount);
         }
+        if (resultWrite != null) {
+            xContentBuilder.field(CommonName.RESULT_WRITE, resultWrite);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -279,6 +291,14 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
         this.modelCount = modelCount;
     }
 
+    public ResultWriteProfile getResultWrite() {
+        return resultWrite;
+    }
+
+    public void setResultWrite(ResultWriteProfile resultWrite) {
+        this.resultWrite = resultWrite;
+    }
+
     @Override
     public void merge(Mergeable other) {
         if (this == other || other == null || getClass() != other.getClass()) {
@@ -315,6 +335,9 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
         if (otherProfile.getModelCount() > 0) {
             this.modelCount = otherProfile.getModelCount();
         }
+        if (otherProfile.getResultWrite() != null) {
+            this.resultWrite = otherProfile.getResultWrite();
+        }
     }
 
     @Override
@@ -362,6 +385,9 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
             if (modelCount > 0) {
                 equalsBuilder.append(modelCount, other.modelCount);
             }
+            if (resultWrite != null) {
+                equalsBuilder.append(resultWrite, other.resultWrite);
+            }
             return equalsBuilder.isEquals();
         }
         return false;
@@ -380,6 +406,7 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
             .append(activeEntities)
             .append(taskProfile)
             .append(modelCount)
+            .append(resultWrite)
             .toHashCode();
     }
 
@@ -417,6 +444,9 @@ public abstract class ConfigProfile<TaskClass extends TimeSeriesTask, TaskProfil
         if (modelCount > 0) {
             toStringBuilder.append(CommonName.MODEL_COUNT, modelCount);
         }
+        if (resultWrite != null) {
+            toStringBuilder.append(CommonName.RESULT_WRITE, resultWrite);
+        }
         return toStringBuilder.toString();
     }
 
@@ -25,7 +25,6 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.lucene.util.SetOnce;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.hash.MurmurHash3;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -47,27 +46,49 @@ import org.opensearch.timeseries.annotation.Generated;
 import org.opensearch.timeseries.constant.CommonName;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 /**
  * Categorical field name and its value
  *
+ * The attributes of an entity do not change after creation. The normalized attribute string and
+ * its 128-bit hash are computed once and reused as the hash ring key, the model Id source, and
+ * for hashCode/equals, so entities are cheap map keys.
  */
 public class Entity implements ToXContentObject, Writeable {
 
     private static final long RANDOM_SEED = 42;
     private static final String MODEL_ID_INFIX = "_entity_";
+    // Attribute names and many attribute values (e.g., region or service) repeat across the
+    // entities hosted on a node. Share one copy of each.
+    private static final Interner<String> ATTRIBUTE_INTERNER = Interners.newWeakInterner();
 
     public static final String ATTRIBUTE_NAME_FIELD = "name";
     public static final String ATTRIBUTE_VALUE_FIELD = "value";
 
     // model id
-    private SetOnce<String> modelId = new SetOnce<>();
+    private volatile String modelId;
+    // normalized attributes and their hash. Computed on first use.
+    private volatile Identity identity;
     // a map from attribute name like "host" to its value like "server_1"
     // Use SortedMap so that the attributes are ordered and we can derive the unique
     // string representation used in the hash ring.
     private final SortedMap<String, String> attributes;
 
+    private static class Identity {
+        private final String normalizedAttributes;
+        // 128-bit MurmurHash3 of the normalized attributes
+        private final long hashHigh;
+        private final long hashLow;
+
+        Identity(String normalizedAttributes, long hashHigh, long hashLow) {
+            this.normalizedAttributes = normalizedAttributes;
+            this.hashHigh = hashHigh;
+            this.hashLow = hashLow;
+        }
+    }
+
     /**
      * Create an entity that has multiple attributes
      * @param attrs what we parsed from query output as a map of attribute and its values.
@@ -76,7 +97,7 @@ public class Entity implements ToXContentObject, Writeable {
     public static Entity createEntityByReordering(Map<String, Object> attrs) {
         SortedMap<String, String> sortedMap = new TreeMap<>();
         for (Map.Entry<String, Object> categoryValuePair : attrs.entrySet()) {
-            sortedMap.put(categoryValuePair.getKey(), categoryValuePair.getValue().toString());
+            sortedMap.put(intern(categoryValuePair.getKey()), intern(categoryValuePair.getValue().toString()));
         }
         return new Entity(sortedMap);
     }
@@ -89,7 +110,7 @@ public class Entity implements ToXContentObject, Writeable {
      */
     public static Entity createSingleAttributeEntity(String attributeName, String attributeVal) {
         SortedMap<String, String> sortedMap = new TreeMap<>();
-        sortedMap.put(attributeName, attributeVal);
+        sortedMap.put(intern(attributeName), intern(attributeVal));
         return new Entity(sortedMap);
     }
 
@@ -107,7 +128,11 @@ public class Entity implements ToXContentObject, Writeable {
     }
 
     public Entity(StreamInput input) throws IOException {
-        this.attributes = new TreeMap<>(input.readMap(StreamInput::readString, StreamInput::readString));
+        this.attributes = new TreeMap<>(input.readMap(in -> intern(in.readString()), in -> intern(in.readString())));
+    }
+
+    private static String intern(String attribute) {
+        return attribute == null ? null : ATTRIBUTE_INTERNER.intern(attribute);
     }
 
     /**
@@ -180,7 +205,7 @@ public class Entity implements ToXContentObject, Writeable {
             }
             // reset every time I have seen a name-value pair.
             if (parsedName != null && parsedValue != null) {
-                entities.put(parsedName, parsedValue);
+                entities.put(intern(parsedName), intern(parsedValue));
                 parsedValue = null;
                 parsedName = null;
             }
@@ -198,13 +223,18 @@ public class Entity implements ToXContentObject, Writeable {
             return false;
         }
         Entity that = (Entity) o;
-        return Objects.equal(attributes, that.attributes);
+        Identity thisIdentity = getIdentity();
+        Identity thatIdentity = that.getIdentity();
+        // different hashes reject without comparing attributes; equal hashes are confirmed against collisions
+        return thisIdentity.hashHigh == thatIdentity.hashHigh
+            && thisIdentity.hashLow == thatIdentity.hashLow
+            && attributes.equals(that.attributes);
     }
 
     @Generated
     @Override
     public int hashCode() {
-        return Objects.hashCode(attributes);
+        return Long.hashCode(getIdentity().hashHigh);
     }
 
     @Override
@@ -218,7 +248,26 @@ public class Entity implements ToXContentObject, Writeable {
      */
     @Override
     public String toString() {
-        return normalizedAttributes(attributes);
+        return getIdentity().normalizedAttributes;
+    }
+
+    private Identity getIdentity() {
+        Identity computed = identity;
+        if (computed == null) {
+            // racing threads compute the same value
+            String normalizedFields = normalizedAttributes(attributes);
+            MurmurHash3.Hash128 hashFunc = MurmurHash3
+                .hash128(
+                    normalizedFields.getBytes(StandardCharsets.UTF_8),
+                    0,
+                    normalizedFields.length(),
+                    RANDOM_SEED,
+                    new MurmurHash3.Hash128()
+                );
+            computed = new Identity(normalizedFields, hashFunc.h1, hashFunc.h2);
+            identity = computed;
+        }
+        return computed;
     }
 
     /**
@@ -275,29 +324,16 @@ public class Entity implements ToXContentObject, Writeable {
      * for ease of use and maintainability.
      *
      * @param configId config Id
-     * @param attributes Attributes of an entity
+     * @param identity normalized attributes of an entity and their hash
      * @return the model Id
      */
-    private static Optional<String> getModelId(String configId, SortedMap<String, String> attributes) {
-        if (attributes.isEmpty()) {
-            return Optional.empty();
-        } else {
-            String normalizedFields = normalizedAttributes(attributes);
-            MurmurHash3.Hash128 hashFunc = MurmurHash3
-                .hash128(
-                    normalizedFields.getBytes(StandardCharsets.UTF_8),
-                    0,
-                    normalizedFields.length(),
-                    RANDOM_SEED,
-                    new MurmurHash3.Hash128()
-                );
-            // 16 bytes = 128 bits
-            byte[] bytes = new byte[16];
-            System.arraycopy(Numbers.longToBytes(hashFunc.h1), 0, bytes, 0, 8);
-            System.arraycopy(Numbers.longToBytes(hashFunc.h2), 0, bytes, 8, 8);
-            // Some bytes like 10 in ascii is corrupted in some systems. Base64 ensures we use safe bytes: https://tinyurl.com/mxmrhmhf
-            return Optional.of(configId + MODEL_ID_INFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
-        }
+    private static String getModelId(String configId, Identity identity) {
+        // 16 bytes = 128 bits
+        byte[] bytes = new byte[16];
+        System.arraycopy(Numbers.longToBytes(identity.hashHigh), 0, bytes, 0, 8);
+        System.arraycopy(Numbers.longToBytes(identity.hashLow), 0, bytes, 8, 8);
+        // Some bytes like 10 in ascii is corrupted in some systems. Base64 ensures we use safe bytes: https://tinyurl.com/mxmrhmhf
+        return configId + MODEL_ID_INFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     /**
@@ -307,16 +343,14 @@ public class Entity implements ToXContentObject, Writeable {
      * @return Model Id.  Can be missing (e.g., the field value is too long for single-category detector)
      */
     public Optional<String> getModelId(String configId) {
-        if (modelId.get() == null) {
-            // computing model id is not cheap and the result is deterministic. We only do it once.
-            Optional<String> computedModelId = Entity.getModelId(configId, attributes);
-            if (computedModelId.isPresent()) {
-                this.modelId.set(computedModelId.get());
-            } else {
-                this.modelId.set(null);
-            }
+        if (attributes.isEmpty()) {
+            return Optional.empty();
+        }
+        if (modelId == null) {
+            // the hash is shared with hashCode and the ring key. Only the encoding is done here, once.
+            modelId = Entity.getModelId(configId, getIdentity());
         }
-        return Optional.ofNullable(modelId.get());
+        return Optional.of(modelId);
     }
 
     public Map<String, String> getAttributes() {
@@ -29,6 +29,7 @@ public enum ProfileName implements Name {
     INIT_PROGRESS(CommonName.INIT_PROGRESS),
     TOTAL_ENTITIES(CommonName.TOTAL_ENTITIES),
     ACTIVE_ENTITIES(CommonName.ACTIVE_ENTITIES),
+    RESULT_WRITE(CommonName.RESULT_WRITE),
     // AD only
     AD_TASK(ADCommonName.AD_TASK),
     // Forecast only
@@ -68,6 +69,8 @@ public enum ProfileName implements Name {
                 return TOTAL_ENTITIES;
             case CommonName.ACTIVE_ENTITIES:
                 return ACTIVE_ENTITIES;
+            case CommonName.RESULT_WRITE:
+                return RESULT_WRITE;
             case ADCommonName.AD_TASK:
                 return AD_TASK;
             case ForecastCommonName.FORECAST_TASK:
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.model;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.builder.ToStringBuilder;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Profile output for the result write path of a config: how many results were admitted to
+ * result indices, dropped or spilled to a local file under indexing pressure, and replayed
+ * from that file, plus how long results waited between being produced and being admitted.
+ * Counts are summed across nodes and lags are the maximum across nodes.
+ */
+public class ResultWriteProfile implements Writeable, ToXContent {
+    // field name in toXContent
+    public static final String ADMITTED = "admitted";
+    public static final String DROPPED = "dropped";
+    public static final String SPILLED = "spilled";
+    public static final String REPLAYED = "replayed";
+    public static final String DROP_RATE = "drop_rate";
+    public static final String LAST_LAG_MS = "last_lag_ms";
+    public static final String MAX_LAG_MS = "max_lag_ms";
+
+    private long admitted;
+    private long dropped;
+    private long spilled;
+    private long replayed;
+    private long lastLagMillis;
+    private long maxLagMillis;
+
+    public ResultWriteProfile(long admitted, long dropped, long spilled, long replayed, long lastLagMillis, long maxLagMillis) {
+        this.admitted = admitted;
+        this.dropped = dropped;
+        this.spilled = spilled;
+        this.replayed = replayed;
+        this.lastLagMillis = lastLagMillis;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public ResultWriteProfile(StreamInput in) throws IOException {
+        admitted = in.readVLong();
+        dropped = in.readVLong();
+        spilled = in.readVLong();
+        replayed = in.readVLong();
+        lastLagMillis = in.readVLong();
+        maxLagMillis = in.readVLong();
+    }
+
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getSpilled() {
+        return spilled;
+    }
+
+    public long getReplayed() {
+        return replayed;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    /**
+     * @return fraction of results that were neither admitted nor spilled
+     */
+    public double getDropRate() {
+        long total = admitted + dropped + spilled;
+        return total == 0 ? 0 : (double) dropped / total;
+    }
+
+    /**
+     * Combine the profile of another node into this one.
+     *
+     * @param other profile of another node
+     */
+    public void merge(ResultWriteProfile other) {
+        if (other == null) {
+            return;
+        }
+        admitted += other.admitted;
+        dropped += other.dropped;
+        spilled += other.spilled;
+        replayed += other.replayed;
+        lastLagMillis = Math.max(lastLagMillis, other.lastLagMillis);
+        maxLagMillis = Math.max(maxLagMillis, other.maxLagMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(ADMITTED, admitted);
+        builder.field(DROPPED, dropped);
+        builder.field(SPILLED, spilled);
+        builder.field(REPLAYED, replayed);
+        builder.field(DROP_RATE, getDropRate());
+        builder.field(LAST_LAG_MS, lastLagMillis);
+        builder.field(MAX_LAG_MS, maxLagMillis);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(admitted);
+        out.writeVLong(dropped);
+        out.writeVLong(spilled);
+        out.writeVLong(replayed);
+        out.writeVLong(lastLagMillis);
+        out.writeVLong(maxLagMillis);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .append(ADMITTED, admitted)
+            .append(DROPPED, dropped)
+            .append(SPILLED, spilled)
+            .append(REPLAYED, replayed)
+            .append(LAST_LAG_MS, lastLagMillis)
+            .append(MAX_LAG_MS, maxLagMillis)
+            .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ResultWriteProfile other = (ResultWriteProfile) obj;
+        return new EqualsBuilder()
+            .append(admitted, other.admitted)
+            .append(dropped, other.dropped)
+            .append(spilled, other.spilled)
+            .append(replayed, other.replayed)
+            .append(lastLagMillis, other.lastLagMillis)
+            .append(maxLagMillis, other.maxLagMillis)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+            .append(admitted)
+            .append(dropped)
+            .append(spilled)
+            .append(replayed)
+            .append(lastLagMillis)
+            .append(maxLagMillis)
+            .toHashCode();
+    }
+}
@@ -80,12 +80,14 @@ public class CheckPointMaintainRequestAdapter<RCFModelType extends ThresholdedRa
             }
 
             try {
+                ModelState.ChangeVersion version = checkpointDao.getChangeVersion(state);
                 Map<String, Object> source = checkpointDao.toIndexSource(state);
 
                 // the model state is bloated or empty (empty samples and models), skip
                 if (source == null || source.isEmpty() || Strings.isEmpty(modelId)) {
                     return Optional.empty();
                 }
+                long checkpointBytes = CheckpointDao.estimateSourceBytes(source);
 
                 return Optional
                     .of(
@@ -96,7 +98,11 @@ public class CheckPointMaintainRequestAdapter<RCFModelType extends ThresholdedRa
                             // If the document does not already exist, the contents of the upsert element
                             // are inserted as a new document.
                             // If the document exists, update fields in the map
-                            new UpdateRequest(indexName, modelId).docAsUpsert(true).doc(source)
+                            new UpdateRequest(indexName, modelId)
+                                .routing(checkpointDao.getRouting(configId))
+                                .docAsUpsert(true)
+                                .doc(source),
+                            () -> state.setCheckpointed(version, checkpointBytes)
                         )
                     );
             } catch (Exception e) {
@@ -153,7 +153,8 @@ public abstract class CheckpointReadWorker<RCFModelType extends ThresholdedRando
             if (null == modelId) {
                 continue;
             }
-            multiGetRequest.add(new MultiGetRequest.Item(checkpointIndexName, modelId));
+            multiGetRequest
+                .add(new MultiGetRequest.Item(checkpointIndexName, modelId).routing(checkpointDao.getRouting(request.getConfigId())));
         }
         return multiGetRequest;
     }
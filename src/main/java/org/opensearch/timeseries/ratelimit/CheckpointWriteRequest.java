@@ -15,13 +15,35 @@ import org.opensearch.action.update.UpdateRequest;
 
 public class CheckpointWriteRequest extends QueuedRequest {
     private final UpdateRequest updateRequest;
+    // called after the checkpoint is indexed; may be null
+    private final Runnable onIndexed;
 
     public CheckpointWriteRequest(long expirationEpochMs, String detectorId, RequestPriority priority, UpdateRequest updateRequest) {
+        this(expirationEpochMs, detectorId, priority, updateRequest, null);
+    }
+
+    public CheckpointWriteRequest(
+        long expirationEpochMs,
+        String detectorId,
+        RequestPriority priority,
+        UpdateRequest updateRequest,
+        Runnable onIndexed
+    ) {
         super(expirationEpochMs, detectorId, priority);
         this.updateRequest = updateRequest;
+        this.onIndexed = onIndexed;
     }
 
     public UpdateRequest getUpdateRequest() {
         return updateRequest;
     }
+
+    /**
+     * Notify the requester that the checkpoint is indexed.
+     */
+    public void indexed() {
+        if (onIndexed != null) {
+            onIndexed.run();
+        }
+    }
 }
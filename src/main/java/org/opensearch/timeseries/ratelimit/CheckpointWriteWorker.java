@@ -115,12 +115,17 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
     @Override
     protected ActionListener<BulkResponse> getResponseListener(List<CheckpointWriteRequest> toProcess, BulkRequest batchRequest) {
         return ActionListener.wrap(response -> {
-            for (BulkItemResponse r : response.getItems()) {
+            BulkItemResponse[] items = response.getItems();
+            for (int i = 0; i < items.length; i++) {
+                BulkItemResponse r = items[i];
                 if (r.getFailureMessage() != null) {
                     // maybe indicating a bug
                     // don't retry failed requests since checkpoints are too large (250KB+)
                     // Later maintenance window or cold start or cache remove will retry saving
                     LOG.error(r.getFailureMessage());
+                } else if (i < toProcess.size()) {
+                    // bulk items are in the order of the requests
+                    toProcess.get(i).indexed();
                 }
             }
         }, exception -> {
@@ -145,6 +150,8 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
      * is a high priority request (e.g., from cold start).
      * This method will update the input state's last checkpoint time if the
      *  checkpoint is staged (ready to be written in the next batch).
+     * States whose model and samples did not change since their last
+     *  checkpoint are not written again, even if forceWrite is true.
      * @param modelState Model state
      * @param forceWrite whether we should write no matter what
      * @param priority how urgent the write is
@@ -175,6 +182,7 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
 
             Config config = configOptional.get();
             try {
+                ModelState.ChangeVersion version = checkpoint.getChangeVersion(modelState);
                 Map<String, Object> source = checkpoint.toIndexSource(modelState);
 
                 // the model state is bloated or we have bugs, skip
@@ -183,6 +191,7 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
                 }
 
                 modelState.setLastCheckpointTime(clock.instant());
+                long checkpointBytes = CheckpointDao.estimateSourceBytes(source);
                 CheckpointWriteRequest request = new CheckpointWriteRequest(
                     System.currentTimeMillis() + config.getIntervalInMilliseconds(),
                     configId,
@@ -190,7 +199,11 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
                     // If the document does not already exist, the contents of the upsert element
                     // are inserted as a new document.
                     // If the document exists, update fields in the map
-                    new UpdateRequest(indexName, modelId).docAsUpsert(true).doc(source)
+                    new UpdateRequest(indexName, modelId)
+                        .routing(checkpoint.getRouting(configId))
+                        .docAsUpsert(true)
+                        .doc(source),
+                    () -> modelState.setCheckpointed(version, checkpointBytes)
                 );
 
                 put(request);
@@ -224,6 +237,7 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
                         continue;
                     }
 
+                    ModelState.ChangeVersion version = checkpoint.getChangeVersion(state);
                     Map<String, Object> source = checkpoint.toIndexSource(state);
                     String modelId = state.getModelId();
 
@@ -233,6 +247,7 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
                     }
 
                     state.setLastCheckpointTime(clock.instant());
+                    long checkpointBytes = CheckpointDao.estimateSourceBytes(source);
                     allRequests
                         .add(
                             new CheckpointWriteRequest(
@@ -242,7 +257,11 @@ public abstract class CheckpointWriteWorker<RCFModelType, IndexType extends Enum
                                 // If the document does not already exist, the contents of the upsert element
                                 // are inserted as a new document.
                                 // If the document exists, update fields in the map
-                                new UpdateRequest(indexName, modelId).docAsUpsert(true).doc(source)
+                                new UpdateRequest(indexName, modelId)
+                                    .routing(checkpoint.getRouting(configId))
+                                    .docAsUpsert(true)
+                                    .doc(source),
+                                () -> state.setCheckpointed(version, checkpointBytes)
                             )
                         );
                 }
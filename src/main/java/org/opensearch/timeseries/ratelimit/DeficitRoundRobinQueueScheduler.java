@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Weighted deficit round robin (DRR) over a worker's request queues.
+ *
+ * Every visit of a backlogged queue adds quantum * weight to the queue's deficit.
+ * A queue is served once its deficit reaches one request and may contribute
+ * floor(deficit) requests. Served requests are subtracted from the deficit and an
+ * emptied queue loses its remaining credit. Over time each backlogged queue gets a
+ * service share proportional to its weight, so a config with a large backlog is no
+ * longer held to the same turn share as a small one, and the LOW queue gets a small
+ * but non-zero share instead of waiting for all other queues to drain.
+ *
+ * On top of that, any queue whose oldest request has waited longer than the starvation
+ * bound is served first regardless of its credit.
+ */
+public class DeficitRoundRobinQueueScheduler implements QueueScheduler {
+    // a visit credits at least a quarter request so that a selection finishes
+    // within a few rounds even for tiny weights
+    static final double MIN_CREDIT_PER_VISIT = 0.25;
+
+    private final ToDoubleFunction<SchedulableQueue> weigher;
+    private final long starvationBoundMillis;
+    private final int quantum;
+    private String lastSelectedQueueId;
+
+    /**
+     *
+     * @param weigher returns a queue's relative weight
+     * @param starvationBoundMillis max wait of a queue's oldest request before the queue is served ahead of others
+     * @param quantum requests credited per visit to a queue of weight 1
+     */
+    public DeficitRoundRobinQueueScheduler(ToDoubleFunction<SchedulableQueue> weigher, long starvationBoundMillis, int quantum) {
+        this.weigher = weigher;
+        this.starvationBoundMillis = starvationBoundMillis;
+        this.quantum = Math.max(1, quantum);
+        this.lastSelectedQueueId = null;
+    }
+
+    @Override
+    public <Q extends SchedulableQueue> Optional<Selection<Q>> select(NavigableMap<String, Q> queues, long nowMillis) {
+        if (true == queues.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Q> backlogged = new ArrayList<>();
+        Q starving = null;
+        long maxWait = -1;
+        for (Q queue : ringOrder(queues)) {
+            queue.clearExpiredRequests();
+            if (queue.isEmpty()) {
+                // DRR: an idle queue does not bank credit
+                queue.setDeficit(0);
+                continue;
+            }
+            backlogged.add(queue);
+            long wait = queue.getHeadWaitMillis(nowMillis);
+            if (wait >= starvationBoundMillis && wait > maxWait) {
+                starving = queue;
+                maxWait = wait;
+            }
+        }
+
+        if (backlogged.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (starving != null) {
+            lastSelectedQueueId = starving.getQueueId();
+            return Optional.of(new Selection<>(starving, Math.max(quantum, (int) starving.getDeficit())));
+        }
+
+        double[] credits = new double[backlogged.size()];
+        for (int i = 0; i < credits.length; i++) {
+            credits[i] = Math.max(MIN_CREDIT_PER_VISIT, quantum * weigher.applyAsDouble(backlogged.get(i)));
+        }
+
+        // with MIN_CREDIT_PER_VISIT every queue is ready after at most 1 / MIN_CREDIT_PER_VISIT rounds
+        int maxRounds = (int) Math.ceil(1 / MIN_CREDIT_PER_VISIT) + 1;
+        for (int round = 0; round < maxRounds; round++) {
+            for (int i = 0; i < credits.length; i++) {
+                Q queue = backlogged.get(i);
+                double deficit = queue.getDeficit() + credits[i];
+                queue.setDeficit(deficit);
+                if (deficit >= 1) {
+                    lastSelectedQueueId = queue.getQueueId();
+                    return Optional.of(new Selection<>(queue, (int) deficit));
+                }
+            }
+        }
+
+        // unreachable unless credits are NaN
+        Q queue = backlogged.get(0);
+        lastSelectedQueueId = queue.getQueueId();
+        return Optional.of(new Selection<>(queue, 1));
+    }
+
+    @Override
+    public void onServed(SchedulableQueue queue, int served) {
+        if (queue.isEmpty()) {
+            queue.setDeficit(0);
+        } else {
+            queue.setDeficit(Math.max(0, queue.getDeficit() - served));
+        }
+    }
+
+    /**
+     * @return queues starting right after the last selected one and wrapping around
+     */
+    private <Q extends SchedulableQueue> List<Q> ringOrder(NavigableMap<String, Q> queues) {
+        List<Q> ordered = new ArrayList<>(queues.size());
+        String last = lastSelectedQueueId;
+        if (last != null) {
+            ordered.addAll(queues.tailMap(last, false).values());
+            ordered.addAll(queues.headMap(last, true).values());
+        } else {
+            ordered.addAll(queues.values());
+        }
+        return ordered;
+    }
+}
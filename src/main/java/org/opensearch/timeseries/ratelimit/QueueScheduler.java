@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+
+/**
+ * Decides which of a worker's request queues to serve next and how many requests
+ * it may contribute. Each worker owns its own scheduler instance, so implementations
+ * can keep cursor state across calls.
+ */
+public interface QueueScheduler {
+    enum Policy {
+        // legacy behavior: equal turns for MEDIUM queues, LOW only when everything else is empty
+        ROUND_ROBIN,
+        // deficit round robin weighted by priority, config interval, and backlog with a starvation bound
+        DEFICIT_ROUND_ROBIN;
+
+        public static Policy fromName(String name) {
+            return Policy.valueOf(name.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * A selected queue and the max number of requests to take from it.
+     *
+     * @param <Q> queue type
+     */
+    class Selection<Q extends SchedulableQueue> {
+        private final Q queue;
+        private final int quota;
+
+        public Selection(Q queue, int quota) {
+            this.queue = queue;
+            this.quota = quota;
+        }
+
+        public Q getQueue() {
+            return queue;
+        }
+
+        public int getQuota() {
+            return quota;
+        }
+    }
+
+    /**
+     * Pick the next queue to serve.
+     * @param <Q> queue type
+     * @param queues all queues of a worker keyed and sorted by queue id
+     * @param nowMillis current epoch milliseconds
+     * @return the selected non-empty queue or empty if all queues are empty
+     */
+    <Q extends SchedulableQueue> Optional<Selection<Q>> select(NavigableMap<String, Q> queues, long nowMillis);
+
+    /**
+     * Called after requests are taken from a selected queue.
+     * @param queue the served queue
+     * @param served number of requests taken
+     */
+    default void onServed(SchedulableQueue queue, int served) {}
+}
@@ -15,6 +15,8 @@ public abstract class QueuedRequest {
     protected long expirationEpochMs;
     protected String configId;
     protected RequestPriority priority;
+    // when the request entered a worker's queue. Used to measure queue wait.
+    protected long enqueueEpochMs;
 
     /**
      *
@@ -54,4 +56,12 @@ public abstract class QueuedRequest {
     public void setDetectorId(String detectorId) {
         this.configId = detectorId;
     }
+
+    public long getEnqueueEpochMs() {
+        return enqueueEpochMs;
+    }
+
+    public void setEnqueueEpochMs(long enqueueEpochMs) {
+        this.enqueueEpochMs = enqueueEpochMs;
+    }
 }
@@ -12,23 +12,26 @@
 package org.opensearch.timeseries.ratelimit;
 
 import static org.opensearch.timeseries.settings.TimeSeriesSettings.COOLDOWN_MINUTES;
+import static org.opensearch.timeseries.settings.TimeSeriesSettings.REQUEST_QUEUE_QUANTUM;
+import static org.opensearch.timeseries.settings.TimeSeriesSettings.REQUEST_QUEUE_SCHEDULER;
+import static org.opensearch.timeseries.settings.TimeSeriesSettings.REQUEST_QUEUE_STARVATION_BOUND;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -45,6 +48,7 @@ import org.opensearch.timeseries.MaintenanceState;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
+import org.opensearch.timeseries.constant.CommonName;
 
 /**
  * HCAD can bombard Opensearch with “thundering herd” traffic, in which many entities
@@ -67,7 +71,7 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
      * beyond a limit compared to MEDIUM/HIGH priority requests.
      *
      */
-    class RequestQueue implements ExpiringState {
+    class RequestQueue implements ExpiringState, SchedulableQueue {
         /*
          * last access time of the RequestQueue
          * This does not have to be precise, just a signal for unused old RequestQueue
@@ -78,10 +82,64 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         // data structure to hold requests. Cannot be reassigned. This is to
         // guarantee a RequestQueue's content cannot be null.
         private final BlockingQueue<RequestType> content;
-
-        RequestQueue() {
+        private final String queueId;
+        // service credit used by credit-based schedulers. Races are fine as with lastAccessTime.
+        private volatile double deficit;
+        // number of requests taken out of the queue for execution
+        private final LongAdder servedRequests;
+        // sum of the time served requests spent in the queue
+        private final LongAdder totalWaitMillis;
+
+        RequestQueue(String queueId) {
             this.lastAccessTime = clock.instant();
             this.content = new LinkedBlockingQueue<RequestType>();
+            this.queueId = queueId;
+            this.deficit = 0;
+            this.servedRequests = new LongAdder();
+            this.totalWaitMillis = new LongAdder();
+        }
+
+        @Override
+        public String getQueueId() {
+            return queueId;
+        }
+
+        @Override
+        public double getDeficit() {
+            return deficit;
+        }
+
+        @Override
+        public void setDeficit(double deficit) {
+            this.deficit = deficit;
+        }
+
+        @Override
+        public long getHeadWaitMillis(long nowMillis) {
+            RequestType head = content.peek();
+            if (head == null) {
+                return 0;
+            }
+            return Math.max(0, nowMillis - head.getEnqueueEpochMs());
+        }
+
+        /**
+         * Move requests to be executed out of the queue and record their queue wait
+         * @param requests where to put the requests
+         * @param maxRequests max number of requests to move
+         * @param nowMillis current epoch milliseconds
+         * @return the number of moved requests
+         */
+        public int drainTo(List<RequestType> requests, int maxRequests, long nowMillis) {
+            int start = requests.size();
+            // concurrent requests will wait to prevent concurrent draining.
+            // This is fine since the operation is fast
+            int drained = content.drainTo(requests, maxRequests);
+            for (int i = start; i < requests.size(); i++) {
+                totalWaitMillis.add(Math.max(0, nowMillis - requests.get(i).getEnqueueEpochMs()));
+            }
+            servedRequests.add(drained);
+            return drained;
         }
 
         @Override
@@ -93,10 +151,12 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
             this.content.put(request);
         }
 
+        @Override
         public int size() {
             return this.content.size();
         }
 
+        @Override
         public boolean isEmpty() {
             return content.size() == 0;
         }
@@ -146,6 +206,7 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
          *
          * @return the number of removed requests
          */
+        @Override
         public int clearExpiredRequests() {
             int removed = 0;
             RequestType head = content.peek();
@@ -182,7 +243,8 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
     // is to separate requests from different detectors and fairly process requests
     // from each detector.
     protected final ConcurrentSkipListMap<String, RequestQueue> requestQueues;
-    private String lastSelectedRequestQueueId;
+    // decides which RequestQueue to serve next
+    protected final QueueScheduler queueScheduler;
     protected Random random;
     private CircuitBreakerService circuitBreakerService;
     protected ThreadPool threadPool;
@@ -239,8 +301,16 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         this.mediumRequestQueuePruneRatio = mediumRequestQueuePruneRatio;
         this.lowRequestQueuePruneRatio = lowRequestQueuePruneRatio;
 
-        this.lastSelectedRequestQueueId = null;
         this.requestQueues = new ConcurrentSkipListMap<>();
+        if (QueueScheduler.Policy.DEFICIT_ROUND_ROBIN == QueueScheduler.Policy.fromName(REQUEST_QUEUE_SCHEDULER.get(settings))) {
+            this.queueScheduler = new DeficitRoundRobinQueueScheduler(
+                new RequestQueueWeigher(nodeStateManager),
+                REQUEST_QUEUE_STARVATION_BOUND.get(settings).getMillis(),
+                REQUEST_QUEUE_QUANTUM
+            );
+        } else {
+            this.queueScheduler = new RoundRobinQueueScheduler();
+        }
         this.cooldownStart = Instant.MIN;
         this.coolDownMinutes = (int) (COOLDOWN_MINUTES.get(settings).getMinutes());
         this.maintenanceFreqConstant = maintenanceFreqConstant;
@@ -254,64 +324,12 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
     }
 
     /**
-     * To add fairness to multiple analyses, HC allocates queues at a per
-     * analysis (e.g., detector or forecaster) granularity and pulls off
-     * requests across similar queues in a round-robin fashion.
-     * This way, if one analysis has a much higher
-     * cardinality than other analysis,  the unfinished portion of that
-     * analysis's workload times out, and other analyses’ workloads continue
-     * operating with predictable performance. For example, for loading checkpoints,
-     * HCAD pulls off 10 requests from one detector’ queues, issues a mget request
-     * to ES, wait for it to finish, and then does it again for other detectors’
-     * queues.  If one queue does not have more than 10 requests, HCAD dequeues
-     * the next batches of messages in the round-robin schedule.
-     * @return next queue to fetch requests
+     * The queue scheduler decides which RequestQueue to serve next. See
+     * {@link RoundRobinQueueScheduler} and {@link DeficitRoundRobinQueueScheduler}.
+     * @return next queue to fetch requests and the max number of requests to fetch from it
      */
-    protected Optional<BlockingQueue<RequestType>> selectNextQueue() {
-        if (true == requestQueues.isEmpty()) {
-            return Optional.empty();
-        }
-
-        String startId = lastSelectedRequestQueueId;
-        try {
-            for (int i = 0; i < requestQueues.size(); i++) {
-                if (startId == null || requestQueues.size() == 1 || startId.equals(requestQueues.lastKey())) {
-                    startId = requestQueues.firstKey();
-                } else {
-                    startId = requestQueues.higherKey(startId);
-                }
-
-                if (startId.equals(RequestPriority.LOW.name())) {
-                    continue;
-                }
-
-                RequestQueue requestQueue = requestQueues.get(startId);
-                if (requestQueue == null) {
-                    continue;
-                }
-
-                requestQueue.clearExpiredRequests();
-
-                if (false == requestQueue.isEmpty()) {
-                    return Optional.of(requestQueue.content);
-                }
-            }
-
-            RequestQueue requestQueue = requestQueues.get(RequestPriority.LOW.name());
-
-            if (requestQueue != null) {
-                requestQueue.clearExpiredRequests();
-                if (false == requestQueue.isEmpty()) {
-                    return Optional.of(requestQueue.content);
-                }
-            }
-            // if we haven't find a non-empty queue , return empty.
-            return Optional.empty();
-        } finally {
-            // it is fine we may have race conditions. We are not trying to
-            // be precise. The objective is to select each RequestQueue with equal probability.
-            lastSelectedRequestQueueId = startId;
-        }
+    protected Optional<QueueScheduler.Selection<RequestQueue>> selectNextQueue() {
+        return queueScheduler.select(requestQueues, clock.millis());
     }
 
     protected void putOnly(RequestType request) {
@@ -322,10 +340,11 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
             RequestQueue requestQueue = requestQueues
                 .computeIfAbsent(
                     RequestPriority.MEDIUM == request.getPriority() ? request.getConfigId() : request.getPriority().name(),
-                    k -> new RequestQueue()
+                    k -> new RequestQueue(k)
                 );
 
             requestQueue.lastAccessTime = clock.instant();
+            request.setEnqueueEpochMs(clock.millis());
             requestQueue.put(request);
         } catch (Exception e) {
             LOG.error(new ParameterizedMessage("Failed to add requests to [{}]", this.workerName), e);
@@ -498,27 +517,20 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
     protected List<RequestType> getRequests(int batchSize) {
         List<RequestType> toProcess = new ArrayList<>(batchSize);
 
-        Set<BlockingQueue<RequestType>> selectedQueue = new HashSet<>();
-
         while (toProcess.size() < batchSize) {
-            Optional<BlockingQueue<RequestType>> queue = selectNextQueue();
-            if (false == queue.isPresent()) {
+            Optional<QueueScheduler.Selection<RequestQueue>> selection = selectNextQueue();
+            if (false == selection.isPresent()) {
                 // no queue has requests
                 break;
             }
 
-            BlockingQueue<RequestType> nextToProcess = queue.get();
-            if (selectedQueue.contains(nextToProcess)) {
-                // we have gone around all of the queues
+            RequestQueue nextToProcess = selection.get().getQueue();
+            int drained = nextToProcess.drainTo(toProcess, Math.min(selection.get().getQuota(), batchSize), clock.millis());
+            queueScheduler.onServed(nextToProcess, drained);
+            if (drained == 0) {
+                // other threads have drained the selected queue
                 break;
             }
-            selectedQueue.add(nextToProcess);
-
-            List<RequestType> requests = new ArrayList<>();
-            // concurrent requests will wait to prevent concurrent draining.
-            // This is fine since the operation is fast
-            nextToProcess.drainTo(requests, batchSize);
-            toProcess.addAll(requests);
         }
 
         return toProcess;
@@ -605,6 +617,34 @@ public abstract class RateLimitedRequestWorker<RequestType extends QueuedRequest
         return false;
     }
 
+    /**
+     * Per queue wait and service share since each queue was created. Queues are keyed by
+     * config id for MEDIUM priority requests and by priority name for HIGH and LOW ones.
+     *
+     * @return map from queue id to the queue's stats
+     */
+    public Map<String, Object> getQueueStats() {
+        long nowMillis = clock.millis();
+        long totalServed = 0;
+        for (RequestQueue queue : requestQueues.values()) {
+            totalServed += queue.servedRequests.sum();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        for (Map.Entry<String, RequestQueue> entry : requestQueues.entrySet()) {
+            RequestQueue queue = entry.getValue();
+            long served = queue.servedRequests.sum();
+            Map<String, Object> queueStats = new HashMap<>();
+            queueStats.put(CommonName.QUEUE_SIZE, queue.size());
+            queueStats.put(CommonName.SERVED_REQUESTS, served);
+            queueStats.put(CommonName.SERVICE_SHARE, totalServed == 0 ? 0.0d : (double) served / totalServed);
+            queueStats.put(CommonName.AVG_QUEUE_WAIT_MILLIS, served == 0 ? 0L : queue.totalWaitMillis.sum() / served);
+            queueStats.put(CommonName.OLDEST_REQUEST_WAIT_MILLIS, queue.getHeadWaitMillis(nowMillis));
+            stats.put(entry.getKey(), queueStats);
+        }
+        return stats;
+    }
+
     /**
      * How to execute requests is abstracted out and left to RateLimitedQueue's subclasses to implement.
      */
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.timeseries.model.Config;
+
+/**
+ * Weight of a request queue used by {@link DeficitRoundRobinQueueScheduler}.
+ *
+ * The weight is the product of
+ * <ul>
+ * <li>a priority weight: HIGH queues get 4x and the LOW queue a quarter of a MEDIUM queue's weight;</li>
+ * <li>a backlog factor of 1 + log10(queue size) for MEDIUM queues. A MEDIUM queue holds one config's
+ * requests on this node, and each entity enqueues about one request per interval, so the backlog is
+ * our local proxy for the config's entity count. The log keeps a config with 1M entities from taking
+ * over the worker while still giving it more service than a config with 100 entities;</li>
+ * <li>an interval factor of (10 minutes / config interval) clamped to [0.25, 4] for MEDIUM queues.
+ * Requests expire at the next interval, so configs with short intervals need their requests served
+ * sooner. The interval is only known when the config is already cached on this node.</li>
+ * </ul>
+ */
+public class RequestQueueWeigher implements ToDoubleFunction<SchedulableQueue> {
+    static final double HIGH_PRIORITY_WEIGHT = 4.0;
+    static final double MEDIUM_PRIORITY_WEIGHT = 1.0;
+    static final double LOW_PRIORITY_WEIGHT = 0.25;
+    static final long REFERENCE_INTERVAL_MINUTES = 10;
+    static final double MIN_INTERVAL_FACTOR = 0.25;
+    static final double MAX_INTERVAL_FACTOR = 4.0;
+
+    private final NodeStateManager nodeStateManager;
+
+    public RequestQueueWeigher(NodeStateManager nodeStateManager) {
+        this.nodeStateManager = nodeStateManager;
+    }
+
+    @Override
+    public double applyAsDouble(SchedulableQueue queue) {
+        String queueId = queue.getQueueId();
+        if (RequestPriority.HIGH.name().equals(queueId)) {
+            return HIGH_PRIORITY_WEIGHT;
+        }
+        if (RequestPriority.LOW.name().equals(queueId)) {
+            return LOW_PRIORITY_WEIGHT;
+        }
+
+        double weight = MEDIUM_PRIORITY_WEIGHT * (1 + Math.log10(Math.max(1, queue.size())));
+
+        Optional<Config> config = nodeStateManager == null ? Optional.empty() : nodeStateManager.getCachedConfig(queueId);
+        if (config.isPresent()) {
+            long intervalMinutes = Math.max(1, config.get().getIntervalInMinutes());
+            double intervalFactor = (double) REFERENCE_INTERVAL_MINUTES / intervalMinutes;
+            weight *= Math.min(MAX_INTERVAL_FACTOR, Math.max(MIN_INTERVAL_FACTOR, intervalFactor));
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.timeseries.model.IndexableResult;
+import org.opensearch.timeseries.model.ResultWriteProfile;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Admission bookkeeping of the result write path on a node.
+ *
+ * The bulk transport actions decide per result whether indexing pressure admits it. This class
+ * records the outcome per config so users can see dropped results in stats and the profile API
+ * instead of noticing holes in the result index, and tracks the write lag: the time between a
+ * result's execution end and its admission into a bulk request, which includes queueing in the
+ * result write worker.
+ *
+ * With spilling enabled, results that are not admitted are appended to a local file instead of
+ * being dropped and replayed in later bulk requests once the pressure is back under the soft
+ * limit. A result is dropped only if spilling is off, the results not replayed yet reached the
+ * size limit of the file, or writing the file failed. The file survives restarts. Each record starts with the spill format
+ * version and the id of the OpenSearch version that serialized it; records of another format or
+ * version are discarded on replay.
+ *
+ * One replay is in flight at a time. Replayed records stay in the file until the bulk request
+ * carrying them is acknowledged, so a failed bulk request replays them again later. Once the
+ * replayed prefix of the file is at least as large as the records not replayed yet, or a new
+ * record would not fit behind them, the records not replayed yet are moved to the start of the file.
+ */
+public class ResultWriteAdmission {
+    private static final Logger LOG = LogManager.getLogger(ResultWriteAdmission.class);
+    // forget configs that have not written results for a day
+    private static final Duration CONFIG_STATE_TTL = Duration.ofDays(1);
+    // record length
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES;
+    // spill format version and stream version written at the start of each record
+    private static final int RECORD_VERSION_BYTES = 2 * Integer.BYTES;
+    static final int SPILL_FORMAT_VERSION = 1;
+    private static final int COMPACTION_BUFFER_BYTES = 64 * 1024;
+
+    private final Clock clock;
+    private final Cache<String, ConfigWriteState> configStates;
+    private final Path spillPath;
+    private final long maxSpillBytes;
+    private volatile boolean spillEnabled;
+
+    // guarded by this
+    private FileChannel spillChannel;
+    private long readPosition;
+    private long writePosition;
+    // end of the records read by the replay in flight; -1 if no replay is in flight
+    private long replayEndPosition;
+    private List<SpilledResult> replaying;
+    private long discardedInReplay;
+
+    private final LongAdder admitted;
+    private final LongAdder dropped;
+    private final LongAdder spilled;
+    private final LongAdder replayed;
+
+    /**
+     * Spilled result read back from the spill file
+     */
+    public static class SpilledResult {
+        private final String configId;
+        private final List<IndexRequest> requests;
+
+        SpilledResult(String configId, List<IndexRequest> requests) {
+            this.configId = configId;
+            this.requests = requests;
+        }
+
+        public String getConfigId() {
+            return configId;
+        }
+
+        public List<IndexRequest> getRequests() {
+            return requests;
+        }
+    }
+
+    private static class ConfigWriteState {
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder spilled = new LongAdder();
+        private final LongAdder replayed = new LongAdder();
+        private volatile long lastLagMillis;
+        private volatile long maxLagMillis;
+
+        ResultWriteProfile toProfile() {
+            return new ResultWriteProfile(admitted.sum(), dropped.sum(), spilled.sum(), replayed.sum(), lastLagMillis, maxLagMillis);
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param clock clock to measure write lag
+     * @param settings node settings
+     * @param clusterService cluster service to listen to setting changes
+     * @param spillEnabledSetting whether to spill results instead of dropping them
+     * @param spillPath spill file; null disables spilling
+     * @param maxSpillBytes max size of the spill file
+     */
+    public ResultWriteAdmission(
+        Clock clock,
+        Settings settings,
+        ClusterService clusterService,
+        Setting<Boolean> spillEnabledSetting,
+        Path spillPath,
+        long maxSpillBytes
+    ) {
+        this.clock = clock;
+        this.configStates = CacheBuilder.newBuilder().expireAfterAccess(CONFIG_STATE_TTL.toHours(), TimeUnit.HOURS).build();
+        this.spillPath = spillPath;
+        this.maxSpillBytes = maxSpillBytes;
+        this.spillEnabled = spillEnabledSetting.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(spillEnabledSetting, it -> spillEnabled = it);
+        this.admitted = new LongAdder();
+        this.dropped = new LongAdder();
+        this.spilled = new LongAdder();
+        this.replayed = new LongAdder();
+        this.readPosition = 0;
+        this.writePosition = 0;
+        this.replayEndPosition = -1;
+        this.replaying = new ArrayList<>();
+        this.discardedInReplay = 0;
+        openExistingSpillFile();
+    }
+
+    private ConfigWriteState getState(String configId) {
+        try {
+            return configStates.get(configId, ConfigWriteState::new);
+        } catch (Exception e) {
+            // the loader does not throw
+            return new ConfigWriteState();
+        }
+    }
+
+    /**
+     * Record a result admitted into a bulk request
+     *
+     * @param result admitted result
+     */
+    public void onAdmitted(IndexableResult result) {
+        admitted.increment();
+        ConfigWriteState state = getState(result.getConfigId());
+        state.admitted.increment();
+        Instant executionEndTime = result.getExecutionEndTime();
+        if (executionEndTime != null) {
+            long lagMillis = Math.max(0, clock.millis() - executionEndTime.toEpochMilli());
+            state.lastLagMillis = lagMillis;
+            if (lagMillis > state.maxLagMillis) {
+                state.maxLagMillis = lagMillis;
+            }
+        }
+    }
+
+    /**
+     * Record a result dropped under indexing pressure
+     *
+     * @param configId config id of the result
+     */
+    public void onDropped(String configId) {
+        dropped.increment();
+        getState(configId).dropped.increment();
+    }
+
+    public boolean isSpillEnabled() {
+        return spillEnabled && spillPath != null;
+    }
+
+    /**
+     * Append the index requests of a result to the spill file.
+     *
+     * @param configId config id of the result
+     * @param requests index requests of the result and of its flattened copy
+     * @return whether the result was spilled; false if spilling is off, the file is full, or writing failed
+     */
+    public boolean spill(String configId, List<DocWriteRequest<?>> requests) {
+        if (!isSpillEnabled() || requests.isEmpty()) {
+            return false;
+        }
+        BytesReference record;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.CURRENT);
+            out.writeInt(SPILL_FORMAT_VERSION);
+            out.writeInt(Version.CURRENT.id);
+            out.writeString(configId);
+            out.writeVInt(requests.size());
+            for (DocWriteRequest<?> request : requests) {
+                ((IndexRequest) request).writeTo(out);
+            }
+            record = out.bytes();
+        } catch (IOException | ClassCastException e) {
+            LOG.error(new ParameterizedMessage("Fail to serialize result of [{}]", configId), e);
+            return false;
+        }
+
+        if (!append(record)) {
+            return false;
+        }
+        spilled.increment();
+        getState(configId).spilled.increment();
+        return true;
+    }
+
+    private synchronized boolean append(BytesReference record) {
+        long recordSize = RECORD_HEADER_BYTES + record.length();
+        if (writePosition - readPosition + recordSize > maxSpillBytes) {
+            return false;
+        }
+        try {
+            compactIfNeeded(recordSize);
+            FileChannel channel = getSpillChannel();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES).putInt(record.length());
+            header.flip();
+            long position = writePosition;
+            position += writeFully(channel, header, position);
+            position += writeFully(channel, ByteBuffer.wrap(BytesReference.toBytes(record)), position);
+            writePosition = position;
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to spill result to " + spillPath, e);
+            return false;
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    /**
+     * @return whether the spill file has results to replay
+     */
+    public synchronized boolean hasSpilled() {
+        return readPosition < writePosition;
+    }
+
+    /**
+     * Read up to maxResults spilled results in the order they were spilled. The results stay in
+     * the file until {@link #onReplayDone} acknowledges them. Returns nothing while another
+     * replay is in flight.
+     *
+     * @param maxResults max number of results to read
+     * @return spilled results; {@link #onReplayDone} must be called if not empty
+     */
+    public synchronized List<SpilledResult> replay(int maxResults) {
+        List<SpilledResult> results = new ArrayList<>();
+        if (replayEndPosition >= 0 || readPosition >= writePosition) {
+            return results;
+        }
+        long position = readPosition;
+        long discarded = 0;
+        try {
+            FileChannel channel = getSpillChannel();
+            while (results.size() < maxResults && position + RECORD_HEADER_BYTES <= writePosition) {
+                ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+                readFully(channel, header, position);
+                header.flip();
+                int length = header.getInt();
+                if (length < RECORD_VERSION_BYTES || position + RECORD_HEADER_BYTES + length > writePosition) {
+                    // partially written record, e.g., the node stopped while spilling
+                    LOG.warn("Discard incomplete spilled results in " + spillPath);
+                    position = writePosition;
+                    break;
+                }
+                ByteBuffer body = ByteBuffer.allocate(length);
+                readFully(channel, body, position + RECORD_HEADER_BYTES);
+                position += RECORD_HEADER_BYTES + length;
+                body.flip();
+                int formatVersion = body.getInt();
+                int streamVersion = body.getInt();
+                if (formatVersion != SPILL_FORMAT_VERSION || streamVersion != Version.CURRENT.id) {
+                    LOG
+                        .warn(
+                            "Discard spilled result of format {} written by version id {} in {}",
+                            formatVersion,
+                            streamVersion,
+                            spillPath
+                        );
+                    discarded++;
+                    continue;
+                }
+                results.add(readRecord(body.array(), RECORD_VERSION_BYTES, length - RECORD_VERSION_BYTES));
+            }
+        } catch (IOException e) {
+            LOG.error("Fail to replay spilled results, discard " + spillPath, e);
+            dropped.add(discarded);
+            discardSpilled();
+            return new ArrayList<>();
+        }
+        replayEndPosition = position;
+        replaying = results;
+        discardedInReplay = discarded;
+        if (results.isEmpty()) {
+            // only discarded records; nothing to acknowledge
+            onReplayDone(true);
+        }
+        return results;
+    }
+
+    /**
+     * Finish the replay in flight.
+     *
+     * @param acknowledged whether the bulk request carrying the replayed results was acknowledged.
+     *  Acknowledged results are removed from the file, the others are replayed again later.
+     */
+    public synchronized void onReplayDone(boolean acknowledged) {
+        if (replayEndPosition < 0) {
+            return;
+        }
+        if (acknowledged) {
+            readPosition = replayEndPosition;
+            for (SpilledResult result : replaying) {
+                replayed.increment();
+                getState(result.getConfigId()).replayed.increment();
+            }
+            dropped.add(discardedInReplay);
+        }
+        replayEndPosition = -1;
+        replaying = new ArrayList<>();
+        discardedInReplay = 0;
+        if (acknowledged) {
+            try {
+                compactIfNeeded(0);
+            } catch (IOException e) {
+                LOG.error("Fail to compact spilled results, discard " + spillPath, e);
+                discardSpilled();
+            }
+        }
+    }
+
+    /**
+     * Move the records not replayed yet to the start of the file if the replayed prefix is at
+     * least as large as they are, or if a record of the given size would not fit behind them.
+     * Copying at most as many bytes as were replayed since the last compaction keeps the cost
+     * proportional to the spilled bytes.
+     *
+     * @param incomingBytes size of the record about to be appended; 0 if none
+     * @throws IOException if the file cannot be read or written
+     */
+    private void compactIfNeeded(long incomingBytes) throws IOException {
+        if (readPosition == 0) {
+            return;
+        }
+        long liveBytes = writePosition - readPosition;
+        if (readPosition < liveBytes && writePosition + incomingBytes <= maxSpillBytes) {
+            return;
+        }
+        FileChannel channel = getSpillChannel();
+        if (liveBytes > 0) {
+            // the target range starts before the source range, so copying forward never overwrites unread bytes
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(COMPACTION_BUFFER_BYTES, liveBytes));
+            long copied = 0;
+            while (copied < liveBytes) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), liveBytes - copied));
+                readFully(channel, buffer, readPosition + copied);
+                buffer.flip();
+                copied += writeFully(channel, buffer, copied);
+            }
+        }
+        channel.truncate(liveBytes);
+        if (replayEndPosition >= 0) {
+            replayEndPosition -= readPosition;
+        }
+        writePosition = liveBytes;
+        readPosition = 0;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long read = 0;
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position + read);
+            if (count < 0) {
+                throw new IOException("Unexpected end of spill file");
+            }
+            read += count;
+        }
+    }
+
+    private static SpilledResult readRecord(byte[] record, int offset, int length) throws IOException {
+        try (StreamInput in = new BytesArray(record, offset, length).streamInput()) {
+            in.setVersion(Version.CURRENT);
+            String configId = in.readString();
+            int size = in.readVInt();
+            List<IndexRequest> requests = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                requests.add(new IndexRequest(in));
+            }
+            return new SpilledResult(configId, requests);
+        }
+    }
+
+    private synchronized void discardSpilled() {
+        readPosition = 0;
+        writePosition = 0;
+        replayEndPosition = -1;
+        replaying = new ArrayList<>();
+        discardedInReplay = 0;
+        try {
+            if (spillChannel != null) {
+                spillChannel.truncate(0);
+            }
+        } catch (IOException e) {
+            LOG.error("Fail to truncate " + spillPath, e);
+        }
+    }
+
+    private FileChannel getSpillChannel() throws IOException {
+        if (spillChannel == null) {
+            Files.createDirectories(spillPath.getParent());
+            spillChannel = FileChannel.open(spillPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return spillChannel;
+    }
+
+    private synchronized void openExistingSpillFile() {
+        if (spillPath == null || !Files.exists(spillPath)) {
+            return;
+        }
+        try {
+            // replay results spilled before the node restarted
+            writePosition = getSpillChannel().size();
+            if (writePosition > 0) {
+                LOG.info("Found {} bytes of spilled results in {}", writePosition, spillPath);
+            }
+        } catch (IOException e) {
+            LOG.error("Fail to open " + spillPath, e);
+        }
+    }
+
+    /**
+     * @param configId config id
+     * @return result write profile of the config on this node, or null if it has not written results recently
+     */
+    public ResultWriteProfile getProfile(String configId) {
+        ConfigWriteState state = configStates.getIfPresent(configId);
+        return state == null ? null : state.toProfile();
+    }
+
+    /**
+     * @return node level result write counts and the bytes waiting in the spill file
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(ResultWriteProfile.ADMITTED, admitted.sum());
+        stats.put(ResultWriteProfile.DROPPED, dropped.sum());
+        stats.put(ResultWriteProfile.SPILLED, spilled.sum());
+        stats.put(ResultWriteProfile.REPLAYED, replayed.sum());
+        synchronized (this) {
+            stats.put("spill_bytes", writePosition - readPosition);
+        }
+        stats.put("configs", configStates.size());
+        return stats;
+    }
+}
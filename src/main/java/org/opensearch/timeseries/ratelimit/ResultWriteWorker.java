@@ -8,9 +8,13 @@ package org.opensearch.timeseries.ratelimit;
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -114,11 +118,18 @@ public abstract class ResultWriteWorker<ResultType extends IndexableResult, Resu
     @Override
     protected ActionListener<ResultBulkResponse> getResponseListener(List<ResultWriteRequestType> toProcess, BatchRequestType bulkRequest) {
         return ActionListener.wrap(adResultBulkResponse -> {
-            if (adResultBulkResponse == null || false == adResultBulkResponse.getRetryRequests().isPresent()) {
+            if (adResultBulkResponse == null) {
+                // nothing to index
+                return;
+            }
+            List<ResultWriteRequestType> indexed = getIndexed(bulkRequest, adResultBulkResponse);
+            if (false == adResultBulkResponse.getRetryRequests().isPresent()) {
                 // all successful
+                onIndexed(indexed, Collections.emptyList());
                 return;
             }
 
+            onIndexed(indexed, adResultBulkResponse.getRetryRequests().get());
             enqueueRetryRequestIteration(adResultBulkResponse.getRetryRequests().get(), 0);
         }, exception -> {
             if (ExceptionUtil.isRetryAble(exception)) {
@@ -136,6 +147,35 @@ public abstract class ResultWriteWorker<ResultType extends IndexableResult, Resu
         });
     }
 
+    /**
+     * Requests of a bulk request minus the results that indexing pressure spilled or dropped.
+     */
+    private List<ResultWriteRequestType> getIndexed(BatchRequestType bulkRequest, ResultBulkResponse response) {
+        List<ResultWriteRequestType> results = bulkRequest.getResults();
+        List<Integer> rejectedPositions = response.getRejectedResultPositions();
+        if (rejectedPositions.isEmpty()) {
+            return results;
+        }
+        Set<Integer> rejected = new HashSet<>(rejectedPositions);
+        List<ResultWriteRequestType> indexed = new ArrayList<>(results.size() - rejected.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (false == rejected.contains(i)) {
+                indexed.add(results.get(i));
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Called after a bulk request of results finished. Results of the failed index requests are
+     * retried later and will be reported again when they are indexed. Results that indexing
+     * pressure spilled or dropped are not reported.
+     *
+     * @param toProcess requests of the bulk request sent to the index
+     * @param failedRequests index requests that failed
+     */
+    protected void onIndexed(List<ResultWriteRequestType> toProcess, List<IndexRequest> failedRequests) {}
+
     private void enqueueRetryRequestIteration(List<IndexRequest> requestToRetry, int index) {
         if (index >= requestToRetry.size()) {
             return;
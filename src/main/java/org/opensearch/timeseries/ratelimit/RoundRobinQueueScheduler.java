@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+import java.util.NavigableMap;
+import java.util.Optional;
+
+/**
+ * To add fairness to multiple analyses, HC allocates queues at a per
+ * analysis (e.g., detector or forecaster) granularity and pulls off
+ * requests across similar queues in a round-robin fashion.
+ * This way, if one analysis has a much higher
+ * cardinality than other analysis,  the unfinished portion of that
+ * analysis's workload times out, and other analyses’ workloads continue
+ * operating with predictable performance. For example, for loading checkpoints,
+ * HCAD pulls off 10 requests from one detector’ queues, issues a mget request
+ * to ES, wait for it to finish, and then does it again for other detectors’
+ * queues.  If one queue does not have more than 10 requests, HCAD dequeues
+ * the next batches of messages in the round-robin schedule.
+ *
+ * The LOW priority queue is only served when all other queues are empty.
+ */
+public class RoundRobinQueueScheduler implements QueueScheduler {
+    private String lastSelectedQueueId;
+
+    public RoundRobinQueueScheduler() {
+        this.lastSelectedQueueId = null;
+    }
+
+    @Override
+    public <Q extends SchedulableQueue> Optional<Selection<Q>> select(NavigableMap<String, Q> queues, long nowMillis) {
+        if (true == queues.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String startId = lastSelectedQueueId;
+        try {
+            for (int i = 0; i < queues.size(); i++) {
+                if (startId == null || queues.size() == 1 || startId.equals(queues.lastKey())) {
+                    startId = queues.firstKey();
+                } else {
+                    startId = queues.higherKey(startId);
+                }
+
+                if (startId.equals(RequestPriority.LOW.name())) {
+                    continue;
+                }
+
+                Q requestQueue = queues.get(startId);
+                if (requestQueue == null) {
+                    continue;
+                }
+
+                requestQueue.clearExpiredRequests();
+
+                if (false == requestQueue.isEmpty()) {
+                    return Optional.of(new Selection<>(requestQueue, Integer.MAX_VALUE));
+                }
+            }
+
+            Q requestQueue = queues.get(RequestPriority.LOW.name());
+
+            if (requestQueue != null) {
+                requestQueue.clearExpiredRequests();
+                if (false == requestQueue.isEmpty()) {
+                    return Optional.of(new Selection<>(requestQueue, Integer.MAX_VALUE));
+                }
+            }
+            // if we haven't find a non-empty queue , return empty.
+            return Optional.empty();
+        } finally {
+            // it is fine we may have race conditions. We are not trying to
+            // be precise. The objective is to select each RequestQueue with equal probability.
+            lastSelectedQueueId = startId;
+        }
+    }
+}
@@ -28,4 +28,9 @@ public interface SaveResultStrategy<IndexableResultType extends IndexableResult,
     );
 
     void saveResult(IndexableResultType result, Config config);
+
+    /**
+     * Flush or expire any results the strategy holds back. Called during hourly maintenance.
+     */
+    default void maintenance() {}
 }
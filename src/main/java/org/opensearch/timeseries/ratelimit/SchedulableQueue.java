@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.ratelimit;
+
+/**
+ * The view of a request queue that a {@link QueueScheduler} needs to pick the next
+ * queue to serve.
+ */
+public interface SchedulableQueue {
+    /**
+     * @return queue id. Either a priority name (HIGH/LOW) or a config id for MEDIUM priority requests.
+     */
+    String getQueueId();
+
+    int size();
+
+    boolean isEmpty();
+
+    /**
+     * Remove expired requests
+     * @return the number of removed requests
+     */
+    int clearExpiredRequests();
+
+    /**
+     * @param nowMillis current epoch milliseconds
+     * @return how long the oldest request in the queue has waited. 0 if the queue is empty.
+     */
+    long getHeadWaitMillis(long nowMillis);
+
+    /**
+     * @return remaining service credit in number of requests. Only used by credit-based schedulers.
+     */
+    double getDeficit();
+
+    void setDeficit(double deficit);
+}
@@ -13,9 +13,8 @@ package org.opensearch.timeseries.ratelimit;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.List;
 import java.util.Random;
-import java.util.concurrent.BlockingQueue;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -79,24 +78,15 @@ public abstract class SingleRequestWorker<RequestType extends QueuedRequest> ext
 
     @Override
     protected void execute(Runnable afterProcessCallback, Runnable emptyQueueCallback) {
-        RequestType request = null;
+        List<RequestType> requests = getRequests(1);
 
-        Optional<BlockingQueue<RequestType>> queueOptional = selectNextQueue();
-        if (false == queueOptional.isPresent()) {
-            // no queue has requests
+        // no queue has requests or other threads have drained them
+        if (requests.isEmpty()) {
             emptyQueueCallback.run();
             return;
         }
 
-        BlockingQueue<RequestType> queue = queueOptional.get();
-        if (false == queue.isEmpty()) {
-            request = queue.poll();
-        }
-
-        if (request == null) {
-            emptyQueueCallback.run();
-            return;
-        }
+        RequestType request = requests.get(0);
 
         final ActionListener<Void> handlerWithRelease = ActionListener.wrap(afterProcessCallback);
         executeRequest(request, handlerWithRelease);
@@ -39,6 +39,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.replication.ReplicationResponse;
+import org.opensearch.ad.transport.InvalidateConfigCacheAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -77,6 +78,7 @@ import org.opensearch.timeseries.model.ValidationIssueType;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.timeseries.task.TaskManager;
+import org.opensearch.timeseries.transport.InvalidateConfigCacheRequest;
 import org.opensearch.timeseries.util.*;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
@@ -1019,6 +1021,9 @@ public abstract class AbstractTimeSeriesActionHandler<T extends ActionResponse,
                     return;
                 }
                 listener.onResponse(createIndexConfigResponse(indexResponse, copiedConfig));
+                if (StringUtils.isNotBlank(id)) {
+                    invalidateConfigCache(id);
+                }
             }
 
             @Override
@@ -1033,6 +1038,30 @@ public abstract class AbstractTimeSeriesActionHandler<T extends ActionResponse,
         });
     }
 
+    /**
+     * Tell all nodes to drop their parsed copy of an updated config. Best effort: a node that
+     * misses the invalidation reads the new config when it next validates its cached copy
+     * against the config index, at most ConfigCache's revalidate interval later.
+     *
+     * @param id config id
+     */
+    private void invalidateConfigCache(String id) {
+        try {
+            client
+                .execute(
+                    InvalidateConfigCacheAction.INSTANCE,
+                    new InvalidateConfigCacheRequest(id),
+                    ActionListener
+                        .wrap(
+                            response -> logger.debug("Invalidated cached config {}", id),
+                            e -> logger.warn("Failed to invalidate cached config " + id, e)
+                        )
+                );
+        } catch (Exception e) {
+            logger.warn("Failed to invalidate cached config " + id, e);
+        }
+    }
+
     protected void onCreateMappingsResponse(CreateIndexResponse response, boolean indexingDryRun, ActionListener<T> listener) {
         if (response.isAcknowledged()) {
             logger.info("Created {} with mappings.", CommonName.CONFIG_INDEX);
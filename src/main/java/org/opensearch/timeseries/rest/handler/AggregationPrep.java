@@ -72,11 +72,15 @@ public class AggregationPrep {
     }
 
     public double getHistorgramBucketHitRate(SearchResponse response) {
+        return getHistorgramBucketHitRate(response, AGGREGATION);
+    }
+
+    public double getHistorgramBucketHitRate(SearchResponse response, String aggregationName) {
         int numberOfSamples = getNumberOfSamples();
         if (numberOfSamples == 0) {
             return 0;
         }
-        Histogram histogram = validateAndRetrieveHistogramAggregation(response);
+        Histogram histogram = validateAndRetrieveHistogramAggregation(response, aggregationName);
         if (histogram == null || histogram.getBuckets() == null) {
             logger.warn("Empty histogram buckets");
             return 0;
@@ -168,6 +172,51 @@ public class AggregationPrep {
 
     public SearchRequest composeHistogramQuery(Map<String, Object> topEntity, int intervalInMinutes, LongBounds timeStampBounds) {
         AggregationBuilder aggregation = getHistogramAggregation(intervalInMinutes, timeStampBounds);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(getEntityFilterQuery(topEntity))
+            .aggregation(aggregation)
+            .size(0)
+            .timeout(requestTimeout);
+        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+    }
+
+    public static String getCandidateAggregationName(int candidateIndex) {
+        return AGGREGATION + "_" + candidateIndex;
+    }
+
+    /**
+     * One search with a date histogram per candidate interval, so the data is scanned once for
+     * all candidates. The histogram of the i-th candidate is named {@link #getCandidateAggregationName}(i).
+     *
+     * @param topEntity top entity for HC configs
+     * @param candidates candidate intervals
+     * @param endMillis end of the sample range
+     * @return search request
+     */
+    public SearchRequest composeMultiHistogramQuery(
+        Map<String, Object> topEntity,
+        List<IntervalTimeConfiguration> candidates,
+        long endMillis
+    ) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(getEntityFilterQuery(topEntity))
+            .size(0)
+            .timeout(requestTimeout);
+        for (int i = 0; i < candidates.size(); i++) {
+            IntervalTimeConfiguration candidate = candidates.get(i);
+            searchSourceBuilder
+                .aggregation(
+                    getHistogramAggregation(
+                        getCandidateAggregationName(i),
+                        (int) IntervalTimeConfiguration.getIntervalInMinute(candidate),
+                        getTimeRangeBounds(candidate, endMillis)
+                    )
+                );
+        }
+        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+    }
+
+    private BoolQueryBuilder getEntityFilterQuery(Map<String, Object> topEntity) {
         BoolQueryBuilder query = QueryBuilders.boolQuery().filter(config.getFilterQuery());
         if (config.isHighCardinality()) {
             if (topEntity.isEmpty()) {
@@ -181,16 +230,14 @@ public class AggregationPrep {
                 query.filter(QueryBuilders.termQuery(entry.getKey(), entry.getValue()));
             }
         }
-
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
-            .query(query)
-            .aggregation(aggregation)
-            .size(0)
-            .timeout(requestTimeout);
-        return new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
+        return query;
     }
 
     public Histogram validateAndRetrieveHistogramAggregation(SearchResponse response) {
+        return validateAndRetrieveHistogramAggregation(response, AGGREGATION);
+    }
+
+    public Histogram validateAndRetrieveHistogramAggregation(SearchResponse response, String aggregationName) {
         Aggregations aggs = response.getAggregations();
         if (aggs == null) {
             // This would indicate some bug or some opensearch core changes that we are not aware of (we don't keep up-to-date with
@@ -203,7 +250,7 @@ public class AggregationPrep {
                 ValidationAspect.MODEL
             );
         }
-        Histogram aggregate = aggs.get(AGGREGATION);
+        Histogram aggregate = aggs.get(aggregationName);
         if (aggregate == null) {
             throw new IllegalArgumentException("Failed to find valid aggregation result");
         }
@@ -211,8 +258,12 @@ public class AggregationPrep {
     }
 
     public AggregationBuilder getHistogramAggregation(int intervalInMinutes, LongBounds timeStampBound) {
+        return getHistogramAggregation(AggregationPrep.AGGREGATION, intervalInMinutes, timeStampBound);
+    }
+
+    public AggregationBuilder getHistogramAggregation(String aggregationName, int intervalInMinutes, LongBounds timeStampBound) {
         return AggregationBuilders
-            .dateHistogram(AggregationPrep.AGGREGATION)
+            .dateHistogram(aggregationName)
             .field(config.getTimeField())
             .minDocCount(1)
             .hardBounds(timeStampBound)
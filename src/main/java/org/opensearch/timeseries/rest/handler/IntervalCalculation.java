@@ -15,6 +15,8 @@ import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
@@ -45,6 +47,9 @@ public class IntervalCalculation {
     private final Clock clock;
     private final Map<String, Object> topEntity;
     private final long endMillis;
+    private final Config config;
+    // whether to evaluate all candidate intervals in one round trip instead of one search per interval
+    private final boolean singlePass;
 
     public IntervalCalculation(
         Config config,
@@ -57,8 +62,26 @@ public class IntervalCalculation {
         SearchFeatureDao searchFeatureDao,
         long latestTime,
         Map<String, Object> topEntity
+    ) {
+        this(config, requestTimeout, client, clientUtil, user, context, clock, searchFeatureDao, latestTime, topEntity, false);
+    }
+
+    public IntervalCalculation(
+        Config config,
+        TimeValue requestTimeout,
+        Client client,
+        SecurityClientUtil clientUtil,
+        User user,
+        AnalysisType context,
+        Clock clock,
+        SearchFeatureDao searchFeatureDao,
+        long latestTime,
+        Map<String, Object> topEntity,
+        boolean singlePass
     ) {
         this.aggregationPrep = new AggregationPrep(searchFeatureDao, requestTimeout, config);
+        this.config = config;
+        this.singlePass = singlePass;
         this.client = client;
         this.clientUtil = clientUtil;
         this.user = user;
@@ -66,7 +89,6 @@ public class IntervalCalculation {
         this.clock = clock;
         this.topEntity = topEntity;
         this.endMillis = latestTime;
-
     }
 
     public void findInterval(ActionListener<IntervalTimeConfiguration> listener) {
@@ -76,7 +98,11 @@ public class IntervalCalculation {
                 listener.onResponse(null);
             } else {
                 // starting exploring whether minimum or larger interval satisfy density requirement
-                getBucketAggregates(minInterval, listener);
+                if (singlePass) {
+                    searchCandidateIntervals(minInterval, listener);
+                } else {
+                    getBucketAggregates(minInterval, listener);
+                }
             }
         }, listener::onFailure);
         // we use 1 minute = 60000 milliseconds to find minimum interval
@@ -118,6 +144,164 @@ public class IntervalCalculation {
         }
     }
 
+    /**
+     * The candidates the iterative search would try one after another: the minimum interval,
+     * then growing intervals below the maximum recommended interval.
+     *
+     * @param minimumInterval minimum interval
+     * @return candidate intervals in ascending order
+     */
+    List<IntervalTimeConfiguration> getCandidateIntervals(IntervalTimeConfiguration minimumInterval) {
+        List<IntervalTimeConfiguration> candidates = new ArrayList<>();
+        IntervalTimeConfiguration candidate = minimumInterval;
+        candidates.add(candidate);
+        int nextMinutes = increaseAndGetNewInterval(candidate);
+        while (nextMinutes < TimeSeriesSettings.MAX_INTERVAL_REC_LENGTH_IN_MINUTES) {
+            candidate = new IntervalTimeConfiguration(nextMinutes, ChronoUnit.MINUTES);
+            candidates.add(candidate);
+            nextMinutes = increaseAndGetNewInterval(candidate);
+        }
+        return candidates;
+    }
+
+    /**
+     * Single-pass mode: probe the minimum interval first, as it is usually dense enough. If it is
+     * sparse, evaluate all remaining candidate intervals in one round trip and pick the smallest
+     * dense enough interval. Without feature queries, one search carries a date histogram per
+     * remaining candidate interval. With feature queries, the per-interval sample searches are sent
+     * as one multi search.
+     *
+     * @param minimumInterval minimum interval
+     * @param listener returns the smallest dense enough interval or null if there is none
+     */
+    private void searchCandidateIntervals(IntervalTimeConfiguration minimumInterval, ActionListener<IntervalTimeConfiguration> listener) {
+        long expirationEpochMs = clock.millis() + TimeSeriesSettings.TOP_VALIDATE_TIMEOUT_IN_MILLIS;
+        try {
+            LongBounds timeStampBounds = aggregationPrep.getTimeRangeBounds(minimumInterval, endMillis);
+            SearchRequest searchRequest = aggregationPrep.createSearchRequest(minimumInterval, timeStampBounds, topEntity);
+            final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+                if (aggregationPrep.getBucketHitRate(response, minimumInterval, endMillis)
+                    > TimeSeriesSettings.INTERVAL_BUCKET_MINIMUM_SUCCESS_RATE) {
+                    listener.onResponse(minimumInterval);
+                    return;
+                }
+                List<IntervalTimeConfiguration> candidates = getCandidateIntervals(minimumInterval);
+                if (candidates.size() == 1 || expirationEpochMs < clock.millis()) {
+                    onSparseCandidates(expirationEpochMs, listener);
+                    return;
+                }
+                searchRemainingCandidates(candidates.subList(1, candidates.size()), expirationEpochMs, listener);
+            }, e -> onCandidateSearchFailure(e, listener));
+            // using the original context in listener as user roles have no permissions for internal operations like fetching a
+            // checkpoint
+            clientUtil
+                .<SearchRequest, SearchResponse>asyncRequestWithInjectedSecurity(
+                    searchRequest,
+                    client::search,
+                    user,
+                    client,
+                    context,
+                    searchResponseListener
+                );
+        } catch (ValidationException ex) {
+            listener.onFailure(ex);
+        }
+    }
+
+    private void searchRemainingCandidates(
+        List<IntervalTimeConfiguration> candidates,
+        long expirationEpochMs,
+        ActionListener<IntervalTimeConfiguration> listener
+    ) {
+        if (config.getEnabledFeatureIds() != null && config.getEnabledFeatureIds().size() > 0) {
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            for (IntervalTimeConfiguration candidate : candidates) {
+                LongBounds timeStampBounds = aggregationPrep.getTimeRangeBounds(candidate, endMillis);
+                multiSearchRequest.add(aggregationPrep.createSearchRequest(candidate, timeStampBounds, topEntity));
+            }
+            final ActionListener<MultiSearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+                MultiSearchResponse.Item[] items = response.getResponses();
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (items[i].isFailure()) {
+                        throw items[i].getFailure();
+                    }
+                    if (aggregationPrep.getBucketHitRate(items[i].getResponse(), candidates.get(i), endMillis)
+                        > TimeSeriesSettings.INTERVAL_BUCKET_MINIMUM_SUCCESS_RATE) {
+                        listener.onResponse(candidates.get(i));
+                        return;
+                    }
+                }
+                onSparseCandidates(expirationEpochMs, listener);
+            }, e -> onCandidateSearchFailure(e, listener));
+            // using the original context in listener as user roles have no permissions for internal operations like fetching a
+            // checkpoint
+            clientUtil
+                .<MultiSearchRequest, MultiSearchResponse>asyncRequestWithInjectedSecurity(
+                    multiSearchRequest,
+                    client::multiSearch,
+                    user,
+                    client,
+                    context,
+                    searchResponseListener
+                );
+        } else {
+            SearchRequest searchRequest = aggregationPrep.composeMultiHistogramQuery(topEntity, candidates, endMillis);
+            final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (aggregationPrep.getHistorgramBucketHitRate(response, AggregationPrep.getCandidateAggregationName(i))
+                        > TimeSeriesSettings.INTERVAL_BUCKET_MINIMUM_SUCCESS_RATE) {
+                        listener.onResponse(candidates.get(i));
+                        return;
+                    }
+                }
+                onSparseCandidates(expirationEpochMs, listener);
+            }, e -> onCandidateSearchFailure(e, listener));
+            // using the original context in listener as user roles have no permissions for internal operations like fetching a
+            // checkpoint
+            clientUtil
+                .<SearchRequest, SearchResponse>asyncRequestWithInjectedSecurity(
+                    searchRequest,
+                    client::search,
+                    user,
+                    client,
+                    context,
+                    searchResponseListener
+                );
+        }
+    }
+
+    /**
+     * No candidate evaluated so far is dense enough. Like the iterative search, report a timeout
+     * instead of no recommendation if the search ran past its deadline.
+     */
+    private void onSparseCandidates(long expirationEpochMs, ActionListener<IntervalTimeConfiguration> listener) {
+        if (expirationEpochMs < clock.millis()) {
+            logger.info(CommonMessages.TIMEOUT_ON_INTERVAL_REC);
+            listener
+                .onFailure(
+                    new ValidationException(CommonMessages.TIMEOUT_ON_INTERVAL_REC, ValidationIssueType.TIMEOUT, ValidationAspect.MODEL)
+                );
+        } else {
+            listener.onResponse(null);
+        }
+    }
+
+    private void onCandidateSearchFailure(Exception e, ActionListener<IntervalTimeConfiguration> listener) {
+        if (e instanceof ValidationException) {
+            listener.onFailure(e);
+            return;
+        }
+        logger.error("Failed to recommend new interval", e);
+        listener
+            .onFailure(
+                new ValidationException(
+                    CommonMessages.MODEL_VALIDATION_FAILED_UNEXPECTEDLY,
+                    ValidationIssueType.AGGREGATION,
+                    ValidationAspect.MODEL
+                )
+            );
+    }
+
     /**
      *
      * @param oldInterval
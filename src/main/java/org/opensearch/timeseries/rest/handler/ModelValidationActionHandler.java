@@ -17,6 +17,10 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -59,9 +63,27 @@ import org.opensearch.transport.client.Client;
  * which is based on if enough buckets in the last x intervals have at least 1 document present.</p>
  * <p>Initially different bucket aggregations are executed with with every configuration applied and with
  * different varying intervals in order to find the best interval for the data. If no interval is found with all
- * configuration applied then each configuration is tested sequentially for sparsity</p>
+ * configuration applied then each configuration is tested for sparsity. These checks run concurrently and the issue
+ * of the most basic failing configuration is reported.</p>
+ * <p>The duration of each check is reported along with the validation result.</p>
  */
 public class ModelValidationActionHandler {
+    // names of the checks in the per-check timings
+    public static final String LATEST_TIME_CHECK = "latest_time";
+    public static final String INTERVAL_CHECK = "interval_recommendation";
+    public static final String RAW_DATA_CHECK = "raw_data_sparsity";
+    public static final String FILTER_CHECK = "filter_sparsity";
+    public static final String TOP_ENTITY_CHECK = "top_entity";
+    public static final String CATEGORY_CHECK = "category_sparsity";
+    public static final String FEATURE_CHECK = "feature_sparsity";
+    public static final String TOTAL = "total";
+
+    // order in which sparsity issues are reported
+    private static final int RAW_DATA_ORDER = 0;
+    private static final int FILTER_ORDER = 1;
+    private static final int CATEGORY_ORDER = 2;
+    private static final int FEATURE_ORDER = 3;
+    private static final int SPARSITY_CHECK_COUNT = 4;
 
     protected final Config config;
     protected final ClusterService clusterService;
@@ -82,6 +104,9 @@ public class ModelValidationActionHandler {
     private final LatestTimeRetriever latestTimeRetriever;
     private final ValidationIssueType intervalIssueType;
     private AggregationPrep aggregationPrep;
+    // durations in milliseconds keyed by check name
+    private final Map<String, Long> checkTimings;
+    private long startMillis;
 
     /**
      * Constructor function.
@@ -120,7 +145,8 @@ public class ModelValidationActionHandler {
         this.clusterService = clusterService;
         this.client = client;
         this.clientUtil = clientUtil;
-        this.listener = listener;
+        this.checkTimings = new ConcurrentHashMap<>();
+        this.listener = withCheckTimings(listener);
         this.config = config;
         this.requestTimeout = requestTimeout;
         this.xContentRegistry = xContentRegistry;
@@ -138,6 +164,7 @@ public class ModelValidationActionHandler {
     }
 
     public void start() {
+        startMillis = clock.millis();
         ActionListener<Pair<Optional<Long>, Map<String, Object>>> latestTimeListener = ActionListener
             .wrap(
                 latestEntityAttributes -> getSampleRangesForValidationChecks(
@@ -151,7 +178,7 @@ public class ModelValidationActionHandler {
                     listener.onFailure(exception);
                 }
             );
-        latestTimeRetriever.checkIfHC(latestTimeListener);
+        latestTimeRetriever.checkIfHC(timed(LATEST_TIME_CHECK, latestTimeListener));
     }
 
     private void getSampleRangesForValidationChecks(
@@ -172,10 +199,22 @@ public class ModelValidationActionHandler {
             return;
         }
         long timeRangeEnd = Math.min(Instant.now().toEpochMilli(), latestTime.get());
-        new IntervalCalculation(config, requestTimeout, client, clientUtil, user, context, clock, searchFeatureDao, timeRangeEnd, topEntity)
-            .findInterval(
-                ActionListener.wrap(interval -> processIntervalRecommendation(interval, latestTime.get(), topEntity), listener::onFailure)
-            );
+        ActionListener<IntervalTimeConfiguration> intervalListener = ActionListener
+            .wrap(interval -> processIntervalRecommendation(interval, latestTime.get(), topEntity), listener::onFailure);
+        // evaluate all candidate intervals in one round trip
+        new IntervalCalculation(
+            config,
+            requestTimeout,
+            client,
+            clientUtil,
+            user,
+            context,
+            clock,
+            searchFeatureDao,
+            timeRangeEnd,
+            topEntity,
+            true
+        ).findInterval(timed(INTERVAL_CHECK, intervalListener));
     }
 
     private void processIntervalRecommendation(IntervalTimeConfiguration interval, long latestTime, Map<String, Object> topEntity)
@@ -184,7 +223,7 @@ public class ModelValidationActionHandler {
         // applied, our next step then is to check density just with the raw data and then add each configuration
         // one at a time to try and find root cause of low density
         if (interval == null) {
-            checkRawDataSparsity(latestTime);
+            checkDataSparsity(latestTime);
         } else {
             if (((IntervalTimeConfiguration) config.getInterval()).gte(interval)) {
                 logger.info("Using the current interval as there is enough dense data ");
@@ -220,12 +259,42 @@ public class ModelValidationActionHandler {
         return aggregationPrep.getHistogramAggregation((int) intervalInMinutes, timeRangeToSearchForConfiguredInterval);
     }
 
-    private void checkRawDataSparsity(long latestTime) {
+    /**
+     * Look for the root cause of sparse data. Each check only depends on the latest time, and the
+     * category field and feature checks of HC configs on the top entity, so the checks run
+     * concurrently. The first failing check in the order raw data, filter query, category fields,
+     * feature queries is reported, which is the issue the checks would report one after another.
+     *
+     * @param latestTime latest data time
+     */
+    private void checkDataSparsity(long latestTime) {
+        OrderedChecks checks = new OrderedChecks(SPARSITY_CHECK_COUNT, () -> windowDelayRecommendation(latestTime));
+        ActionListener<Void> categoryListener = checks.listenerFor(CATEGORY_ORDER);
+        ActionListener<Void> featureListener = checks.listenerFor(FEATURE_ORDER);
+        checkRawDataSparsity(latestTime, timed(RAW_DATA_CHECK, checks.listenerFor(RAW_DATA_ORDER)));
+        checkDataFilterSparsity(latestTime, timed(FILTER_CHECK, checks.listenerFor(FILTER_ORDER)));
+        if (config.isHighCardinality()) {
+            getTopEntityForCategoryField(latestTime, categoryListener, featureListener);
+        } else {
+            categoryListener.onResponse(null);
+            checkFeatureQueries(latestTime, new HashMap<>(), timed(FEATURE_CHECK, featureListener));
+        }
+    }
+
+    private void checkRawDataSparsity(long latestTime, ActionListener<Void> checkListener) {
         AggregationBuilder aggregation = getBucketAggregation(latestTime);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().aggregation(aggregation).size(0).timeout(requestTimeout);
         SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
-        final ActionListener<SearchResponse> searchResponseListener = ActionListener
-            .wrap(response -> processRawDataResults(response, latestTime), listener::onFailure);
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            if (aggregationPrep.getHistorgramBucketHitRate(response) < TimeSeriesSettings.INTERVAL_BUCKET_MINIMUM_SUCCESS_RATE) {
+                checkListener
+                    .onFailure(
+                        new ValidationException(CommonMessages.RAW_DATA_TOO_SPARSE, ValidationIssueType.INDICES, ValidationAspect.MODEL)
+                    );
+            } else {
+                checkListener.onResponse(null);
+            }
+        }, checkListener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
         // checkpoint
         clientUtil
@@ -239,24 +308,25 @@ public class ModelValidationActionHandler {
             );
     }
 
-    private void processRawDataResults(SearchResponse response, long latestTime) {
-        if (aggregationPrep.getHistorgramBucketHitRate(response) < TimeSeriesSettings.INTERVAL_BUCKET_MINIMUM_SUCCESS_RATE) {
-            listener
-                .onFailure(
-                    new ValidationException(CommonMessages.RAW_DATA_TOO_SPARSE, ValidationIssueType.INDICES, ValidationAspect.MODEL)
-                );
-        } else {
-            checkDataFilterSparsity(latestTime);
-        }
-    }
-
-    private void checkDataFilterSparsity(long latestTime) {
+    private void checkDataFilterSparsity(long latestTime, ActionListener<Void> checkListener) {
         AggregationBuilder aggregation = getBucketAggregation(latestTime);
         BoolQueryBuilder query = QueryBuilders.boolQuery().filter(config.getFilterQuery());
         SearchSourceBuilder searchSourceBuilder = aggregationPrep.getSearchSourceBuilder(query, aggregation);
         SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
-        final ActionListener<SearchResponse> searchResponseListener = ActionListener
-            .wrap(response -> processDataFilterResults(response, latestTime), listener::onFailure);
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            if (aggregationPrep.getHistorgramBucketHitRate(response) < CONFIG_BUCKET_MINIMUM_SUCCESS_RATE) {
+                checkListener
+                    .onFailure(
+                        new ValidationException(
+                            CommonMessages.FILTER_QUERY_TOO_SPARSE,
+                            ValidationIssueType.FILTER_QUERY,
+                            ValidationAspect.MODEL
+                        )
+                    );
+            } else {
+                checkListener.onResponse(null);
+            }
+        }, checkListener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
         // checkpoint
         clientUtil
@@ -270,42 +340,24 @@ public class ModelValidationActionHandler {
             );
     }
 
-    private void processDataFilterResults(SearchResponse response, long latestTime) {
-        if (aggregationPrep.getHistorgramBucketHitRate(response) < CONFIG_BUCKET_MINIMUM_SUCCESS_RATE) {
-            listener
-                .onFailure(
-                    new ValidationException(
-                        CommonMessages.FILTER_QUERY_TOO_SPARSE,
-                        ValidationIssueType.FILTER_QUERY,
-                        ValidationAspect.MODEL
-                    )
-                );
-            // blocks below are executed if data is dense enough with filter query applied.
-            // If HCAD then category fields will be added to bucket aggregation to see if they
-            // are the root cause of the issues and if not the feature queries will be checked for sparsity
-        } else if (config.isHighCardinality()) {
-            getTopEntityForCategoryField(latestTime);
-        } else {
-            try {
-                checkFeatureQueryDelegate(latestTime, new HashMap<>());
-            } catch (Exception ex) {
-                logger.error(ex);
-                listener.onFailure(ex);
-            }
-        }
-    }
-
-    private void getTopEntityForCategoryField(long latestTime) {
-        ActionListener<Pair<Optional<Long>, Map<String, Object>>> getTopEntityListener = ActionListener
-            .wrap(topEntity -> checkCategoryFieldSparsity(topEntity.getRight(), latestTime), exception -> {
-                listener.onFailure(exception);
-                logger.error("Failed to get top entity for categorical field", exception);
-                return;
-            });
-        latestTimeRetriever.getTopEntity(getTopEntityListener, latestTime);
+    private void getTopEntityForCategoryField(
+        long latestTime,
+        ActionListener<Void> categoryListener,
+        ActionListener<Void> featureListener
+    ) {
+        ActionListener<Pair<Optional<Long>, Map<String, Object>>> getTopEntityListener = ActionListener.wrap(topEntity -> {
+            // both checks only need the top entity, so they run concurrently
+            checkCategoryFieldSparsity(topEntity.getRight(), latestTime, timed(CATEGORY_CHECK, categoryListener));
+            checkFeatureQueries(latestTime, topEntity.getRight(), timed(FEATURE_CHECK, featureListener));
+        }, exception -> {
+            logger.error("Failed to get top entity for categorical field", exception);
+            categoryListener.onFailure(exception);
+            featureListener.onResponse(null);
+        });
+        latestTimeRetriever.getTopEntity(timed(TOP_ENTITY_CHECK, getTopEntityListener), latestTime);
     }
 
-    private void checkCategoryFieldSparsity(Map<String, Object> topEntity, long latestTime) {
+    private void checkCategoryFieldSparsity(Map<String, Object> topEntity, long latestTime, ActionListener<Void> checkListener) {
         BoolQueryBuilder query = QueryBuilders.boolQuery().filter(config.getFilterQuery());
         for (Map.Entry<String, Object> entry : topEntity.entrySet()) {
             query.filter(QueryBuilders.termQuery(entry.getKey(), entry.getValue()));
@@ -313,8 +365,20 @@ public class ModelValidationActionHandler {
         AggregationBuilder aggregation = getBucketAggregation(latestTime);
         SearchSourceBuilder searchSourceBuilder = aggregationPrep.getSearchSourceBuilder(query, aggregation);
         SearchRequest searchRequest = new SearchRequest(config.getIndices().toArray(new String[0])).source(searchSourceBuilder);
-        final ActionListener<SearchResponse> searchResponseListener = ActionListener
-            .wrap(response -> processTopEntityResults(response, latestTime, topEntity), listener::onFailure);
+        final ActionListener<SearchResponse> searchResponseListener = ActionListener.wrap(response -> {
+            if (aggregationPrep.getHistorgramBucketHitRate(response) < CONFIG_BUCKET_MINIMUM_SUCCESS_RATE) {
+                checkListener
+                    .onFailure(
+                        new ValidationException(
+                            CommonMessages.CATEGORY_FIELD_TOO_SPARSE,
+                            ValidationIssueType.CATEGORY,
+                            ValidationAspect.MODEL
+                        )
+                    );
+            } else {
+                checkListener.onResponse(null);
+            }
+        }, checkListener::onFailure);
         // using the original context in listener as user roles have no permissions for internal operations like fetching a
         // checkpoint
         clientUtil
@@ -328,26 +392,20 @@ public class ModelValidationActionHandler {
             );
     }
 
-    private void processTopEntityResults(SearchResponse response, long latestTime, Map<String, Object> topEntity) {
-        if (aggregationPrep.getHistorgramBucketHitRate(response) < CONFIG_BUCKET_MINIMUM_SUCCESS_RATE) {
-            listener
-                .onFailure(
-                    new ValidationException(CommonMessages.CATEGORY_FIELD_TOO_SPARSE, ValidationIssueType.CATEGORY, ValidationAspect.MODEL)
-                );
-        } else {
-            try {
-                checkFeatureQueryDelegate(latestTime, topEntity);
-            } catch (Exception ex) {
-                logger.error(ex);
-                listener.onFailure(ex);
-            }
+    private void checkFeatureQueries(long latestTime, Map<String, Object> topEntity, ActionListener<Void> checkListener) {
+        try {
+            checkFeatureQueryDelegate(latestTime, topEntity, checkListener);
+        } catch (Exception ex) {
+            logger.error(ex);
+            checkListener.onFailure(ex);
         }
     }
 
-    private void checkFeatureQueryDelegate(long latestTime, Map<String, Object> topEntity) throws IOException {
+    private void checkFeatureQueryDelegate(long latestTime, Map<String, Object> topEntity, ActionListener<Void> checkListener)
+        throws IOException {
         if (config.isHighCardinality()) {
             if (topEntity.isEmpty()) {
-                listener
+                checkListener
                     .onFailure(
                         new ValidationException(
                             CommonMessages.CATEGORY_FIELD_TOO_SPARSE,
@@ -359,9 +417,9 @@ public class ModelValidationActionHandler {
             }
         }
         ActionListener<MergeableList<double[]>> validateFeatureQueriesListener = ActionListener.wrap(response -> {
-            windowDelayRecommendation(latestTime);
+            checkListener.onResponse(null);
         }, exception -> {
-            listener
+            checkListener
                 .onFailure(new ValidationException(exception.getMessage(), ValidationIssueType.FEATURE_ATTRIBUTES, ValidationAspect.MODEL));
         });
         MultiResponsesDelegateActionListener<MergeableList<double[]>> multiFeatureQueriesResponseListener =
@@ -398,7 +456,7 @@ public class ModelValidationActionHandler {
                             .onResponse(new MergeableList<>(new ArrayList<>(Collections.singletonList(new double[] { fullBucketRate }))));
                     }
                 } catch (ValidationException e) {
-                    listener.onFailure(e);
+                    checkListener.onFailure(e);
                 }
 
             }, e -> {
@@ -454,4 +512,87 @@ public class ModelValidationActionHandler {
     private Long timeConfigToMilliSec(TimeConfiguration timeConfig) {
         return Optional.ofNullable((IntervalTimeConfiguration) timeConfig).map(t -> t.toDuration().toMillis()).orElse(0L);
     }
+
+    /**
+     * Record how long a check took when its listener completes.
+     *
+     * @param check check name
+     * @param checkListener listener of the check
+     * @param <R> response type
+     * @return listener recording the check duration before notifying checkListener
+     */
+    private <R> ActionListener<R> timed(String check, ActionListener<R> checkListener) {
+        long checkStartMillis = clock.millis();
+        return ActionListener.runBefore(checkListener, () -> checkTimings.put(check, clock.millis() - checkStartMillis));
+    }
+
+    /**
+     * @return the durations in milliseconds of the checks run so far, and of the whole validation
+     */
+    public Map<String, Long> getCheckTimings() {
+        Map<String, Long> timings = new TreeMap<>(checkTimings);
+        timings.put(TOTAL, clock.millis() - startMillis);
+        return timings;
+    }
+
+    private ActionListener<ValidateConfigResponse> withCheckTimings(ActionListener<ValidateConfigResponse> delegate) {
+        return new ActionListener<ValidateConfigResponse>() {
+            @Override
+            public void onResponse(ValidateConfigResponse response) {
+                delegate.onResponse(new ValidateConfigResponse(null, getCheckTimings()));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (e instanceof ValidationException) {
+                    ((ValidationException) e).setCheckTimings(getCheckTimings());
+                }
+                delegate.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Joins concurrent checks and reports the issue of the first failing check in check order.
+     * Calls onAllPassed if no check fails.
+     */
+    private class OrderedChecks {
+        private final AtomicReferenceArray<Exception> issues;
+        private final AtomicInteger pending;
+        private final Runnable onAllPassed;
+
+        OrderedChecks(int checkCount, Runnable onAllPassed) {
+            this.issues = new AtomicReferenceArray<>(checkCount);
+            this.pending = new AtomicInteger(checkCount);
+            this.onAllPassed = onAllPassed;
+        }
+
+        ActionListener<Void> listenerFor(int order) {
+            return new ActionListener<Void>() {
+                @Override
+                public void onResponse(Void response) {
+                    complete();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    issues.set(order, e);
+                    complete();
+                }
+            };
+        }
+
+        private void complete() {
+            if (pending.decrementAndGet() > 0) {
+                return;
+            }
+            for (int i = 0; i < issues.length(); i++) {
+                if (issues.get(i) != null) {
+                    listener.onFailure(issues.get(i));
+                    return;
+                }
+            }
+            onAllPassed.run();
+        }
+    }
 }
@@ -6,9 +6,13 @@
 package org.opensearch.timeseries.settings;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.timeseries.ratelimit.QueueScheduler;
 
 public class TimeSeriesSettings {
 
@@ -124,6 +128,21 @@ public class TimeSeriesSettings {
     // the size of the buffer used for rcf deserialization
     public static final int SERIALIZATION_BUFFER_BYTES = 512;
 
+    // When true, checkpoint documents are routed by config id so that all models of a config
+    // live on one shard: reads stay single-shard gets and deleting a config's checkpoints
+    // becomes a routed delete-by-query on one shard instead of a scan of every shard.
+    // This is a storage layout choice and must be the same on all nodes. Checkpoints written
+    // before enabling it are not found by routed reads; those models cold start again and the
+    // stale documents are removed by checkpoint TTL cleanup.
+    public static final Setting<Boolean> CHECKPOINT_ROUTING_BY_CONFIG = Setting
+        .boolSetting("plugins.timeseries.checkpoint_routing_by_config", false, Setting.Property.NodeScope);
+
+    // Number of routing buckets per config used when writing results into an index. Set when
+    // creating the result index and never changed, so that results written into the index and
+    // routed reads agree. 0 means results of the index are routed by document id.
+    public static final Setting<Integer> RESULT_INDEX_ROUTING_BUCKETS = Setting
+        .intSetting("index.plugins.timeseries.result_routing_buckets", 0, 0, 64, Setting.Property.IndexScope, Setting.Property.Final);
+
     // ======================================
     // rate-limiting queue parameters
     // ======================================
@@ -188,6 +207,34 @@ public class TimeSeriesSettings {
 
     public static final Duration QUEUE_MAINTENANCE = Duration.ofMinutes(10);
 
+    // cached configs are checked against the config index at least this often
+    public static final Duration CONFIG_REVALIDATE_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * How rate-limited workers pick the next request queue to serve: round_robin gives each
+     * config the same turn share and serves the LOW queue only when all others are empty;
+     * deficit_round_robin weights queues by priority, config interval, and backlog and bounds
+     * the wait of every queue's oldest request.
+     */
+    public static final Setting<String> REQUEST_QUEUE_SCHEDULER = Setting
+        .simpleString(
+            "plugins.timeseries.request_queue_scheduler",
+            QueueScheduler.Policy.ROUND_ROBIN.name().toLowerCase(Locale.ROOT),
+            value -> QueueScheduler.Policy.fromName(value),
+            Setting.Property.NodeScope
+        );
+
+    // a queue whose oldest request has waited longer than this is served ahead of others in deficit_round_robin
+    public static final Setting<TimeValue> REQUEST_QUEUE_STARVATION_BOUND = Setting
+        .positiveTimeSetting(
+            "plugins.timeseries.request_queue_starvation_bound",
+            TimeValue.timeValueSeconds(30),
+            Setting.Property.NodeScope
+        );
+
+    // number of requests credited to a queue of weight 1 per deficit round robin visit
+    public static final int REQUEST_QUEUE_QUANTUM = 10;
+
     // ======================================
     // ML parameters
     // ======================================
@@ -211,6 +258,11 @@ public class TimeSeriesSettings {
 
     public static final int MIN_TRAIN_SAMPLES = 512;
 
+    // Upper bound of unprocessed samples kept per model. A model only keeps samples
+    // until it has enough to train, which is far below this bound; the oldest samples
+    // are overwritten if it is ever reached.
+    public static final int MAX_SAMPLE_BUFFER_SIZE = MIN_TRAIN_SAMPLES;
+
     // ======================================
     // Cold start setting
     // ======================================
@@ -251,6 +303,25 @@ public class TimeSeriesSettings {
     // ======================================
     public static final long DEFAULT_JOB_LOC_DURATION_SECONDS = 60;
 
+    // Upper bound of the stable delay added to each real-time job run so that jobs firing at the
+    // same moment do not hit source indices, search and write queues together. A job's delay is
+    // derived from its config id and also capped at half of its interval. The analysis window is
+    // still the one of the fire time, so delaying a run only gives late data more time to arrive.
+    // 0 disables spreading.
+    public static final Setting<TimeValue> JOB_EXECUTION_MAX_SPREAD = Setting
+        .timeSetting("plugins.timeseries.job_execution_max_spread", TimeValue.ZERO, TimeValue.ZERO, Setting.Property.NodeScope);
+
+    // When positive, a node keeps the job scheduler lock of a job it runs as a lease of this
+    // duration across runs instead of acquiring and releasing the lock in every run. Leases are
+    // renewed in one periodic sweep and released when a run fails, the job stops, or the job
+    // stops running on the node. A node crash blocks its jobs for up to this duration.
+    // 0 disables leases.
+    public static final Setting<TimeValue> JOB_LOCK_LEASE_DURATION = Setting
+        .timeSetting("plugins.timeseries.job_lock_lease_duration", TimeValue.ZERO, TimeValue.ZERO, Setting.Property.NodeScope);
+
+    // number of most recent seconds whose job start counts are reported in stats
+    public static final int JOB_START_STATS_WINDOW_SECONDS = 60;
+
     // ======================================
     // stats/profile API setting
     // ======================================
@@ -290,5 +361,42 @@ public class TimeSeriesSettings {
     // max entities to track per detector
     public static final int MAX_TRACKING_ENTITIES = 1000000;
 
+    // number of cache buffers (one per config) maintained by one task of the hourly cache
+    // maintenance. Tasks of different slices run in parallel on the analysis thread pool.
+    public static final Setting<Integer> CACHE_MAINTENANCE_SLICE_SIZE = Setting
+        .intSetting("plugins.timeseries.cache_maintenance_slice_size", 16, 1, 10_000, Setting.Property.NodeScope);
+
+    // a cache maintenance task gives its thread back to queued detection work after running this
+    // long and continues with the rest of its slice in a new task
+    public static final Setting<TimeValue> CACHE_MAINTENANCE_TIME_BUDGET = Setting
+        .positiveTimeSetting("plugins.timeseries.cache_maintenance_time_budget", TimeValue.timeValueMillis(50), Setting.Property.NodeScope);
+
+    // number of entities of a cache buffer maintained between two checks of the maintenance time
+    // budget, so that a config with many hosted entities cannot hold a thread past the budget
+    public static final Setting<Integer> CACHE_MAINTENANCE_CHUNK_SIZE = Setting
+        .intSetting("plugins.timeseries.cache_maintenance_chunk_size", 1_000, 1, 1_000_000, Setting.Property.NodeScope);
+
+    // whether entity models of small dimensions are kept serialized in a per-config compact model
+    // store and only inflated while scoring. Trades CPU for hosting more entities per node.
+    public static final Setting<Boolean> COMPACT_MODEL_STORE_ENABLED = Setting
+        .boolSetting("plugins.timeseries.compact_model_store_enabled", false, Setting.Property.NodeScope);
+
+    // max model dimension (features times shingle size) of configs using the compact model store
+    public static final Setting<Integer> COMPACT_MODEL_MAX_DIMENSION = Setting
+        .intSetting("plugins.timeseries.compact_model_max_dimension", 16, 1, 1_000, Setting.Property.NodeScope);
+
+    // whether cache maintenance measures the retained size of a sampled model per config and corrects
+    // the estimated model size of the config with it. Measuring walks the model object graph.
+    public static final Setting<Boolean> MODEL_SIZE_CALIBRATION_ENABLED = Setting
+        .boolSetting("plugins.timeseries.model_size_calibration_enabled", false, Setting.Property.NodeScope);
+
+    // max size of the local file each of AD and forecasting spills results to under indexing pressure
+    public static final Setting<ByteSizeValue> RESULT_WRITE_SPILL_MAX_SIZE = Setting
+        .byteSizeSetting(
+            "plugins.timeseries.result_write_spill_max_size",
+            new ByteSizeValue(100, ByteSizeUnit.MB),
+            Setting.Property.NodeScope
+        );
+
     public static final String FLATTEN_CUSTOM_RESULT_INDEX_PAINLESS = "scripts/flatten-custom-result-index-painless.txt";
 }
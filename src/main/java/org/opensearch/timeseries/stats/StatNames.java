@@ -23,6 +23,13 @@ public enum StatNames {
     // keep the name the same for bwc
     CONFIG_INDEX_STATUS("anomaly_detectors_index_status", StatType.TIMESERIES),
     JOB_INDEX_STATUS("anomaly_detection_job_index_status", StatType.TIMESERIES),
+    REQUEST_QUEUE_INFORMATION("request_queues", StatType.TIMESERIES),
+    JOB_START_INFORMATION("job_starts", StatType.TIMESERIES),
+    CONFIG_CACHE_INFORMATION("config_cache", StatType.TIMESERIES),
+    CHECKPOINT_WRITE_INFORMATION("checkpoint_writes", StatType.TIMESERIES),
+    CACHE_MAINTENANCE_INFORMATION("cache_maintenance", StatType.TIMESERIES),
+    RESULT_WRITE_INFORMATION("result_writes", StatType.TIMESERIES),
+    MODEL_SIZE_CALIBRATION_INFORMATION("model_size_calibration", StatType.TIMESERIES),
     // AD stats
     AD_EXECUTE_REQUEST_COUNT("ad_execute_request_count", StatType.AD),
     AD_EXECUTE_FAIL_COUNT("ad_execute_failure_count", StatType.AD),
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.timeseries.stats.suppliers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.opensearch.timeseries.ratelimit.RateLimitedRequestWorker;
+
+/**
+ * Reports per queue wait and service share of rate-limited workers on a node so that
+ * we can see which configs are being throttled.
+ */
+public class RequestQueueStatsSupplier implements Supplier<Map<String, Object>> {
+    // workers are created after the stats map, so they register themselves later
+    private final List<RateLimitedRequestWorker<?>> workers;
+
+    public RequestQueueStatsSupplier() {
+        this.workers = new CopyOnWriteArrayList<>();
+    }
+
+    public void register(RateLimitedRequestWorker<?> worker) {
+        workers.add(worker);
+    }
+
+    /**
+     * @return map from worker name to the map from queue id to the queue's stats
+     */
+    @Override
+    public Map<String, Object> get() {
+        Map<String, Object> stats = new HashMap<>();
+        for (RateLimitedRequestWorker<?> worker : workers) {
+            stats.put(worker.getWorkerName(), worker.getQueueStats());
+        }
+        return stats;
+    }
+}
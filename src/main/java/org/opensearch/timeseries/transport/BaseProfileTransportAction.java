@@ -30,6 +30,8 @@ import org.opensearch.timeseries.caching.CacheProvider;
 import org.opensearch.timeseries.caching.TimeSeriesCache;
 import org.opensearch.timeseries.model.ModelProfile;
 import org.opensearch.timeseries.model.ProfileName;
+import org.opensearch.timeseries.model.ResultWriteProfile;
+import org.opensearch.timeseries.ratelimit.ResultWriteAdmission;
 import org.opensearch.timeseries.task.TaskCacheManager;
 import org.opensearch.transport.TransportService;
 
@@ -45,6 +47,7 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
     // the number of models to return. Defaults to 10.
     private volatile int numModelsToReturn;
     private TaskCacheManager taskCacheManager;
+    private ResultWriteAdmission resultWriteAdmission;
 
     /**
      * Constructor
@@ -61,6 +64,7 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
      *     pluginComponents.stream().forEach(p -&gt; b.bind((Class) p.getClass()).toInstance(p));
      *     So TaskCacheManager instance is gonna bind to TaskCacheManager.class, which is used
      *     by forecasting. AD is gonna use ADTaskCacheManager.
+     * @param resultWriteAdmission result write admission to report write lag and dropped results
      */
     public BaseProfileTransportAction(
         String profileAction,
@@ -71,7 +75,8 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
         CacheProviderType cacheProvider,
         Settings settings,
         Setting<Integer> maxModelNumberPerNode,
-        TaskCacheManager taskCacheManager
+        TaskCacheManager taskCacheManager,
+        ResultWriteAdmission resultWriteAdmission
     ) {
         super(
             profileAction,
@@ -87,6 +92,7 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
         this.cacheProvider = cacheProvider;
         this.numModelsToReturn = maxModelNumberPerNode.get(settings);
         this.taskCacheManager = taskCacheManager;
+        this.resultWriteAdmission = resultWriteAdmission;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(maxModelNumberPerNode, it -> this.numModelsToReturn = it);
     }
 
@@ -115,6 +121,7 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
         List<ModelProfile> modelProfiles = null;
         int modelCount = 0;
         boolean coordinatingNode = false;
+        ResultWriteProfile resultWriteProfile = null;
 
         if (profiles.contains(ProfileName.ACTIVE_ENTITIES)) {
             activeEntity = cacheProvider.get().getActiveEntities(configId);
@@ -142,6 +149,10 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
             coordinatingNode = taskCacheManager.getRealtimeTaskCache(configId) != null;
         }
 
+        if (profiles.contains(ProfileName.RESULT_WRITE)) {
+            resultWriteProfile = resultWriteAdmission.getProfile(configId);
+        }
+
         return new ProfileNodeResponse(
             clusterService.localNode(),
             modelSize,
@@ -149,7 +160,8 @@ public class BaseProfileTransportAction<RCFModelType extends ThresholdedRandomCu
             totalUpdates,
             modelProfiles,
             modelCount,
-            coordinatingNode
+            coordinatingNode,
+            resultWriteProfile
         );
     }
 }
@@ -139,7 +139,8 @@ public abstract class BaseSuggestConfigParamTransportAction extends
                     clock,
                     searchFeatureDao,
                     latestTime.get(),
-                    latestEntityAttributes.getRight()
+                    latestEntityAttributes.getRight(),
+                    true
                 );
                 intervalCalculation.findInterval(intervalSuggestionListener);
             } else {
@@ -202,13 +202,14 @@ public abstract class BaseValidateConfigTransportAction<IndexType extends Enum<I
         storedContext.restore();
         Config config = request.getConfig();
         ActionListener<ValidateConfigResponse> validateListener = ActionListener.wrap(response -> {
-            // forcing response to be empty
-            listener.onResponse(new ValidateConfigResponse((ConfigValidationIssue) null));
+            // forcing response to be empty except for the check timings of model validation
+            listener.onResponse(new ValidateConfigResponse(null, response == null ? null : response.getCheckTimings()));
         }, exception -> {
             if (exception instanceof ValidationException) {
                 // ADValidationException is converted as validation issues returned as response to user
-                ConfigValidationIssue issue = parseValidationException((ValidationException) exception);
-                listener.onResponse(new ValidateConfigResponse(issue));
+                ValidationException validationException = (ValidationException) exception;
+                ConfigValidationIssue issue = parseValidationException(validationException);
+                listener.onResponse(new ValidateConfigResponse(issue, validationException.getCheckTimings()));
                 return;
             }
             logger.error(exception);
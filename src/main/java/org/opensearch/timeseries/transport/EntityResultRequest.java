@@ -38,6 +38,8 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
     protected long end;
     protected AnalysisType analysisType;
     protected String taskId;
+    // node to report the progress of a run-once task to
+    protected String coordinatingNodeId;
 
     public EntityResultRequest(StreamInput in) throws IOException {
         super(in);
@@ -55,6 +57,11 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
             analysisType = in.readEnum(AnalysisType.class);
             taskId = in.readOptionalString();
         }
+
+        // newly added
+        if (in.available() > 0) {
+            coordinatingNodeId = in.readOptionalString();
+        }
     }
 
     public EntityResultRequest(
@@ -64,6 +71,18 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         long end,
         AnalysisType analysisType,
         String taskId
+    ) {
+        this(configId, entities, start, end, analysisType, taskId, null);
+    }
+
+    public EntityResultRequest(
+        String configId,
+        Map<Entity, double[]> entities,
+        long start,
+        long end,
+        AnalysisType analysisType,
+        String taskId,
+        String coordinatingNodeId
     ) {
         super();
         this.configId = configId;
@@ -72,6 +91,7 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         this.end = end;
         this.analysisType = analysisType;
         this.taskId = taskId;
+        this.coordinatingNodeId = coordinatingNodeId;
     }
 
     public String getConfigId() {
@@ -98,6 +118,10 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         return taskId;
     }
 
+    public String getCoordinatingNodeId() {
+        return coordinatingNodeId;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -110,6 +134,7 @@ public class EntityResultRequest extends ActionRequest implements ToXContentObje
         out.writeLong(this.end);
         out.writeEnum(analysisType);
         out.writeOptionalString(taskId);
+        out.writeOptionalString(coordinatingNodeId);
     }
 
     @Override
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+public class InvalidateConfigCacheNodeRequest extends TransportRequest {
+    private final InvalidateConfigCacheRequest request;
+
+    public InvalidateConfigCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        request = new InvalidateConfigCacheRequest(in);
+    }
+
+    public InvalidateConfigCacheNodeRequest(InvalidateConfigCacheRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        request.writeTo(out);
+    }
+
+    public String getConfigId() {
+        return request.getConfigId();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class InvalidateConfigCacheRequest extends BaseNodesRequest<InvalidateConfigCacheRequest> {
+    private String configId;
+
+    public InvalidateConfigCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        configId = in.readString();
+    }
+
+    /**
+     * Constructor. The request is sent to all nodes.
+     *
+     * @param configId config id
+     */
+    public InvalidateConfigCacheRequest(String configId) {
+        super((String[]) null);
+        this.configId = configId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(configId);
+    }
+
+    public String getConfigId() {
+        return configId;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.transport;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.ad.transport.InvalidateConfigCacheAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Drops a config from the parsed-config cache of every node after the config is updated.
+ */
+public class InvalidateConfigCacheTransportAction extends
+    TransportNodesAction<InvalidateConfigCacheRequest, BooleanResponse, InvalidateConfigCacheNodeRequest, BooleanNodeResponse> {
+    private final NodeStateManager nodeStateManager;
+
+    @Inject
+    public InvalidateConfigCacheTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        NodeStateManager nodeStateManager
+    ) {
+        super(
+            InvalidateConfigCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            InvalidateConfigCacheRequest::new,
+            InvalidateConfigCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            BooleanNodeResponse.class
+        );
+        this.nodeStateManager = nodeStateManager;
+    }
+
+    @Override
+    protected BooleanResponse newResponse(
+        InvalidateConfigCacheRequest request,
+        List<BooleanNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new BooleanResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected InvalidateConfigCacheNodeRequest newNodeRequest(InvalidateConfigCacheRequest request) {
+        return new InvalidateConfigCacheNodeRequest(request);
+    }
+
+    @Override
+    protected BooleanNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new BooleanNodeResponse(in);
+    }
+
+    @Override
+    protected BooleanNodeResponse nodeOperation(InvalidateConfigCacheNodeRequest request) {
+        nodeStateManager.invalidateConfig(request.getConfigId());
+        return new BooleanNodeResponse(clusterService.localNode(), true);
+    }
+}
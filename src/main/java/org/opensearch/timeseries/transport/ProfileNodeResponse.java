@@ -23,6 +23,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.model.ModelProfile;
+import org.opensearch.timeseries.model.ResultWriteProfile;
 
 /**
  * Profile response on a node
@@ -36,6 +37,7 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
     private long modelCount;
     // added after OpenSearch 3.0
     private boolean coordinatingNode;
+    private ResultWriteProfile resultWriteProfile;
 
     /**
      * Constructor
@@ -56,6 +58,7 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
             modelCount = in.readVLong();
         }
         coordinatingNode = in.readBoolean();
+        resultWriteProfile = in.readOptionalWriteable(ResultWriteProfile::new);
     }
 
     /**
@@ -77,6 +80,31 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
         List<ModelProfile> modelProfiles,
         long modelCount,
         boolean coordinatingNode
+    ) {
+        this(node, modelSize, activeEntity, totalUpdates, modelProfiles, modelCount, coordinatingNode, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node DiscoveryNode object
+     * @param modelSize Mapping of model id to its memory consumption in bytes
+     * @param activeEntity active entity count
+     * @param totalUpdates RCF model total updates
+     * @param modelProfiles a collection of model profiles like model size
+     * @param modelCount the number of models on the node
+     * @param coordinatingNode whether current node is a coordinating node of a config
+     * @param resultWriteProfile result write profile of the config on the node; null if not requested or unknown
+     */
+    public ProfileNodeResponse(
+        DiscoveryNode node,
+        Map<String, Long> modelSize,
+        long activeEntity,
+        long totalUpdates,
+        List<ModelProfile> modelProfiles,
+        long modelCount,
+        boolean coordinatingNode,
+        ResultWriteProfile resultWriteProfile
     ) {
         super(node);
         this.modelSize = modelSize;
@@ -85,6 +113,7 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
         this.modelProfiles = modelProfiles;
         this.modelCount = modelCount;
         this.coordinatingNode = coordinatingNode;
+        this.resultWriteProfile = resultWriteProfile;
     }
 
     /**
@@ -119,6 +148,7 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
             out.writeBoolean(false);
         }
         out.writeBoolean(coordinatingNode);
+        out.writeOptionalWriteable(resultWriteProfile);
     }
 
     /**
@@ -149,6 +179,9 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
         }
         builder.endArray();
         builder.field(CommonName.COORDINATING_NODE, coordinatingNode);
+        if (resultWriteProfile != null) {
+            builder.field(CommonName.RESULT_WRITE, resultWriteProfile);
+        }
         return builder;
     }
 
@@ -175,4 +208,8 @@ public class ProfileNodeResponse extends BaseNodeResponse implements ToXContentF
     public boolean isCoordinatingNode() {
         return coordinatingNode;
     }
+
+    public ResultWriteProfile getResultWriteProfile() {
+        return resultWriteProfile;
+    }
 }
@@ -28,6 +28,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.model.ModelProfile;
 import org.opensearch.timeseries.model.ModelProfileOnNode;
+import org.opensearch.timeseries.model.ResultWriteProfile;
 
 /**
  * This class consists of the aggregated responses from the nodes
@@ -41,6 +42,7 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
     public static final String MODELS = CommonName.MODELS;
     static final String TOTAL_UPDATES = CommonName.TOTAL_UPDATES;
     static final String MODEL_COUNT = CommonName.MODEL_COUNT;
+    static final String RESULT_WRITE = CommonName.RESULT_WRITE;
 
     // changed from ModelProfile to ModelProfileOnNode since Opensearch 1.1
     private ModelProfileOnNode[] modelProfile;
@@ -50,6 +52,8 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
     private long totalUpdates;
     // added since 1.1
     private long modelCount;
+    // result write profile summed over nodes; null if no node reported one
+    private ResultWriteProfile resultWriteProfile;
 
     /**
      * Constructor
@@ -70,6 +74,7 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
         activeEntities = in.readVLong();
         totalUpdates = in.readVLong();
         modelCount = in.readVLong();
+        resultWriteProfile = in.readOptionalWriteable(ResultWriteProfile::new);
     }
 
     /**
@@ -114,6 +119,12 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
             if (response.getTotalUpdates() > totalUpdates) {
                 totalUpdates = response.getTotalUpdates();
             }
+            if (response.getResultWriteProfile() != null) {
+                if (resultWriteProfile == null) {
+                    resultWriteProfile = new ResultWriteProfile(0, 0, 0, 0, 0, 0);
+                }
+                resultWriteProfile.merge(response.getResultWriteProfile());
+            }
         }
         if (coordinatingNode == null) {
             coordinatingNode = "";
@@ -135,6 +146,7 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
         out.writeVLong(activeEntities);
         out.writeVLong(totalUpdates);
         out.writeVLong(modelCount);
+        out.writeOptionalWriteable(resultWriteProfile);
     }
 
     @Override
@@ -161,6 +173,9 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
             profile.toXContent(builder, params);
         }
         builder.endArray();
+        if (resultWriteProfile != null) {
+            builder.field(RESULT_WRITE, resultWriteProfile);
+        }
         return builder;
     }
 
@@ -187,4 +202,8 @@ public class ProfileResponse extends BaseNodesResponse<ProfileNodeResponse> impl
     public long getModelCount() {
         return modelCount;
     }
+
+    public ResultWriteProfile getResultWriteProfile() {
+        return resultWriteProfile;
+    }
 }
@@ -13,6 +13,7 @@ package org.opensearch.timeseries.transport;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,17 +26,30 @@ public class ResultBulkResponse extends ActionResponse {
     public static final String RETRY_REQUESTS_JSON_KEY = "retry_requests";
 
     private List<IndexRequest> retryRequests;
+    // positions of results in the bulk request that were spilled or dropped instead of indexed
+    private List<Integer> rejectedResultPositions;
 
     /**
      *
      * @param retryRequests a list of requests to retry
      */
     public ResultBulkResponse(List<IndexRequest> retryRequests) {
+        this(retryRequests, Collections.emptyList());
+    }
+
+    /**
+     *
+     * @param retryRequests a list of requests to retry
+     * @param rejectedResultPositions positions of results not indexed due to indexing pressure
+     */
+    public ResultBulkResponse(List<IndexRequest> retryRequests, List<Integer> rejectedResultPositions) {
         this.retryRequests = retryRequests;
+        this.rejectedResultPositions = rejectedResultPositions;
     }
 
     public ResultBulkResponse() {
         this.retryRequests = null;
+        this.rejectedResultPositions = Collections.emptyList();
     }
 
     public ResultBulkResponse(StreamInput in) throws IOException {
@@ -46,6 +60,7 @@ public class ResultBulkResponse extends ActionResponse {
                 retryRequests.add(new IndexRequest(in));
             }
         }
+        rejectedResultPositions = in.readList(StreamInput::readVInt);
     }
 
     @Override
@@ -58,6 +73,7 @@ public class ResultBulkResponse extends ActionResponse {
                 result.writeTo(out);
             }
         }
+        out.writeCollection(rejectedResultPositions, StreamOutput::writeVInt);
     }
 
     public boolean hasFailures() {
@@ -67,4 +83,11 @@ public class ResultBulkResponse extends ActionResponse {
     public Optional<List<IndexRequest>> getRetryRequests() {
         return Optional.ofNullable(retryRequests);
     }
+
+    /**
+     * @return positions of results in the bulk request that were spilled or dropped instead of indexed
+     */
+    public List<Integer> getRejectedResultPositions() {
+        return rejectedResultPositions;
+    }
 }
@@ -11,10 +11,11 @@
 
 package org.opensearch.timeseries.transport;
 
-import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import static org.opensearch.index.IndexingPressure.MAX_INDEXING_BYTES;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -25,19 +26,23 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.Writeable;
-import org.opensearch.core.xcontent.ToXContentObject;
-import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.NodeStateManager;
 import org.opensearch.timeseries.model.IndexableResult;
+import org.opensearch.timeseries.ratelimit.ResultWriteAdmission;
+import org.opensearch.timeseries.ratelimit.ResultWriteAdmission.SpilledResult;
 import org.opensearch.timeseries.ratelimit.ResultWriteRequest;
 import org.opensearch.timeseries.util.BulkUtil;
-import org.opensearch.timeseries.util.RestHandlerUtils;
+import org.opensearch.timeseries.util.ResultBulkEncoder;
+import org.opensearch.timeseries.util.ResultRouting;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -53,6 +58,8 @@ public abstract class ResultBulkTransportAction<ResultType extends IndexableResu
     private Client client;
     protected Random random;
     protected NodeStateManager nodeStateManager;
+    protected final ClusterService clusterService;
+    protected final ResultWriteAdmission admission;
 
     public ResultBulkTransportAction(
         String actionName,
@@ -60,7 +67,9 @@ public abstract class ResultBulkTransportAction<ResultType extends IndexableResu
         ActionFilters actionFilters,
         IndexingPressure indexingPressure,
         Settings settings,
+        ClusterService clusterService,
         Client client,
+        ResultWriteAdmission admission,
         float softLimit,
         float hardLimit,
         String indexName,
@@ -70,6 +79,8 @@ public abstract class ResultBulkTransportAction<ResultType extends IndexableResu
         this.indexingPressure = indexingPressure;
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.client = client;
+        this.clusterService = clusterService;
+        this.admission = admission;
 
         this.softLimit = softLimit;
         this.hardLimit = hardLimit;
@@ -93,28 +104,148 @@ public abstract class ResultBulkTransportAction<ResultType extends IndexableResu
             listener.onResponse(new ResultBulkResponse());
         }
 
-        BulkRequest bulkRequest = prepareBulkRequest(indexingPressurePercent, request);
+        List<Integer> rejectedPositions = new ArrayList<>();
+        BulkRequest bulkRequest = prepareBulkRequest(indexingPressurePercent, request, rejectedPositions);
+
+        List<SpilledResult> replayedResults = Collections.emptyList();
+        if (indexingPressurePercent <= softLimit && results != null && admission.hasSpilled()) {
+            // pressure recovered: index up to as many spilled results as the batch carries.
+            // Failed index requests are retried by the result write worker like any other result.
+            // The replayed results stay in the spill file until the bulk request is acknowledged.
+            replayedResults = admission.replay(Math.max(1, results.size()));
+            for (SpilledResult spilledResult : replayedResults) {
+                for (IndexRequest indexRequest : spilledResult.getRequests()) {
+                    bulkRequest.add(indexRequest);
+                }
+            }
+        }
 
         if (bulkRequest.numberOfActions() > 0) {
+            boolean replaying = !replayedResults.isEmpty();
             client.execute(BulkAction.INSTANCE, bulkRequest, ActionListener.wrap(bulkResponse -> {
+                if (replaying) {
+                    admission.onReplayDone(true);
+                }
                 List<IndexRequest> failedRequests = BulkUtil.getFailedIndexRequest(bulkRequest, bulkResponse);
-                listener.onResponse(new ResultBulkResponse(failedRequests));
+                listener.onResponse(new ResultBulkResponse(failedRequests, rejectedPositions));
             }, e -> {
                 LOG.error("Failed to bulk index AD result", e);
+                if (replaying) {
+                    // keep the replayed results in the spill file for a later replay
+                    admission.onReplayDone(false);
+                }
                 listener.onFailure(e);
             }));
         } else {
-            listener.onResponse(new ResultBulkResponse());
+            listener.onResponse(new ResultBulkResponse(null, rejectedPositions));
         }
     }
 
-    protected abstract BulkRequest prepareBulkRequest(float indexingPressurePercent, ResultBulkRequestType request);
+    /**
+     * Build the bulk request of results that indexing pressure admits. Other results are passed
+     * to {@link #rejectResult}.
+     *
+     * @param indexingPressurePercent current indexing pressure
+     * @param request results to index
+     * @param rejectedPositions collects positions of the results in the request that are not indexed
+     * @return bulk request of the admitted results
+     */
+    protected abstract BulkRequest prepareBulkRequest(
+        float indexingPressurePercent,
+        ResultBulkRequestType request,
+        List<Integer> rejectedPositions
+    );
+
+    /**
+     * Add a result that indexing pressure admits and record its write lag.
+     *
+     * @param bulkRequest bulk request to add index requests to
+     * @param encoder encoder shared by all results of the bulk request
+     * @param result result to index
+     * @param resultIndex custom result index or alias; null means the default result index
+     * @param flattenResultIndex flattened result index or alias; null means no flattened copy
+     */
+    protected void admitResult(
+        BulkRequest bulkRequest,
+        ResultBulkEncoder encoder,
+        IndexableResult result,
+        String resultIndex,
+        String flattenResultIndex
+    ) {
+        admission.onAdmitted(result);
+        addResult(bulkRequest, encoder, result, resultIndex, flattenResultIndex);
+    }
 
-    protected void addResult(BulkRequest bulkRequest, ToXContentObject result, String resultIndex) {
+    /**
+     * Spill a result that indexing pressure does not admit so it is indexed after the pressure
+     * recovers. The result is dropped if spilling is disabled or fails.
+     *
+     * @param encoder encoder shared by all results of the bulk request
+     * @param result result not admitted
+     * @param resultIndex custom result index or alias; null means the default result index
+     * @param flattenResultIndex flattened result index or alias; null means no flattened copy
+     */
+    protected void rejectResult(ResultBulkEncoder encoder, IndexableResult result, String resultIndex, String flattenResultIndex) {
+        String configId = result.getConfigId();
+        if (admission.isSpillEnabled()) {
+            BulkRequest spilledRequest = new BulkRequest();
+            addResult(spilledRequest, encoder, result, resultIndex, flattenResultIndex);
+            if (admission.spill(configId, spilledRequest.requests())) {
+                onSpilled(result);
+                return;
+            }
+        }
+        admission.onDropped(configId);
+    }
+
+    /**
+     * Called after a result is spilled. The result is indexed when it is replayed, outside of the
+     * result write worker.
+     *
+     * @param result spilled result
+     */
+    protected void onSpilled(IndexableResult result) {}
+
+    /**
+     * Serialize a result once and add it to the result index and, if present, to the flattened result index.
+     * Results are routed by config id and entity bucket if the target index is created with routing buckets.
+     *
+     * @param bulkRequest bulk request to add index requests to
+     * @param encoder encoder shared by all results of the bulk request
+     * @param result result to index
+     * @param resultIndex custom result index or alias; null means the default result index
+     * @param flattenResultIndex flattened result index or alias; null means no flattened copy
+     */
+    protected void addResult(
+        BulkRequest bulkRequest,
+        ResultBulkEncoder encoder,
+        IndexableResult result,
+        String resultIndex,
+        String flattenResultIndex
+    ) {
         String index = resultIndex == null ? indexName : resultIndex;
-        try (XContentBuilder builder = jsonBuilder()) {
-            IndexRequest indexRequest = new IndexRequest(index).source(result.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE));
-            bulkRequest.add(indexRequest);
+        try {
+            BytesReference source = encoder.encode(result);
+            Metadata metadata = clusterService.state().metadata();
+            String configId = result.getConfigId();
+            String entityId = IndexableResult.getEntityId(result.getEntity(), configId);
+            bulkRequest
+                .add(
+                    new IndexRequest(index)
+                        .source(source, encoder.getXContentType())
+                        .routing(ResultRouting.getRouting(configId, entityId, ResultRouting.getRoutingBuckets(metadata, index)))
+                );
+            if (flattenResultIndex != null) {
+                bulkRequest
+                    .add(
+                        new IndexRequest(flattenResultIndex)
+                            .source(source, encoder.getXContentType())
+                            .routing(
+                                ResultRouting
+                                    .getRouting(configId, entityId, ResultRouting.getRoutingBuckets(metadata, flattenResultIndex))
+                            )
+                    );
+            }
         } catch (IOException e) {
             LOG.error("Failed to prepare bulk index request for index " + index, e);
         }
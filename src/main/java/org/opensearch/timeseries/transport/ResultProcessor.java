@@ -214,6 +214,9 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
         // we ensure that the count of in-flight pages is accurate at all times. This allows us to reliably determine
         // when all pages have been processed.
         private AtomicInteger pagesInFlight;
+        // whether the page iterator has no more pages
+        private AtomicBoolean lastPageReceived;
+        private AtomicBoolean allSentNotified;
 
         PageListener(PageIterator pageIterator, Config config, long dataStartTime, long dataEndTime, String taskId) {
             this.pageIterator = pageIterator;
@@ -225,6 +228,8 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             this.receivedPages = new AtomicInteger();
             this.sentOutPages = new AtomicInteger();
             this.pagesInFlight = new AtomicInteger();
+            this.lastPageReceived = new AtomicBoolean();
+            this.allSentNotified = new AtomicBoolean();
         }
 
         @Override
@@ -235,8 +240,11 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             // start processing next page after sending out features for previous page
             if (pageIterator.hasNext()) {
                 pageIterator.next(this);
-            } else if (config.getImputationOption() != null) {
-                scheduleImputeHCTask();
+            } else {
+                lastPageReceived.set(true);
+                if (config.getImputationOption() != null) {
+                    scheduleImputeHCTask();
+                }
             }
 
             if (entityFeatures != null && false == entityFeatures.isEmpty()) {
@@ -293,9 +301,13 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
 
                         final AtomicReference<Exception> failure = new AtomicReference<>();
 
+                        String coordinatingNodeId = taskId == null ? null : clusterService.localNode().getId();
                         node2Entities.stream().forEach(nodeEntity -> {
                             sentOutPages.incrementAndGet();
                             DiscoveryNode node = nodeEntity.getKey();
+                            if (taskId != null) {
+                                onRunOnceEntitiesSent(taskId, nodeEntity.getValue().size());
+                            }
                             transportService
                                 .sendRequest(
                                     node,
@@ -306,7 +318,8 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
                                         dataStartTime,
                                         dataEndTime,
                                         analysisType,
-                                        taskId
+                                        taskId,
+                                        coordinatingNodeId
                                     ),
                                     option,
                                     new ActionListenerResponseHandler<>(
@@ -322,13 +335,23 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
                         handleException(e);
                     } finally {
                         // Decrement pagesInFlight after processing is complete
-                        pagesInFlight.decrementAndGet();
+                        onPageSent();
                     }
                 });
             } else {
                 // No entity features to process
                 // Decrement pagesInFlight immediately
-                pagesInFlight.decrementAndGet();
+                onPageSent();
+            }
+        }
+
+        private void onPageSent() {
+            // the last page is in flight before lastPageReceived is set, so reaching zero afterwards means all pages are sent
+            if (pagesInFlight.decrementAndGet() == 0
+                && lastPageReceived.get()
+                && taskId != null
+                && allSentNotified.compareAndSet(false, true)) {
+                onRunOnceAllSent(taskId);
             }
         }
 
@@ -538,8 +561,13 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             // hasNext is always true unless time is up at this point (won't happen in normal cases)
             if (pageIterator.hasNext()) {
                 pageIterator.next(getEntityFeatureslistener);
-            } else if (config.getImputationOption() != null) {
-                imputeHC(dataStartTime, dataEndTime, configID, taskId);
+            } else {
+                if (config.getImputationOption() != null) {
+                    imputeHC(dataStartTime, dataEndTime, configID, taskId);
+                }
+                if (taskId != null) {
+                    onRunOnceAllSent(taskId);
+                }
             }
 
             // return early to not wait for completion of all entities so we won't block next interval
@@ -894,6 +922,9 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
             if ((featureOptional.isEmpty() || DataUtil.areAnyElementsNaN(featureOptional.get())) && config.getImputationOption() == null) {
                 // Feature not available is common when we have data holes. Respond empty response
                 // and don't log to avoid bloating our logs.
+                if (taskId != null) {
+                    onRunOnceAllSent(taskId);
+                }
                 listener
                     .onResponse(
                         createResultResponse(
@@ -945,11 +976,17 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
                         configId
                     );
             }
+            String coordinatingNodeId = null;
+            if (taskId != null) {
+                coordinatingNodeId = clusterService.localNode().getId();
+                onRunOnceEntitiesSent(taskId, 1);
+                onRunOnceAllSent(taskId);
+            }
             transportService
                 .sendRequest(
                     rcfNode,
                     singleStreamActionName,
-                    new SingleStreamResultRequest(configId, rcfModelId, dataStartTime, dataEndTime, point, taskId),
+                    new SingleStreamResultRequest(configId, rcfModelId, dataStartTime, dataEndTime, point, taskId, coordinatingNodeId),
                     option,
                     new ActionListenerResponseHandler<>(
                         new ErrorResponseListener(rcfNode.getId(), configId, failure, new AtomicInteger()),
@@ -980,4 +1017,19 @@ public abstract class ResultProcessor<TransportResultRequestType extends ResultR
     );
 
     protected abstract void imputeHC(long dataStartTime, long dataEndTime, String configID, String taskId);
+
+    /**
+     * Called before entities of a run-once task are sent to a model node.
+     *
+     * @param taskId run-once task id
+     * @param entityCount number of entities
+     */
+    protected void onRunOnceEntitiesSent(String taskId, int entityCount) {}
+
+    /**
+     * Called once all entities of a run-once task have been sent to model nodes.
+     *
+     * @param taskId run-once task id
+     */
+    protected void onRunOnceAllSent(String taskId) {}
 }
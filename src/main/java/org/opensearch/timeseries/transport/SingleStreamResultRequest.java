@@ -35,8 +35,22 @@ public class SingleStreamResultRequest extends ActionRequest implements ToXConte
     private final long endMillis;
     private final double[] datapoint;
     private final String taskId;
+    // node to report the progress of a run-once task to
+    private final String coordinatingNodeId;
 
     public SingleStreamResultRequest(String configId, String modelId, long start, long end, double[] datapoint, String taskId) {
+        this(configId, modelId, start, end, datapoint, taskId, null);
+    }
+
+    public SingleStreamResultRequest(
+        String configId,
+        String modelId,
+        long start,
+        long end,
+        double[] datapoint,
+        String taskId,
+        String coordinatingNodeId
+    ) {
         super();
         this.configId = configId;
         this.modelId = modelId;
@@ -44,6 +58,7 @@ public class SingleStreamResultRequest extends ActionRequest implements ToXConte
         this.endMillis = end;
         this.datapoint = datapoint;
         this.taskId = taskId;
+        this.coordinatingNodeId = coordinatingNodeId;
     }
 
     public SingleStreamResultRequest(StreamInput in) throws IOException {
@@ -54,6 +69,8 @@ public class SingleStreamResultRequest extends ActionRequest implements ToXConte
         this.endMillis = in.readLong();
         this.datapoint = in.readDoubleArray();
         this.taskId = in.readOptionalString();
+        // newly added
+        this.coordinatingNodeId = in.available() > 0 ? in.readOptionalString() : null;
     }
 
     public String getConfigId() {
@@ -80,6 +97,10 @@ public class SingleStreamResultRequest extends ActionRequest implements ToXConte
         return taskId;
     }
 
+    public String getCoordinatingNodeId() {
+        return coordinatingNodeId;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -89,6 +110,7 @@ public class SingleStreamResultRequest extends ActionRequest implements ToXConte
         out.writeLong(this.endMillis);
         out.writeDoubleArray(datapoint);
         out.writeOptionalString(this.taskId);
+        out.writeOptionalString(this.coordinatingNodeId);
     }
 
     @Override
@@ -12,6 +12,7 @@
 package org.opensearch.timeseries.transport;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -22,14 +23,28 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.timeseries.model.ConfigValidationIssue;
 
 public class ValidateConfigResponse extends ActionResponse implements ToXContentObject {
+    // request parameter that adds the durations of the model validation checks to the response
+    public static final String CHECK_TIMINGS_PARAM = "check_timings";
+    private static final String CHECK_TIMINGS_FIELD = "check_timings";
+
     private ConfigValidationIssue issue;
+    private Map<String, Long> checkTimings;
 
     public ConfigValidationIssue getIssue() {
         return issue;
     }
 
+    public Map<String, Long> getCheckTimings() {
+        return checkTimings;
+    }
+
     public ValidateConfigResponse(ConfigValidationIssue issue) {
+        this(issue, null);
+    }
+
+    public ValidateConfigResponse(ConfigValidationIssue issue, Map<String, Long> checkTimings) {
         this.issue = issue;
+        this.checkTimings = checkTimings;
     }
 
     public ValidateConfigResponse(StreamInput in) throws IOException {
@@ -37,6 +52,9 @@ public class ValidateConfigResponse extends ActionResponse implements ToXContent
         if (in.readBoolean()) {
             issue = new ConfigValidationIssue(in);
         }
+        if (in.readBoolean()) {
+            checkTimings = in.readMap(StreamInput::readString, StreamInput::readLong);
+        }
     }
 
     @Override
@@ -47,6 +65,12 @@ public class ValidateConfigResponse extends ActionResponse implements ToXContent
         } else {
             out.writeBoolean(false);
         }
+        if (checkTimings != null) {
+            out.writeBoolean(true);
+            out.writeMap(checkTimings, StreamOutput::writeString, StreamOutput::writeLong);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     public XContentBuilder toXContent(XContentBuilder builder) throws IOException {
@@ -59,6 +83,9 @@ public class ValidateConfigResponse extends ActionResponse implements ToXContent
         if (issue != null) {
             xContentBuilder.field(issue.getAspect().getName(), issue);
         }
+        if (checkTimings != null && params.paramAsBoolean(CHECK_TIMINGS_PARAM, false)) {
+            xContentBuilder.field(CHECK_TIMINGS_FIELD, checkTimings);
+        }
         return xContentBuilder.endObject();
     }
 }
@@ -158,7 +158,8 @@ public class ResultBulkIndexingHandler<ResultType extends IndexableResult, Index
         results.forEach(analysisResult -> {
             try (XContentBuilder builder = jsonBuilder()) {
                 IndexRequest indexRequest = new IndexRequest(resultIndex)
-                    .source(analysisResult.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE));
+                    .source(analysisResult.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE))
+                    .routing(getRouting(analysisResult, resultIndex));
                 bulkRequestBuilder.add(indexRequest);
             } catch (Exception e) {
                 String error = "Failed to prepare request to bulk index results";
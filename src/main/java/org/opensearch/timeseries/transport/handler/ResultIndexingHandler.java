@@ -40,6 +40,7 @@ import org.opensearch.timeseries.model.IndexableResult;
 import org.opensearch.timeseries.util.BulkUtil;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.timeseries.util.IndexUtils;
+import org.opensearch.timeseries.util.ResultRouting;
 import org.opensearch.timeseries.util.RestHandlerUtils;
 import org.opensearch.transport.client.Client;
 
@@ -204,7 +205,9 @@ public class ResultIndexingHandler<ResultType extends IndexableResult, IndexType
     // For the first release of custom result index, it's not a issue. Will leave this to next phase.
     protected void save(ResultType toSave, String detectorId, String indexName) {
         try (XContentBuilder builder = jsonBuilder()) {
-            IndexRequest indexRequest = new IndexRequest(indexName).source(toSave.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE));
+            IndexRequest indexRequest = new IndexRequest(indexName)
+                .source(toSave.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE))
+                .routing(getRouting(toSave, indexName));
             if (fixedDoc) {
                 indexRequest.id(detectorId);
             }
@@ -216,6 +219,21 @@ public class ResultIndexingHandler<ResultType extends IndexableResult, IndexType
         }
     }
 
+    /**
+     * @param result result to index
+     * @param indexName index or alias to index into
+     * @return routing of the result in the index, or null to route by document id
+     */
+    protected String getRouting(ResultType result, String indexName) {
+        String configId = result.getConfigId();
+        return ResultRouting
+            .getRouting(
+                configId,
+                IndexableResult.getEntityId(result.getEntity(), configId),
+                ResultRouting.getRoutingBuckets(clusterService.state().metadata(), indexName)
+            );
+    }
+
     void saveIteration(IndexRequest indexRequest, String configId, Iterator<TimeValue> backoff) {
         clientUtil.<IndexRequest, IndexResponse>asyncRequest(indexRequest, client::index, ActionListener.<IndexResponse>wrap(response -> {
             LOG.debug(String.format(Locale.ROOT, SUCCESS_SAVING_MSG, configId));
@@ -60,8 +60,18 @@ public class SearchHandler {
         }
     }
 
+    /**
+     * Whether searches of the user only return documents sharing one of the user's backend roles.
+     *
+     * @param user user of the request, null if security is disabled
+     * @return whether a backend role filter is added to the user's searches
+     */
+    public boolean isFilteredByBackendRoles(User user) {
+        return user != null && filterEnabled && !isAdmin(user);
+    }
+
     private void validateRole(SearchRequest request, User user, ActionListener<SearchResponse> listener) {
-        if (user == null || !filterEnabled || isAdmin(user)) {
+        if (!isFilteredByBackendRoles(user)) {
             // Case 1: user == null when 1. Security is disabled. 2. When user is super-admin
             // Case 2: If Security is enabled and filter is disabled, proceed with search as
             // user is already authenticated to hit this API.
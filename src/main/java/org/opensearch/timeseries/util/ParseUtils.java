@@ -59,12 +59,16 @@ import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.BaseAggregationBuilder;
 import org.opensearch.search.aggregations.PipelineAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.Max;
@@ -86,6 +90,7 @@ import com.google.common.collect.ImmutableList;
  */
 public final class ParseUtils {
     private static final Logger logger = LogManager.getLogger(ParseUtils.class);
+    public static final String ENTITIES_AGGREGATION = "entities";
 
     private ParseUtils() {}
 
@@ -371,6 +376,57 @@ public final class ParseUtils {
             }
         }
 
+        return new SearchSourceBuilder()
+            .query(internalFilterQuery)
+            .size(0)
+            .aggregation(getColdStartDateRangeAggregation(config, ranges, xContentRegistry));
+    }
+
+    /**
+     * Generate one query to fetch the samples of multiple entities in the same ranges.
+     *
+     * Each entity gets a bucket of a keyed filters aggregation. The key is the entity's position
+     * in the given list, and the bucket holds the same date range aggregation that
+     * {@link #generateColdStartQuery} uses for a single entity.
+     *
+     * @param config config accessor
+     * @param ranges sample ranges shared by all entities
+     * @param entities entities to fetch samples for
+     * @param xContentRegistry content registry
+     * @return search source builder
+     * @throws IOException when the feature aggregations cannot be parsed
+     */
+    public static SearchSourceBuilder generateColdStartQueryForEntities(
+        Config config,
+        List<Entry<Long, Long>> ranges,
+        List<Entity> entities,
+        NamedXContentRegistry xContentRegistry
+    ) throws IOException {
+        BoolQueryBuilder entitiesQuery = QueryBuilders.boolQuery().minimumShouldMatch(1);
+        KeyedFilter[] entityFilters = new KeyedFilter[entities.size()];
+        for (int i = 0; i < entities.size(); i++) {
+            BoolQueryBuilder entityQuery = QueryBuilders.boolQuery();
+            for (TermQueryBuilder term : entities.get(i).getTermQueryForCustomerIndex()) {
+                entityQuery.filter(term);
+            }
+            entitiesQuery.should(entityQuery);
+            entityFilters[i] = new KeyedFilter(String.valueOf(i), entityQuery);
+        }
+
+        BoolQueryBuilder internalFilterQuery = QueryBuilders.boolQuery().filter(config.getFilterQuery()).filter(entitiesQuery);
+
+        FiltersAggregationBuilder entitiesAggregation = AggregationBuilders
+            .filters(ENTITIES_AGGREGATION, entityFilters)
+            .subAggregation(getColdStartDateRangeAggregation(config, ranges, xContentRegistry));
+
+        return new SearchSourceBuilder().query(internalFilterQuery).size(0).aggregation(entitiesAggregation);
+    }
+
+    private static DateRangeAggregationBuilder getColdStartDateRangeAggregation(
+        Config config,
+        List<Entry<Long, Long>> ranges,
+        NamedXContentRegistry xContentRegistry
+    ) throws IOException {
         DateRangeAggregationBuilder dateRangeBuilder = dateRange("date_range").field(config.getTimeField()).format("epoch_millis");
         for (Entry<Long, Long> range : ranges) {
             dateRangeBuilder.addRange(range.getKey(), range.getValue());
@@ -386,8 +442,7 @@ public final class ParseUtils {
                 dateRangeBuilder.subAggregation(internalAgg.getAggregatorFactories().iterator().next());
             }
         }
-
-        return new SearchSourceBuilder().query(internalFilterQuery).size(0).aggregation(dateRangeBuilder);
+        return dateRangeBuilder;
     }
 
     public static SearchSourceBuilder generateColdStartQueryForSingleFeature(
@@ -779,6 +834,84 @@ public final class ParseUtils {
         return searchSourceBuilder;
     }
 
+    /**
+     * Generate a batch feature query for multiple entities of a high cardinality config.
+     *
+     * Same as {@link #batchFeatureQuery}, except that the composite aggregation has a terms
+     * source per category field before the date histogram source, so one query returns the
+     * data points of all given entities in the time range.
+     *
+     * @param config config accessor
+     * @param entities entities to query
+     * @param startTime start time of the range in epoch milliseconds, inclusive
+     * @param endTime end time of the range in epoch milliseconds, exclusive
+     * @param xContentRegistry content registry
+     * @return search source builder
+     * @throws IOException when the feature aggregations cannot be parsed
+     */
+    public static SearchSourceBuilder batchFeatureQueryForEntities(
+        Config config,
+        List<Entity> entities,
+        long startTime,
+        long endTime,
+        NamedXContentRegistry xContentRegistry
+    ) throws IOException {
+        RangeQueryBuilder rangeQuery = new RangeQueryBuilder(config.getTimeField())
+            .from(startTime)
+            .to(endTime)
+            .format(CommonName.EPOCH_MILLIS_FORMAT)
+            .includeLower(true)
+            .includeUpper(false);
+
+        BoolQueryBuilder entitiesQuery = QueryBuilders.boolQuery().minimumShouldMatch(1);
+        for (Entity entity : entities) {
+            BoolQueryBuilder entityQuery = QueryBuilders.boolQuery();
+            for (TermQueryBuilder term : entity.getTermQueryForCustomerIndex()) {
+                entityQuery.filter(term);
+            }
+            entitiesQuery.should(entityQuery);
+        }
+
+        BoolQueryBuilder internalFilterQuery = QueryBuilders
+            .boolQuery()
+            .must(rangeQuery)
+            .must(config.getFilterQuery())
+            .filter(entitiesQuery);
+
+        long intervalSeconds = ((IntervalTimeConfiguration) config.getInterval()).toDuration().getSeconds();
+
+        List<CompositeValuesSourceBuilder<?>> sources = new ArrayList<>();
+        for (String categoryField : config.getCategoryFields()) {
+            sources.add(new TermsValuesSourceBuilder(categoryField).field(categoryField));
+        }
+        sources
+            .add(
+                new DateHistogramValuesSourceBuilder(CommonName.DATE_HISTOGRAM)
+                    .field(config.getTimeField())
+                    .fixedInterval(DateHistogramInterval.seconds((int) intervalSeconds))
+            );
+
+        CompositeAggregationBuilder aggregationBuilder = new CompositeAggregationBuilder(CommonName.FEATURE_AGGS, sources)
+            .size(MAX_BATCH_TASK_PIECE_SIZE);
+
+        if (config.getEnabledFeatureIds().size() == 0) {
+            throw new TimeSeriesException("No enabled feature configured").countedInStats(false);
+        }
+
+        for (Feature feature : config.getFeatureAttributes()) {
+            if (feature.getEnabled()) {
+                AggregatorFactories.Builder internalAgg = parseAggregators(
+                    feature.getAggregation().toString(),
+                    xContentRegistry,
+                    feature.getId()
+                );
+                aggregationBuilder.subAggregation(internalAgg.getAggregatorFactories().iterator().next());
+            }
+        }
+
+        return new SearchSourceBuilder().aggregation(aggregationBuilder).query(internalFilterQuery).size(0);
+    }
+
     public static <T> boolean isNullOrEmpty(Collection<T> collection) {
         return collection == null || collection.size() == 0;
     }
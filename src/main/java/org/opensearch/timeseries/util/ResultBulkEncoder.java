@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import java.io.IOException;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Serializes results of one bulk request into a single scratch buffer that is reset
+ * between documents. Each document is copied out once into an exactly sized array,
+ * which callers can index into several indices (e.g., the result index and its
+ * flattened counterpart) without serializing the result again.
+ *
+ * Not thread safe: create one encoder per bulk request.
+ */
+public class ResultBulkEncoder {
+    private final BytesStreamOutput buffer;
+    private final ToXContent.Params params;
+
+    public ResultBulkEncoder() {
+        this(RestHandlerUtils.XCONTENT_WITH_TYPE);
+    }
+
+    public ResultBulkEncoder(ToXContent.Params params) {
+        // BytesStreamOutput.reset shrinks the buffer back to one page, so an
+        // oversized document does not pin memory for the rest of the bulk.
+        this.buffer = new BytesStreamOutput();
+        this.params = params;
+    }
+
+    /**
+     * Serialize a result as JSON.
+     * @param result result to serialize
+     * @return an immutable copy of the serialized bytes that can be shared by index requests
+     * @throws IOException when serialization fails
+     */
+    public BytesReference encode(ToXContentObject result) throws IOException {
+        buffer.reset();
+        // closing the builder flushes the generator; closing BytesStreamOutput is a no-op
+        try (XContentBuilder builder = XContentFactory.jsonBuilder(buffer)) {
+            result.toXContent(builder, params);
+        }
+        return buffer.copyBytes();
+    }
+
+    public XContentType getXContentType() {
+        return XContentType.JSON;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+/**
+ * Routing of result documents in result indices created with
+ * {@link TimeSeriesSettings#RESULT_INDEX_ROUTING_BUCKETS} greater than 0.
+ *
+ * Results of a config are routed by the config id and a bucket of the entity id, so all results
+ * of a config land on at most that many shards and queries of a config only search those shards
+ * instead of fanning out to every shard of the result indices. Results without entity use
+ * bucket 0. Writers and readers use the bucket count stored in the settings of each index, so
+ * indices created before the setting changed keep working; if any index a query targets routes
+ * by document id, the query is not routed.
+ */
+public final class ResultRouting {
+    private static final String BUCKET_SEPARATOR = "#";
+    private static final String ROUTING_SEPARATOR = ",";
+
+    private ResultRouting() {}
+
+    /**
+     * @param metadata cluster metadata
+     * @param indexOrAlias index or alias results are written to
+     * @return routing bucket count of the index, or of the write index of the alias. 0 if the index
+     *  does not exist or routes by document id.
+     */
+    public static int getRoutingBuckets(Metadata metadata, String indexOrAlias) {
+        if (metadata == null || indexOrAlias == null) {
+            return 0;
+        }
+        IndexAbstraction indexAbstraction = metadata.getIndicesLookup().get(indexOrAlias);
+        if (indexAbstraction == null) {
+            return 0;
+        }
+        IndexMetadata writeIndex = indexAbstraction.getWriteIndex();
+        if (writeIndex == null) {
+            return 0;
+        }
+        return TimeSeriesSettings.RESULT_INDEX_ROUTING_BUCKETS.get(writeIndex.getSettings());
+    }
+
+    /**
+     * @param configId config id
+     * @param entityId entity id; null for results without entity
+     * @param buckets routing bucket count of the target index
+     * @return routing of a result document, or null to route by document id
+     */
+    public static String getRouting(String configId, String entityId, int buckets) {
+        if (buckets <= 0 || configId == null) {
+            return null;
+        }
+        return configId + BUCKET_SEPARATOR + getBucket(entityId, buckets);
+    }
+
+    static int getBucket(String entityId, int buckets) {
+        if (entityId == null) {
+            return 0;
+        }
+        return Math.floorMod(Murmur3HashFunction.hash(entityId), buckets);
+    }
+
+    /**
+     * Routing of a search over results of a config.
+     *
+     * @param metadata cluster metadata
+     * @param indexExpressions indices, aliases or wildcard patterns searched
+     * @param configId config id
+     * @param entityId entity id to narrow the routing to a single entity; null to cover all entities
+     * @return comma separated routing values of the search, or null if the search cannot be routed
+     */
+    public static String getSearchRouting(Metadata metadata, String[] indexExpressions, String configId, String entityId) {
+        if (metadata == null || indexExpressions == null || indexExpressions.length == 0 || configId == null) {
+            return null;
+        }
+        TreeSet<Integer> bucketCounts = new TreeSet<>();
+        for (String expression : indexExpressions) {
+            if (expression == null || expression.startsWith("-") || expression.contains(":")) {
+                // exclusions and remote indices are not resolved here
+                return null;
+            }
+            boolean matched = false;
+            for (Map.Entry<String, IndexAbstraction> entry : metadata.getIndicesLookup().entrySet()) {
+                if (!Regex.simpleMatch(expression, entry.getKey())) {
+                    continue;
+                }
+                matched = true;
+                for (IndexMetadata index : entry.getValue().getIndices()) {
+                    int buckets = TimeSeriesSettings.RESULT_INDEX_ROUTING_BUCKETS.get(index.getSettings());
+                    if (buckets <= 0) {
+                        return null;
+                    }
+                    bucketCounts.add(buckets);
+                }
+            }
+            if (!matched) {
+                return null;
+            }
+        }
+        if (bucketCounts.isEmpty()) {
+            return null;
+        }
+
+        Set<String> routings = new TreeSet<>();
+        if (entityId != null) {
+            for (int buckets : bucketCounts) {
+                routings.add(getRouting(configId, entityId, buckets));
+            }
+        } else {
+            // routing values of smaller bucket counts are a subset of the largest one
+            int maxBuckets = bucketCounts.last();
+            for (int bucket = 0; bucket < maxBuckets; bucket++) {
+                routings.add(configId + BUCKET_SEPARATOR + bucket);
+            }
+        }
+        return String.join(ROUTING_SEPARATOR, routings);
+    }
+}
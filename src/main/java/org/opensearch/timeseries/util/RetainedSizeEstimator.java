@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.SuppressForbidden;
+
+/**
+ * Measures the heap retained by an object graph by walking its references. Used to calibrate
+ * analytic model size estimates against the models actually hosted.
+ *
+ * The walk counts each reachable object once with its shallow size. Static fields, classes,
+ * enums, threads and executors are shared and not counted. JDK collections are walked through
+ * their public API since their fields are not accessible, so their internal nodes are not
+ * counted. The walk stops after {@link #MAX_OBJECTS} objects.
+ */
+public final class RetainedSizeEstimator {
+    static final int MAX_OBJECTS = 1_000_000;
+
+    private static final Field[] NO_FIELDS = new Field[0];
+
+    // class -> accessible instance fields that hold references, including inherited ones
+    private static final ClassValue<Field[]> REFERENCE_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> clazz) {
+            return referenceFields(clazz);
+        }
+    };
+
+    private RetainedSizeEstimator() {}
+
+    /**
+     * @param root root of the object graph
+     * @return retained bytes of the object graph
+     */
+    public static long sizeOf(Object root) {
+        if (root == null) {
+            return 0;
+        }
+        return AccessController.doPrivileged((PrivilegedAction<Long>) () -> walk(root));
+    }
+
+    private static long walk(Object root) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long bytes = 0;
+        while (!pending.isEmpty() && seen.size() < MAX_OBJECTS) {
+            Object current = pending.pop();
+            if (isShared(current) || !seen.add(current)) {
+                continue;
+            }
+            bytes += RamUsageEstimator.shallowSizeOf(current);
+            Class<?> clazz = current.getClass();
+            if (clazz.isArray()) {
+                if (!clazz.getComponentType().isPrimitive()) {
+                    pushAll(pending, (Object[]) current);
+                }
+            } else if (current instanceof Collection<?> && clazz.getName().startsWith("java.")) {
+                pushAll(pending, ((Collection<?>) current).toArray());
+            } else if (current instanceof Map<?, ?> && clazz.getName().startsWith("java.")) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) current).entrySet()) {
+                    push(pending, entry.getKey());
+                    push(pending, entry.getValue());
+                }
+            } else {
+                for (Field field : REFERENCE_FIELDS.get(clazz)) {
+                    try {
+                        push(pending, field.get(current));
+                    } catch (IllegalAccessException e) {
+                        // not accessible, count the object itself only
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isShared(Object object) {
+        return object instanceof Class<?>
+            || object instanceof ClassLoader
+            || object instanceof Enum<?>
+            || object instanceof Thread
+            || object instanceof ExecutorService;
+    }
+
+    private static void pushAll(ArrayDeque<Object> pending, Object[] objects) {
+        for (Object object : objects) {
+            push(pending, object);
+        }
+    }
+
+    private static void push(ArrayDeque<Object> pending, Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    @SuppressForbidden(reason = "walks private fields of models to measure their retained size")
+    private static Field[] referenceFields(Class<?> clazz) {
+        if (clazz.getName().startsWith("java.")) {
+            // fields of JDK classes are not accessible to plugins
+            return NO_FIELDS;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current.getName().startsWith("java.")) {
+                break;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    fields.add(field);
+                } catch (RuntimeException e) {
+                    // e.g., fields of classes in modules not opened to plugins
+                }
+            }
+        }
+        return fields.toArray(NO_FIELDS);
+    }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -195,6 +196,7 @@ public class AnomalyDetectorJobRunnerTests extends AbstractTimeSeriesTest {
         Mockito.doReturn(executorService).when(mockedThreadPool).executor(anyString());
         Mockito.doReturn(mockedThreadPool).when(client).threadPool();
         Mockito.doReturn(threadContext).when(mockedThreadPool).getThreadContext();
+        adJobProcessor.setClock(Clock.systemUTC());
         adJobProcessor.setThreadPool(mockedThreadPool);
         adJobProcessor.setClient(client);
 
@@ -910,7 +912,8 @@ public class AnomalyDetectorJobRunnerTests extends AbstractTimeSeriesTest {
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_MAX_DOCS_PER_SHARD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_ROLLOVER_PERIOD,
                                 AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD,
-                                AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS
+                                AnomalyDetectorSettings.AD_MAX_PRIMARY_SHARDS,
+                                AnomalyDetectorSettings.AD_RESULT_ROUTING_BUCKETS
                             )
                     )
                 )
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ad.ml.ADModelManager;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
+import org.opensearch.timeseries.feature.FeatureManager;
+import org.opensearch.timeseries.feature.Features;
+import org.opensearch.timeseries.model.Entity;
+
+public class AnomalyDetectorRunnerTests extends OpenSearchTestCase {
+    private ADModelManager modelManager;
+    private FeatureManager featureManager;
+    private ThreadPool threadPool;
+    private Clock clock;
+    private AnomalyDetectorRunner runner;
+    private AnomalyDetector detector;
+    private List<Entity> entities;
+    private Instant startTime;
+    private Instant endTime;
+    private Scheduler.ScheduledCancellable deadlineTimer;
+    private AtomicReference<Runnable> deadlineTask;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        modelManager = mock(ADModelManager.class);
+        featureManager = mock(FeatureManager.class);
+        threadPool = mock(ThreadPool.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L);
+
+        deadlineTimer = mock(Scheduler.ScheduledCancellable.class);
+        deadlineTask = new AtomicReference<>();
+        doAnswer(invocation -> {
+            deadlineTask.set(invocation.getArgument(0));
+            return deadlineTimer;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        // previews may use 4 threads of an 8-thread pool
+        ThreadPool.Info poolInfo = mock(ThreadPool.Info.class);
+        when(poolInfo.getMax()).thenReturn(8);
+        when(threadPool.info(TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME)).thenReturn(poolInfo);
+
+        runner = new AnomalyDetectorRunner(
+            modelManager,
+            featureManager,
+            AnomalyDetectorSettings.MAX_PREVIEW_RESULTS,
+            threadPool,
+            TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME,
+            clock
+        );
+        detector = TestHelpers.randomAnomalyDetectorUsingCategoryFields("123", Arrays.asList("a"));
+        startTime = Instant.now().minus(1, ChronoUnit.DAYS);
+        endTime = Instant.now();
+
+        entities = new ArrayList<>();
+        List<Entry<Entity, Features>> entityFeatures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Entity entity = Entity.createSingleAttributeEntity("a", "value" + i);
+            entities.add(entity);
+            // the feature value identifies the entity
+            Features features = new Features(
+                Collections.singletonList(new SimpleEntry<>(startTime.toEpochMilli(), endTime.toEpochMilli())),
+                new double[][] { { i } }
+            );
+            entityFeatures.add(new SimpleEntry<>(entity, features));
+        }
+
+        doAnswer(invocation -> {
+            ActionListener<List<Entity>> listener = invocation.getArgument(3);
+            listener.onResponse(entities);
+            return null;
+        }).when(featureManager).getPreviewEntities(any(), anyLong(), anyLong(), any());
+        doAnswer(invocation -> {
+            ActionListener<List<Entry<Entity, Features>>> listener = invocation.getArgument(4);
+            listener.onResponse(entityFeatures);
+            return null;
+        }).when(featureManager).getPreviewFeaturesForEntities(any(), any(), anyLong(), anyLong(), any());
+        when(modelManager.getPreviewResults(any(), any())).thenReturn(Collections.emptyList());
+    }
+
+    private static int entityIndex(Features features) {
+        return (int) features.getUnprocessedFeatures()[0][0];
+    }
+
+    /**
+     * Queues preview workers so that a test decides when each one runs.
+     */
+    private List<Runnable> queueWorkers() {
+        List<Runnable> workers = new ArrayList<>();
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            workers.add(invocation.getArgument(0));
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(threadPool.executor(anyString())).thenReturn(executor);
+        return workers;
+    }
+
+    private List<Entity> entitiesOf(List<AnomalyResult> results) {
+        return results.stream().map(result -> result.getEntity().get()).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AnomalyResult> verifyRespondedOnce(ActionListener<List<AnomalyResult>> listener) {
+        ArgumentCaptor<List<AnomalyResult>> responseCaptor = ArgumentCaptor.forClass(List.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        verify(listener, times(0)).onFailure(any());
+        return responseCaptor.getValue();
+    }
+
+    public void testKeepEntityOrderAcrossWorkers() throws IOException, InterruptedException {
+        ExecutorService executor = OpenSearchExecutors
+            .newFixed(
+                "test-preview",
+                AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM,
+                100,
+                OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName("node1", "test-preview")),
+                new ThreadContext(Settings.EMPTY)
+            );
+        when(threadPool.executor(anyString())).thenReturn(executor);
+
+        // the first entity finishes last, after the other workers previewed all remaining entities
+        CountDownLatch othersDone = new CountDownLatch(entities.size() - 1);
+        doAnswer(invocation -> {
+            if (entityIndex(invocation.getArgument(0)) == 0) {
+                assertTrue(othersDone.await(10, TimeUnit.SECONDS));
+            } else {
+                othersDone.countDown();
+            }
+            return Collections.emptyList();
+        }).when(modelManager).getPreviewResults(any(), any());
+
+        CountDownLatch responded = new CountDownLatch(1);
+        AtomicReference<List<AnomalyResult>> response = new AtomicReference<>();
+        try {
+            runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), ActionListener.wrap(results -> {
+                response.set(results);
+                responded.countDown();
+            }, e -> fail("unexpected failure " + e)));
+            assertTrue(responded.await(10, TimeUnit.SECONDS));
+        } finally {
+            terminate(executor);
+        }
+
+        assertEquals(entities, entitiesOf(response.get()));
+        verify(deadlineTimer, times(1)).cancel();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testDeadlineReturnsPartialResults() throws IOException {
+        List<Runnable> workers = queueWorkers();
+        // the deadline fires while the second entity is training
+        doAnswer(invocation -> {
+            if (entityIndex(invocation.getArgument(0)) == 1) {
+                deadlineTask.get().run();
+            }
+            return Collections.emptyList();
+        }).when(modelManager).getPreviewResults(any(), any());
+
+        ActionListener<List<AnomalyResult>> listener = mock(ActionListener.class);
+        runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), listener);
+        assertEquals(AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM, workers.size());
+
+        // later workers find the preview done and do not respond again
+        for (Runnable worker : workers) {
+            worker.run();
+        }
+
+        List<AnomalyResult> results = verifyRespondedOnce(listener);
+        assertEquals(entities.subList(0, 1), entitiesOf(results));
+        verify(modelManager, times(2)).getPreviewResults(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSkipFailingEntity() throws IOException {
+        List<Runnable> workers = queueWorkers();
+        doAnswer(invocation -> {
+            if (entityIndex(invocation.getArgument(0)) == 3) {
+                throw new IllegalArgumentException("Insufficient data for preview results");
+            }
+            return Collections.emptyList();
+        }).when(modelManager).getPreviewResults(any(), any());
+
+        ActionListener<List<AnomalyResult>> listener = mock(ActionListener.class);
+        runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), listener);
+        for (Runnable worker : workers) {
+            worker.run();
+        }
+
+        List<Entity> expected = new ArrayList<>(entities);
+        expected.remove(3);
+        assertEquals(expected, entitiesOf(verifyRespondedOnce(listener)));
+        verify(modelManager, times(entities.size())).getPreviewResults(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testConcurrentPreviewsShareThreads() throws IOException {
+        List<Runnable> workers = queueWorkers();
+        ActionListener<List<AnomalyResult>> first = mock(ActionListener.class);
+        runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), first);
+        assertEquals(AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM, workers.size());
+
+        // a second preview in flight only gets half of the preview threads
+        ActionListener<List<AnomalyResult>> second = mock(ActionListener.class);
+        runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), second);
+        assertEquals(AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM + 2, workers.size());
+
+        for (Runnable worker : new ArrayList<>(workers)) {
+            worker.run();
+        }
+        assertEquals(entities, entitiesOf(verifyRespondedOnce(first)));
+        assertEquals(entities, entitiesOf(verifyRespondedOnce(second)));
+
+        // both previews released their threads
+        workers.clear();
+        runner.executeDetector(detector, startTime, endTime, mock(ThreadContext.StoredContext.class), mock(ActionListener.class));
+        assertEquals(AnomalyDetectorSettings.MAX_PREVIEW_PARALLELISM, workers.size());
+        // the deadline timer does not wait behind preview workers
+        verify(threadPool, times(3)).schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+    }
+}
@@ -34,6 +34,8 @@ import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.ad.transport.ADEntityProfileAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -139,7 +141,10 @@ public class EntityProfileRunnerTests extends AbstractTimeSeriesTest {
         }).when(nodeStateManager).getConfig(any(String.class), eq(AnalysisType.AD), any(ActionListener.class));
         clientUtil = new SecurityClientUtil(nodeStateManager, Settings.EMPTY);
 
-        runner = new ADEntityProfileRunner(client, clientUtil, xContentRegistry(), requiredSamples);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.EMPTY_STATE);
+
+        runner = new ADEntityProfileRunner(client, clientUtil, clusterService, xContentRegistry(), requiredSamples);
 
         doAnswer(invocation -> {
             Object[] args = invocation.getArguments();
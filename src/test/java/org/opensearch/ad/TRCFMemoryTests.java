@@ -15,6 +15,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Map;
 
 import org.opensearch.ad.model.AnomalyDetector;
 import org.opensearch.core.common.unit.ByteSizeValue;
@@ -277,6 +278,37 @@ public class TRCFMemoryTests extends AbstractMemoryTrackerTest {
         expectThrows(LimitExceededException.class, () -> tracker.isHostingAllowed(configId, trcf));
     }
 
+    public void testModelSizeCalibration() {
+        setUpSmallHeap();
+        assertEquals(1, tracker.getModelSizeCorrection(configId), 0.001);
+        expectThrows(LimitExceededException.class, () -> tracker.isHostingAllowed(configId, trcf));
+
+        assertEquals(2, tracker.recordModelSize(configId, 1000, 2000), 0.001);
+        // moving average of samples
+        assertEquals(1.5, tracker.recordModelSize(configId, 1000, 1000), 0.001);
+        // invalid samples are ignored
+        assertEquals(1.5, tracker.recordModelSize(configId, 0, 1000), 0.001);
+
+        Map<String, Object> stats = tracker.getModelSizeCalibrationStats();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> configStats = (Map<String, Object>) stats.get(configId);
+        assertEquals(1000L, configStats.get(MemoryTracker.ESTIMATED_BYTES));
+        assertEquals(1000L, configStats.get(MemoryTracker.MEASURED_BYTES));
+        assertEquals(1.5, (double) configStats.get(MemoryTracker.CORRECTION_FACTOR), 0.001);
+        assertEquals(2L, configStats.get(MemoryTracker.SAMPLES));
+
+        // models measured much smaller than estimated fit into a heap the estimate does not fit into
+        for (int i = 0; i < 10; i++) {
+            tracker.recordModelSize(configId, 1000, 10);
+        }
+        assertEquals(0.2, tracker.getModelSizeCorrection(configId), 0.01);
+        assertTrue(tracker.isHostingAllowed(configId, trcf));
+
+        tracker.removeModelSizeCalibration(configId);
+        assertEquals(1, tracker.getModelSizeCorrection(configId), 0.001);
+        assertTrue(tracker.getModelSizeCalibrationStats().isEmpty());
+    }
+
     public void testMemoryToShed() {
         setUpSmallHeap();
         long bytesToUse = 100_000;
@@ -11,13 +11,13 @@
 
 package org.opensearch.ad.caching;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.Random;
@@ -31,6 +31,7 @@ import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.caching.PriorityTracker;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
@@ -89,6 +90,7 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
 
         memoryPerEntity = 81920;
         memoryTracker = mock(MemoryTracker.class);
+        when(memoryTracker.getModelSizeCorrection(anyString())).thenReturn(1.0);
 
         checkpointWriteQueue = mock(ADCheckpointWriteWorker.class);
         checkpointMaintainQueue = mock(ADCheckpointMaintainWorker.class);
@@ -122,7 +124,7 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
             clock,
             0,
             Optional.of(entity1),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
 
         modelState2 = new ModelState<ThresholdedRandomCutForest>(
@@ -133,7 +135,7 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
             clock,
             0,
             Optional.of(entity2),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
 
         modelState3 = new ModelState<ThresholdedRandomCutForest>(
@@ -144,7 +146,7 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
             clock,
             0,
             Optional.of(entity3),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
 
         modelState4 = new ModelState<ThresholdedRandomCutForest>(
@@ -155,7 +157,7 @@ public class AbstractCacheTest extends AbstractTimeSeriesTest {
             clock,
             0,
             Optional.of(entity4),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
     }
 }
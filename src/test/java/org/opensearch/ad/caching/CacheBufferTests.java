@@ -15,19 +15,27 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mockito.ArgumentCaptor;
 import org.opensearch.timeseries.MemoryTracker;
+import org.opensearch.timeseries.caching.CompactModelStore;
+import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ratelimit.CheckpointMaintainRequest;
 
 import test.org.opensearch.ad.util.MLUtil;
 import test.org.opensearch.ad.util.RandomModelStateConfig;
 
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+
 public class CacheBufferTests extends AbstractCacheTest {
 
     // cache.put(1, 1);
@@ -176,4 +184,58 @@ public class CacheBufferTests extends AbstractCacheTest {
     public void testRemovedNull() {
         assertEquals(null, cacheBuffer.remove("foo"));
     }
+
+    public void testCompactModelStore() {
+        // packs a model as its id padded to 1000 bytes
+        Map<Integer, ThresholdedRandomCutForest> models = new ConcurrentHashMap<>();
+        AtomicInteger nextId = new AtomicInteger();
+        CompactModelStore<ThresholdedRandomCutForest> store = new CompactModelStore<>(
+            model -> {
+                int id = nextId.getAndIncrement();
+                models.put(id, model);
+                return ByteBuffer.allocate(1000).putInt(id).array();
+            },
+            (bytes, offset, length) -> models.get(ByteBuffer.wrap(bytes, offset, length).getInt()),
+            model -> model.getForest().getTotalUpdates(),
+            4096
+        );
+        cacheBuffer.enableCompactModelStore(store);
+
+        ThresholdedRandomCutForest model1 = modelState1.getModel().get();
+        cacheBuffer.put(modelId1, modelState1);
+        cacheBuffer.put(modelId2, modelState2);
+        assertTrue(modelState1.isPacked());
+        assertTrue(modelState2.isPacked());
+        assertEquals(2, store.size());
+        assertEquals(model1, cacheBuffer.get(modelId1).getModel().get());
+
+        // hosted bytes per entity are measured from the store
+        cacheBuffer.maintenance();
+        assertEquals(2048, cacheBuffer.getMemoryConsumptionPerModel());
+        assertEquals(2048, cacheBuffer.getReservedBytes());
+
+        // a removed state leaves the store with its model inflated
+        ModelState<ThresholdedRandomCutForest> removed = cacheBuffer.remove(modelId1, false);
+        assertFalse(removed.isPacked());
+        assertEquals(1, store.size());
+        verify(memoryTracker, times(1)).releaseMemory(2048, false, MemoryTracker.Origin.REAL_TIME_DETECTOR);
+
+        cacheBuffer.clear();
+        assertEquals(0, store.size());
+    }
+
+    public void testModelSizeCorrection() {
+        assertFalse(cacheBuffer.sampleModelState().isPresent());
+        cacheBuffer.put(modelId1, modelState1);
+        assertEquals(modelState1, cacheBuffer.sampleModelState().get());
+
+        cacheBuffer.setModelSizeCorrection(1.5);
+        assertEquals(1.5, cacheBuffer.getModelSizeCorrection(), 0.001);
+        assertEquals((long) (memoryPerEntity * 1.5), cacheBuffer.getMemoryConsumptionPerModel());
+        // minimum capacity is 1
+        assertEquals((long) (memoryPerEntity * 1.5), cacheBuffer.getReservedBytes());
+
+        cacheBuffer.setModelSizeCorrection(1);
+        assertEquals(memoryPerEntity, cacheBuffer.getMemoryConsumptionPerModel());
+    }
 }
@@ -17,6 +17,8 @@ import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -29,16 +31,16 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -64,12 +66,14 @@ import org.opensearch.threadpool.Scheduler.ScheduledCancellable;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.timeseries.MemoryTracker;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.breaker.CircuitBreakerService;
 import org.opensearch.timeseries.common.exception.LimitExceededException;
 import org.opensearch.timeseries.common.exception.TimeSeriesException;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
@@ -208,7 +212,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
         assertTrue(hitState.getSamples().isEmpty());
         Sample sample = new Sample(point, Instant.now(), Instant.now());
         modelState1.addSample(sample);
-        assertTrue(Arrays.equals(point, hitState.getSamples().peek().getValueList()));
+        assertTrue(Arrays.equals(point, hitState.getSamples().copyValues(0)));
 
         ArgumentCaptor<Long> memoryConsumed = ArgumentCaptor.forClass(Long.class);
         ArgumentCaptor<Boolean> reserved = ArgumentCaptor.forClass(Boolean.class);
@@ -265,7 +269,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
             clock,
             0,
             Optional.of(entity3),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
         entityCache.hostIfPossible(detector2, modelState3);
         assertEquals(1, entityCache.getActiveEntities(detectorId2));
@@ -282,7 +286,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
             clock,
             0,
             Optional.of(entity4),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
         entityCache.hostIfPossible(detector2, modelState4);
         assertEquals(2, entityCache.getActiveEntities(detectorId2));
@@ -349,6 +353,157 @@ public class PriorityCacheTests extends AbstractCacheTest {
         }
     }
 
+    public void testMaintenanceInSlices() {
+        ADPriorityCache cache = new ADPriorityCache(
+            checkpoint,
+            dedicatedCacheSize,
+            AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
+            AnomalyDetectorSettings.MAX_INACTIVE_ENTITIES,
+            memoryTracker,
+            TimeSeriesSettings.NUM_TREES,
+            clock,
+            clusterService,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            threadPool,
+            TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+            Settings.builder().put(TimeSeriesSettings.CACHE_MAINTENANCE_SLICE_SIZE.getKey(), 1).build(),
+            AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ,
+            checkpointWriteQueue,
+            checkpointMaintainQueue
+        );
+        ADCacheProvider cacheProvider = new ADCacheProvider();
+        cacheProvider.set(cache);
+        entityCache = cacheProvider.get();
+
+        when(clock.instant()).thenReturn(Instant.MIN);
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(true);
+        for (int i = 0; i < 3; i++) {
+            entityCache.get(modelId1, detector);
+            entityCache.get(modelId4, detector2);
+        }
+        modelState4 = new ModelState<>(
+            null,
+            modelId4,
+            detectorId2,
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0,
+            Optional.of(entity4),
+            new SampleBuffer()
+        );
+        entityCache.hostIfPossible(detector, modelState1);
+        entityCache.hostIfPossible(detector2, modelState4);
+        assertEquals(2, entityCache.getTotalActiveEntities());
+
+        // both buffers expire, each in its own slice
+        when(clock.instant()).thenReturn(Instant.now());
+        cache.maintenance();
+        assertEquals(0, entityCache.getTotalActiveEntities());
+
+        Map<String, Object> stats = cache.getMaintenanceStats();
+        assertEquals(1L, stats.get("runs"));
+        assertEquals(0L, stats.get("skipped_runs"));
+        assertEquals(2, stats.get("last_buffers"));
+    }
+
+    public void testPauseInsideLargeCacheBuffer() {
+        ADPriorityCache cache = new ADPriorityCache(
+            checkpoint,
+            dedicatedCacheSize,
+            AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
+            AnomalyDetectorSettings.MAX_INACTIVE_ENTITIES,
+            memoryTracker,
+            TimeSeriesSettings.NUM_TREES,
+            clock,
+            clusterService,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            threadPool,
+            TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+            Settings
+                .builder()
+                .put(TimeSeriesSettings.CACHE_MAINTENANCE_CHUNK_SIZE.getKey(), 1)
+                .put(TimeSeriesSettings.CACHE_MAINTENANCE_TIME_BUDGET.getKey(), "0ms")
+                .build(),
+            AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ,
+            checkpointWriteQueue,
+            checkpointMaintainQueue
+        );
+        when(clock.instant()).thenReturn(Instant.now());
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(true);
+        for (ModelState<ThresholdedRandomCutForest> state : Arrays.asList(modelState1, modelState2, modelState3)) {
+            for (int i = 0; i < 3; i++) {
+                cache.get(state.getModelId(), detector);
+            }
+            assertTrue(cache.hostIfPossible(detector, state));
+        }
+        assertEquals(3, cache.getActiveEntities(detectorId));
+
+        // the single cache buffer exceeds the budget after each entity and resumes in a new task
+        ExecutorService executor = threadPool.executor(TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME);
+        clearInvocations(executor);
+        cache.maintenance();
+        verify(executor, atLeast(3)).execute(any(Runnable.class));
+
+        assertEquals(3, cache.getActiveEntities(detectorId));
+        Map<String, Object> stats = cache.getMaintenanceStats();
+        assertEquals(1L, stats.get("runs"));
+        assertEquals(1, stats.get("last_buffers"));
+    }
+
+    public void testSkipCalibratingBusyModel() throws InterruptedException {
+        ADPriorityCache cache = new ADPriorityCache(
+            checkpoint,
+            dedicatedCacheSize,
+            AnomalyDetectorSettings.AD_CHECKPOINT_TTL,
+            AnomalyDetectorSettings.MAX_INACTIVE_ENTITIES,
+            memoryTracker,
+            TimeSeriesSettings.NUM_TREES,
+            clock,
+            clusterService,
+            TimeSeriesSettings.HOURLY_MAINTENANCE,
+            threadPool,
+            TimeSeriesSettings.MAINTENANCE_FREQ_CONSTANT,
+            Settings.builder().put(TimeSeriesSettings.MODEL_SIZE_CALIBRATION_ENABLED.getKey(), true).build(),
+            AnomalyDetectorSettings.AD_CHECKPOINT_SAVING_FREQ,
+            checkpointWriteQueue,
+            checkpointMaintainQueue
+        );
+        when(memoryTracker.canAllocate(anyLong())).thenReturn(true);
+        when(memoryTracker.recordModelSize(any(), anyLong(), anyLong())).thenReturn(1.0);
+        for (int i = 0; i < 3; i++) {
+            cache.get(modelId1, detector);
+        }
+        assertTrue(cache.hostIfPossible(detector, modelState1));
+
+        // the model is being updated by another thread
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch measured = new CountDownLatch(1);
+        Thread updater = new Thread(() -> {
+            modelState1.getLock().lock();
+            try {
+                locked.countDown();
+                measured.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                modelState1.getLock().unlock();
+            }
+        });
+        updater.start();
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+        cache.maintenance();
+        measured.countDown();
+        updater.join();
+        verify(memoryTracker, never()).recordModelSize(any(), anyLong(), anyLong());
+
+        // a failed measurement is skipped
+        doThrow(new IllegalStateException()).when(memoryTracker).recordModelSize(any(), anyLong(), anyLong());
+        cache.maintenance();
+        verify(memoryTracker, times(1)).recordModelSize(any(), anyLong(), anyLong());
+        assertEquals(2L, cache.getMaintenanceStats().get("runs"));
+        assertFalse(modelState1.getLock().isLocked());
+    }
+
     public void testClear() {
         when(memoryTracker.canAllocate(anyLong())).thenReturn(true);
 
@@ -550,7 +705,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
             clock,
             0,
             Optional.of(entity5),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
         ModelState<ThresholdedRandomCutForest> modelState6 = new ModelState<>(
             MLUtil.createNonEmptyModel(detectorId2, 0, entity6).getLeft(),
@@ -560,7 +715,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
             clock,
             0,
             Optional.of(entity6),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
 
         for (int i = 0; i < 3; i++) {
@@ -651,7 +806,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
             clock,
             0,
             Optional.of(entity5),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
         entityCache.hostIfPossible(detector2, modelState5);
 
@@ -751,7 +906,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
 
         assertTrue(null == entityCache.get(entity2.getModelId(detectorId).get(), detector));
 
-        verify(checkpoint, times(1)).deleteModelCheckpoint(eq(entity2.getModelId(detectorId).get()), any());
+        verify(checkpoint, times(1)).deleteModelCheckpoint(eq(entity2.getModelId(detectorId).get()), eq(detectorId), any());
         verify(checkpointWriteQueue, never()).write(any(), anyBoolean(), any());
     }
 
@@ -763,7 +918,7 @@ public class PriorityCacheTests extends AbstractCacheTest {
         when(mockModelState.getModel()).thenReturn(Optional.empty());
 
         // Mock the getSamples method to return a list with a specific size
-        Deque<Sample> mockSamples = Mockito.mock(Deque.class);
+        SampleBuffer mockSamples = Mockito.mock(SampleBuffer.class);
         when(mockSamples.size()).thenReturn(5);
         when(mockModelState.getSamples()).thenReturn(mockSamples);
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.caching;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.opensearch.ad.caching.TopAnomalyRollup.EntitySummary;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.model.Entity;
+
+import com.google.common.collect.ImmutableMap;
+
+public class TopAnomalyRollupTests extends OpenSearchTestCase {
+    private static final String DETECTOR_ID = "detector";
+    private static final long HOUR = TopAnomalyRollup.BUCKET_MILLIS;
+
+    private Clock clock;
+    private TopAnomalyRollup rollup;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(10 * HOUR + 1);
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            Settings.EMPTY,
+            Collections
+                .unmodifiableSet(
+                    new HashSet<>(
+                        Arrays
+                            .asList(
+                                AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED,
+                                AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD
+                            )
+                    )
+                )
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        rollup = new TopAnomalyRollup(
+            Settings.builder().put(AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED.getKey(), true).build(),
+            clusterService,
+            clock
+        );
+    }
+
+    private AnomalyResult result(String host, String taskId, double grade, long dataEndMillis) {
+        return TestHelpers
+            .randomHCADAnomalyDetectResult(
+                DETECTOR_ID,
+                taskId,
+                ImmutableMap.of("host", host),
+                0.5,
+                grade,
+                null,
+                dataEndMillis - 60_000,
+                dataEndMillis
+            );
+    }
+
+    public void testSummarizeRealTimeAnomalies() {
+        rollup.record(result("server_1", null, 0.3, 11 * HOUR));
+        rollup.record(result("server_1", null, 0.8, 12 * HOUR + 5));
+        rollup.record(result("server_2", null, 0.5, 12 * HOUR));
+        // zero grade and historical results are not kept
+        rollup.record(result("server_2", null, 0, 12 * HOUR));
+        rollup.record(result("server_2", "task", 0.9, 12 * HOUR));
+
+        Map<Entity, EntitySummary> summaries = rollup.summarize(DETECTOR_ID, 11 * HOUR, 13 * HOUR);
+        EntitySummary server1 = summaries.get(Entity.createSingleAttributeEntity("host", "server_1"));
+        assertEquals(0.8, server1.getMaxAnomalyGrade(), 0.001);
+        assertEquals(2, server1.getAnomalyCount());
+        EntitySummary server2 = summaries.get(Entity.createSingleAttributeEntity("host", "server_2"));
+        assertEquals(0.5, server2.getMaxAnomalyGrade(), 0.001);
+        assertEquals(1, server2.getAnomalyCount());
+
+        Entity entity1 = Entity.createSingleAttributeEntity("host", "server_1");
+        assertEquals(1, rollup.summarize(DETECTOR_ID, 12 * HOUR, 13 * HOUR).get(entity1).getAnomalyCount());
+        assertEquals(3, rollup.getEntryCount());
+    }
+
+    public void testCoverageStart() {
+        // recording started during hour 10
+        assertEquals(11 * HOUR, rollup.getCoverageStartMillis(DETECTOR_ID));
+
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.nodesRemoved()).thenReturn(true);
+        when(clock.millis()).thenReturn(14 * HOUR + 1);
+        rollup.clusterChanged(event);
+        assertEquals(15 * HOUR, rollup.getCoverageStartMillis(DETECTOR_ID));
+    }
+
+    public void testMaintenanceDropsExpiredBuckets() {
+        rollup.record(result("server_1", null, 0.3, 11 * HOUR));
+        rollup.record(result("server_1", null, 0.3, 40 * 24 * HOUR));
+        when(clock.millis()).thenReturn(40 * 24 * HOUR + 1);
+
+        rollup.maintenance();
+
+        assertEquals(1, rollup.getEntryCount());
+        assertTrue(rollup.summarize(DETECTOR_ID, 0, 12 * HOUR).isEmpty());
+        assertEquals(1, rollup.summarize(DETECTOR_ID, 0, 41 * 24 * HOUR).size());
+        // dropped buckets are no longer covered
+        assertEquals(12 * HOUR, rollup.getCoverageStartMillis(DETECTOR_ID));
+    }
+}
@@ -406,6 +406,39 @@ public class FeatureManagerTests {
         verify(listener).onFailure(any(IllegalArgumentException.class));
     }
 
+    @Test
+    public void getPreviewFeaturesForEntities() {
+        long start = 0L;
+        long end = 240_000L;
+        Entity entity1 = Entity.createSingleAttributeEntity("fieldName", "value1");
+        Entity entity2 = Entity.createSingleAttributeEntity("fieldName", "value2");
+
+        List<List<Optional<double[]>>> entitySamples = new ArrayList<>();
+        entitySamples.add(asList(Optional.of(new double[] { 10.0 }), Optional.of(new double[] { 30.0 })));
+        entitySamples.add(new ArrayList<>());
+
+        doAnswer(invocation -> {
+            ActionListener<List<List<Optional<double[]>>>> listener = invocation.getArgument(5);
+            listener.onResponse(entitySamples);
+            return null;
+        })
+            .when(searchFeatureDao)
+            .getColdStartSamplesForEntities(any(), eq(asList(entity1, entity2)), any(), anyBoolean(), eq(AnalysisType.AD), any());
+
+        ActionListener<List<Entry<Entity, Features>>> listener = mock(ActionListener.class);
+
+        featureManager.getPreviewFeaturesForEntities(detector, asList(entity1, entity2), start, end, listener);
+
+        Features expected = new Features(
+            asList(new SimpleEntry<>(0L, 60_000L), new SimpleEntry<>(60_000L, 120_000L), new SimpleEntry<>(120_000L, 180_000L)),
+            new double[][] { { 10 }, { 20 }, { 30 } }
+        );
+        // the entity without data is left out
+        verify(listener).onResponse(asList(new SimpleEntry<>(entity1, expected)));
+        verify(searchFeatureDao, times(1))
+            .getColdStartSamplesForEntities(any(), any(), any(), anyBoolean(), eq(AnalysisType.AD), any());
+    }
+
     @Test
     public void getPreviewEntities() {
         long start = 0L;
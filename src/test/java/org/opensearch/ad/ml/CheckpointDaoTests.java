@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.action.DocWriteResponse.Result.UPDATED;
 import static org.opensearch.ad.ml.ADCheckpointDao.FIELD_MODELV2;
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -42,7 +43,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -91,16 +91,22 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.caching.CompactModelStore;
 import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.ml.CheckpointDao;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
-import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
+import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.ClientUtil;
 import org.opensearch.transport.client.Client;
@@ -226,7 +232,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
 
         when(indexUtil.doesCheckpointIndexExist()).thenReturn(true);
@@ -510,10 +517,10 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         ThresholdedRandomCutForest model = modelState.getModel().get();
         assertEquals(modelToSave.getForest().getTotalUpdates(), model.getForest().getTotalUpdates());
 
-        Deque<Sample> queue = modelState.getSamples();
-        Deque<Sample> samplesToSave = state.getSamples();
+        SampleBuffer queue = modelState.getSamples();
+        SampleBuffer samplesToSave = state.getSamples();
         assertEquals(samplesToSave.size(), queue.size());
-        assertEquals(samplesToSave.peek(), queue.peek());
+        assertEquals(samplesToSave.toSampleList(), queue.toSampleList());
     }
 
     public void test_batch_write_no_index() {
@@ -669,7 +676,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
 
         ModelState<ThresholdedRandomCutForest> state = MLUtil
@@ -708,7 +716,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             mockSerializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
 
         ModelState<ThresholdedRandomCutForest> state = MLUtil
@@ -734,7 +743,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
 
         // make sure sample size is not 0 otherwise sample size won't be written to checkpoint
@@ -780,7 +790,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
     }
 
@@ -893,10 +904,10 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         assertTrue(result != null);
         assertEquals(now, result.getLastCheckpointTime());
 
-        Deque<Sample> samples = result.getSamples();
+        SampleBuffer samples = result.getSamples();
 
         assertEquals(6, samples.size());
-        double[] firstSample = samples.peek().getValueList();
+        double[] firstSample = samples.copyValues(0);
         assertEquals(1, firstSample.length);
         assertEquals(0.6832234717598454, firstSample[0], 1e-10);
 
@@ -931,7 +942,8 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
             serializeRCFBufferPool,
             TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
             anomalyRate,
-            clock
+            clock,
+            false
         );
         when(getResponse.isExists()).thenReturn(true);
         when(getResponse.getSource()).thenReturn(modelPair.getLeft());
@@ -961,7 +973,7 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         ModelState<ThresholdedRandomCutForest> result = checkpointDao
             .processHCGetResponse(getResponse, this.modelId, ADCheckpointDao.DETECTOR_ID);
         assertTrue(result != null);
-        Deque<Sample> samples = result.getSamples();
+        SampleBuffer samples = result.getSamples();
         assertEquals(0, samples.size());
     }
 
@@ -1115,6 +1127,51 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         assertTrue(checkpointDao.shouldSave(modelState, false, Duration.ofHours(6), clock));
     }
 
+    public void testSkipUnchangedModelState() {
+        ThresholdedRandomCutForest trcf = createTRCF();
+        ModelState<ThresholdedRandomCutForest> modelState = new ModelState<ThresholdedRandomCutForest>(
+            trcf,
+            modelId,
+            "123",
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0.1f,
+            Optional.empty(),
+            MLUtil.createQueueSamples(1)
+        );
+        modelState.setLastCheckpointTime(Instant.ofEpochMilli(1658863778000L));
+        assertTrue(checkpointDao.isDirty(modelState));
+        assertTrue(checkpointDao.shouldSave(modelState, false, Duration.ofHours(6), clock));
+
+        modelState.setCheckpointed(checkpointDao.getChangeVersion(modelState), 100);
+        assertFalse(checkpointDao.shouldSave(modelState, false, Duration.ofHours(6), clock));
+        assertFalse(checkpointDao.shouldSave(modelState, true, Duration.ofHours(6), clock));
+        assertEquals(2L, checkpointDao.getWriteStats().get(CheckpointDao.SKIPPED_WRITE_COUNT));
+        assertEquals(200L, checkpointDao.getWriteStats().get(CheckpointDao.SKIPPED_WRITE_BYTES));
+
+        // the model processed a point
+        trcf.process(new double[] { 1, 2, 3, 4 }, 0);
+        assertTrue(checkpointDao.shouldSave(modelState, false, Duration.ofHours(6), clock));
+
+        modelState.setCheckpointed(checkpointDao.getChangeVersion(modelState), 100);
+        modelState.clearSamples();
+        assertTrue(checkpointDao.shouldSave(modelState, true, Duration.ofHours(6), clock));
+
+        // a new model is not checkpointed yet
+        modelState.setCheckpointed(checkpointDao.getChangeVersion(modelState), 100);
+        modelState.setModel(createTRCF());
+        assertTrue(checkpointDao.isDirty(modelState));
+
+        // a packed model keeps its change version
+        modelState
+            .setCompactModelStore(
+                new CompactModelStore<>(checkpointDao::toCompactModel, checkpointDao::fromCompactModel, checkpointDao::getTotalUpdates)
+            );
+        ModelState.ChangeVersion version = checkpointDao.getChangeVersion(modelState);
+        assertTrue(modelState.pack());
+        assertEquals(version, checkpointDao.getChangeVersion(modelState));
+    }
+
     // This test is intended to check if given a checkpoint created by RCF-3.0-rc3 ("rcf_3_0_rc3_single_stream.json")
     // and given the same sample data will rc3 and current RCF version (this test originally created when 3.0-rc3 is in use)
     // will produce the same anomaly scores.
@@ -1271,4 +1328,42 @@ public class CheckpointDaoTests extends OpenSearchTestCase {
         assertEquals(inputModelState.getSamples().size(), modelState.getSamples().size());
         assertEquals(now, modelState.getLastUsedTime());
     }
+
+    public void testReadCheckpointSourceWithoutMap() throws IOException {
+        ThresholdedRandomCutForest trcf = createTRCF();
+        ModelState<ThresholdedRandomCutForest> inputModelState = new ModelState<ThresholdedRandomCutForest>(
+            trcf,
+            modelId,
+            "123",
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0.1f,
+            Optional.of(Entity.createSingleAttributeEntity("host", "server_1")),
+            MLUtil.createQueueSamples(3)
+        );
+        BytesReference source = BytesReference.bytes(jsonBuilder().map(checkpointDao.toIndexSource(inputModelState)));
+
+        Optional<ModelState<ThresholdedRandomCutForest>> streamed = checkpointDao.readEntityModelCheckpoint(source, modelId, "123");
+        ModelState<ThresholdedRandomCutForest> fromMap = checkpointDao
+            .fromEntityModelCheckpoint(XContentHelper.convertToMap(source, false, XContentType.JSON).v2(), modelId, "123");
+
+        assertTrue(streamed.isPresent());
+        ModelState<ThresholdedRandomCutForest> modelState = streamed.get();
+        assertEquals(fromMap.getLastCheckpointTime(), modelState.getLastCheckpointTime());
+        assertEquals(fromMap.getEntity(), modelState.getEntity());
+        assertEquals(3, modelState.getSamples().size());
+        assertEquals(
+            fromMap.getModel().get().getForest().getTotalUpdates(),
+            modelState.getModel().get().getForest().getTotalUpdates()
+        );
+        assertEquals(trcf.getForest().getTotalUpdates(), modelState.getModel().get().getForest().getTotalUpdates());
+
+        // the layout of legacy checkpoints is read as a map
+        Map<String, Object> legacySource = new HashMap<>();
+        legacySource.put(CommonName.FIELD_MODEL, "{\"rcf\":\"abc\"}");
+        legacySource.put(CommonName.TIMESTAMP, "2022-07-26T19:29:38Z");
+        assertTrue(
+            checkpointDao.readEntityModelCheckpoint(BytesReference.bytes(jsonBuilder().map(legacySource)), modelId, "123").isEmpty()
+        );
+    }
 }
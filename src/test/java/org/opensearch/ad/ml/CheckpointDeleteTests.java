@@ -33,6 +33,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.index.reindex.ScrollableHitSource;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.ml.CheckpointDao;
@@ -116,7 +117,8 @@ public class CheckpointDeleteTests extends AbstractTimeSeriesTest {
             objectPool,
             deserializeRCFBufferSize,
             anomalyRate,
-            clock
+            clock,
+            false
         );
     }
 
@@ -185,4 +187,38 @@ public class CheckpointDeleteTests extends AbstractTimeSeriesTest {
         assertTrue(testAppender.containsMessage(CheckpointDao.SEARCH_FAILURE_LOG_MSG));
         assertTrue(testAppender.containsMessage(CheckpointDao.DOC_GOT_DELETED_LOG_MSG));
     }
+
+    public void testDeleteRoutedByDetectorId() {
+        ADCheckpointDao routedCheckpointDao = new ADCheckpointDao(
+            client,
+            clientUtil,
+            gson,
+            mock(RandomCutForestMapper.class),
+            mock(V1JsonToV3StateConverter.class),
+            ercfMapper,
+            ercfSchema,
+            HybridThresholdingModel.class,
+            indexUtil,
+            maxCheckpointBytes,
+            objectPool,
+            512,
+            anomalyRate,
+            clock,
+            true
+        );
+        assertEquals(detectorId, routedCheckpointDao.getRouting(detectorId));
+        assertNull(checkpointDao.getRouting(detectorId));
+
+        doAnswer(invocation -> {
+            DeleteByQueryRequest request = invocation.getArgument(1);
+            assertArrayEquals(new String[] { ADCommonName.CHECKPOINT_INDEX_NAME }, request.indices());
+            assertEquals(detectorId, request.getSearchRequest().routing());
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(BulkByScrollResponse.class));
+            return null;
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+
+        routedCheckpointDao.deleteModelCheckpointByConfigId(detectorId);
+        assertTrue(testAppender.containsMessage(CheckpointDao.DOC_GOT_DELETED_LOG_MSG));
+    }
 }
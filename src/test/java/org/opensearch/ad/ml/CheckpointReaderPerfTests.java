@@ -0,0 +1,190 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ml;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.opensearch.ad.indices.ADIndexManagement;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.ml.ModelManager;
+import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.model.Entity;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+import org.opensearch.timeseries.util.ClientUtil;
+import org.opensearch.transport.client.Client;
+
+import com.amazon.randomcutforest.config.Precision;
+import com.amazon.randomcutforest.config.TransformMethod;
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.amazon.randomcutforest.serialize.json.v1.V1JsonToV3StateConverter;
+import com.amazon.randomcutforest.state.RandomCutForestMapper;
+import com.google.gson.GsonBuilder;
+
+import io.protostuff.LinkedBuffer;
+import io.protostuff.Schema;
+import io.protostuff.runtime.RuntimeSchema;
+import test.org.opensearch.ad.util.MLUtil;
+
+/**
+ * Compares bytes allocated per checkpoint between reading the checkpoint source as a map and
+ * streaming it, over a batch of 1,000 checkpoints. Like other perf tests, excluded from the
+ * default test task; run with -Dmodel-benchmark=true.
+ */
+@SuppressForbidden(reason = "uses com.sun.management.ThreadMXBean to measure allocation")
+public class CheckpointReaderPerfTests extends OpenSearchTestCase {
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int BATCH_SIZE = 1_000;
+    private static final String MODEL_ID = "perfModelId";
+    private static final String DETECTOR_ID = "perfDetectorId";
+
+    private GenericObjectPool<LinkedBuffer> serializeRCFBufferPool;
+    private ADCheckpointDao checkpointDao;
+    private BytesReference source;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.now());
+        ADIndexManagement indexUtil = mock(ADIndexManagement.class);
+
+        RandomCutForestMapper mapper = new RandomCutForestMapper();
+        mapper.setSaveExecutorContextEnabled(true);
+        Schema<ThresholdedRandomCutForestState> trcfSchema = AccessController
+            .doPrivileged(
+                (PrivilegedAction<Schema<ThresholdedRandomCutForestState>>) () -> RuntimeSchema
+                    .getSchema(ThresholdedRandomCutForestState.class)
+            );
+        serializeRCFBufferPool = new GenericObjectPool<>(new BasePooledObjectFactory<LinkedBuffer>() {
+            @Override
+            public LinkedBuffer create() throws Exception {
+                return LinkedBuffer.allocate(TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES);
+            }
+
+            @Override
+            public PooledObject<LinkedBuffer> wrap(LinkedBuffer obj) {
+                return new DefaultPooledObject<>(obj);
+            }
+        });
+
+        checkpointDao = new ADCheckpointDao(
+            mock(Client.class),
+            mock(ClientUtil.class),
+            new GsonBuilder().serializeSpecialFloatingPointValues().create(),
+            mapper,
+            new V1JsonToV3StateConverter(),
+            new ThresholdedRandomCutForestMapper(),
+            trcfSchema,
+            HybridThresholdingModel.class,
+            indexUtil,
+            10_000_000,
+            serializeRCFBufferPool,
+            TimeSeriesSettings.SERIALIZATION_BUFFER_BYTES,
+            0.005,
+            clock,
+            false
+        );
+
+        ThresholdedRandomCutForest trcf = ThresholdedRandomCutForest
+            .builder()
+            .compact(true)
+            .dimensions(8)
+            .shingleSize(8)
+            .numberOfTrees(30)
+            .sampleSize(256)
+            .precision(Precision.FLOAT_32)
+            .randomSeed(42)
+            .boundingBoxCacheFraction(0)
+            .transformMethod(TransformMethod.NORMALIZE)
+            .internalShinglingEnabled(true)
+            .build();
+        for (int i = 0; i < 2_000; i++) {
+            trcf.process(new double[] { Math.sin(i / 10.0) }, i);
+        }
+        ModelState<ThresholdedRandomCutForest> modelState = new ModelState<>(
+            trcf,
+            MODEL_ID,
+            DETECTOR_ID,
+            ModelManager.ModelType.TRCF.getName(),
+            clock,
+            0,
+            Optional.of(Entity.createSingleAttributeEntity("host", "server_1")),
+            MLUtil.createQueueSamples(8)
+        );
+        source = BytesReference.bytes(jsonBuilder().map(checkpointDao.toIndexSource(modelState)));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        serializeRCFBufferPool.close();
+        super.tearDown();
+    }
+
+    private ModelState<ThresholdedRandomCutForest> readAsMap(BytesReference checkpoint) {
+        return checkpointDao
+            .fromEntityModelCheckpoint(XContentHelper.convertToMap(checkpoint, false, XContentType.JSON).v2(), MODEL_ID, DETECTOR_ID);
+    }
+
+    private ModelState<ThresholdedRandomCutForest> stream(BytesReference checkpoint) {
+        return checkpointDao.readEntityModelCheckpoint(checkpoint, MODEL_ID, DETECTOR_ID).get();
+    }
+
+    private long bytesPerCheckpoint(Function<BytesReference, ModelState<ThresholdedRandomCutForest>> reader) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long totalUpdates = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            totalUpdates += reader.apply(source).getModel().get().getForest().getTotalUpdates();
+        }
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            totalUpdates += reader.apply(source).getModel().get().getForest().getTotalUpdates();
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+        // keep the models observable so the JIT cannot drop them
+        assertTrue(totalUpdates > 0);
+        return allocated / BATCH_SIZE;
+    }
+
+    public void testBytesAllocatedPerCheckpoint() throws IOException {
+        long baseline = bytesPerCheckpoint(this::readAsMap);
+        long streamed = bytesPerCheckpoint(this::stream);
+        logger
+            .info(
+                String
+                    .format(
+                        Locale.ROOT,
+                        "checkpoint source %d bytes, bytes allocated per checkpoint: map %d, streaming %d",
+                        source.length(),
+                        baseline,
+                        streamed
+                    )
+            );
+        assertTrue(streamed < baseline);
+    }
+}
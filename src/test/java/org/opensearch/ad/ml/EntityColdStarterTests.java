@@ -25,7 +25,6 @@ import java.io.IOException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -62,6 +61,7 @@ import org.opensearch.timeseries.ml.ModelColdStart;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.IntervalTimeConfiguration;
 import org.opensearch.timeseries.ratelimit.FeatureRequest;
 import org.opensearch.timeseries.ratelimit.RequestPriority;
@@ -111,7 +111,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
 
     // train using samples directly
     public void testTrainUsingSamples() throws InterruptedException, IOException {
-        Deque<Sample> samples = MLUtil.createQueueSamples(numMinSamples);
+        SampleBuffer samples = MLUtil.createQueueSamples(numMinSamples);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -162,7 +162,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             TimeSeriesSettings.MAX_COLD_START_ROUNDS,
             1
         );
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<>(
             null,
             modelId,
@@ -250,7 +250,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
 
     // min max: miss one
     public void testMissMin() throws IOException, InterruptedException {
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -389,7 +389,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             1
         );
 
-        Deque<Sample> samples = MLUtil.createQueueSamples(0);
+        SampleBuffer samples = MLUtil.createQueueSamples(0);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -482,7 +482,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             TimeSeriesSettings.MAX_COLD_START_ROUNDS,
             1
         );
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -551,7 +551,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
     }
 
     public void testThrottledColdStart() throws InterruptedException {
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -588,7 +588,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
     }
 
     public void testColdStartException() throws InterruptedException {
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -623,7 +623,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
 
     @SuppressWarnings("unchecked")
     public void testNotEnoughSamples() throws InterruptedException, IOException {
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -673,18 +673,16 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
 
         assertTrue(modelState.getModel().isEmpty());
         // not enough smples to train. We keep them in the sample array of model state.
-        Deque<Sample> currentSamples = modelState.getSamples();
+        SampleBuffer currentSamples = modelState.getSamples();
         assertEquals("real sample size is " + currentSamples.size(), 2, currentSamples.size());
-        int j = 0;
-        while (!currentSamples.isEmpty()) {
-            double[] element = currentSamples.poll().getValueList();
+        for (int j = 0; j < currentSamples.size(); j++) {
+            double[] element = currentSamples.copyValues(j);
             assertEquals(1, element.length);
             if (j == 0 || j == 2) {
                 assertEquals(57, element[0], 1e-10);
             } else {
                 assertEquals(1, element[0], 1e-10);
             }
-            j++;
         }
     }
 
@@ -712,7 +710,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             1
         );
 
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -856,6 +854,8 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             .prepareModel(inputDimension, rcfConfig, detector.getIntervalInMilliseconds());
         Deque<Sample> samples = models.v1();
         ThresholdedRandomCutForest rcf = models.v2();
+        // keep all training samples
+        SampleBuffer sampleBuffer = SampleBuffer.of(samples, samples.size());
 
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
@@ -865,7 +865,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             clock,
             priority,
             Optional.of(entity),
-            samples
+            sampleBuffer
         );
 
         Random r = new Random();
@@ -884,7 +884,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
     }
 
     public void testTrainModelFromExistingSamplesNotEnoughSamples() {
-        Deque<Sample> samples = new ArrayDeque<>();
+        SampleBuffer samples = new SampleBuffer();
         modelState = new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -990,7 +990,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
                 clock,
                 priority,
                 Optional.of(entity),
-                new ArrayDeque<>()
+                new SampleBuffer()
             );
 
             released = new AtomicBoolean();
@@ -1078,7 +1078,7 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
             inProgressLatch.countDown();
         };
         listener = ActionListener.wrap(releaseSemaphore);
-        Deque<Sample> samples = MLUtil.createQueueSamples(1);
+        SampleBuffer samples = MLUtil.createQueueSamples(1);
         return new ModelState<ThresholdedRandomCutForest>(
             null,
             modelId,
@@ -1277,8 +1277,8 @@ public class EntityColdStarterTests extends AbstractCosineDataTest {
     }
 
     public void testTrainModelFromInvalidSamplesNotEnoughSamples() {
-        Deque<Sample> samples = new ArrayDeque<>();
-        // we have at least numMinSamples samples before executing the null check of trainModelFromDataSegments
+        SampleBuffer samples = new SampleBuffer();
+        // invalid samples have no values and are dropped by the buffer, so there is nothing to train with
         for (int i = 0; i < numMinSamples; i++) {
             samples.add(new Sample());
         }
@@ -13,13 +13,13 @@ package org.opensearch.ad.ml;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayDeque;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
 
@@ -54,13 +54,13 @@ public class EntityModelTests extends OpenSearchTestCase {
 
     @Test
     public void trcf_constructor() {
-        ModelState<ThresholdedRandomCutForest> em = new ModelState<>(trcf, null, null, null, clock, 0, null, new ArrayDeque<>());
+        ModelState<ThresholdedRandomCutForest> em = new ModelState<>(trcf, null, null, null, clock, 0, null, new SampleBuffer());
         assertEquals(trcf, em.getModel().get());
     }
 
     @Test
     public void clear() {
-        ModelState<ThresholdedRandomCutForest> em = new ModelState<>(trcf, null, null, null, clock, 0, null, new ArrayDeque<>());
+        ModelState<ThresholdedRandomCutForest> em = new ModelState<>(trcf, null, null, null, clock, 0, null, new SampleBuffer());
 
         em.clear();
 
@@ -33,7 +33,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.AbstractMap.SimpleImmutableEntry;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -77,6 +76,7 @@ import org.opensearch.timeseries.feature.SearchFeatureDao;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.ml.SingleStreamModelIdMapper;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
@@ -995,7 +995,7 @@ public class ModelManagerTests {
         when(rcf.getDimensions()).thenReturn(40);
         when(this.trcf.getForest()).thenReturn(rcf);
         when(this.modelState.getSamples())
-            .thenReturn(new ArrayDeque<>(Arrays.asList(new Sample(this.point, Instant.now(), Instant.now()))));
+            .thenReturn(SampleBuffer.of(Arrays.asList(new Sample(this.point, Instant.now(), Instant.now()))));
 
         ThresholdingResult result = modelManager
             .score(new Sample(this.point, Instant.now(), Instant.now()), this.modelId, this.modelState, anomalyDetector);
@@ -1032,7 +1032,7 @@ public class ModelManagerTests {
         when(this.trcf.getForest()).thenReturn(rcf);
         doThrow(new IllegalArgumentException()).when(trcf).process(any(), anyLong(), any());
         when(this.modelState.getSamples())
-            .thenReturn(new ArrayDeque<>(Arrays.asList(new Sample(this.point, Instant.now(), Instant.now()))));
+            .thenReturn(SampleBuffer.of(Arrays.asList(new Sample(this.point, Instant.now(), Instant.now()))));
         modelManager.score(new Sample(this.point, Instant.now(), Instant.now()), this.modelId, this.modelState, anomalyDetector);
     }
 }
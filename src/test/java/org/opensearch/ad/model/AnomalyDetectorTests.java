@@ -67,6 +67,23 @@ public class AnomalyDetectorTests extends AbstractTimeSeriesTest {
         assertEquals("Parsing anomaly detector doesn't work", detector, parsedDetector);
     }
 
+    public void testParseAnomalyDetectorWithResultVerbosity() throws IOException {
+        AnomalyDetector detector = TestHelpers.randomAnomalyDetector(TestHelpers.randomUiMetadata(), Instant.now());
+        detector.setResultVerbosity(ResultVerbosity.ROLLUP);
+        String detectorString = TestHelpers.xContentBuilderToString(detector.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        assertTrue(detectorString.contains("\"result_verbosity\":\"ROLLUP\""));
+        AnomalyDetector parsedDetector = AnomalyDetector.parse(TestHelpers.parser(detectorString.replace("ROLLUP", "rollup")));
+        assertEquals(ResultVerbosity.ROLLUP, parsedDetector.getResultVerbosity());
+        assertEquals(detector, parsedDetector);
+
+        String invalidString = detectorString.replace("ROLLUP", "verbose");
+        ValidationException exception = expectThrows(
+            ValidationException.class,
+            () -> AnomalyDetector.parse(TestHelpers.parser(invalidString))
+        );
+        assertTrue(exception.getMessage().contains("Invalid result verbosity"));
+    }
+
     public void testParseAnomalyDetectorWithCustomIndex() throws IOException {
         String resultIndex = ADCommonName.CUSTOM_RESULT_INDEX_PREFIX + "test";
         AnomalyDetector detector = TestHelpers
@@ -161,6 +161,40 @@ public class AnomalyResultTests extends OpenSearchSingleNodeTestCase {
         assertTrue(parsedDetectResult.equals(detectResult));
     }
 
+    public void testParseAndSerializeRollupResult() throws IOException {
+        AnomalyResult last = TestHelpers.randomHCADAnomalyDetectResult(0.8, 0);
+        Instant rollupStart = last.getDataStartTime().minusSeconds(3600);
+        AnomalyResult rollupResult = AnomalyResult.toRollupResult(last, rollupStart, new ResultRollup(60, 0.3, 0.9));
+        assertTrue(rollupResult.isHighPriority());
+        assertEquals(0.9, rollupResult.getAnomalyScore(), 0.00001);
+        assertEquals(rollupStart, rollupResult.getDataStartTime());
+        assertEquals(last.getDataEndTime(), rollupResult.getDataEndTime());
+        assertEquals(last.getFeatureData(), rollupResult.getFeatureData());
+
+        String rollupString = TestHelpers.xContentBuilderToString(rollupResult.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        AnomalyResult parsedResult = AnomalyResult.parse(TestHelpers.parser(rollupString));
+        assertEquals(rollupResult.getRollup(), parsedResult.getRollup());
+        assertEquals(rollupStart, parsedResult.getDataStartTime());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        rollupResult.writeTo(output);
+        NamedWriteableAwareStreamInput input = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), writableRegistry());
+        assertEquals(rollupResult, new AnomalyResult(input));
+    }
+
+    public void testSlimResult() throws IOException {
+        AnomalyResult detectResult = TestHelpers.randomHCADAnomalyDetectResult(0.8, 0);
+        AnomalyResult slimResult = detectResult.toSlimResult();
+        assertEquals(detectResult.getFeatureData(), slimResult.getFeatureData());
+        assertNull(slimResult.getThreshold());
+        assertNull(slimResult.getRollup());
+        assertEquals(detectResult.getAnomalyScore(), slimResult.getAnomalyScore());
+        assertEquals(detectResult.getEntity(), slimResult.getEntity());
+
+        String slimString = TestHelpers.xContentBuilderToString(slimResult.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        assertFalse(slimString.contains(AnomalyResult.THRESHOLD_FIELD));
+    }
+
     public void testFromRawTRCFResultWithHighConfidence() {
         // Set up test parameters
         String detectorId = "test-detector-id";
@@ -11,10 +11,17 @@
 
 package org.opensearch.ad.model;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 
+import org.opensearch.common.Numbers;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.model.Entity;
 
@@ -42,4 +49,41 @@ public class EntityTests extends AbstractTimeSeriesTest {
 
         assertTrue(!modelId.isPresent());
     }
+
+    public void testIdentityAcrossCreationPaths() throws Exception {
+        Map<String, Object> attrs = new HashMap<>();
+        attrs.put("service", "app_4");
+        attrs.put("host", new String("server_2"));
+        Entity reordered = Entity.createEntityByReordering(attrs);
+        TreeMap<String, String> sorted = new TreeMap<>();
+        sorted.put("host", "server_2");
+        sorted.put("service", "app_4");
+        Entity ordered = Entity.createEntityFromOrderedMap(sorted);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        reordered.writeTo(output);
+        Entity deserialized = new Entity(output.bytes().streamInput());
+
+        assertEquals(reordered, ordered);
+        assertEquals(reordered, deserialized);
+        assertEquals(reordered.hashCode(), ordered.hashCode());
+        assertEquals(reordered.hashCode(), deserialized.hashCode());
+        assertNotEquals(reordered, Entity.createSingleAttributeEntity("host", "server_2"));
+        // attribute values are shared among entities
+        assertSame(reordered.getAttributes().get("host"), deserialized.getAttributes().get("host"));
+    }
+
+    public void testModelIdUnchanged() {
+        Entity entity = Entity.createSingleAttributeEntity("host", "server_2");
+        String normalized = "host=server_2";
+        MurmurHash3.Hash128 hash = MurmurHash3
+            .hash128(normalized.getBytes(StandardCharsets.UTF_8), 0, normalized.length(), 42, new MurmurHash3.Hash128());
+        byte[] bytes = new byte[16];
+        System.arraycopy(Numbers.longToBytes(hash.h1), 0, bytes, 0, 8);
+        System.arraycopy(Numbers.longToBytes(hash.h2), 0, bytes, 8, 8);
+        String expected = "id_entity_" + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertEquals(expected, entity.getModelId("id").get());
+        assertEquals(expected, entity.getModelId("id").get());
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.ratelimit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.model.ResultVerbosity;
+import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.constant.CommonValue;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+
+import com.google.common.collect.ImmutableMap;
+
+public class ADSaveResultStrategyTests extends OpenSearchTestCase {
+    private ADResultWriteWorker resultWriteWorker;
+    private ADSaveResultStrategy strategy;
+    private AnomalyDetector detector;
+    private Instant start;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        resultWriteWorker = mock(ADResultWriteWorker.class);
+        strategy = new ADSaveResultStrategy(CommonValue.NO_SCHEMA_VERSION, resultWriteWorker);
+        detector = TestHelpers.randomAnomalyDetector(ImmutableMap.of(), Instant.now());
+        start = Instant.now().truncatedTo(ChronoUnit.MINUTES).minus(1, ChronoUnit.DAYS);
+    }
+
+    private AnomalyResult result(int interval, double score, double grade) {
+        long intervalMillis = detector.getIntervalInMilliseconds();
+        long dataStart = start.toEpochMilli() + interval * intervalMillis;
+        return TestHelpers
+            .randomHCADAnomalyDetectResult(detector.getId(), null, score, grade, null, dataStart, dataStart + intervalMillis);
+    }
+
+    private List<ADResultWriteRequest> captureWrites(int expected) {
+        ArgumentCaptor<ADResultWriteRequest> captor = ArgumentCaptor.forClass(ADResultWriteRequest.class);
+        verify(resultWriteWorker, times(expected)).put(captor.capture());
+        return captor.getAllValues();
+    }
+
+    public void testFullVerbosityWritesEveryResult() {
+        AnomalyResult normal = result(0, 0.5, 0);
+        strategy.saveResult(normal, detector);
+        List<ADResultWriteRequest> requests = captureWrites(1);
+        assertEquals(normal, requests.get(0).getResult());
+        assertEquals(RequestPriority.MEDIUM, requests.get(0).getPriority());
+    }
+
+    public void testSlimVerbosityDropsDetailsOfNormalResults() {
+        detector.setResultVerbosity(ResultVerbosity.SLIM);
+        AnomalyResult normal = result(0, 0.5, 0);
+        AnomalyResult anomaly = result(1, 2.5, 0.7);
+        strategy.saveResult(normal, detector);
+        strategy.saveResult(anomaly, detector);
+
+        List<ADResultWriteRequest> requests = captureWrites(2);
+        assertEquals(normal.getFeatureData(), requests.get(0).getResult().getFeatureData());
+        assertNull(requests.get(0).getResult().getThreshold());
+        assertEquals(anomaly, requests.get(1).getResult());
+        assertEquals(RequestPriority.HIGH, requests.get(1).getPriority());
+    }
+
+    public void testRollupFlushedByAnomaly() {
+        detector.setResultVerbosity(ResultVerbosity.ROLLUP);
+        strategy.saveResult(result(0, 0.5, 0), detector);
+        strategy.saveResult(result(1, 0.2, 0), detector);
+        strategy.saveResult(result(2, 0.9, 0), detector);
+        verify(resultWriteWorker, never()).put(any());
+        assertEquals(1, strategy.getPendingRollupCount());
+
+        AnomalyResult anomaly = result(3, 2.5, 0.7);
+        strategy.saveResult(anomaly, detector);
+
+        List<ADResultWriteRequest> requests = captureWrites(2);
+        AnomalyResult rollup = requests.get(0).getResult();
+        assertEquals(3, rollup.getRollup().getCount());
+        assertEquals(0.2, rollup.getRollup().getMinAnomalyScore(), 0.00001);
+        assertEquals(0.9, rollup.getRollup().getMaxAnomalyScore(), 0.00001);
+        assertEquals(start, rollup.getDataStartTime());
+        assertEquals(RequestPriority.HIGH, requests.get(0).getPriority());
+        assertEquals(anomaly, requests.get(1).getResult());
+        assertEquals(0, strategy.getPendingRollupCount());
+    }
+
+    public void testRollupFlushedWhenFullAndOnMaintenance() {
+        detector.setResultVerbosity(ResultVerbosity.ROLLUP);
+        int total = AnomalyDetectorSettings.RESULT_ROLLUP_MAX_INTERVALS + 2;
+        for (int i = 0; i < total; i++) {
+            strategy.saveResult(result(i, 0.5, 0), detector);
+        }
+        List<ADResultWriteRequest> requests = captureWrites(1);
+        assertEquals(AnomalyDetectorSettings.RESULT_ROLLUP_MAX_INTERVALS, requests.get(0).getResult().getRollup().getCount());
+
+        strategy.maintenance();
+        requests = captureWrites(2);
+        assertEquals(2, requests.get(1).getResult().getRollup().getCount());
+        assertEquals(0, strategy.getPendingRollupCount());
+    }
+}
@@ -147,10 +147,15 @@ public class CheckpointWriteWorkerTests extends AbstractRateLimitingTest {
 
             return null;
         }).when(checkpoint).batchWrite(any(), any());
+        ModelState.ChangeVersion version = new ModelState.ChangeVersion(1, 2);
+        when(checkpoint.getChangeVersion(state)).thenReturn(version);
 
         worker.write(state, true, RequestPriority.MEDIUM);
 
         verify(checkpoint, times(1)).batchWrite(any(), any());
+        // the state is known to be checkpointed once the write succeeds
+        assertEquals(version, state.getCheckpointedVersion());
+        assertEquals(1, state.getCheckpointBytes());
     }
 
     public void testTriggerSaveAll() {
@@ -305,9 +310,13 @@ public class CheckpointWriteWorkerTests extends AbstractRateLimitingTest {
             return null;
         }).when(checkpoint).batchWrite(any(), any());
 
+        when(checkpoint.getChangeVersion(state)).thenReturn(new ModelState.ChangeVersion(1, 2));
+
         worker.write(state, true, RequestPriority.MEDIUM);
         // we don't retry checkpoint write
         verify(checkpoint, times(1)).batchWrite(any(), any());
+        // the state stays dirty so that a later checkpoint retries
+        assertNull(state.getCheckpointedVersion());
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.ad.ratelimit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.NodeStateManager;
+import org.opensearch.timeseries.model.Config;
+import org.opensearch.timeseries.ratelimit.DeficitRoundRobinQueueScheduler;
+import org.opensearch.timeseries.ratelimit.QueueScheduler;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.ratelimit.RequestQueueWeigher;
+import org.opensearch.timeseries.ratelimit.RoundRobinQueueScheduler;
+import org.opensearch.timeseries.ratelimit.SchedulableQueue;
+
+public class QueueSchedulerTests extends OpenSearchTestCase {
+    static class TestQueue implements SchedulableQueue {
+        private final String id;
+        private int size;
+        private long headEnqueueMillis;
+        private double deficit;
+
+        TestQueue(String id, int size, long headEnqueueMillis) {
+            this.id = id;
+            this.size = size;
+            this.headEnqueueMillis = headEnqueueMillis;
+        }
+
+        @Override
+        public String getQueueId() {
+            return id;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public int clearExpiredRequests() {
+            return 0;
+        }
+
+        @Override
+        public long getHeadWaitMillis(long nowMillis) {
+            return size == 0 ? 0 : nowMillis - headEnqueueMillis;
+        }
+
+        @Override
+        public double getDeficit() {
+            return deficit;
+        }
+
+        @Override
+        public void setDeficit(double deficit) {
+            this.deficit = deficit;
+        }
+
+        int take(int quota) {
+            int taken = Math.min(quota, size);
+            size -= taken;
+            return taken;
+        }
+    }
+
+    private Map<String, Integer> serve(
+        QueueScheduler scheduler,
+        TreeMap<String, TestQueue> queues,
+        int rounds,
+        int batchSize,
+        long now
+    ) {
+        Map<String, Integer> served = new HashMap<>();
+        for (int i = 0; i < rounds; i++) {
+            Optional<QueueScheduler.Selection<TestQueue>> selection = scheduler.select(queues, now);
+            if (false == selection.isPresent()) {
+                break;
+            }
+            TestQueue queue = selection.get().getQueue();
+            int taken = queue.take(Math.min(selection.get().getQuota(), batchSize));
+            scheduler.onServed(queue, taken);
+            served.merge(queue.getQueueId(), taken, Integer::sum);
+        }
+        return served;
+    }
+
+    public void testRoundRobinServesLowOnlyWhenOthersEmpty() {
+        TreeMap<String, TestQueue> queues = new TreeMap<>();
+        queues.put("a", new TestQueue("a", 1_000, 0));
+        queues.put(RequestPriority.LOW.name(), new TestQueue(RequestPriority.LOW.name(), 1_000, 0));
+
+        Map<String, Integer> served = serve(new RoundRobinQueueScheduler(), queues, 5, 10, 0);
+        assertEquals(50, served.get("a").intValue());
+        assertNull(served.get(RequestPriority.LOW.name()));
+    }
+
+    public void testDeficitRoundRobinDoesNotStarveLow() {
+        TreeMap<String, TestQueue> queues = new TreeMap<>();
+        queues.put("a", new TestQueue("a", 10_000, 0));
+        queues.put(RequestPriority.LOW.name(), new TestQueue(RequestPriority.LOW.name(), 10_000, 0));
+
+        QueueScheduler scheduler = new DeficitRoundRobinQueueScheduler(
+            q -> RequestPriority.LOW.name().equals(q.getQueueId()) ? 0.25 : 1,
+            Long.MAX_VALUE,
+            8
+        );
+        Map<String, Integer> served = serve(scheduler, queues, 100, 100, 0);
+        int low = served.get(RequestPriority.LOW.name());
+        int medium = served.get("a");
+        assertTrue(low > 0);
+        // service share follows the 1:4 weight ratio
+        assertEquals(4.0, (double) medium / low, 0.5);
+    }
+
+    public void testDeficitRoundRobinWeightsShare() {
+        TreeMap<String, TestQueue> queues = new TreeMap<>();
+        queues.put("big", new TestQueue("big", 100_000, 0));
+        queues.put("small", new TestQueue("small", 100_000, 0));
+
+        QueueScheduler scheduler = new DeficitRoundRobinQueueScheduler(q -> "big".equals(q.getQueueId()) ? 3 : 1, Long.MAX_VALUE, 10);
+        Map<String, Integer> served = serve(scheduler, queues, 400, 1_000, 0);
+        assertEquals(3.0, (double) served.get("big") / served.get("small"), 0.2);
+    }
+
+    public void testDeficitRoundRobinStarvationBound() {
+        TreeMap<String, TestQueue> queues = new TreeMap<>();
+        queues.put("a", new TestQueue("a", 1_000, 900));
+        queues.put(RequestPriority.LOW.name(), new TestQueue(RequestPriority.LOW.name(), 1_000, 0));
+
+        // LOW has almost no weight but its head request has waited 1000 ms, beyond the 500 ms bound
+        QueueScheduler scheduler = new DeficitRoundRobinQueueScheduler(
+            q -> RequestPriority.LOW.name().equals(q.getQueueId()) ? 0 : 1,
+            500,
+            10
+        );
+        Optional<QueueScheduler.Selection<TestQueue>> selection = scheduler.select(queues, 1_000);
+        assertTrue(selection.isPresent());
+        assertEquals(RequestPriority.LOW.name(), selection.get().getQueue().getQueueId());
+    }
+
+    public void testDeficitRoundRobinEmptyQueues() {
+        TreeMap<String, TestQueue> queues = new TreeMap<>();
+        TestQueue queue = new TestQueue("a", 0, 0);
+        queue.setDeficit(5);
+        queues.put("a", queue);
+
+        QueueScheduler scheduler = new DeficitRoundRobinQueueScheduler(q -> 1, 500, 10);
+        assertTrue(scheduler.select(queues, 0).isEmpty());
+        // idle queues do not bank credit
+        assertEquals(0, queue.getDeficit(), 0.001);
+        assertTrue(scheduler.select(new TreeMap<String, TestQueue>(), 0).isEmpty());
+    }
+
+    public void testWeigher() {
+        NodeStateManager nodeStateManager = mock(NodeStateManager.class);
+        Config config = mock(Config.class);
+        when(config.getIntervalInMinutes()).thenReturn(1L);
+        when(nodeStateManager.getCachedConfig("fast")).thenReturn(Optional.of(config));
+        when(nodeStateManager.getCachedConfig("slow")).thenReturn(Optional.empty());
+
+        RequestQueueWeigher weigher = new RequestQueueWeigher(nodeStateManager);
+        double high = weigher.applyAsDouble(new TestQueue(RequestPriority.HIGH.name(), 1, 0));
+        double low = weigher.applyAsDouble(new TestQueue(RequestPriority.LOW.name(), 1, 0));
+        double slow = weigher.applyAsDouble(new TestQueue("slow", 1, 0));
+        double slowLarge = weigher.applyAsDouble(new TestQueue("slow", 1_000, 0));
+        double fast = weigher.applyAsDouble(new TestQueue("fast", 1, 0));
+
+        assertTrue(high > slow);
+        assertTrue(low < slow);
+        // larger backlog and shorter interval get more weight
+        assertTrue(slowLarge > slow);
+        assertTrue(fast > slow);
+    }
+}
@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +34,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.ad.caching.TopAnomalyRollup;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
@@ -137,6 +139,29 @@ public class ResultWriteWorkerTests extends AbstractRateLimitingTest {
         verify(resultHandler, times(1)).flush(any(), any());
     }
 
+    public void testRollupSkipsRejectedResults() {
+        TopAnomalyRollup rollup = mock(TopAnomalyRollup.class);
+        when(rollup.isEnabled()).thenReturn(true);
+        resultWriteQueue.setTopAnomalyRollup(rollup);
+
+        // indexing pressure spilled or dropped the result instead of indexing it
+        doAnswer(invocation -> {
+            ActionListener<ResultBulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new ResultBulkResponse(null, Collections.singletonList(0)));
+            return null;
+        }).when(resultHandler).flush(any(), any());
+        resultWriteQueue.put(new ADResultWriteRequest(Long.MAX_VALUE, detectorId, RequestPriority.MEDIUM, detectResult, null, null));
+        verify(rollup, never()).record(any());
+
+        doAnswer(invocation -> {
+            ActionListener<ResultBulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new ResultBulkResponse(new ArrayList<>()));
+            return null;
+        }).when(resultHandler).flush(any(), any());
+        resultWriteQueue.put(new ADResultWriteRequest(Long.MAX_VALUE, detectorId, RequestPriority.MEDIUM, detectResult, null, null));
+        verify(rollup, times(1)).record(detectResult);
+    }
+
     public void testSingleRetryRequest() throws IOException {
         List<IndexRequest> retryRequests = new ArrayList<>();
         try (XContentBuilder builder = jsonBuilder()) {
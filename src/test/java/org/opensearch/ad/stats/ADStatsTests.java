@@ -17,7 +17,6 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MAX_MODEL_SIZE_PER_NODE;
 
 import java.time.Clock;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -43,6 +42,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.stats.TimeSeriesStat;
 import org.opensearch.timeseries.stats.suppliers.CounterSupplier;
@@ -92,7 +92,7 @@ public class ADStatsTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         thresholdingModel,
@@ -102,7 +102,7 @@ public class ADStatsTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         rcf,
@@ -112,7 +112,7 @@ public class ADStatsTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         thresholdingModel,
@@ -122,7 +122,7 @@ public class ADStatsTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     )
                 )
         );
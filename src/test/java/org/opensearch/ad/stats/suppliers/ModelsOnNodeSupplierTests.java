@@ -17,7 +17,6 @@ import static org.opensearch.ad.settings.AnomalyDetectorSettings.AD_MAX_MODEL_SI
 import static org.opensearch.ad.stats.suppliers.ADModelsOnNodeSupplier.MODEL_STATE_STAT_KEYS;
 
 import java.time.Clock;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +41,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.SampleBuffer;
 
 import com.amazon.randomcutforest.RandomCutForest;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
@@ -81,7 +81,7 @@ public class ModelsOnNodeSupplierTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         thresholdingModel,
@@ -91,7 +91,7 @@ public class ModelsOnNodeSupplierTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         rcf,
@@ -101,7 +101,7 @@ public class ModelsOnNodeSupplierTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     ),
                     new ModelState<>(
                         thresholdingModel,
@@ -111,7 +111,7 @@ public class ModelsOnNodeSupplierTests extends OpenSearchTestCase {
                         clock,
                         0f,
                         Optional.empty(),
-                        new ArrayDeque<>()
+                        new SampleBuffer()
                     )
                 )
         );
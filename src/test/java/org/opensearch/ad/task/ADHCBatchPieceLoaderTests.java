@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ad.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.opensearch.ad.model.ADTask;
+import org.opensearch.ad.model.ADTaskType;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.feature.SearchFeatureDao;
+import org.opensearch.timeseries.model.Entity;
+
+public class ADHCBatchPieceLoaderTests extends OpenSearchTestCase {
+    private static final String DETECTOR_TASK_ID = "detectorTask";
+    private static final long PIECE_LENGTH = 60_000L;
+
+    private SearchFeatureDao searchFeatureDao;
+    private Clock clock;
+    private ADHCBatchPieceLoader pieceLoader;
+    private AnomalyDetector detector;
+    private Entity entity1;
+    private Entity entity2;
+    private ADTask task1;
+    private ADTask task2;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        searchFeatureDao = mock(SearchFeatureDao.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        pieceLoader = new ADHCBatchPieceLoader(searchFeatureDao, clock);
+        detector = mock(AnomalyDetector.class);
+        entity1 = Entity.createSingleAttributeEntity("host", "server_1");
+        entity2 = Entity.createSingleAttributeEntity("host", "server_2");
+        task1 = entityTask("task1", entity1);
+        task2 = entityTask("task2", entity2);
+    }
+
+    private ADTask entityTask(String taskId, Entity entity) {
+        return ADTask
+            .builder()
+            .taskId(taskId)
+            .parentTaskId(DETECTOR_TASK_ID)
+            .taskType(ADTaskType.HISTORICAL_HC_ENTITY.name())
+            .configId("detector")
+            .detector(detector)
+            .entity(entity)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Entity>> mockSearch(Exception failure) {
+        List<List<Entity>> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Entity> entities = new ArrayList<>(invocation.getArgument(1));
+            requests.add(entities);
+            ActionListener<Map<Entity, Map<Long, Optional<double[]>>>> listener = invocation.getArgument(4);
+            if (failure != null) {
+                listener.onFailure(failure);
+                return null;
+            }
+            long start = invocation.getArgument(2);
+            Map<Entity, Map<Long, Optional<double[]>>> response = new HashMap<>();
+            for (int i = 0; i < entities.size(); i++) {
+                Map<Long, Optional<double[]>> points = new HashMap<>();
+                points.put(start, Optional.of(new double[] { i }));
+                response.put(entities.get(i), points);
+            }
+            listener.onResponse(response);
+            return null;
+        }).when(searchFeatureDao).getFeaturesForPeriodByBatch(any(AnomalyDetector.class), anyList(), anyLong(), anyLong(), any());
+        return requests;
+    }
+
+    private Map<Long, Optional<double[]>> get(ADTask task, long pieceStart) {
+        List<Map<Long, Optional<double[]>>> result = new ArrayList<>();
+        pieceLoader.getFeatureDataPoints(task, pieceStart, pieceStart + PIECE_LENGTH, ActionListener.wrap(result::add, e -> fail()));
+        assertEquals(1, result.size());
+        return result.get(0);
+    }
+
+    public void testShareLaggingEntityTaskPiece() {
+        List<List<Entity>> requests = mockSearch(null);
+        get(task1, 0);
+        get(task2, 0);
+        assertEquals(2, requests.size());
+
+        // task1 moves ahead and fetches the next piece for task2 as well
+        Map<Long, Optional<double[]>> points1 = get(task1, PIECE_LENGTH);
+        assertEquals(3, requests.size());
+        assertEquals(List.of(entity1, entity2), requests.get(2));
+        assertEquals(0, points1.get(PIECE_LENGTH).get()[0], 0.001);
+
+        Map<Long, Optional<double[]>> points2 = get(task2, PIECE_LENGTH);
+        assertEquals(3, requests.size());
+        assertEquals(1, points2.get(PIECE_LENGTH).get()[0], 0.001);
+        // the shared piece is dropped once all its data points are taken
+        assertEquals(0, pieceLoader.getPieceCount());
+        verify(searchFeatureDao, times(1))
+            .getFeaturesForPeriodByBatch(eq(detector), anyList(), eq(PIECE_LENGTH), eq(2 * PIECE_LENGTH), any());
+    }
+
+    public void testSkipFinishedAndFarBehindTasks() {
+        List<List<Entity>> requests = mockSearch(null);
+        get(task1, 0);
+        get(task2, 0);
+        pieceLoader.removeTask(task2.getTaskId());
+        get(task1, PIECE_LENGTH);
+        assertEquals(List.of(entity1), requests.get(2));
+
+        get(task2, PIECE_LENGTH);
+        get(task1, (ADHCBatchPieceLoader.MAX_LAG_PIECES + 2) * PIECE_LENGTH);
+        assertEquals(List.of(entity1), requests.get(4));
+    }
+
+    public void testExpireUnclaimedPieces() {
+        mockSearch(null);
+        get(task1, 0);
+        get(task2, 0);
+        get(task1, PIECE_LENGTH);
+        assertEquals(1, pieceLoader.getPieceCount());
+
+        when(clock.millis()).thenReturn(ADHCBatchPieceLoader.STATE_TTL_MILLIS + 1);
+        pieceLoader.maintenance();
+        assertEquals(0, pieceLoader.getPieceCount());
+    }
+
+    public void testFailureNotifiesListener() {
+        mockSearch(new IllegalArgumentException("bad query"));
+        List<Exception> failures = new ArrayList<>();
+        pieceLoader.getFeatureDataPoints(task1, 0, PIECE_LENGTH, ActionListener.wrap(r -> fail(), failures::add));
+        assertEquals(1, failures.size());
+        assertEquals(0, pieceLoader.getPieceCount());
+    }
+}
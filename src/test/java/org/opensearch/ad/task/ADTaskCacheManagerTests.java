@@ -26,10 +26,15 @@ import static org.opensearch.timeseries.MemoryTracker.Origin.HISTORICAL_SINGLE_E
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -517,6 +522,114 @@ public class ADTaskCacheManagerTests extends OpenSearchTestCase {
         assertEquals(taskSlots, adTaskCacheManager.getDetectorTaskSlots(detectorId));
     }
 
+    public void testConcurrentEntityTasksOfMultipleDetectors() throws Exception {
+        int detectorCount = 4;
+        int threadsPerDetector = 4;
+        int entityCount = 500;
+        List<String> detectorIds = new ArrayList<>();
+        for (int i = 0; i < detectorCount; i++) {
+            String detectorId = randomAlphaOfLength(10) + i;
+            adTaskCacheManager.add(detectorId, TestHelpers.randomAdTask(ADTaskType.HISTORICAL_HC_DETECTOR));
+            List<String> entities = new ArrayList<>();
+            for (int j = 0; j < entityCount; j++) {
+                entities.add("entity" + j);
+            }
+            adTaskCacheManager.addPendingEntities(detectorId, entities);
+            adTaskCacheManager.setAllowedRunningEntities(detectorId, entityCount);
+            adTaskCacheManager.setDetectorTaskSlots(detectorId, 0);
+            detectorIds.add(detectorId);
+        }
+
+        Set<String> finishedEntities = ConcurrentHashMap.newKeySet();
+        AtomicInteger errors = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (String detectorId : detectorIds) {
+            for (int i = 0; i < threadsPerDetector; i++) {
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                        String entity;
+                        while ((entity = adTaskCacheManager.pollEntity(detectorId)) != null) {
+                            adTaskCacheManager.getAndDecreaseEntityTaskLanes(detectorId);
+                            adTaskCacheManager.scaleUpDetectorTaskSlots(detectorId, 1);
+                            adTaskCacheManager.moveToRunningEntity(detectorId, entity);
+                            // an entity is always in one of the queues until it is removed
+                            if (!adTaskCacheManager.hasEntity(detectorId)
+                                || !adTaskCacheManager.removeRunningEntity(detectorId, entity)
+                                || !finishedEntities.add(detectorId + entity)) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }));
+            }
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, errors.get());
+        assertEquals(detectorCount * entityCount, finishedEntities.size());
+        for (String detectorId : detectorIds) {
+            assertFalse(adTaskCacheManager.hasEntity(detectorId));
+            assertEquals(0, adTaskCacheManager.getAvailableNewEntityTaskLanes(detectorId));
+            assertEquals(entityCount, adTaskCacheManager.getDetectorTaskSlots(detectorId));
+        }
+    }
+
+    public void testConcurrentBatchTasksOfMultipleDetectors() throws Exception {
+        when(memoryTracker.canAllocateReserved(anyLong())).thenReturn(true);
+        int maxTasks = AnomalyDetectorSettings.MAX_BATCH_TASK_PER_NODE.get(settings);
+        int detectorCount = 8;
+        List<ADTask> tasks = new ArrayList<>();
+        for (int i = 0; i < detectorCount; i++) {
+            tasks.add(TestHelpers.randomAdTask());
+        }
+
+        AtomicInteger added = new AtomicInteger(0);
+        AtomicInteger rejected = new AtomicInteger(0);
+        AtomicInteger errors = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (ADTask task : tasks) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    adTaskCacheManager.add(task);
+                    added.incrementAndGet();
+                } catch (LimitExceededException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // tasks of different detectors together never exceed the node limit
+        assertEquals(0, errors.get());
+        assertEquals(maxTasks, added.get());
+        assertEquals(detectorCount - maxTasks, rejected.get());
+        assertEquals(maxTasks, adTaskCacheManager.size());
+
+        // removing a task releases its slot
+        ADTask runningTask = tasks.stream().filter(task -> adTaskCacheManager.contains(task.getTaskId())).findFirst().get();
+        adTaskCacheManager.remove(runningTask.getTaskId(), runningTask.getConfigId(), runningTask.getConfigLevelTaskId());
+        ADTask newTask = TestHelpers.randomAdTask();
+        adTaskCacheManager.add(newTask);
+        assertTrue(adTaskCacheManager.contains(newTask.getTaskId()));
+        expectThrows(LimitExceededException.class, () -> adTaskCacheManager.add(TestHelpers.randomAdTask()));
+    }
+
     public void testTaskLanes() throws IOException {
         List<String> result = addHCDetectorCache();
         String detectorId = result.get(0);
@@ -13,6 +13,7 @@ package org.opensearch.ad.transport;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -32,5 +33,15 @@ public class ADResultBulkResponseTests extends OpenSearchTestCase {
         StreamInput streamInput = output.bytes().streamInput();
         ResultBulkResponse readResponse = new ResultBulkResponse(streamInput);
         assertTrue(readResponse.hasFailures());
+        assertTrue(readResponse.getRejectedResultPositions().isEmpty());
+    }
+
+    public void testSerializeRejectedResults() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        ResultBulkResponse response = new ResultBulkResponse(null, Arrays.asList(0, 2));
+        response.writeTo(output);
+        ResultBulkResponse readResponse = new ResultBulkResponse(output.bytes().streamInput());
+        assertFalse(readResponse.hasFailures());
+        assertEquals(Arrays.asList(0, 2), readResponse.getRejectedResultPositions());
     }
 }
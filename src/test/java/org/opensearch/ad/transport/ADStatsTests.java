@@ -20,7 +20,6 @@ import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +46,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.timeseries.constant.CommonName;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.stats.StatNames;
 import org.opensearch.timeseries.transport.StatsNodeRequest;
@@ -156,7 +156,7 @@ public class ADStatsTests extends OpenSearchTestCase {
             clock,
             0.1f,
             Optional.empty(),
-            new ArrayDeque<>()
+            new SampleBuffer()
         );
         Map<String, Object> stats = state.getModelStateAsMap();
 
@@ -10,6 +10,7 @@ import java.util.List;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.ad.caching.ADCacheProvider;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
 import org.opensearch.ad.task.ADTaskCacheManager;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
@@ -37,9 +38,10 @@ public class DelegateADProfileTransportAction extends ADProfileTransportAction {
         ActionFilters actionFilters,
         ADTaskCacheManager taskCacheManager,
         ADCacheProvider cacheProvider,
-        Settings settings
+        Settings settings,
+        ADResultWriteAdmission resultWriteAdmission
     ) {
-        super(threadPool, clusterService, transportService, actionFilters, taskCacheManager, cacheProvider, settings);
+        super(threadPool, clusterService, transportService, actionFilters, taskCacheManager, cacheProvider, settings, resultWriteAdmission);
     }
 
     @Override
@@ -27,9 +27,11 @@ import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.ad.ADIntegTestCase;
+import org.opensearch.ad.caching.TopAnomalyRollup;
 import org.opensearch.ad.constant.ADCommonName;
 import org.opensearch.ad.model.AnomalyResultBucket;
 import org.opensearch.ad.transport.handler.ADSearchHandler;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregation;
@@ -38,6 +40,7 @@ import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.timeseries.TestHelpers;
+import org.opensearch.timeseries.util.DiscoveryNodeFilterer;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -45,6 +48,7 @@ import com.google.common.collect.ImmutableList;
 
 public class SearchTopAnomalyResultTransportActionTests extends ADIntegTestCase {
     private SearchTopAnomalyResultTransportAction action;
+    private ADSearchHandler searchHandler;
 
     // Helper method to generate the Aggregations obj using the list of result buckets
     private Aggregations generateAggregationsFromBuckets(List<AnomalyResultBucket> buckets, Map<String, Object> mockAfterKeyValue) {
@@ -84,11 +88,15 @@ public class SearchTopAnomalyResultTransportActionTests extends ADIntegTestCase
     @Before
     public void setUp() throws Exception {
         super.setUp();
+        searchHandler = mock(ADSearchHandler.class);
         action = new SearchTopAnomalyResultTransportAction(
             mock(TransportService.class),
             mock(ActionFilters.class),
-            mock(ADSearchHandler.class),
-            mock(Client.class)
+            searchHandler,
+            mock(Client.class),
+            mock(DiscoveryNodeFilterer.class),
+            mock(TopAnomalyRollup.class),
+            clusterService()
         );
     }
 
@@ -358,4 +366,16 @@ public class SearchTopAnomalyResultTransportActionTests extends ADIntegTestCase
         assertEquals(expectedResponseBucket1, capturedResponse.getAnomalyResultBuckets().get(1));
         assertEquals(expectedResponseBucket3, capturedResponse.getAnomalyResultBuckets().get(2));
     }
+
+    public void testServeFromRollupOnlyWithoutResultFiltering() {
+        User user = TestHelpers.randomUser();
+        when(searchHandler.isFilteredByBackendRoles(user)).thenReturn(false);
+        assertTrue(action.canServeFromRollup(user, null));
+        // results in custom result indices are subject to the permissions of the user
+        assertFalse(action.canServeFromRollup(user, "custom-result-index-name"));
+
+        // rollups cannot apply the backend role filter of the search path
+        when(searchHandler.isFilteredByBackendRoles(user)).thenReturn(true);
+        assertFalse(action.canServeFromRollup(user, null));
+    }
 }
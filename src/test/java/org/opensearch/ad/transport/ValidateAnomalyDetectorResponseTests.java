@@ -12,12 +12,15 @@
 package org.opensearch.ad.transport;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Test;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.constant.CommonMessages;
@@ -103,4 +106,26 @@ public class ValidateAnomalyDetectorResponseTests extends AbstractTimeSeriesTest
         ValidateConfigResponse readResponse = ValidateAnomalyDetectorAction.INSTANCE.getResponseReader().read(streamInput);
         assertEquals(issue, readResponse.getIssue());
     }
+
+    public void testResponseWithCheckTimings() throws IOException {
+        Map<String, Long> checkTimings = new TreeMap<>();
+        checkTimings.put("interval_recommendation", 12L);
+        checkTimings.put("total", 20L);
+        ValidateConfigResponse response = new ValidateConfigResponse(null, checkTimings);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        ValidateConfigResponse readResponse = ValidateAnomalyDetectorAction.INSTANCE
+            .getResponseReader()
+            .read(output.bytes().streamInput());
+        assertEquals(checkTimings, readResponse.getCheckTimings());
+
+        // timings are only rendered on request
+        assertEquals("{}", TestHelpers.xContentBuilderToString(response.toXContent(TestHelpers.builder())));
+        ToXContent.Params params = new ToXContent.MapParams(Collections.singletonMap(ValidateConfigResponse.CHECK_TIMINGS_PARAM, "true"));
+        assertEquals(
+            "{\"check_timings\":{\"interval_recommendation\":12,\"total\":20}}",
+            TestHelpers.xContentBuilderToString(response.toXContent(TestHelpers.builder(), params))
+        );
+    }
 }
@@ -40,6 +40,7 @@ import org.opensearch.ad.indices.ADIndex;
 import org.opensearch.ad.indices.ADIndexManagement;
 import org.opensearch.ad.model.AnomalyResult;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -77,6 +78,7 @@ public class AnomalyResultBulkIndexHandlerTests extends ADUnitTestCase {
         ClientUtil clientUtil = new ClientUtil(client);
         indexUtils = mock(IndexUtils.class);
         ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.EMPTY_STATE);
         ThreadPool threadPool = mock(ThreadPool.class);
         bulkIndexHandler = new ResultBulkIndexingHandler(
             client,
@@ -48,6 +48,7 @@ public class ForecastIndexMappingTests extends OpenSearchTestCase {
         assertTrue("entity field is missing", mappingJson.path("properties").has("entity"));
         assertTrue("model field is missing", mappingJson.path("properties").has("model"));
         assertTrue("samples field is missing", mappingJson.path("properties").has("samples"));
+        assertTrue("sample_buffer field is missing", mappingJson.path("properties").has("sample_buffer"));
         assertTrue("last_processed_sample field is missing", mappingJson.path("properties").has("last_processed_sample"));
     }
 
@@ -30,6 +30,7 @@ import org.opensearch.forecast.caching.ForecastPriorityCache;
 import org.opensearch.forecast.model.Forecaster;
 import org.opensearch.forecast.ratelimit.ForecastColdStartWorker;
 import org.opensearch.forecast.ratelimit.ForecastSaveResultStrategy;
+import org.opensearch.forecast.task.ForecastRunOnceTracker;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.Scheduler.ScheduledCancellable;
 import org.opensearch.threadpool.ThreadPool;
@@ -82,7 +83,8 @@ public class ForecastRealTimeInferencerTests extends OpenSearchTestCase {
             mock(ForecastSaveResultStrategy.class),
             cacheProvider,
             threadPool,
-            clock
+            clock,
+            mock(ForecastRunOnceTracker.class)
         );
 
         // Set up the Config object with an interval duration
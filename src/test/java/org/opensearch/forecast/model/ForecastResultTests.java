@@ -100,4 +100,34 @@ public class ForecastResultTests extends OpenSearchTestCase {
             assertTrue("Parsing forecast result doesn't work", result.get(i).hashCode() == parsedForecastResult.hashCode());
         }
     }
+
+    public void testIndexEntityAttributes() throws IOException {
+        Entity entity = Entity.createSingleAttributeEntity("host.name", "server_1");
+        ForecastResult forecastResult = ForecastResult
+            .fromRawRCFCasterResult(
+                "testId",
+                1000,
+                0.9,
+                Collections.singletonList(new FeatureData("f1", "f1", 1.0d)),
+                Instant.ofEpochMilli(1000),
+                Instant.ofEpochMilli(2000),
+                Instant.ofEpochMilli(2000),
+                Instant.ofEpochMilli(3000),
+                null,
+                Optional.of(entity),
+                null,
+                2,
+                "testModelId",
+                new float[] { 1.0f },
+                new float[] { 1.5f },
+                new float[] { 0.5f },
+                null
+            )
+            .get(1);
+
+        String forecastResultString = TestHelpers
+            .xContentBuilderToString(forecastResult.toXContent(TestHelpers.builder(), ToXContent.EMPTY_PARAMS));
+        assertTrue(forecastResultString, forecastResultString.contains("\"entity_attributes\":[\"host.name=server_1\"]"));
+        assertEquals(forecastResult, ForecastResult.parse(TestHelpers.parser(forecastResultString)));
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressAction;
+import org.opensearch.forecast.transport.ForecastRunOnceProgressRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class ForecastRunOnceTrackerTests extends OpenSearchTestCase {
+    private static final String CONFIG_ID = "forecaster";
+    private static final String TASK_ID = "task";
+    private static final String COORDINATING_NODE_ID = "coordinating";
+
+    private Client client;
+    private Clock clock;
+    private ForecastRunOnceTracker tracker;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(client.threadPool()).thenReturn(threadPool);
+        ClusterService clusterService = mock(ClusterService.class);
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("model");
+        when(clusterService.localNode()).thenReturn(localNode);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L);
+        tracker = new ForecastRunOnceTracker(client, clusterService, clock);
+    }
+
+    public void testCompleteAfterAllSentAndReported() {
+        AtomicInteger completed = new AtomicInteger();
+        tracker.onEntitiesSent(TASK_ID, 3);
+        tracker.whenComplete(TASK_ID, completed::incrementAndGet);
+        tracker.onProgress(TASK_ID, "node1", 2);
+        tracker.onProgress(TASK_ID, "node2", 1);
+        // more pages may follow
+        assertEquals(0, completed.get());
+
+        tracker.onEntitiesSent(TASK_ID, 1);
+        tracker.onAllSent(TASK_ID);
+        assertEquals(0, completed.get());
+        // an out of order report does not lower the count
+        tracker.onProgress(TASK_ID, "node1", 3);
+        tracker.onProgress(TASK_ID, "node1", 1);
+        assertEquals(1, completed.get());
+
+        // the task is no longer tracked
+        tracker.onProgress(TASK_ID, "node2", 5);
+        assertEquals(1, completed.get());
+        assertFalse(tracker.cancel(TASK_ID));
+    }
+
+    public void testCompleteWithoutEntities() {
+        AtomicInteger completed = new AtomicInteger();
+        tracker.onAllSent(TASK_ID);
+        tracker.whenComplete(TASK_ID, completed::incrementAndGet);
+        assertEquals(1, completed.get());
+    }
+
+    public void testCancel() {
+        AtomicInteger completed = new AtomicInteger();
+        tracker.onEntitiesSent(TASK_ID, 1);
+        tracker.onAllSent(TASK_ID);
+        tracker.whenComplete(TASK_ID, completed::incrementAndGet);
+        assertTrue(tracker.cancel(TASK_ID));
+        tracker.onProgress(TASK_ID, "node1", 1);
+        assertEquals(0, completed.get());
+    }
+
+    public void testReportAfterEntitiesDoneAndResultsIndexed() {
+        tracker.onEntitiesAccepted(TASK_ID, CONFIG_ID, COORDINATING_NODE_ID, 2);
+        tracker.onEntityDone(TASK_ID);
+        tracker.onResultQueued(TASK_ID);
+        tracker.onResultQueued(TASK_ID);
+        // failed to score, cold start again
+        tracker.onEntityRequeued(TASK_ID);
+        tracker.onEntityDone(TASK_ID);
+        tracker.onResultsIndexed(TASK_ID, 2);
+        verify(client, never()).execute(eq(ForecastRunOnceProgressAction.INSTANCE), any(), any());
+
+        tracker.onResultQueued(TASK_ID);
+        tracker.onEntityDone(TASK_ID);
+        verify(client, never()).execute(eq(ForecastRunOnceProgressAction.INSTANCE), any(), any());
+        tracker.onResultsIndexed(TASK_ID, 1);
+
+        ArgumentCaptor<ForecastRunOnceProgressRequest> request = ArgumentCaptor.forClass(ForecastRunOnceProgressRequest.class);
+        verify(client, times(1)).execute(eq(ForecastRunOnceProgressAction.INSTANCE), request.capture(), any());
+        assertEquals(CONFIG_ID, request.getValue().getConfigId());
+        assertEquals(TASK_ID, request.getValue().getTaskId());
+        assertEquals(COORDINATING_NODE_ID, request.getValue().getCoordinatingNodeId());
+        assertEquals("model", request.getValue().getModelNodeId());
+        // the requeued entity counts once
+        assertEquals(2, request.getValue().getDoneEntities());
+
+        // nothing new to report
+        tracker.onResultsIndexed(TASK_ID, 0);
+        verify(client, times(1)).execute(eq(ForecastRunOnceProgressAction.INSTANCE), any(), any());
+    }
+
+    public void testRequeuedEntityDoesNotCompleteEarly() {
+        AtomicInteger completed = new AtomicInteger();
+        // two entities sent to this node and one to another node
+        tracker.onEntitiesSent(TASK_ID, 3);
+        tracker.onAllSent(TASK_ID);
+        tracker.whenComplete(TASK_ID, completed::incrementAndGet);
+
+        tracker.onEntitiesAccepted(TASK_ID, CONFIG_ID, COORDINATING_NODE_ID, 2);
+        tracker.onEntityDone(TASK_ID);
+        // the second entity fails to score, cold starts again and is done after scoring and after cold start
+        tracker.onEntityRequeued(TASK_ID);
+        tracker.onEntityDone(TASK_ID);
+        tracker.onEntityDone(TASK_ID);
+
+        ArgumentCaptor<ForecastRunOnceProgressRequest> request = ArgumentCaptor.forClass(ForecastRunOnceProgressRequest.class);
+        verify(client, times(1)).execute(eq(ForecastRunOnceProgressAction.INSTANCE), request.capture(), any());
+        assertEquals(2, request.getValue().getDoneEntities());
+        tracker.onProgress(TASK_ID, request.getValue().getModelNodeId(), request.getValue().getDoneEntities());
+        // the entity on the other node is still running
+        assertEquals(0, completed.get());
+
+        tracker.onProgress(TASK_ID, "node2", 1);
+        assertEquals(1, completed.get());
+    }
+
+    public void testIgnoreUntrackedTasks() {
+        tracker.onEntityDone(null);
+        tracker.onEntityDone("other");
+        tracker.onResultQueued(null);
+        assertEquals(0, tracker.getTaskCount());
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testMaintenance() {
+        tracker.onEntitiesSent(TASK_ID, 1);
+        tracker.onEntitiesAccepted("task2", CONFIG_ID, COORDINATING_NODE_ID, 1);
+        assertEquals(2, tracker.getTaskCount());
+
+        when(clock.millis()).thenReturn(1000L + ForecastRunOnceTracker.STATE_TTL_MILLIS + 1);
+        tracker.maintenance();
+        assertEquals(0, tracker.getTaskCount());
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.forecast.transport;
+
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.apache.lucene.util.automaton.RegExp;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SearchTopForecastResultTransportActionTests extends OpenSearchTestCase {
+    private static boolean matches(String categoryField, String entityAttribute) {
+        String regex = SearchTopForecastResultTransportAction.getEntityAttributeRegex(categoryField);
+        return new CharacterRunAutomaton(new RegExp(regex).toAutomaton()).run(entityAttribute);
+    }
+
+    public void testEntityAttributeRegex() {
+        assertTrue(matches("host", "host=server_1"));
+        assertTrue(matches("host", "host="));
+        assertFalse(matches("host", "service=host"));
+        assertFalse(matches("host", "hostname=server_1"));
+
+        // regex operators in category fields are literal
+        assertTrue(matches("host.name", "host.name=server_1"));
+        assertFalse(matches("host.name", "host_name=server_1"));
+        assertTrue(matches("a+b(c)", "a+b(c)=1"));
+        assertFalse(matches("a+b(c)", "aab(c)=1"));
+    }
+}
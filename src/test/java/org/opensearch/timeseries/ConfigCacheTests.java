@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.ad.model.AnomalyDetector;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.constant.CommonName;
+import org.opensearch.timeseries.model.Config;
+
+public class ConfigCacheTests extends OpenSearchTestCase {
+    private Clock clock;
+    private ConfigCache cache;
+    private AnomalyDetector detector;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000));
+        cache = new ConfigCache(TestHelpers.xContentRegistry(), clock, Duration.ofHours(1), Duration.ofMinutes(5));
+        detector = TestHelpers.randomAnomalyDetector(TestHelpers.randomUiMetadata(), null);
+    }
+
+    private GetResponse getResponse(long seqNo, long primaryTerm) throws IOException {
+        BytesReference source = BytesReference.bytes(detector.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        return new GetResponse(
+            new GetResult(
+                CommonName.CONFIG_INDEX,
+                detector.getId(),
+                seqNo,
+                primaryTerm,
+                1,
+                true,
+                source,
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            )
+        );
+    }
+
+    public void testReuseParsedConfigOfSameVersion() throws IOException {
+        assertTrue(cache.get(detector.getId()).isEmpty());
+
+        Config parsed = cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        assertEquals(detector, parsed);
+        assertSame(parsed, cache.get(detector.getId()).get());
+        assertSame(parsed, cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation()));
+
+        // a newer document or a new primary is parsed again
+        assertNotSame(parsed, cache.parse(getResponse(6, 1), AnalysisType.AD, cache.generation()));
+        Config reparsed = cache.parse(getResponse(6, 2), AnalysisType.AD, cache.generation());
+        assertSame(reparsed, cache.get(detector.getId()).get());
+
+        // documents without a seq_no are never considered the same version
+        Config unversioned = cache.parse(getResponse(UNASSIGNED_SEQ_NO, 0), AnalysisType.AD, cache.generation());
+        assertNotSame(unversioned, cache.parse(getResponse(UNASSIGNED_SEQ_NO, 0), AnalysisType.AD, cache.generation()));
+    }
+
+    public void testInvalidateAndExpire() throws IOException {
+        cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        cache.invalidate(detector.getId());
+        assertTrue(cache.get(detector.getId()).isEmpty());
+
+        cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        cache.maintenance();
+        assertTrue(cache.get(detector.getId()).isPresent());
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000).plus(Duration.ofHours(2)));
+        cache.maintenance();
+        assertTrue(cache.get(detector.getId()).isEmpty());
+        assertEquals(0, cache.getStats().get(ConfigCache.SIZE));
+    }
+
+    public void testRevalidate() throws IOException {
+        Config parsed = cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        // accesses do not postpone validation
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000).plus(Duration.ofMinutes(3)));
+        assertTrue(cache.get(detector.getId()).isPresent());
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000).plus(Duration.ofMinutes(6)));
+        assertTrue(cache.get(detector.getId()).isEmpty());
+
+        // an unchanged document confirms the cached config
+        assertSame(parsed, cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation()));
+        assertSame(parsed, cache.get(detector.getId()).get());
+    }
+
+    public void testNotCacheReadAcrossInvalidation() throws IOException {
+        long readGeneration = cache.generation();
+        // the config is updated while the old document is being read
+        cache.invalidate(detector.getId());
+        Config stale = cache.parse(getResponse(5, 1), AnalysisType.AD, readGeneration);
+        assertEquals(detector, stale);
+        assertTrue(cache.get(detector.getId()).isEmpty());
+
+        cache.parse(getResponse(6, 1), AnalysisType.AD, cache.generation());
+        assertTrue(cache.get(detector.getId()).isPresent());
+    }
+
+    public void testStats() throws IOException {
+        // a miss is counted once, when the fetched document is parsed
+        cache.get(detector.getId());
+        cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        cache.get(detector.getId());
+        cache.get(detector.getId());
+
+        assertEquals(1, cache.getStats().get(ConfigCache.SIZE));
+        assertEquals(2L, cache.getStats().get(ConfigCache.HIT_COUNT));
+        assertEquals(1L, cache.getStats().get(ConfigCache.MISS_COUNT));
+
+        // a revalidation that reuses the cached config is a single hit
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000).plus(Duration.ofMinutes(6)));
+        assertTrue(cache.get(detector.getId()).isEmpty());
+        cache.parse(getResponse(5, 1), AnalysisType.AD, cache.generation());
+        assertEquals(3L, cache.getStats().get(ConfigCache.HIT_COUNT));
+        assertEquals(1L, cache.getStats().get(ConfigCache.MISS_COUNT));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JobExecutionSpreaderTests extends OpenSearchTestCase {
+    private Clock clock;
+    private JobExecutionSpreader spreader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        spreader = new JobExecutionSpreader(clock);
+    }
+
+    public void testNoOffsetWhenDisabled() {
+        assertEquals(0, spreader.getPhaseOffsetMillis("abc", 60_000));
+    }
+
+    public void testStableOffsetWithinBudget() {
+        spreader.setMaxSpread(TimeValue.timeValueSeconds(20));
+        Set<Long> offsets = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            String configId = "config" + i;
+            long offset = spreader.getPhaseOffsetMillis(configId, 60_000);
+            assertTrue(offset >= 0 && offset < 20_000);
+            assertEquals(offset, spreader.getPhaseOffsetMillis(configId, 60_000));
+            offsets.add(offset / 1000);
+        }
+        // config ids spread over most of the 20 seconds
+        assertTrue(offsets.size() > 15);
+
+        // capped at half of the interval
+        for (int i = 0; i < 200; i++) {
+            assertTrue(spreader.getPhaseOffsetMillis("config" + i, 10_000) < 5_000);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testJobStartStats() {
+        when(clock.millis()).thenReturn(1_000_500L);
+        spreader.recordJobStart();
+        spreader.recordJobStart();
+        when(clock.millis()).thenReturn(1_001_200L);
+        spreader.recordJobStart();
+
+        Map<String, Object> stats = spreader.getJobStartStats();
+        assertEquals(2L, stats.get(JobExecutionSpreader.MAX_STARTS_PER_SECOND));
+        Map<String, Long> perSecond = (Map<String, Long>) stats.get(JobExecutionSpreader.STARTS_PER_SECOND);
+        assertEquals(Long.valueOf(2), perSecond.get("1000"));
+        assertEquals(Long.valueOf(1), perSecond.get("1001"));
+
+        // counts out of the window are dropped, and reused slots restart from zero
+        when(clock.millis()).thenReturn(1_061_100L);
+        spreader.recordJobStart();
+        stats = spreader.getJobStartStats();
+        perSecond = (Map<String, Long>) stats.get(JobExecutionSpreader.STARTS_PER_SECOND);
+        assertEquals(1, perSecond.size());
+        assertEquals(Long.valueOf(1), perSecond.get("1061"));
+        assertEquals(1L, stats.get(JobExecutionSpreader.MAX_STARTS_PER_SECOND));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.jobscheduler.spi.JobExecutionContext;
+import org.opensearch.jobscheduler.spi.LockModel;
+import org.opensearch.jobscheduler.spi.utils.LockService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class JobLeaseManagerTests extends OpenSearchTestCase {
+    private static final String CONFIG_ID = "123";
+    private static final long INTERVAL_MILLIS = 60_000;
+
+    private Clock clock;
+    private LockService lockService;
+    private JobExecutionContext context;
+    private ThreadPool threadPool;
+    private JobLeaseManager leaseManager;
+    private LockModel lock;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        lockService = mock(LockService.class);
+        context = mock(JobExecutionContext.class);
+        when(context.getJobIndexName()).thenReturn(".opendistro-anomaly-detector-jobs");
+        when(context.getJobId()).thenReturn(CONFIG_ID);
+        threadPool = mock(ThreadPool.class);
+
+        leaseManager = new JobLeaseManager(AnalysisType.AD, clock);
+        leaseManager.setThreadPool(threadPool, TimeSeriesAnalyticsPlugin.AD_THREAD_POOL_NAME);
+        leaseManager.setLeaseDuration(TimeValue.timeValueMinutes(10));
+
+        lock = lockAt(0);
+        doAnswer(invocation -> {
+            ActionListener<LockModel> listener = invocation.getArgument(3);
+            listener.onResponse(lock);
+            return null;
+        }).when(lockService).acquireLockWithId(anyString(), anyLong(), anyString(), any(ActionListener.class));
+    }
+
+    private LockModel lockAt(long epochMillis) {
+        return new LockModel(".opendistro-anomaly-detector-jobs", CONFIG_ID, Instant.ofEpochMilli(epochMillis), 600, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LockModel acquire() {
+        LockModel[] acquired = new LockModel[1];
+        leaseManager
+            .acquire(CONFIG_ID, 60, INTERVAL_MILLIS, context, lockService, ActionListener.wrap(l -> acquired[0] = l, e -> fail()));
+        return acquired[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testReuseLeaseAcrossRuns() {
+        assertEquals(lock, acquire());
+        leaseManager.finishRun(CONFIG_ID);
+        when(clock.millis()).thenReturn(INTERVAL_MILLIS);
+        assertEquals(lock, acquire());
+        leaseManager.finishRun(CONFIG_ID);
+        when(clock.millis()).thenReturn(2 * INTERVAL_MILLIS);
+        assertEquals(lock, acquire());
+
+        // one lock index write for three runs
+        verify(lockService, times(1)).acquireLockWithId(anyString(), eq(600L), eq(CONFIG_ID), any(ActionListener.class));
+        verify(threadPool, times(1)).scheduleWithFixedDelay(any(), eq(TimeValue.timeValueSeconds(150)), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRenewExpiringLeases() {
+        acquire();
+        LockModel renewed = lockAt(400_000);
+        doAnswer(invocation -> {
+            ActionListener<LockModel> listener = invocation.getArgument(1);
+            listener.onResponse(renewed);
+            return null;
+        }).when(lockService).renewLock(any(), any(ActionListener.class));
+
+        // more than half of the lease left: no renewal yet
+        when(clock.millis()).thenReturn(299_000L);
+        acquire();
+        leaseManager.renewLeases();
+        verify(lockService, never()).renewLock(any(), any(ActionListener.class));
+
+        when(clock.millis()).thenReturn(400_000L);
+        acquire();
+        leaseManager.finishRun(CONFIG_ID);
+        leaseManager.renewLeases();
+        verify(lockService, times(1)).renewLock(eq(lock), any(ActionListener.class));
+        assertEquals(renewed, acquire());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRefuseOverlappingRuns() {
+        assertEquals(lock, acquire());
+
+        // the previous run of the job is still in flight
+        when(clock.millis()).thenReturn(INTERVAL_MILLIS / 2);
+        assertNull(acquire());
+
+        leaseManager.finishRun(CONFIG_ID);
+        assertEquals(lock, acquire());
+        // still a single lease and no extra lock index writes
+        assertEquals(1, leaseManager.getLeaseCount());
+        verify(lockService, times(1)).acquireLockWithId(anyString(), anyLong(), anyString(), any(ActionListener.class));
+        verify(lockService, never()).release(any(), any(ActionListener.class));
+    }
+
+    public void testStuckRunStopsBlockingAfterLockDuration() {
+        assertEquals(lock, acquire());
+        when(clock.millis()).thenReturn(59_999L);
+        assertNull(acquire());
+        // the job lock duration is 60 seconds
+        when(clock.millis()).thenReturn(60_000L);
+        assertEquals(lock, acquire());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testReleaseIdleLeases() {
+        acquire();
+        when(clock.millis()).thenReturn((JobLeaseManager.MAX_IDLE_INTERVALS + 1) * INTERVAL_MILLIS);
+        leaseManager.renewLeases();
+        verify(lockService, times(1)).release(eq(lock), any(ActionListener.class));
+        assertEquals(0, leaseManager.getLeaseCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testReleaseOnFailure() {
+        acquire();
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+        leaseManager.release(CONFIG_ID, lockService, null, listener);
+        verify(lockService, times(1)).release(eq(lock), eq(listener));
+        assertEquals(0, leaseManager.getLeaseCount());
+
+        // the next run acquires a new lease
+        acquire();
+        verify(lockService, times(2)).acquireLockWithId(anyString(), anyLong(), anyString(), any(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testLockHeldByOtherNode() {
+        doAnswer(invocation -> {
+            ActionListener<LockModel> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(lockService).acquireLockWithId(anyString(), anyLong(), anyString(), any(ActionListener.class));
+        assertNull(acquire());
+        assertEquals(0, leaseManager.getLeaseCount());
+        verify(threadPool, never()).scheduleWithFixedDelay(any(), any(), anyString());
+    }
+}
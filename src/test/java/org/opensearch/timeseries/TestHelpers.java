@@ -1052,7 +1052,7 @@ public class TestHelpers {
             Instant.now().plus(10, ChronoUnit.MINUTES).toEpochMilli(),
             detectorId,
             RequestPriority.MEDIUM,
-            randomHCADAnomalyDetectResult(score, grade),
+            randomHCADAnomalyDetectResult(detectorId, null, score, grade, null, null, null),
             null,
             null
         );
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Locale;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.ml.ModelState;
+
+public class CompactModelStoreTests extends OpenSearchTestCase {
+    private CompactModelStore<String> store;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        store = new CompactModelStore<>(
+            model -> model.getBytes(StandardCharsets.UTF_8),
+            (bytes, offset, length) -> new String(bytes, offset, length, StandardCharsets.UTF_8),
+            // a model "processed" as many updates as it has characters
+            model -> model.length(),
+            64
+        );
+    }
+
+    private static String model(int i) {
+        return String.format(Locale.ROOT, "model-%04d", i);
+    }
+
+    public void testPutGetFree() {
+        int slot1 = store.put(CompactModelStore.NO_SLOT, "model1");
+        int slot2 = store.put(CompactModelStore.NO_SLOT, "model2");
+        assertNotEquals(slot1, slot2);
+        assertEquals("model1", store.get(slot1));
+        assertEquals("model2", store.get(slot2));
+        assertEquals(2, store.size());
+        assertEquals(12, store.getLiveBytes());
+
+        // replacing a model keeps its slot
+        assertEquals(slot1, store.put(slot1, "model1-updated"));
+        assertEquals("model1-updated", store.get(slot1));
+        assertEquals(2, store.size());
+        assertEquals(20, store.getLiveBytes());
+
+        store.free(slot1);
+        assertNull(store.get(slot1));
+        assertEquals(1, store.size());
+        assertEquals(6, store.getLiveBytes());
+
+        // freed slots are reused
+        assertEquals(slot1, store.put(CompactModelStore.NO_SLOT, "model3"));
+        assertEquals("model3", store.get(slot1));
+    }
+
+    public void testFailedEncoding() {
+        CompactModelStore<String> failing = new CompactModelStore<>(model -> null, (bytes, offset, length) -> "", model -> 0, 64);
+        assertEquals(CompactModelStore.NO_SLOT, failing.put(CompactModelStore.NO_SLOT, "model"));
+        assertEquals(0, failing.size());
+    }
+
+    public void testReclaimSpace() {
+        int[] slots = new int[100];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = store.put(CompactModelStore.NO_SLOT, model(i));
+        }
+        long allocatedBytes = store.getAllocatedBytes();
+        assertTrue(allocatedBytes >= store.getLiveBytes());
+
+        // keep rewriting a few models so that most bytes become garbage
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < slots.length; i += 10) {
+                assertEquals(slots[i], store.put(slots[i], model(i)));
+            }
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (i % 10 != 0) {
+                store.free(slots[i]);
+            }
+        }
+        assertEquals(10, store.size());
+        assertTrue(store.getAllocatedBytes() < allocatedBytes);
+        for (int i = 0; i < slots.length; i += 10) {
+            assertEquals(model(i), store.get(slots[i]));
+        }
+
+        // a model larger than a page gets its own page
+        String large = "x".repeat(200);
+        int largeSlot = store.put(CompactModelStore.NO_SLOT, large);
+        assertEquals(large, store.get(largeSlot));
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(0, store.getAllocatedBytes());
+        assertNull(store.get(largeSlot));
+    }
+
+    public void testPackModelState() {
+        ModelState<String> state = new ModelState<>("model", "modelId", "configId", "type", Clock.systemUTC());
+        // not attached to a store
+        assertFalse(state.pack());
+
+        state.setCompactModelStore(store);
+        assertTrue(state.pack());
+        assertTrue(state.isPacked());
+        assertTrue(state.hasModel());
+        assertEquals("model", state.getModel().get());
+        assertEquals(1, store.size());
+
+        state.unpack();
+        assertFalse(state.isPacked());
+        assertTrue(state.pack());
+
+        // a new model replaces the packed one
+        state.setModel("new model");
+        assertEquals(0, store.size());
+        assertTrue(state.pack());
+        assertEquals("new model", state.getModel().get());
+
+        state.detachCompactModelStore();
+        assertFalse(state.isPacked());
+        assertEquals("new model", state.getModel().get());
+        assertEquals(0, store.size());
+        assertFalse(state.pack());
+    }
+
+    public void testModelUpdates() {
+        int slot = store.put(CompactModelStore.NO_SLOT, "model1");
+        assertEquals(6, store.getUpdates(slot));
+        assertEquals(slot, store.put(slot, "model1-updated"));
+        assertEquals(14, store.getUpdates(slot));
+        store.free(slot);
+        assertEquals(-1, store.getUpdates(slot));
+
+        ModelState<String> state = new ModelState<>("model", "modelId", "configId", "type", Clock.systemUTC());
+        assertEquals(5, state.getModelUpdates(String::length));
+        state.setCompactModelStore(store);
+        assertTrue(state.pack());
+        // the update count of a packed model is read without deserializing it
+        assertEquals(5, state.getModelUpdates(model -> {
+            throw new AssertionError("packed model is deserialized");
+        }));
+
+        state.setModel(null);
+        assertEquals(-1, state.getModelUpdates(String::length));
+    }
+}
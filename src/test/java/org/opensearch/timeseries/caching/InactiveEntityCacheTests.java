@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.caching;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InactiveEntityCacheTests extends OpenSearchTestCase {
+    private AtomicReference<Instant> clockTime;
+    private Clock clock;
+    private Instant now;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        now = Instant.ofEpochSecond(1_700_000_000L);
+        clockTime = new AtomicReference<>(now.plusMillis(randomLongBetween(0, 1_000_000_000L)));
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> clockTime.get());
+    }
+
+    private InactiveEntityCache createCache(int maxEntries) {
+        return new InactiveEntityCache(Duration.ofHours(1), maxEntries, 4, clock);
+    }
+
+    private void advance(Duration duration) {
+        clockTime.updateAndGet(time -> time.plus(duration));
+    }
+
+    public void testPutAndGet() {
+        InactiveEntityCache cache = createCache(1000);
+        assertTrue(Float.isNaN(cache.getPriority("model1")));
+        assertFalse(cache.contains("model1"));
+        assertEquals(-1, cache.getLastUsedMillis("model1"));
+
+        cache.put("model1", 1.5f, now);
+        assertEquals(1.5f, cache.getPriority("model1"), 0.0001);
+        assertTrue(cache.contains("model1"));
+        assertEquals(now.toEpochMilli(), cache.getLastUsedMillis("model1"));
+
+        // replace the record
+        cache.put("model1", 2.5f, now.plusSeconds(10));
+        assertEquals(2.5f, cache.getPriority("model1"), 0.0001);
+        assertEquals(now.plusSeconds(10).toEpochMilli(), cache.getLastUsedMillis("model1"));
+        assertEquals(1, cache.size());
+    }
+
+    public void testUpdatePriority() {
+        InactiveEntityCache cache = createCache(1000);
+        // a new entity starts from 0 and records the given last used time
+        assertEquals(1f, cache.updatePriority("model1", now, priority -> priority + 1), 0.0001);
+        assertEquals(now.toEpochMilli(), cache.getLastUsedMillis("model1"));
+
+        // an existing entity keeps its last used time
+        assertEquals(2f, cache.updatePriority("model1", now.plusSeconds(10), priority -> priority + 1), 0.0001);
+        assertEquals(2f, cache.getPriority("model1"), 0.0001);
+        assertEquals(now.toEpochMilli(), cache.getLastUsedMillis("model1"));
+
+        // last used time out of the range of epoch milliseconds
+        cache.updatePriority("model2", Instant.MIN, priority -> priority);
+        assertEquals(Long.MIN_VALUE, cache.getLastUsedMillis("model2"));
+    }
+
+    public void testExpireAfterAccess() {
+        InactiveEntityCache cache = createCache(1000);
+        cache.put("model1", 1f, now);
+        cache.put("model2", 2f, now);
+
+        advance(Duration.ofMinutes(40));
+        // access resets the ttl of model1
+        assertTrue(cache.contains("model1"));
+        advance(Duration.ofMinutes(40));
+        assertTrue(cache.contains("model1"));
+        assertFalse(cache.contains("model2"));
+        assertEquals(1, cache.size());
+
+        // a shorter ttl applies to existing records
+        cache.setTtl(Duration.ofMinutes(10));
+        advance(Duration.ofMinutes(20));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+        assertFalse(cache.contains("model1"));
+    }
+
+    public void testMaxEntries() {
+        int maxEntries = 100;
+        InactiveEntityCache cache = createCache(maxEntries);
+        for (int i = 0; i < 10 * maxEntries; i++) {
+            cache.put("model" + i, i, now);
+            advance(Duration.ofSeconds(1));
+        }
+        // each of the 4 shards holds at most 25 entries
+        assertTrue(cache.size() <= maxEntries);
+        // the most recently added entity is never the eviction victim
+        assertTrue(cache.contains("model" + (10 * maxEntries - 1)));
+    }
+
+    public void testGrowAndCleanUp() {
+        InactiveEntityCache cache = createCache(100_000);
+        int entries = 10_000;
+        for (int i = 0; i < entries; i++) {
+            cache.put("model" + i, i, now);
+        }
+        assertEquals(entries, cache.size());
+        for (int i = 0; i < entries; i++) {
+            assertEquals(i, cache.getPriority("model" + i), 0.0001);
+        }
+
+        // expire half of the entries
+        advance(Duration.ofMinutes(40));
+        for (int i = 0; i < entries; i += 2) {
+            assertTrue(cache.contains("model" + i));
+        }
+        advance(Duration.ofMinutes(40));
+        cache.cleanUp();
+        assertEquals(entries / 2, cache.size());
+        for (int i = 0; i < entries; i++) {
+            assertEquals(i % 2 == 0, cache.contains("model" + i));
+        }
+    }
+
+    public void testClockOutOfRange() {
+        // the cache is created while the clock is at its minimum
+        clockTime.set(Instant.MIN);
+        InactiveEntityCache cache = createCache(1000);
+        cache.put("model1", 1f, now);
+        assertTrue(cache.contains("model1"));
+
+        // the clock jumps to the present; elapsed time saturates instead of overflowing
+        clockTime.set(now);
+        assertFalse(cache.contains("model1"));
+        cache.put("model2", 2f, now);
+        assertTrue(cache.contains("model2"));
+
+        // a clock moving back does not expire anything
+        clockTime.set(Instant.MIN);
+        assertTrue(cache.contains("model2"));
+        cache.put("model3", 3f, Instant.MIN);
+        assertTrue(cache.contains("model3"));
+        assertEquals(Long.MIN_VALUE, cache.getLastUsedMillis("model3"));
+    }
+}
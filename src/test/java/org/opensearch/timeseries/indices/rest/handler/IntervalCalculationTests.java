@@ -11,20 +11,26 @@ import static org.mockito.Mockito.*;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.LongBounds;
@@ -42,6 +48,7 @@ import org.opensearch.timeseries.model.ValidationIssueType;
 import org.opensearch.timeseries.rest.handler.AggregationPrep;
 import org.opensearch.timeseries.rest.handler.IntervalCalculation;
 import org.opensearch.timeseries.rest.handler.IntervalCalculation.IntervalRecommendationListener;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
 import org.opensearch.timeseries.util.SecurityClientUtil;
 import org.opensearch.transport.client.Client;
 
@@ -140,4 +147,138 @@ public class IntervalCalculationTests extends OpenSearchTestCase {
         assertEquals(ValidationIssueType.AGGREGATION, validationException.getType());
         assertEquals(ValidationAspect.MODEL, validationException.getAspect());
     }
+
+    private SearchResponse histogramResponse(String... namesAndBucketCounts) {
+        List<Aggregation> aggregations = new ArrayList<>();
+        for (int i = 0; i < namesAndBucketCounts.length; i += 2) {
+            Histogram histogram = mock(Histogram.class);
+            when(histogram.getName()).thenReturn(namesAndBucketCounts[i]);
+            List<Histogram.Bucket> buckets = new ArrayList<>();
+            int bucketCount = Integer.parseInt(namesAndBucketCounts[i + 1]);
+            for (int j = 0; j < bucketCount; j++) {
+                Histogram.Bucket bucket = mock(Histogram.Bucket.class);
+                // one bucket every 5 minutes
+                when(bucket.getKey()).thenReturn(j * 300_000L);
+                buckets.add(bucket);
+            }
+            doReturn(buckets).when(histogram).getBuckets();
+            aggregations.add(histogram);
+        }
+        SearchResponseSections sections = new SearchResponseSections(
+            new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0),
+            new Aggregations(aggregations),
+            null,
+            false,
+            null,
+            null,
+            1
+        );
+        return new SearchResponse(sections, null, 0, 0, 0, 0L, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+
+    private IntervalCalculation singlePassCalculation(Clock clock) {
+        when(mockConfig.getHistoryIntervals()).thenReturn(40);
+        when(mockConfig.getEnabledFeatureIds()).thenReturn(Collections.emptyList());
+        when(mockConfig.getIndices()).thenReturn(Arrays.asList("index"));
+        when(mockConfig.getTimeField()).thenReturn("timestamp");
+        when(mockConfig.getFilterQuery()).thenReturn(QueryBuilders.matchAllQuery());
+        when(mockConfig.isHighCardinality()).thenReturn(false);
+
+        return new IntervalCalculation(
+            mockConfig,
+            TimeValue.timeValueSeconds(10),
+            mockClient,
+            mockClientUtil,
+            user,
+            AnalysisType.AD,
+            clock,
+            mock(SearchFeatureDao.class),
+            System.currentTimeMillis(),
+            Collections.emptyMap(),
+            true
+        );
+    }
+
+    /**
+     * Answers searches in order: the minimum interval search, the probe of the minimum interval,
+     * then the search of the remaining candidates.
+     */
+    private List<SearchRequest> answerSearches(SearchResponse... responses) {
+        List<SearchRequest> requests = new ArrayList<>();
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            requests.add(request);
+            ActionListener<SearchResponse> listener = invocation.getArgument(5);
+            listener.onResponse(responses[requests.size() - 1]);
+            return null;
+        }).when(mockClientUtil).asyncRequestWithInjectedSecurity(any(SearchRequest.class), any(), any(User.class), any(), any(), any());
+        return requests;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSinglePassEvaluatesCandidatesInOneSearch() {
+        intervalCalculation = singlePassCalculation(clock);
+        List<SearchRequest> requests = answerSearches(
+            // samples for the minimum interval are 5 minutes apart
+            histogramResponse(AggregationPrep.AGGREGATION, "10"),
+            // the minimum interval of 5 minutes is sparse
+            histogramResponse(AggregationPrep.AGGREGATION, "10"),
+            // candidates 6, 8 minutes are sparse; 10 minutes is dense
+            histogramResponse(
+                AggregationPrep.getCandidateAggregationName(0),
+                "10",
+                AggregationPrep.getCandidateAggregationName(1),
+                "10",
+                AggregationPrep.getCandidateAggregationName(2),
+                "40"
+            )
+        );
+
+        intervalCalculation.findInterval(mockIntervalListener);
+
+        assertEquals(3, requests.size());
+        // remaining candidates below the maximum interval: 6, 8, 10, 12, 15, 18, 22, 27, 33, 40, 48, 58
+        assertEquals(12, requests.get(2).source().aggregations().count());
+        ArgumentCaptor<IntervalTimeConfiguration> argumentCaptor = ArgumentCaptor.forClass(IntervalTimeConfiguration.class);
+        verify(mockIntervalListener).onResponse(argumentCaptor.capture());
+        assertEquals(10, argumentCaptor.getValue().getInterval());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSinglePassStopsAtDenseMinimumInterval() {
+        intervalCalculation = singlePassCalculation(clock);
+        List<SearchRequest> requests = answerSearches(
+            histogramResponse(AggregationPrep.AGGREGATION, "10"),
+            histogramResponse(AggregationPrep.AGGREGATION, "40")
+        );
+
+        intervalCalculation.findInterval(mockIntervalListener);
+
+        // no search of the other candidates
+        assertEquals(2, requests.size());
+        ArgumentCaptor<IntervalTimeConfiguration> argumentCaptor = ArgumentCaptor.forClass(IntervalTimeConfiguration.class);
+        verify(mockIntervalListener).onResponse(argumentCaptor.capture());
+        assertEquals(5, argumentCaptor.getValue().getInterval());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSinglePassTimesOut() {
+        // the probe of the minimum interval returns after the deadline
+        Clock advancingClock = mock(Clock.class);
+        long now = clock.millis();
+        when(advancingClock.millis()).thenReturn(now, now + TimeSeriesSettings.TOP_VALIDATE_TIMEOUT_IN_MILLIS + 1);
+        intervalCalculation = singlePassCalculation(advancingClock);
+        List<SearchRequest> requests = answerSearches(
+            histogramResponse(AggregationPrep.AGGREGATION, "10"),
+            histogramResponse(AggregationPrep.AGGREGATION, "10")
+        );
+
+        intervalCalculation.findInterval(mockIntervalListener);
+
+        assertEquals(2, requests.size());
+        ArgumentCaptor<ValidationException> argumentCaptor = ArgumentCaptor.forClass(ValidationException.class);
+        verify(mockIntervalListener).onFailure(argumentCaptor.capture());
+        assertEquals(CommonMessages.TIMEOUT_ON_INTERVAL_REC, argumentCaptor.getValue().getMessage());
+        assertEquals(ValidationIssueType.TIMEOUT, argumentCaptor.getValue().getType());
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.constant.CommonName;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+public class CheckpointSourceReaderTests extends OpenSearchTestCase {
+    private static final String MODEL_FIELD = "modelV2";
+    private static final String WRAPPING_KEY = "trcf";
+
+    private static byte[] decode(String encoded) {
+        char[] chars = ("xx" + encoded + "yy").toCharArray();
+        ByteBuffer decoded = CheckpointSourceReader.decodeBase64(chars, 2, chars.length - 2);
+        return Arrays.copyOf(decoded.array(), decoded.limit());
+    }
+
+    public void testDecodeBase64() {
+        for (int length = 0; length < 20; length++) {
+            byte[] bytes = randomByteArrayOfLength(length);
+            String encoded = Base64.getEncoder().encodeToString(bytes);
+            assertArrayEquals(bytes, decode(encoded));
+            // gson escapes the padding and some JSON writers escape slashes
+            assertArrayEquals(bytes, decode(encoded.replace("=", "\\u003D").replace("/", "\\/")));
+        }
+        expectThrows(IllegalArgumentException.class, () -> decode("ab!d"));
+        expectThrows(IllegalArgumentException.class, () -> decode("abcde"));
+    }
+
+    private BytesReference checkpoint(String model, SampleBuffer samples) throws IOException {
+        Map<String, Object> source = new HashMap<>();
+        source.put(MODEL_FIELD, model);
+        source.put(CommonName.TIMESTAMP, "2022-07-26T19:29:38Z");
+        if (samples != null) {
+            source.put(CommonName.SAMPLE_BUFFER, samples.toBase64());
+        }
+        return BytesReference.bytes(jsonBuilder().map(source));
+    }
+
+    public void testReadWrappedModel() throws IOException {
+        byte[] modelBytes = randomByteArrayOfLength(1000);
+        JsonObject json = new JsonObject();
+        json.addProperty(WRAPPING_KEY, Base64.getEncoder().encodeToString(modelBytes));
+        SampleBuffer samples = new SampleBuffer(4);
+        samples.add(new double[] { 1, 2 }, 1000L, 2000L);
+
+        Optional<CheckpointSourceReader.Checkpoint> checkpoint = CheckpointSourceReader
+            .read(checkpoint(new Gson().toJson(json), samples), MODEL_FIELD, WRAPPING_KEY, 10_000);
+
+        assertTrue(checkpoint.isPresent());
+        ByteBuffer model = checkpoint.get().getModel();
+        assertArrayEquals(modelBytes, Arrays.copyOf(model.array(), model.limit()));
+        assertEquals(1, checkpoint.get().getSamples().size());
+        assertArrayEquals(new double[] { 1, 2 }, checkpoint.get().getSamples().copyValues(0), 1e-10);
+        assertEquals("2022-07-26T19:29:38Z", checkpoint.get().getTimestamp());
+        assertNull(checkpoint.get().getEntity());
+    }
+
+    public void testFallBackToMap() throws IOException {
+        String model = Base64.getEncoder().encodeToString(randomByteArrayOfLength(100));
+        assertTrue(CheckpointSourceReader.read(checkpoint(model, null), MODEL_FIELD, null, 10_000).isPresent());
+        // too large
+        assertTrue(CheckpointSourceReader.read(checkpoint(model, null), MODEL_FIELD, null, 10).isEmpty());
+        // legacy model layout
+        assertTrue(CheckpointSourceReader.read(checkpoint("{\"rcf\":\"abc\"}", null), MODEL_FIELD, WRAPPING_KEY, 10_000).isEmpty());
+
+        // legacy samples
+        Map<String, Object> source = new HashMap<>();
+        source.put(MODEL_FIELD, model);
+        source.put(CommonName.TIMESTAMP, "2022-07-26T19:29:38Z");
+        source.put(CommonName.SAMPLE_QUEUE, new double[][] { { 1, 2 } });
+        assertTrue(CheckpointSourceReader.read(BytesReference.bytes(jsonBuilder().map(source)), MODEL_FIELD, null, 10_000).isEmpty());
+    }
+}
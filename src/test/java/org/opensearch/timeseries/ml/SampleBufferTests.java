@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.ml;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SampleBufferTests extends OpenSearchTestCase {
+
+    public void testAddAndRead() {
+        SampleBuffer buffer = new SampleBuffer(8);
+        assertTrue(buffer.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            buffer.add(new double[] { i, i * 10 }, i * 1000L, (i + 1) * 1000L);
+        }
+        assertEquals(5, buffer.size());
+        assertEquals(2, buffer.getDimension());
+        for (int i = 0; i < 5; i++) {
+            assertArrayEquals(new double[] { i, i * 10 }, buffer.copyValues(i), 1e-10);
+            assertEquals(i * 1000L, buffer.getDataStartEpochMillis(i));
+            assertEquals((i + 1) * 1000L, buffer.getDataEndEpochMillis(i));
+            assertEquals(i + 1, buffer.getDataEndEpochSecond(i));
+        }
+        expectThrows(IndexOutOfBoundsException.class, () -> buffer.copyValues(5));
+    }
+
+    public void testOverwriteOldestWhenFull() {
+        SampleBuffer buffer = new SampleBuffer(3);
+        for (int i = 0; i < 7; i++) {
+            buffer.add(new double[] { i }, i, i + 1);
+        }
+        assertEquals(3, buffer.size());
+        assertArrayEquals(new double[] { 4 }, buffer.copyValues(0), 1e-10);
+        assertArrayEquals(new double[] { 6 }, buffer.copyValues(2), 1e-10);
+        assertEquals(4L, buffer.getDataStartEpochMillis(0));
+    }
+
+    public void testIgnoreEmptyAndResetOnDimensionChange() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        buffer.add(null);
+        buffer.add(new Sample());
+        assertTrue(buffer.isEmpty());
+
+        buffer.add(new double[] { 1 }, 0, 1);
+        buffer.add(new double[] { 2, 3 }, 1, 2);
+        assertEquals(1, buffer.size());
+        assertEquals(2, buffer.getDimension());
+    }
+
+    public void testSampleRoundTrip() {
+        Instant start = Instant.ofEpochMilli(1602269260000L);
+        Sample sample = new Sample(new double[] { 0.5 }, start, start.plusSeconds(60));
+        SampleBuffer buffer = new SampleBuffer();
+        buffer.add(sample);
+        assertEquals(sample, buffer.getSample(0));
+
+        // Instant.MIN cannot be expressed in epoch millis
+        buffer.add(new Sample(new double[] { 0.6 }, Instant.MIN, Instant.MIN));
+        assertEquals(Instant.MIN, buffer.getSample(1).getDataEndTime());
+    }
+
+    public void testBinaryEncoding() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.add(new double[] { i, -i, i * 0.5 }, i * 60_000L, (i + 1) * 60_000L);
+        }
+
+        SampleBuffer decoded = SampleBuffer.fromBase64(buffer.toBase64(), 4);
+        assertEquals(buffer.toSampleList(), decoded.toSampleList());
+
+        // a smaller capacity keeps the latest samples
+        SampleBuffer truncated = SampleBuffer.fromBytes(buffer.toBytes(), 2);
+        assertEquals(2, truncated.size());
+        assertArrayEquals(buffer.copyValues(3), truncated.copyValues(1), 1e-10);
+
+        SampleBuffer empty = SampleBuffer.fromBytes(new SampleBuffer().toBytes(), 4);
+        assertTrue(empty.isEmpty());
+
+        byte[] bytes = buffer.toBytes();
+        byte[] corrupted = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, corrupted, 0, corrupted.length);
+        expectThrows(IllegalArgumentException.class, () -> SampleBuffer.fromBytes(corrupted, 4));
+    }
+
+    public void testClearReleasesSamples() {
+        Instant now = Instant.now();
+        SampleBuffer buffer = SampleBuffer
+            .of(
+                Arrays
+                    .asList(
+                        new Sample(new double[] { 1 }, now, now),
+                        new Sample(new double[] { 2 }, now, now),
+                        new Sample(new double[] { 3 }, now, now)
+                    )
+            );
+        assertEquals(3, buffer.size());
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        buffer.add(new double[] { 1 }, 0, 1);
+        assertEquals(1, buffer.size());
+    }
+}
@@ -19,18 +19,34 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.ad.caching.TopAnomalyRollup;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
+import org.opensearch.ad.ratelimit.ADResultWriteRequest;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.ad.transport.ADResultBulkRequest;
 import org.opensearch.ad.transport.ADResultBulkTransportAction;
@@ -44,9 +60,15 @@ import org.opensearch.index.IndexingPressure;
 import org.opensearch.timeseries.AbstractTimeSeriesTest;
 import org.opensearch.timeseries.TestHelpers;
 import org.opensearch.timeseries.constant.CommonMessages;
+import org.opensearch.timeseries.model.ResultWriteProfile;
+import org.opensearch.timeseries.ratelimit.RequestPriority;
+import org.opensearch.timeseries.ratelimit.ResultWriteAdmission.SpilledResult;
+import org.opensearch.timeseries.util.ResultBulkEncoder;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.collect.ImmutableMap;
+
 public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
     private ADResultBulkTransportAction resultBulk;
     private TransportService transportService;
@@ -54,6 +76,10 @@ public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
     private IndexingPressure indexingPressure;
     private Client client;
     private String detectorId;
+    private ADResultWriteAdmission admission;
+    private TopAnomalyRollup topAnomalyRollup;
+    private Settings settings;
+    private ActionFilters actionFilters;
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -69,24 +95,41 @@ public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
     @Before
     public void setUp() throws Exception {
         super.setUp();
-        Settings settings = Settings
+        settings = Settings
             .builder()
             .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "1KB")
             .put(AnomalyDetectorSettings.AD_INDEX_PRESSURE_SOFT_LIMIT.getKey(), 0.8)
             .build();
 
         // without register these settings, the constructor of ADResultBulkTransportAction cannot invoke update consumer
-        setupTestNodes(AnomalyDetectorSettings.AD_INDEX_PRESSURE_SOFT_LIMIT, AnomalyDetectorSettings.AD_INDEX_PRESSURE_HARD_LIMIT);
+        setupTestNodes(
+            AnomalyDetectorSettings.AD_INDEX_PRESSURE_SOFT_LIMIT,
+            AnomalyDetectorSettings.AD_INDEX_PRESSURE_HARD_LIMIT,
+            AnomalyDetectorSettings.AD_RESULT_WRITE_SPILL_ENABLED,
+            AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED,
+            AnomalyDetectorSettings.AD_RESULT_HISTORY_RETENTION_PERIOD
+        );
         transportService = testNodes[0].transportService;
         clusterService = testNodes[0].clusterService;
 
-        ActionFilters actionFilters = mock(ActionFilters.class);
+        actionFilters = mock(ActionFilters.class);
         indexingPressure = mock(IndexingPressure.class);
 
         client = mock(Client.class);
         detectorId = randomAlphaOfLength(5);
 
-        resultBulk = new ADResultBulkTransportAction(transportService, actionFilters, indexingPressure, settings, clusterService, client);
+        admission = new ADResultWriteAdmission(Clock.systemUTC(), settings, clusterService, null, 0);
+        topAnomalyRollup = new TopAnomalyRollup(settings, clusterService, Clock.systemUTC());
+        resultBulk = new ADResultBulkTransportAction(
+            transportService,
+            actionFilters,
+            indexingPressure,
+            settings,
+            clusterService,
+            client,
+            admission,
+            topAnomalyRollup
+        );
     }
 
     @Override
@@ -159,6 +202,230 @@ public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
         resultBulk.doExecute(null, originalRequest, future);
 
         future.actionGet();
+
+        // the low priority result is dropped and reported
+        ResultWriteProfile profile = admission.getProfile(detectorId);
+        assertEquals(1, profile.getAdmitted());
+        assertEquals(1, profile.getDropped());
+        assertEquals(0, profile.getSpilled());
+        assertEquals(0.5, profile.getDropRate(), 0.0001);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSpillAndReplay() {
+        setUpSpill(createTempDir().resolve("ad_results.spill"));
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkRequests.add((BulkRequest) invocation.getArguments()[1]);
+            ((ActionListener<BulkResponse>) invocation.getArguments()[2]).onResponse(null);
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        spillLowPriorityResult();
+        assertEquals(1, bulkRequests.get(0).requests().size());
+        assertTrue(admission.hasSpilled());
+        ResultWriteProfile profile = admission.getProfile(detectorId);
+        assertEquals(1, profile.getSpilled());
+        assertEquals(0, profile.getDropped());
+
+        // pressure recovered, the spilled result is indexed with the new one
+        PlainActionFuture<ResultBulkResponse> future = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, recoveredRequest(), future);
+        future.actionGet();
+
+        assertEquals(2, bulkRequests.get(1).requests().size());
+        assertFalse(admission.hasSpilled());
+        profile = admission.getProfile(detectorId);
+        assertEquals(2, profile.getAdmitted());
+        assertEquals(1, profile.getReplayed());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testKeepSpilledResultsWhenReplayFails() {
+        setUpSpill(createTempDir().resolve("ad_results.spill"));
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulkRequests.add((BulkRequest) invocation.getArguments()[1]);
+            ActionListener<BulkResponse> listener = (ActionListener<BulkResponse>) invocation.getArguments()[2];
+            if (bulkRequests.size() == 2) {
+                listener.onFailure(new RuntimeException("bulk failed"));
+            } else {
+                listener.onResponse(null);
+            }
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        spillLowPriorityResult();
+
+        // the bulk request carrying the replayed result fails, the result stays in the spill file
+        PlainActionFuture<ResultBulkResponse> future = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, recoveredRequest(), future);
+        expectThrows(RuntimeException.class, () -> future.actionGet());
+        assertEquals(2, bulkRequests.get(1).requests().size());
+        assertTrue(admission.hasSpilled());
+        ResultWriteProfile profile = admission.getProfile(detectorId);
+        assertEquals(1, profile.getSpilled());
+        assertEquals(0, profile.getReplayed());
+        assertEquals(0, profile.getDropped());
+
+        // the next bulk request replays it again
+        PlainActionFuture<ResultBulkResponse> retryFuture = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, recoveredRequest(), retryFuture);
+        retryFuture.actionGet();
+        assertEquals(2, bulkRequests.get(2).requests().size());
+        assertFalse(admission.hasSpilled());
+        assertEquals(1, admission.getProfile(detectorId).getReplayed());
+    }
+
+    public void testDiscardSpilledResultsOfOtherVersion() throws IOException {
+        Path spillPath = createTempDir().resolve("ad_results.spill");
+        setUpSpill(spillPath);
+        List<DocWriteRequest<?>> requests = new ArrayList<>();
+        requests.add(new IndexRequest("index").source(Collections.singletonMap("field", "value")));
+        assertTrue(admission.spill(detectorId, requests));
+        assertTrue(admission.spill(detectorId, requests));
+
+        // the first record was written by another version: [length][format version][version id][body]
+        byte[] bytes = Files.readAllBytes(spillPath);
+        ByteBuffer.wrap(bytes).putInt(2 * Integer.BYTES, Version.CURRENT.id + 1);
+        Files.write(spillPath, bytes);
+
+        // the node restarts and finds the spill file
+        admission = new ADResultWriteAdmission(Clock.systemUTC(), admissionSettings(), clusterService, spillPath, 1024 * 1024);
+        assertTrue(admission.hasSpilled());
+        List<SpilledResult> replayed = admission.replay(10);
+        assertEquals(1, replayed.size());
+        assertEquals(detectorId, replayed.get(0).getConfigId());
+        assertEquals(1, replayed.get(0).getRequests().size());
+        admission.onReplayDone(true);
+        assertFalse(admission.hasSpilled());
+        assertEquals(0L, Files.size(spillPath));
+    }
+
+    public void testReuseReplayedSpillSpace() throws IOException {
+        Path spillPath = createTempDir().resolve("ad_results.spill");
+        setUpSpill(spillPath);
+        List<DocWriteRequest<?>> requests = new ArrayList<>();
+        requests.add(new IndexRequest("index").source(Collections.singletonMap("field", "value")));
+        assertTrue(admission.spill(detectorId, requests));
+        long recordBytes = Files.size(spillPath);
+        admission.replay(1);
+        admission.onReplayDone(true);
+        assertEquals(0L, Files.size(spillPath));
+
+        // room for three records
+        long maxSpillBytes = 3 * recordBytes;
+        admission = new ADResultWriteAdmission(Clock.systemUTC(), admissionSettings(), clusterService, spillPath, maxSpillBytes);
+        assertTrue(admission.spill(detectorId, requests));
+        assertTrue(admission.spill(detectorId, requests));
+        // spill and replay interleave under sustained pressure, writing far more than the size limit in total
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1, admission.replay(1).size());
+            if (i % 2 == 0) {
+                // a replay still in flight keeps its records while new results are spilled behind them
+                assertTrue(admission.spill(detectorId, requests));
+                admission.onReplayDone(true);
+            } else {
+                admission.onReplayDone(true);
+                assertTrue(admission.spill(detectorId, requests));
+            }
+            assertTrue(Files.size(spillPath) <= maxSpillBytes);
+        }
+        // the limit applies to the results not replayed yet
+        assertTrue(admission.spill(detectorId, requests));
+        assertFalse(admission.spill(detectorId, requests));
+
+        assertEquals(3, admission.replay(10).size());
+        admission.onReplayDone(true);
+        assertFalse(admission.hasSpilled());
+        ResultWriteProfile profile = admission.getProfile(detectorId);
+        assertEquals(23, profile.getSpilled());
+        assertEquals(23, profile.getReplayed());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSpilledAnomalyLeavesRollupCoverage() {
+        topAnomalyRollup = new TopAnomalyRollup(
+            Settings.builder().put(settings).put(AnomalyDetectorSettings.TOP_ANOMALY_RESULT_ROLLUP_ENABLED.getKey(), true).build(),
+            clusterService,
+            Clock.systemUTC()
+        );
+        setUpSpill(createTempDir().resolve("ad_results.spill"));
+        doAnswer(invocation -> {
+            ((ActionListener<BulkResponse>) invocation.getArguments()[2]).onResponse(null);
+            return null;
+        }).when(client).execute(any(), any(), any());
+        long coverageStart = topAnomalyRollup.getCoverageStartMillis(detectorId);
+
+        // a spilled result without anomaly is not in the rollup anyway
+        spillLowPriorityResult();
+        assertTrue(admission.hasSpilled());
+        assertEquals(coverageStart, topAnomalyRollup.getCoverageStartMillis(detectorId));
+
+        // a spilled anomaly is indexed on replay without being recorded, so its hour is not covered
+        long dataEndMillis = Clock.systemUTC().millis() + 2 * TopAnomalyRollup.BUCKET_MILLIS;
+        AnomalyResult anomaly = TestHelpers
+            .randomHCADAnomalyDetectResult(
+                detectorId,
+                null,
+                ImmutableMap.of("host", "server_1"),
+                0.5,
+                0.8,
+                null,
+                dataEndMillis - 60_000,
+                dataEndMillis
+            );
+        resultBulk.rejectResult(new ResultBulkEncoder(), anomaly, null, null);
+        assertEquals(2, admission.getProfile(detectorId).getSpilled());
+        assertEquals(
+            TopAnomalyRollup.bucketStart(dataEndMillis) + TopAnomalyRollup.BUCKET_MILLIS,
+            topAnomalyRollup.getCoverageStartMillis(detectorId)
+        );
+    }
+
+    private Settings admissionSettings() {
+        return Settings.builder().put(settings).put(AnomalyDetectorSettings.AD_RESULT_WRITE_SPILL_ENABLED.getKey(), true).build();
+    }
+
+    private void setUpSpill(Path spillPath) {
+        Settings spillSettings = admissionSettings();
+        admission = new ADResultWriteAdmission(Clock.systemUTC(), spillSettings, clusterService, spillPath, 1024 * 1024);
+        resultBulk = new ADResultBulkTransportAction(
+            transportService,
+            actionFilters,
+            indexingPressure,
+            spillSettings,
+            clusterService,
+            client,
+            admission,
+            topAnomalyRollup
+        );
+    }
+
+    /**
+     * Above the hard limit, the low priority result of the request is spilled.
+     */
+    private void spillLowPriorityResult() {
+        when(indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes()).thenReturn(1000L);
+        when(indexingPressure.getCurrentReplicaBytes()).thenReturn(24L);
+        ADResultBulkRequest pressuredRequest = new ADResultBulkRequest();
+        pressuredRequest.add(TestHelpers.randomADResultWriteRequest(detectorId, 0.8d, 0d));
+        pressuredRequest.add(TestHelpers.randomADResultWriteRequest(detectorId, 8d, 0.2d));
+
+        PlainActionFuture<ResultBulkResponse> future = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, pressuredRequest, future);
+        future.actionGet();
+    }
+
+    /**
+     * Pressure recovered; returns a request whose bulk request replays spilled results.
+     */
+    private ADResultBulkRequest recoveredRequest() {
+        when(indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes()).thenReturn(0L);
+        when(indexingPressure.getCurrentReplicaBytes()).thenReturn(0L);
+        ADResultBulkRequest recoveredRequest = new ADResultBulkRequest();
+        recoveredRequest.add(TestHelpers.randomADResultWriteRequest(detectorId, 0.8d, 0d));
+        return recoveredRequest;
     }
 
     @SuppressWarnings("unchecked")
@@ -200,6 +467,47 @@ public class ADResultBulkTransportActionTests extends AbstractTimeSeriesTest {
         future.actionGet();
     }
 
+    @SuppressWarnings("unchecked")
+    public void testFlattenedIndexSharesSerializedResult() {
+        when(indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes()).thenReturn(0L);
+        when(indexingPressure.getCurrentReplicaBytes()).thenReturn(0L);
+
+        String resultIndex = "opensearch-ad-plugin-result-test";
+        String flattenResultIndex = resultIndex + "_flattened_" + detectorId.toLowerCase(Locale.ROOT);
+        ADResultBulkRequest originalRequest = new ADResultBulkRequest();
+        originalRequest
+            .add(
+                new ADResultWriteRequest(
+                    Instant.now().plus(10, ChronoUnit.MINUTES).toEpochMilli(),
+                    detectorId,
+                    RequestPriority.MEDIUM,
+                    TestHelpers.randomHCADAnomalyDetectResult(0.8d, 0d),
+                    resultIndex,
+                    flattenResultIndex
+                )
+            );
+
+        doAnswer(invocation -> {
+            BulkRequest request = (BulkRequest) invocation.getArguments()[1];
+            ActionListener<BulkResponse> listener = (ActionListener<BulkResponse>) invocation.getArguments()[2];
+
+            assertEquals(2, request.requests().size());
+            IndexRequest resultRequest = (IndexRequest) request.requests().get(0);
+            IndexRequest flattenRequest = (IndexRequest) request.requests().get(1);
+            assertEquals(resultIndex, resultRequest.index());
+            assertEquals(flattenResultIndex, flattenRequest.index());
+            // serialized once and shared by both index requests
+            assertSame(resultRequest.source(), flattenRequest.source());
+            listener.onResponse(null);
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        PlainActionFuture<ResultBulkResponse> future = PlainActionFuture.newFuture();
+        resultBulk.doExecute(null, originalRequest, future);
+
+        future.actionGet();
+    }
+
     public void testSerialzationRequest() throws IOException {
         ADResultBulkRequest request = new ADResultBulkRequest();
         request.add(TestHelpers.randomADResultWriteRequest(detectorId, 0.8d, 0d));
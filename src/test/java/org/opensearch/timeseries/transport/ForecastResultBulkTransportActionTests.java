@@ -15,6 +15,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -29,6 +30,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.forecast.model.ForecastResult;
+import org.opensearch.forecast.ratelimit.ForecastResultWriteAdmission;
 import org.opensearch.forecast.ratelimit.ForecastResultWriteRequest;
 import org.opensearch.forecast.settings.ForecastSettings;
 import org.opensearch.forecast.transport.ForecastResultBulkRequest;
@@ -83,7 +85,8 @@ public class ForecastResultBulkTransportActionTests extends AbstractTimeSeriesTe
             indexingPressure,
             settings,
             clusterService,
-            client
+            client,
+            mock(ForecastResultWriteAdmission.class)
         );
     }
 
@@ -142,7 +145,7 @@ public class ForecastResultBulkTransportActionTests extends AbstractTimeSeriesTe
         originalRequest.add(faultyWriteRequest);
 
         // Execute the prepareBulkRequest method directly
-        BulkRequest bulkRequest = resultBulk.prepareBulkRequest(0.5f, originalRequest);
+        BulkRequest bulkRequest = resultBulk.prepareBulkRequest(0.5f, originalRequest, new ArrayList<>());
 
         // Since the exception is caught inside addResult, bulkRequest should have zero actions
         assertEquals(0, bulkRequest.numberOfActions());
@@ -30,6 +30,7 @@ import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.ad.caching.ADCacheProvider;
 import org.opensearch.ad.caching.ADPriorityCache;
+import org.opensearch.ad.ratelimit.ADResultWriteAdmission;
 import org.opensearch.ad.settings.AnomalyDetectorSettings;
 import org.opensearch.ad.task.ADTaskCacheManager;
 import org.opensearch.ad.transport.DelegateADProfileTransportAction;
@@ -41,6 +42,7 @@ import org.opensearch.timeseries.TimeSeriesAnalyticsPlugin;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.model.ModelProfile;
 import org.opensearch.timeseries.model.ProfileName;
+import org.opensearch.timeseries.model.ResultWriteProfile;
 import org.opensearch.transport.TransportService;
 
 public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
@@ -52,6 +54,7 @@ public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
     private long modelSize = 4456448L;
     private String modelId = "Pl536HEBnXkDrah03glg_model_rcf_1";
     private ADCacheProvider cacheProvider;
+    private ADResultWriteAdmission resultWriteAdmission;
     private int activeEntities = 10;
     private long totalUpdates = 127;
     private long multiEntityModelSize = 712480L;
@@ -65,6 +68,7 @@ public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
 
         // modelManager = mock(ADModelManager.class);
         taskCacheManager = mock(ADTaskCacheManager.class);
+        resultWriteAdmission = mock(ADResultWriteAdmission.class);
 
         ADPriorityCache cache = mock(ADPriorityCache.class);
         cacheProvider = mock(ADCacheProvider.class);
@@ -101,7 +105,8 @@ public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
             mock(ActionFilters.class),
             taskCacheManager,
             cacheProvider,
-            settings
+            settings,
+            resultWriteAdmission
         );
 
         profilesToRetrieve = new HashSet<ProfileName>();
@@ -132,6 +137,36 @@ public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
         assertEquals(node.getId(), profileResponse.getCoordinatingNode());
     }
 
+    @Test
+    public void testResultWriteProfile() {
+        setUpModelSize(100);
+        DiscoveryNode node = clusterService().localNode();
+        when(resultWriteAdmission.getProfile(detectorId)).thenReturn(new ResultWriteProfile(8, 2, 0, 0, 100, 300));
+        profilesToRetrieve = new HashSet<ProfileName>();
+        profilesToRetrieve.add(ProfileName.RESULT_WRITE);
+        ProfileRequest profileRequest = new ProfileRequest(detectorId, profilesToRetrieve, node);
+
+        ProfileNodeResponse nodeResponse = action.nodeOperation(new ProfileNodeRequest(profileRequest));
+        assertEquals(new ResultWriteProfile(8, 2, 0, 0, 100, 300), nodeResponse.getResultWriteProfile());
+
+        // counts are summed and lags are the max across nodes
+        ProfileNodeResponse otherNodeResponse = new ProfileNodeResponse(
+            node,
+            null,
+            0,
+            0,
+            null,
+            0,
+            false,
+            new ResultWriteProfile(2, 0, 1, 1, 500, 500)
+        );
+        ProfileResponse profileResponse = action
+            .newResponse(profileRequest, Arrays.asList(nodeResponse, otherNodeResponse), new ArrayList<>());
+        ResultWriteProfile merged = profileResponse.getResultWriteProfile();
+        assertEquals(new ResultWriteProfile(10, 2, 1, 1, 500, 500), merged);
+        assertEquals(2.0 / 13, merged.getDropRate(), 0.0001);
+    }
+
     @Test
     public void testNewNodeRequest() {
         setUpModelSize(100);
@@ -190,7 +225,8 @@ public class ProfileTransportActionTests extends OpenSearchIntegTestCase {
             mock(ActionFilters.class),
             taskCacheManager,
             cacheProvider,
-            settings
+            settings,
+            resultWriteAdmission
         );
 
         DiscoveryNode nodeId = clusterService().localNode();
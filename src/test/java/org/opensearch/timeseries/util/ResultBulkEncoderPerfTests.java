@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.ad.model.AnomalyResult;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.TestHelpers;
+
+/**
+ * Compares bytes allocated per indexed result between building a fresh XContentBuilder for
+ * the result index and again for the flattened result index, and serializing once with
+ * {@link ResultBulkEncoder}. Like other perf tests, excluded from the default test task;
+ * run with -Dmodel-benchmark=true.
+ */
+@SuppressForbidden(reason = "uses com.sun.management.ThreadMXBean to measure allocation")
+public class ResultBulkEncoderPerfTests extends OpenSearchTestCase {
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 200;
+    private static final int BULK_SIZE = 100;
+    private static final String RESULT_INDEX = "opensearch-ad-plugin-result-perf";
+    private static final String FLATTEN_RESULT_INDEX = RESULT_INDEX + "_flattened_perf";
+
+    private List<AnomalyResult> results;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        results = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            results.add(TestHelpers.randomHCADAnomalyDetectResult(randomDouble(), randomBoolean() ? 0 : randomDouble()));
+        }
+    }
+
+    private BulkRequest perDocumentBuilder() throws IOException {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (AnomalyResult result : results) {
+            for (String index : new String[] { RESULT_INDEX, FLATTEN_RESULT_INDEX }) {
+                try (XContentBuilder builder = jsonBuilder()) {
+                    bulkRequest.add(new IndexRequest(index).source(result.toXContent(builder, RestHandlerUtils.XCONTENT_WITH_TYPE)));
+                }
+            }
+        }
+        return bulkRequest;
+    }
+
+    private BulkRequest sharedEncoder() throws IOException {
+        BulkRequest bulkRequest = new BulkRequest();
+        ResultBulkEncoder encoder = new ResultBulkEncoder();
+        for (AnomalyResult result : results) {
+            BytesReference source = encoder.encode(result);
+            bulkRequest.add(new IndexRequest(RESULT_INDEX).source(source, encoder.getXContentType()));
+            bulkRequest.add(new IndexRequest(FLATTEN_RESULT_INDEX).source(source, encoder.getXContentType()));
+        }
+        return bulkRequest;
+    }
+
+    private interface BulkBuilder {
+        BulkRequest build() throws IOException;
+    }
+
+    private long bytesPerResult(BulkBuilder bulkBuilder) throws IOException {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long totalSourceBytes = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            totalSourceBytes += bulkBuilder.build().estimatedSizeInBytes();
+        }
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            totalSourceBytes += bulkBuilder.build().estimatedSizeInBytes();
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+        // keep the bulk requests observable so the JIT cannot drop them
+        assertTrue(totalSourceBytes > 0);
+        return allocated / ((long) ROUNDS * BULK_SIZE);
+    }
+
+    public void testBytesAllocatedPerIndexedResult() throws IOException {
+        long baseline = bytesPerResult(this::perDocumentBuilder);
+        long encoded = bytesPerResult(this::sharedEncoder);
+        logger
+            .info(String.format(Locale.ROOT, "bytes allocated per result: per-document builder %d, shared encoder %d", baseline, encoded));
+        assertTrue(encoded < baseline);
+    }
+}
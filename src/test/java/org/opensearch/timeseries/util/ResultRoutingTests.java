@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.timeseries.settings.TimeSeriesSettings;
+
+public class ResultRoutingTests extends OpenSearchTestCase {
+    private static final String ALIAS = "results";
+    private static final String CONFIG_ID = "config";
+
+    private static IndexMetadata index(String name, int buckets, boolean writeIndex) {
+        return IndexMetadata
+            .builder(name)
+            .settings(
+                Settings
+                    .builder()
+                    .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 4)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(TimeSeriesSettings.RESULT_INDEX_ROUTING_BUCKETS.getKey(), buckets)
+            )
+            .putAlias(AliasMetadata.builder(ALIAS).writeIndex(writeIndex))
+            .build();
+    }
+
+    private static Metadata metadata(IndexMetadata... indices) {
+        Metadata.Builder builder = Metadata.builder();
+        for (IndexMetadata index : indices) {
+            builder.put(index, false);
+        }
+        return builder.build();
+    }
+
+    private static Set<String> split(String routing) {
+        return new HashSet<>(Arrays.asList(routing.split(",")));
+    }
+
+    public void testRouting() {
+        assertNull(ResultRouting.getRouting(CONFIG_ID, "entity", 0));
+        assertEquals(CONFIG_ID + "#0", ResultRouting.getRouting(CONFIG_ID, null, 8));
+        String routing = ResultRouting.getRouting(CONFIG_ID, "entity", 8);
+        // stable across calls and within the bucket range
+        assertEquals(routing, ResultRouting.getRouting(CONFIG_ID, "entity", 8));
+        int bucket = ResultRouting.getBucket("entity", 8);
+        assertTrue(bucket >= 0 && bucket < 8);
+        assertEquals(CONFIG_ID + "#" + bucket, routing);
+    }
+
+    public void testRoutingBucketsOfWriteIndex() {
+        Metadata metadata = metadata(index("results-1", 2, false), index("results-2", 4, true));
+        assertEquals(4, ResultRouting.getRoutingBuckets(metadata, ALIAS));
+        assertEquals(2, ResultRouting.getRoutingBuckets(metadata, "results-1"));
+        assertEquals(0, ResultRouting.getRoutingBuckets(metadata, "missing"));
+    }
+
+    public void testSearchRouting() {
+        Metadata metadata = metadata(index("results-1", 2, false), index("results-2", 4, true));
+
+        assertEquals(
+            new HashSet<>(Arrays.asList("config#0", "config#1", "config#2", "config#3")),
+            split(ResultRouting.getSearchRouting(metadata, new String[] { ALIAS }, CONFIG_ID, null))
+        );
+        assertEquals(
+            new HashSet<>(Arrays.asList("config#0", "config#1")),
+            split(ResultRouting.getSearchRouting(metadata, new String[] { "results-1" }, CONFIG_ID, null))
+        );
+
+        // an entity is looked up in its bucket under each bucket count
+        Set<String> entityRouting = split(ResultRouting.getSearchRouting(metadata, new String[] { "results*" }, CONFIG_ID, "entity"));
+        Set<String> expected = new HashSet<>(
+            Arrays.asList(ResultRouting.getRouting(CONFIG_ID, "entity", 2), ResultRouting.getRouting(CONFIG_ID, "entity", 4))
+        );
+        assertEquals(expected, entityRouting);
+    }
+
+    public void testSearchNotRouted() {
+        Metadata metadata = metadata(index("results-1", 0, false), index("results-2", 4, true));
+        // an index routed by document id
+        assertNull(ResultRouting.getSearchRouting(metadata, new String[] { ALIAS }, CONFIG_ID, null));
+        assertNull(ResultRouting.getSearchRouting(metadata, new String[] { "results-*" }, CONFIG_ID, null));
+        // unresolved expressions
+        assertNull(ResultRouting.getSearchRouting(metadata, new String[] { "results-2", "missing" }, CONFIG_ID, null));
+        assertNull(ResultRouting.getSearchRouting(metadata, new String[] { "remote:results-2" }, CONFIG_ID, null));
+        assertNull(ResultRouting.getSearchRouting(metadata, new String[] { "results-2" }, null, null));
+        assertNotNull(ResultRouting.getSearchRouting(metadata, new String[] { "results-2" }, CONFIG_ID, null));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.timeseries.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+
+public class RetainedSizeEstimatorTests extends OpenSearchTestCase {
+
+    private static class Node {
+        private final long[] values;
+        private Node next;
+
+        Node(int size) {
+            this.values = new long[size];
+        }
+    }
+
+    public void testNull() {
+        assertEquals(0, RetainedSizeEstimator.sizeOf(null));
+    }
+
+    public void testPrimitiveArray() {
+        long[] values = new long[1000];
+        assertEquals(RamUsageEstimator.sizeOf(values), RetainedSizeEstimator.sizeOf(values));
+    }
+
+    public void testSharedReferenceCountedOnce() {
+        long[] values = new long[1000];
+        Object[] holder = new Object[] { values, values };
+        assertEquals(RamUsageEstimator.shallowSizeOf(holder) + RamUsageEstimator.sizeOf(values), RetainedSizeEstimator.sizeOf(holder));
+    }
+
+    public void testObjectGraph() {
+        Node first = new Node(10);
+        Node second = new Node(20);
+        first.next = second;
+        // a cycle
+        second.next = first;
+
+        long nodeBytes = RamUsageEstimator.shallowSizeOf(first);
+        long expected = 2 * nodeBytes + RamUsageEstimator.sizeOf(first.values) + RamUsageEstimator.sizeOf(second.values);
+        assertEquals(expected, RetainedSizeEstimator.sizeOf(first));
+
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(first);
+        nodes.add(second);
+        assertTrue(RetainedSizeEstimator.sizeOf(nodes) > expected);
+    }
+
+    public void testModel() {
+        ThresholdedRandomCutForest trcf = ThresholdedRandomCutForest
+            .builder()
+            .dimensions(4)
+            .shingleSize(4)
+            .internalShinglingEnabled(true)
+            .numberOfTrees(10)
+            .sampleSize(64)
+            .build();
+        long emptySize = RetainedSizeEstimator.sizeOf(trcf);
+        for (int i = 0; i < 100; i++) {
+            trcf.process(new double[] { randomDouble() }, 0);
+        }
+        // trees and point store are counted, and they do not shrink with samples
+        assertTrue(emptySize > RamUsageEstimator.shallowSizeOf(trcf));
+        assertTrue(RetainedSizeEstimator.sizeOf(trcf) >= emptySize);
+    }
+}
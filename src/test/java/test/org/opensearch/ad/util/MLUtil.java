@@ -28,6 +28,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.timeseries.ml.ModelManager;
 import org.opensearch.timeseries.ml.ModelState;
 import org.opensearch.timeseries.ml.Sample;
+import org.opensearch.timeseries.ml.SampleBuffer;
 import org.opensearch.timeseries.model.Entity;
 import org.opensearch.timeseries.settings.TimeSeriesSettings;
 
@@ -56,9 +57,9 @@ public class MLUtil {
             .toString();
     }
 
-    public static Deque<Sample> createQueueSamples(int size) {
-        Deque<Sample> res = new ArrayDeque<>();
-        IntStream.range(0, size).forEach(i -> res.offer(new Sample(new double[] { random.nextDouble() }, Instant.now(), Instant.now())));
+    public static SampleBuffer createQueueSamples(int size) {
+        SampleBuffer res = new SampleBuffer();
+        IntStream.range(0, size).forEach(i -> res.add(new Sample(new double[] { random.nextDouble() }, Instant.now(), Instant.now())));
         return res;
     }
 
@@ -78,7 +79,7 @@ public class MLUtil {
         } else {
             entity = Entity.createSingleAttributeEntity("", "");
         }
-        Pair<ThresholdedRandomCutForest, Deque<Sample>> model = null;
+        Pair<ThresholdedRandomCutForest, SampleBuffer> model = null;
         if (fullModel) {
             model = createNonEmptyModel(detectorId, sampleSize, entity);
         } else {
@@ -97,17 +98,17 @@ public class MLUtil {
         );
     }
 
-    public static Pair<ThresholdedRandomCutForest, Deque<Sample>> createEmptyModel(Entity entity, int sampleSize) {
-        Deque<Sample> samples = createQueueSamples(sampleSize);
+    public static Pair<ThresholdedRandomCutForest, SampleBuffer> createEmptyModel(Entity entity, int sampleSize) {
+        SampleBuffer samples = createQueueSamples(sampleSize);
         return Pair.of(null, samples);
     }
 
-    public static Pair<ThresholdedRandomCutForest, Deque<Sample>> createEmptyModel(Entity entity) {
+    public static Pair<ThresholdedRandomCutForest, SampleBuffer> createEmptyModel(Entity entity) {
         return createEmptyModel(entity, random.nextInt(minSampleSize));
     }
 
-    public static Pair<ThresholdedRandomCutForest, Deque<Sample>> createNonEmptyModel(String detectorId, int sampleSize, Entity entity) {
-        Deque<Sample> samples = createQueueSamples(sampleSize);
+    public static Pair<ThresholdedRandomCutForest, SampleBuffer> createNonEmptyModel(String detectorId, int sampleSize, Entity entity) {
+        SampleBuffer samples = createQueueSamples(sampleSize);
         int numDataPoints = random.nextInt(1000) + TimeSeriesSettings.NUM_MIN_SAMPLES;
         ThresholdedRandomCutForest trcf = new ThresholdedRandomCutForest(
             ThresholdedRandomCutForest
@@ -131,7 +132,7 @@ public class MLUtil {
         return Pair.of(trcf, samples);
     }
 
-    public static Pair<ThresholdedRandomCutForest, Deque<Sample>> createNonEmptyModel(String detectorId) {
+    public static Pair<ThresholdedRandomCutForest, SampleBuffer> createNonEmptyModel(String detectorId) {
         return createNonEmptyModel(detectorId, random.nextInt(minSampleSize), Entity.createSingleAttributeEntity("", ""));
     }
 